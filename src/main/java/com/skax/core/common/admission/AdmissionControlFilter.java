@@ -0,0 +1,245 @@
+package com.skax.core.common.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skax.core.common.response.AxResponse;
+import com.skax.core.common.response.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 수락 제어 필터 (처리율 제한 + 적응형 부하 차단)
+ *
+ * <p>{@code /api/**} 요청에 대해 다음 순서로 수락 여부를 판단합니다.</p>
+ * <ol>
+ *   <li>처리 중인 요청 수가 {@code max-in-flight}를 넘으면 503(E005)</li>
+ *   <li>요청이 속한 엔드포인트 그룹이 {@code shed-on-pool-wait}이고, 최근 {@code pool-wait-sample-interval}
+ *       동안의 커넥션 풀 평균 대기 시간이 {@code max-pool-wait}를 넘으면 503(E005)</li>
+ *   <li>그룹의 IP별, 회원별 {@link TokenBucket} 순서로 토큰이 없으면 429(B005)</li>
+ * </ol>
+ *
+ * <p>거절 응답에는 {@code Retry-After} 헤더를 붙입니다. 회원은 인증된 사용자 이름으로 식별하며,
+ * 인증되지 않은 요청은 IP별 버킷만 적용합니다.
+ * 클라이언트 IP는 {@link HttpServletRequest#getRemoteAddr()}이며, 프록시 뒤에서는
+ * {@code server.forward-headers-strategy: native} 설정으로 신뢰하는 프록시({@code server.tomcat.remoteip.internal-proxies})가
+ * 보낸 {@code X-Forwarded-For}에서 복원됩니다. 버킷은 {@code max-buckets}개까지 보관하고
+ * {@code bucket-expire-after-access} 동안 사용되지 않으면 제거합니다.</p>
+ *
+ * <p>상태는 {@code http.admission.*} 메트릭으로 노출됩니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-06
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 100)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/";
+    private static final String DEFAULT_GROUP = "default";
+    private static final String POOL_ACQUIRE_TIMER = "hikaricp.connections.acquire";
+
+    private final AdmissionProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Cache<String, TokenBucket> buckets;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicLong lastSampleNanos = new AtomicLong(System.nanoTime());
+    private double lastAcquireMillis;
+    private long lastAcquireCount;
+    private volatile double poolWaitMillis;
+
+    public AdmissionControlFilter(AdmissionProperties properties,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getBucketExpireAfterAccess())
+                .build();
+
+        Gauge.builder("http.admission.in_flight", inFlight, AtomicInteger::get)
+                .description("처리 중인 API 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("http.admission.pool.wait", this, filter -> filter.poolWaitMillis)
+                .description("최근 측정 구간의 커넥션 풀 평균 대기 시간")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("http.admission.buckets", buckets, Cache::estimatedSize)
+                .description("보관 중인 회원/IP별 토큰 버킷 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled() || !applicationPath(request).startsWith(API_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        Map.Entry<String, AdmissionProperties.Group> group = findGroup(request.getMethod(), applicationPath(request));
+        String groupName = group != null ? group.getKey() : DEFAULT_GROUP;
+
+        int current = inFlight.incrementAndGet();
+        try {
+            if (properties.getMaxInFlight() > 0 && current > properties.getMaxInFlight()) {
+                reject(request, response, ErrorCode.SERVICE_UNAVAILABLE, groupName, "in_flight", 1);
+                return;
+            }
+            if (group != null && !admit(request, response, group.getKey(), group.getValue())) {
+                return;
+            }
+            filterChain.doFilter(request, response);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private boolean admit(HttpServletRequest request, HttpServletResponse response,
+                          String groupName, AdmissionProperties.Group group) throws IOException {
+        long maxPoolWaitMillis = properties.getMaxPoolWait().toMillis();
+        if (group.isShedOnPoolWait() && maxPoolWaitMillis > 0 && poolWaitMillis() > maxPoolWaitMillis) {
+            reject(request, response, ErrorCode.SERVICE_UNAVAILABLE, groupName, "pool_wait", 1);
+            return false;
+        }
+
+        // IP 버킷을 먼저 확인하여 IP 한도로 거절된 요청이 회원 토큰을 쓰지 않게 하고,
+        // 회원 한도로 거절되면 IP 토큰을 돌려주어 같은 IP의 다른 회원 몫을 줄이지 않는다
+        long now = System.nanoTime();
+        TokenBucket ipBucket = null;
+        if (group.getIpCapacity() > 0) {
+            ipBucket = bucket(groupName + ":i:" + request.getRemoteAddr(), group.getIpCapacity(),
+                    group.getIpRefillPerSecond(), now);
+            long waitNanos = ipBucket.tryConsume(now);
+            if (waitNanos > 0) {
+                reject(request, response, ErrorCode.RATE_LIMIT_EXCEEDED, groupName, "ip", toSeconds(waitNanos));
+                return false;
+            }
+        }
+        String member = currentMember();
+        if (member != null && group.getMemberCapacity() > 0) {
+            long waitNanos = bucket(groupName + ":m:" + member, group.getMemberCapacity(),
+                    group.getMemberRefillPerSecond(), now).tryConsume(now);
+            if (waitNanos > 0) {
+                if (ipBucket != null) {
+                    ipBucket.refund();
+                }
+                reject(request, response, ErrorCode.RATE_LIMIT_EXCEEDED, groupName, "member", toSeconds(waitNanos));
+                return false;
+            }
+        }
+        meterRegistry.counter("http.admission.admitted", "group", groupName).increment();
+        return true;
+    }
+
+    private TokenBucket bucket(String key, long capacity, double refillPerSecond, long now) {
+        return buckets.get(key, k -> new TokenBucket(capacity, refillPerSecond, now));
+    }
+
+    // 측정 구간마다 한 스레드만 커넥션 획득 타이머의 증가분으로 평균 대기 시간을 갱신한다
+    private double poolWaitMillis() {
+        long now = System.nanoTime();
+        long last = lastSampleNanos.get();
+        if (now - last >= properties.getPoolWaitSampleInterval().toNanos()
+                && lastSampleNanos.compareAndSet(last, now)) {
+            samplePoolWait();
+        }
+        return poolWaitMillis;
+    }
+
+    private synchronized void samplePoolWait() {
+        double totalMillis = 0;
+        long count = 0;
+        for (Timer timer : meterRegistry.find(POOL_ACQUIRE_TIMER).timers()) {
+            totalMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+            count += timer.count();
+        }
+        long acquired = count - lastAcquireCount;
+        if (acquired > 0) {
+            poolWaitMillis = (totalMillis - lastAcquireMillis) / acquired;
+        } else if (count == 0) {
+            poolWaitMillis = 0;
+        }
+        // 구간 동안 획득이 한 건도 없으면 풀이 막혔을 수 있으므로 이전 값을 유지한다
+        lastAcquireMillis = totalMillis;
+        lastAcquireCount = count;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, ErrorCode errorCode,
+                        String groupName, String reason, long retryAfterSeconds) throws IOException {
+        meterRegistry.counter("http.admission.rejected", "group", groupName, "reason", reason).increment();
+        log.debug("요청 거절 - {} {}, group: {}, reason: {}", request.getMethod(), request.getRequestURI(),
+                groupName, reason);
+
+        response.setStatus(errorCode.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), AxResponse.failure(errorCode, request.getRequestURI()));
+    }
+
+    private Map.Entry<String, AdmissionProperties.Group> findGroup(String method, String path) {
+        for (Map.Entry<String, AdmissionProperties.Group> entry : properties.getGroups().entrySet()) {
+            for (String endpoint : entry.getValue().getEndpoints()) {
+                int space = endpoint.indexOf(' ');
+                if (space <= 0) {
+                    continue;
+                }
+                String endpointMethod = endpoint.substring(0, space);
+                if (("*".equals(endpointMethod) || endpointMethod.equalsIgnoreCase(method))
+                        && pathMatcher.match(endpoint.substring(space + 1).trim(), path)) {
+                    return entry;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String currentMember() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private static long toSeconds(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + 999_999_999L));
+    }
+
+    private static String applicationPath(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
@@ -0,0 +1,101 @@
+package com.skax.core.common.admission;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 수락 제어(처리율 제한, 부하 차단) 설정
+ *
+ * <p>{@code app.admission.*} 설정을 바인딩합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-06
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.admission")
+public class AdmissionProperties {
+
+    /**
+     * 요청 수락 제어 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 동시에 처리 중인 API 요청 수 한도 (초과 시 503, 0이면 사용 안 함)
+     */
+    private int maxInFlight = 200;
+
+    /**
+     * 커넥션 풀 평균 대기 시간 한도 (초과 시 shed-on-pool-wait 그룹을 503으로 거절, 0이면 사용 안 함)
+     */
+    private Duration maxPoolWait = Duration.ofMillis(500);
+
+    /**
+     * 커넥션 풀 대기 시간 측정 구간
+     */
+    private Duration poolWaitSampleInterval = Duration.ofSeconds(1);
+
+    /**
+     * 보관할 최대 버킷 수 (회원/IP별)
+     */
+    private long maxBuckets = 100_000;
+
+    /**
+     * 이 기간 동안 사용되지 않은 버킷은 제거 (다시 사용하면 가득 찬 상태로 생성)
+     */
+    private Duration bucketExpireAfterAccess = Duration.ofMinutes(10);
+
+    /**
+     * 엔드포인트 그룹별 설정 (선언 순서대로 먼저 일치하는 그룹 적용)
+     */
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    /**
+     * 엔드포인트 그룹 설정
+     */
+    @Getter
+    @Setter
+    public static class Group {
+
+        /**
+         * 대상 엔드포인트 ("METHOD Ant 경로 패턴" 형식, METHOD가 *이면 모든 메서드)
+         */
+        private List<String> endpoints = new ArrayList<>();
+
+        /**
+         * 회원별 버킷 용량 (0이면 회원별 제한 없음)
+         */
+        private long memberCapacity;
+
+        /**
+         * 회원별 초당 충전 토큰 수
+         */
+        private double memberRefillPerSecond;
+
+        /**
+         * IP별 버킷 용량 (0이면 IP별 제한 없음)
+         */
+        private long ipCapacity;
+
+        /**
+         * IP별 초당 충전 토큰 수
+         */
+        private double ipRefillPerSecond;
+
+        /**
+         * 커넥션 풀 대기 시간이 한도를 넘으면 거절할지 여부
+         */
+        private boolean shedOnPoolWait = true;
+    }
+}
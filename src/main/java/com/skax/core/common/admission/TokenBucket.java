@@ -0,0 +1,75 @@
+package com.skax.core.common.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷
+ *
+ * <p>GCRA(Generic Cell Rate Algorithm) 방식으로 구현하여 버킷 상태를 "이론적 도착 시각" 하나의
+ * {@link AtomicLong}으로 표현하고 CAS로만 갱신합니다. 최대 {@code capacity}개까지 연속 요청을 허용하며,
+ * 초당 {@code refillPerSecond}개의 속도로 토큰이 채워지는 토큰 버킷과 동일하게 동작합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-06
+ * @version 1.0
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * 가득 찬 버킷을 생성합니다.
+     *
+     * @param capacity 버킷 용량 (최대 연속 요청 수)
+     * @param refillPerSecond 초당 충전 토큰 수
+     * @param nowNanos 현재 시각 ({@link System#nanoTime()})
+     */
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상, refillPerSecond는 0보다 커야 합니다.");
+        }
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = Math.multiplyExact(intervalNanos, capacity);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나를 소비합니다.
+     *
+     * @param nowNanos 현재 시각 ({@link System#nanoTime()})
+     * @return 소비에 성공하면 0, 토큰이 없으면 다음 토큰까지 기다려야 하는 시간(나노초)
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long next = Math.max(arrival, nowNanos) + intervalNanos;
+            long overflow = next - nowNanos - burstNanos;
+            if (overflow > 0) {
+                return overflow;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 소비한 토큰 하나를 돌려줍니다. 다른 한도로 요청이 거절되어 토큰을 쓰지 않은 것으로 할 때 사용합니다.
+     */
+    public void refund() {
+        theoreticalArrival.addAndGet(-intervalNanos);
+    }
+
+    /**
+     * 현재 남은 토큰 수를 반환합니다.
+     *
+     * @param nowNanos 현재 시각 ({@link System#nanoTime()})
+     * @return 남은 토큰 수
+     */
+    public double availableTokens(long nowNanos) {
+        long used = Math.max(theoreticalArrival.get(), nowNanos) - nowNanos;
+        return (double) (burstNanos - used) / intervalNanos;
+    }
+}
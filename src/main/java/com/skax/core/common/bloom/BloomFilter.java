@@ -0,0 +1,145 @@
+package com.skax.core.common.bloom;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 블룸 필터
+ *
+ * <p>"확실히 없음" 또는 "있을 수 있음"만 답하는 확률적 집합입니다. 추가된 값에 대해서는 항상
+ * {@code true}를 반환하며(거짓 음성 없음), 추가되지 않은 값에 대해서는 생성 시 지정한 확률 정도로
+ * {@code true}를 반환할 수 있습니다(거짓 양성). 값을 제거할 수 없으므로 삭제가 누적되면 다시 만들어야 합니다.</p>
+ *
+ * <p>비트 배열은 {@link AtomicLongArray}로 관리하므로 잠금 없이 여러 스레드에서 추가/조회할 수 있습니다.
+ * 해시는 UTF-8 바이트의 FNV-1a 값을 두 가지 시드로 섞은 64비트 값 두 개로 이중 해싱(double hashing)합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+public final class BloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long SECOND_SEED = 0x9e3779b97f4a7c15L;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final AtomicLong setBits = new AtomicLong();
+
+    private BloomFilter(long bitSize, int hashFunctions) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitSize + 63) / 64));
+        this.bitSize = (long) words.length() * 64;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * 예상 원소 수와 목표 거짓 양성 확률에 맞는 블룸 필터를 생성합니다.
+     *
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate 목표 거짓 양성 확률 (0 초과 1 미만)
+     * @return 블룸 필터
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate는 0과 1 사이여야 합니다: " + falsePositiveRate);
+        }
+        long n = Math.max(1, expectedInsertions);
+        long bits = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+        return new BloomFilter(bits, hashes);
+    }
+
+    /**
+     * 값을 추가합니다.
+     *
+     * @param value 값 (null이면 무시)
+     */
+    public void put(String value) {
+        if (value == null) {
+            return;
+        }
+        long hash1 = hash(value, 0L);
+        long hash2 = hash(value, SECOND_SEED) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+            if ((current & mask) == 0) {
+                setBits.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 값이 있을 수 있는지 확인합니다.
+     *
+     * @param value 값
+     * @return false면 확실히 없음, true면 있을 수 있음
+     */
+    public boolean mightContain(String value) {
+        if (value == null) {
+            return false;
+        }
+        long hash1 = hash(value, 0L);
+        long hash2 = hash(value, SECOND_SEED) | 1L;
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 채워진 비트 비율로 추정한 거짓 양성 확률을 반환합니다.
+     *
+     * @return 추정 거짓 양성 확률
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) setBits.get() / bitSize, hashFunctions);
+    }
+
+    /**
+     * 비트 배열 크기를 반환합니다.
+     *
+     * @return 비트 수
+     */
+    public long bitSize() {
+        return bitSize;
+    }
+
+    /**
+     * 해시 함수 수를 반환합니다.
+     *
+     * @return 해시 함수 수
+     */
+    public int hashFunctions() {
+        return hashFunctions;
+    }
+
+    private static long hash(String value, long seed) {
+        long hash = FNV_OFFSET ^ seed;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        // murmur3 fmix64: 하위 비트까지 고르게 섞음
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
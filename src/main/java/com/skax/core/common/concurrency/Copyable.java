@@ -0,0 +1,35 @@
+package com.skax.core.common.concurrency;
+
+/**
+ * 방어적 복사를 지원하는 객체
+ *
+ * <p>{@link SingleFlight} 메서드의 결과처럼 여러 호출자에게 나누어 주는 가변 DTO가 구현합니다.
+ * {@link #copy()}는 호출자가 수정할 수 있는 부분(하위 DTO, 컬렉션)을 모두 새로 만들어야 하며,
+ * 불변 값(String, 숫자, 날짜 등)은 그대로 공유해도 됩니다.</p>
+ *
+ * @param <T> 복사본 타입
+ * @author ByounggwanLee
+ * @since 2025-09-06
+ * @version 1.0
+ */
+public interface Copyable<T> {
+
+    /**
+     * 원본과 상태를 공유하지 않는 복사본을 반환합니다.
+     *
+     * @return 복사본
+     */
+    T copy();
+
+    /**
+     * 값이 {@link Copyable}이면 복사본을, 아니면 값을 그대로 반환합니다.
+     *
+     * @param value 값 (null 가능)
+     * @param <T> 값 타입
+     * @return 복사본 또는 원래 값
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T copyOf(T value) {
+        return value instanceof Copyable<?> copyable ? (T) copyable.copy() : value;
+    }
+}
@@ -0,0 +1,41 @@
+package com.skax.core.common.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 낙관적 잠금 충돌 시 재시도 어노테이션
+ *
+ * <p>버전 충돌(OptimisticLockingFailureException)이 발생하면 트랜잭션 전체를 다시 실행합니다.
+ * 재시도해도 결과가 같고(idempotent) 다른 요청과 순서가 바뀌어도 결과가 같은(commutative) 변경,
+ * 예를 들어 이미지 추가처럼 최신 상태에 덧붙이는 서비스 메서드에만 사용해야 합니다.
+ * 가격이나 수량을 특정 값으로 덮어쓰는 변경에 사용하면 충돌한 다른 요청의 값을 조용히 덮어쓰므로
+ * 그런 경우에는 재시도하지 않고 409 Conflict로 응답합니다.
+ * 재시도 한도를 넘으면 예외가 그대로 전파되어 409 Conflict로 응답됩니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-29
+ * @version 1.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OptimisticRetry {
+
+    /**
+     * 최대 시도 횟수 (최초 실행 포함)
+     *
+     * @return 최대 시도 횟수
+     */
+    int maxAttempts() default 3;
+
+    /**
+     * 재시도 전 기본 대기 시간 (밀리초, 시도 횟수에 비례하여 증가)
+     *
+     * @return 기본 대기 시간
+     */
+    long backoffMillis() default 20;
+}
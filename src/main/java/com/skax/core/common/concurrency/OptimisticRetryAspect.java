@@ -0,0 +1,69 @@
+package com.skax.core.common.concurrency;
+
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 낙관적 잠금 재시도 Aspect
+ *
+ * <p>{@link OptimisticRetry}가 선언된 메서드를 감싸 버전 충돌 시 제한된 횟수만큼 재실행합니다.
+ * 트랜잭션 Advisor보다 바깥에서 실행되도록 순서를 지정하여, 매 시도마다 새로운 트랜잭션에서
+ * 최신 데이터를 다시 읽도록 합니다. 이미 외부 트랜잭션 안에서 호출된 경우에는
+ * 재시도해도 같은 영속성 컨텍스트를 사용하므로 재시도하지 않습니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-29
+ * @version 1.0
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class OptimisticRetryAspect {
+
+    /**
+     * 버전 충돌 시 메서드를 재실행합니다.
+     *
+     * @param joinPoint 조인 포인트
+     * @param optimisticRetry 재시도 설정
+     * @return 메서드 실행 결과
+     * @throws Throwable 재시도 한도 초과 또는 기타 예외
+     */
+    @Around("@annotation(optimisticRetry)")
+    public Object retry(ProceedingJoinPoint joinPoint, OptimisticRetry optimisticRetry) throws Throwable {
+        int maxAttempts = Math.max(1, optimisticRetry.maxAttempts());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                if (attempt >= maxAttempts || TransactionSynchronizationManager.isActualTransactionActive()) {
+                    log.warn("낙관적 잠금 충돌 - 재시도 중단: method={}, attempt={}/{}",
+                            joinPoint.getSignature().toShortString(), attempt, maxAttempts);
+                    throw e;
+                }
+                log.info("낙관적 잠금 충돌 - 재시도: method={}, attempt={}/{}",
+                        joinPoint.getSignature().toShortString(), attempt, maxAttempts);
+                backoff(optimisticRetry.backoffMillis(), attempt);
+            }
+        }
+    }
+
+    private void backoff(long baseMillis, int attempt) throws InterruptedException {
+        if (baseMillis <= 0) {
+            return;
+        }
+        long delay = baseMillis * attempt + ThreadLocalRandom.current().nextLong(baseMillis + 1);
+        Thread.sleep(delay);
+    }
+}
@@ -0,0 +1,44 @@
+package com.skax.core.common.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 동시 동일 호출 병합(single-flight) 어노테이션
+ *
+ * <p>같은 메서드를 같은 인자로 동시에 호출하면 먼저 들어온 호출 하나만 실행하고,
+ * 나머지 호출은 최대 {@link #waitTimeoutMillis()} 동안 그 결과를 기다려 복사본을 받습니다.
+ * 실행이 끝나면 결과를 보관하지 않으므로 캐시가 아니라 동시 요청 폭주(cache stampede)를 막는 용도입니다.
+ * 먼저 실행한 호출이 실패하거나 대기 시간이 지나면 기다리던 호출은 각자 직접 실행하므로,
+ * 예외 객체를 공유하지 않고 호출마다 자신의 예외를 받습니다.</p>
+ *
+ * <p>인자는 {@code equals}/{@code hashCode}가 값 기준으로 구현되어 있어야 하며, 반환 타입은
+ * {@link Copyable}이거나 불변 값(String, 숫자, Boolean, enum)이어야 합니다. 그렇지 않으면 호출 시
+ * {@link IllegalStateException}이 발생합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-06
+ * @version 1.0
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+
+    /**
+     * 메트릭 태그에 사용할 이름 (비어 있으면 "클래스.메서드")
+     *
+     * @return 이름
+     */
+    String name() default "";
+
+    /**
+     * 실행 중인 호출의 결과를 기다리는 최대 시간(밀리초). 지나면 기다리던 호출이 직접 실행합니다.
+     *
+     * @return 대기 시간(밀리초)
+     */
+    long waitTimeoutMillis() default 5_000;
+}
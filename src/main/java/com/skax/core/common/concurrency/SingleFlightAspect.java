@@ -0,0 +1,129 @@
+package com.skax.core.common.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 동시 동일 호출 병합 Aspect
+ *
+ * <p>{@link SingleFlight}가 선언된 메서드를 (메서드, 인자 목록) 키로 묶어, 실행 중인 호출이 있으면
+ * 새 호출은 실행하지 않고 그 결과를 기다립니다. 트랜잭션 Advisor와 {@link OptimisticRetryAspect}보다
+ * 바깥에서 실행되어 병합된 호출 전체가 하나의 트랜잭션으로 처리됩니다. 이미 외부 트랜잭션 안에서
+ * 호출된 경우에는 그 트랜잭션의 변경 내용을 봐야 하므로 병합하지 않습니다.</p>
+ *
+ * <p>실행한 호출은 결과의 복사본을 공유용으로 남기고, 기다린 호출은 그 복사본을 다시 복사해 받으므로
+ * 호출자끼리 DTO를 공유하지 않습니다. 기다리는 시간은 {@link SingleFlight#waitTimeoutMillis()}로 제한되며,
+ * 시간이 지나거나 실행한 호출이 실패하면 기다리던 호출이 직접 실행합니다.</p>
+ *
+ * <p>호출 수는 {@code singleflight.calls} 메트릭(name, result=executed|collapsed|timeout|failed-over 태그)으로
+ * 기록됩니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-06
+ * @version 1.0
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 2)
+@RequiredArgsConstructor
+public class SingleFlightAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<Method, Boolean> shareableReturnTypes = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 키로 실행 중인 호출이 있으면 그 결과를 공유합니다.
+     *
+     * @param joinPoint 조인 포인트
+     * @param singleFlight 병합 설정
+     * @return 메서드 실행 결과
+     * @throws Throwable 메서드에서 발생한 예외
+     */
+    @Around("@annotation(singleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, SingleFlight singleFlight) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        if (!shareableReturnTypes.computeIfAbsent(method, m -> isShareable(m.getReturnType()))) {
+            throw new IllegalStateException("@SingleFlight 메서드의 반환 타입은 Copyable이거나 불변 값이어야 합니다: "
+                    + method);
+        }
+        String name = singleFlight.name().isEmpty()
+                ? method.getDeclaringClass().getSimpleName() + "." + method.getName()
+                : singleFlight.name();
+        List<Object> key = List.of(method, Arrays.asList(joinPoint.getArgs()));
+
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            return await(joinPoint, existing, name, singleFlight.waitTimeoutMillis());
+        }
+
+        count(name, "executed");
+        try {
+            Object result = joinPoint.proceed();
+            // 호출자가 결과를 수정하기 전에 공유용 복사본을 만들어 둔다
+            call.complete(Copyable.copyOf(result));
+            return result;
+        } catch (Throwable e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private Object await(ProceedingJoinPoint joinPoint, CompletableFuture<Object> call,
+                         String name, long waitTimeoutMillis) throws Throwable {
+        try {
+            Object shared = call.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+            count(name, "collapsed");
+            return Copyable.copyOf(shared);
+        } catch (TimeoutException e) {
+            count(name, "timeout");
+        } catch (ExecutionException e) {
+            // 실행한 호출의 예외 객체를 공유하지 않고 직접 실행하여 자신의 예외를 받는다
+            count(name, "failed-over");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("실행 중인 호출을 기다리다 중단되었습니다: " + name, e);
+        }
+        return joinPoint.proceed();
+    }
+
+    private static boolean isShareable(Class<?> type) {
+        return type.isPrimitive()
+                || Copyable.class.isAssignableFrom(type)
+                || type.isEnum()
+                || type == Void.class
+                || type == String.class
+                || type == Boolean.class
+                || type == Character.class
+                || (Number.class.isAssignableFrom(type) && type.getPackageName().equals("java.lang"));
+    }
+
+    private void count(String name, String result) {
+        meterRegistry.counter("singleflight.calls", "name", name, "result", result).increment();
+    }
+}
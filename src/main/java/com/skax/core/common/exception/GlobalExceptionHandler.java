@@ -2,14 +2,17 @@ package com.skax.core.common.exception;
 
 import com.skax.core.common.response.AxResponse;
 import com.skax.core.common.response.ErrorCode;
+import jakarta.persistence.OptimisticLockException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -79,6 +82,38 @@ public class GlobalExceptionHandler {
         return handleCustomException(e, request);
     }
 
+    // ==================== 동시성 예외 처리 ====================
+
+    /**
+     * 낙관적 잠금 충돌 처리 (동시 수정)
+     * 
+     * @param e 낙관적 잠금 예외
+     * @param request HTTP 요청
+     * @return 409 Conflict 에러 응답
+     */
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<AxResponse<Void>> handleOptimisticLockException(
+            RuntimeException e, HttpServletRequest request) {
+        log.warn("Optimistic lock conflict: {}", e.getMessage());
+        return createErrorResponse(ErrorCode.CONCURRENT_MODIFICATION, request);
+    }
+
+    // ==================== 파일 업로드 예외 처리 ====================
+
+    /**
+     * 업로드 파일 크기 초과 처리 (spring.servlet.multipart.max-file-size)
+     * 
+     * @param e 업로드 크기 초과 예외
+     * @param request HTTP 요청
+     * @return 413 Payload Too Large 에러 응답
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<AxResponse<Void>> handleMaxUploadSizeExceededException(
+            MaxUploadSizeExceededException e, HttpServletRequest request) {
+        log.warn("Upload size exceeded: {}", e.getMessage());
+        return createErrorResponse(ErrorCode.PRODUCT_IMAGE_TOO_LARGE, request);
+    }
+
     // ==================== Spring 유효성 검증 예외 처리 ====================
 
     /**
@@ -0,0 +1,164 @@
+package com.skax.core.common.fields;
+
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 응답 필드 선택 (sparse fieldset)
+ *
+ * <p>{@code fields=pno,productName,price,thumbnail}처럼 쉼표로 구분한 속성 이름 목록을 표현합니다.
+ * 파라미터가 없거나 비어 있으면 모든 필드를 선택한 것으로 봅니다. 중첩 DTO의 속성은
+ * {@code items.quantity}처럼 점으로 구분한 경로로 선택합니다.</p>
+ *
+ * <p>서비스는 {@link #includes(String)}로 필요한 연관 데이터(이미지, 감사 정보 등)만 적재하고,
+ * {@link SparseFieldsetResponseAdvice}는 같은 파라미터로 JSON 출력 필드를 제한합니다.
+ * 값 객체이므로 {@code @SingleFlight} 키에 그대로 사용할 수 있습니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-07
+ * @version 1.0
+ */
+public final class FieldSelection {
+
+    /**
+     * 필드 선택 요청 파라미터 이름
+     */
+    public static final String PARAM = "fields";
+
+    /**
+     * 필드 선택을 적용하는 DTO의 {@code @JsonFilter} ID
+     */
+    public static final String FILTER_ID = "fieldSelection";
+
+    /**
+     * 감사 정보 필드 별칭 (BaseDto를 상속한 DTO에서는 감사 필드 전체로 확장)
+     */
+    public static final String AUDIT = "audit";
+
+    private static final FieldSelection ALL = new FieldSelection(null);
+
+    // null이면 전체 선택
+    private final NavigableSet<String> fields;
+
+    private FieldSelection(NavigableSet<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * 모든 필드를 선택합니다.
+     *
+     * @return 전체 선택
+     */
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    /**
+     * 쉼표로 구분한 필드 목록을 해석합니다.
+     *
+     * @param fields 필드 목록 (null 또는 빈 문자열이면 전체 선택)
+     * @return 필드 선택
+     */
+    public static FieldSelection parse(String fields) {
+        if (!StringUtils.hasText(fields)) {
+            return ALL;
+        }
+        NavigableSet<String> names = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toCollection(TreeSet::new));
+        return names.isEmpty() ? ALL : new FieldSelection(Collections.unmodifiableNavigableSet(names));
+    }
+
+    /**
+     * 모든 필드를 선택했는지 여부를 반환합니다.
+     *
+     * @return 전체 선택이면 true
+     */
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    /**
+     * 필드(또는 점으로 구분한 경로)가 선택되었는지 확인합니다.
+     *
+     * <p>다음 중 하나이면 선택된 것으로 봅니다.</p>
+     * <ul>
+     *   <li>경로 자체가 선택됨</li>
+     *   <li>경로 아래의 속성이 선택됨 ({@code items.quantity}가 있으면 {@code items})</li>
+     *   <li>상위 경로가 하위 속성 지정 없이 선택됨 ({@code items}만 있으면 {@code items.quantity})</li>
+     * </ul>
+     *
+     * @param field 필드 이름 또는 경로
+     * @return 선택되었으면 true
+     */
+    public boolean includes(String field) {
+        if (fields == null || fields.contains(field) || hasChildren(field)) {
+            return true;
+        }
+        for (int dot = field.lastIndexOf('.'); dot > 0; dot = field.lastIndexOf('.', dot - 1)) {
+            String parent = field.substring(0, dot);
+            if (fields.contains(parent)) {
+                return !hasChildren(parent);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 필드 중 하나라도 선택되었는지 확인합니다.
+     *
+     * @param candidates 필드 이름 목록
+     * @return 하나라도 선택되었으면 true
+     */
+    public boolean includesAny(String... candidates) {
+        for (String candidate : candidates) {
+            if (includes(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 경로 아래의 속성이 따로 선택되었는지 (정렬된 집합이므로 "경로." 다음 항목만 확인)
+    private boolean hasChildren(String field) {
+        String next = fields.ceiling(field + ".");
+        return next != null && next.startsWith(field + ".");
+    }
+
+    /**
+     * 선택한 필드 이름 목록을 반환합니다.
+     *
+     * @return 필드 이름 목록 (전체 선택이면 빈 집합)
+     */
+    public Set<String> getFields() {
+        return fields != null ? fields : Set.of();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof FieldSelection other)) {
+            return false;
+        }
+        return fields == null ? other.fields == null : fields.equals(other.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return fields == null ? 0 : fields.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return fields == null ? "*" : String.join(",", fields);
+    }
+}
@@ -0,0 +1,83 @@
+package com.skax.core.common.fields;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 경로 기반 응답 필드 선택 필터
+ *
+ * <p>{@code @JsonFilter(FieldSelection.FILTER_ID)} DTO의 속성을 가장 바깥쪽 필터 대상 DTO 기준 경로로
+ * {@link FieldSelection#includes(String)}에 물어 출력 여부를 정합니다. 예를 들어 장바구니 응답 안의
+ * 아이템 수량은 {@code items.quantity} 경로로 판단하므로, {@code fields=cno,items}는 아이템 전체를,
+ * {@code fields=cno,items.quantity}는 아이템의 수량만 출력합니다.</p>
+ *
+ * <p>{@value FieldSelection#AUDIT}는 같은 경로의 {@code BaseDto} 감사 필드 전체로 확장됩니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-07
+ * @version 1.0
+ */
+public class FieldSelectionPropertyFilter extends SimpleBeanPropertyFilter {
+
+    private static final List<String> BASE_DTO_AUDIT_FIELDS = List.of(
+            "createdAt", "updatedAt", "createdBy", "createdByNickname",
+            "updatedBy", "updatedByNickname", "deleted");
+
+    private static final ClassValue<Boolean> FILTERED = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            JsonFilter filter = type.getAnnotation(JsonFilter.class);
+            return filter != null && FieldSelection.FILTER_ID.equals(filter.value());
+        }
+    };
+
+    private final FieldSelection fields;
+
+    public FieldSelectionPropertyFilter(FieldSelection fields) {
+        this.fields = fields;
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator gen, SerializerProvider provider,
+                                 PropertyWriter writer) throws Exception {
+        if (includes(pathOf(gen), writer.getName())) {
+            writer.serializeAsField(pojo, gen, provider);
+        } else if (!gen.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, gen, provider);
+        }
+    }
+
+    private boolean includes(String path, String property) {
+        String prefix = path.isEmpty() ? "" : path + ".";
+        if (fields.includes(prefix + property)) {
+            return true;
+        }
+        return BASE_DTO_AUDIT_FIELDS.contains(property) && fields.includes(prefix + FieldSelection.AUDIT);
+    }
+
+    // 현재 객체까지의 속성 이름 중 가장 바깥쪽 필터 대상 DTO 아래 부분 (그 DTO 자신이면 빈 문자열)
+    private static String pathOf(JsonGenerator gen) {
+        Deque<String> segments = new ArrayDeque<>();
+        String path = "";
+        for (JsonStreamContext context = gen.getOutputContext().getParent(); context != null;
+             context = context.getParent()) {
+            if (!context.inObject()) {
+                continue;
+            }
+            segments.addFirst(context.getCurrentName());
+            Object owner = context.getCurrentValue();
+            if (owner != null && FILTERED.get(owner.getClass())) {
+                path = String.join(".", segments);
+            }
+        }
+        return path;
+    }
+}
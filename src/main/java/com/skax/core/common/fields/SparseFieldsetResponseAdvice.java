@@ -0,0 +1,49 @@
+package com.skax.core.common.fields;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * 응답 필드 선택(sparse fieldset) Advice
+ *
+ * <p>요청에 {@code fields} 파라미터가 있으면 {@code @JsonFilter(FieldSelection.FILTER_ID)}가 붙은 DTO를
+ * 직렬화할 때 선택한 속성만 출력합니다. {@code AxResponse}, {@code PageResponse} 같은 감싸는 객체에는
+ * 필터를 붙이지 않으므로 응답 구조는 그대로 유지됩니다.</p>
+ *
+ * <p>중첩된 DTO는 점으로 구분한 경로({@code items.quantity})로 선택하며, 경로 없이 상위 속성만
+ * 선택하면({@code items}) 중첩 DTO 전체를 출력합니다. 판단 규칙은 {@link FieldSelectionPropertyFilter}를 참고하세요.
+ * JSON과 CBOR 응답에 모두 적용됩니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-07
+ * @version 1.0
+ */
+@RestControllerAdvice
+public class SparseFieldsetResponseAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(@NonNull MappingJacksonValue bodyContainer,
+                                           @NonNull MediaType contentType,
+                                           @NonNull MethodParameter returnType,
+                                           @NonNull ServerHttpRequest request,
+                                           @NonNull ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        FieldSelection fields = FieldSelection.parse(
+                servletRequest.getServletRequest().getParameter(FieldSelection.PARAM));
+        if (fields.isAll()) {
+            return;
+        }
+        bodyContainer.setFilters(new SimpleFilterProvider()
+                .addFilter(FieldSelection.FILTER_ID, new FieldSelectionPropertyFilter(fields)));
+    }
+}
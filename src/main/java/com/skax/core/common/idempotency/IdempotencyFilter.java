@@ -0,0 +1,374 @@
+package com.skax.core.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.core.common.response.AxResponse;
+import com.skax.core.common.response.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 멱등성 키(Idempotency-Key) 필터
+ *
+ * <p>{@code endpoints}에 해당하는 요청에 {@value #HEADER} 헤더가 있으면 요청자, 메서드, 경로, 키로 저장 키를 만들고
+ * 요청 본문의 SHA-256 지문과 함께 {@link IdempotencyStore}에 선점합니다. 요청자는 인증된 사용자 이름이며,
+ * 인증되지 않은 요청은 클라이언트 IP입니다. 따라서 다른 사용자가 같은 키를 보내도 서로의 응답을 받지 않습니다.</p>
+ * <ul>
+ *   <li>처음 들어온 요청은 그대로 실행하고, 응답(상태 코드, Content-Type, 본문)을 {@code ttl} 동안 저장합니다.</li>
+ *   <li>같은 키로 다시 들어온 요청은 서비스를 실행하지 않고 저장된 응답을 돌려주며
+ *       {@value #REPLAYED_HEADER}: true 헤더를 붙입니다.</li>
+ *   <li>첫 요청이 처리 중이면 완료될 때까지 최대 {@code wait-timeout} 동안 기다렸다가 그 응답을 돌려줍니다.
+ *       시간이 지나면 409(C009)를 반환합니다.</li>
+ *   <li>같은 키를 다른 본문에 사용하면 422(C008)를 반환합니다.</li>
+ *   <li>5xx와 일시적 오류(408, 409, 429)는 저장하지 않으므로 같은 키로 다시 시도할 수 있습니다.</li>
+ *   <li>본문이 {@code max-body-size}보다 크면 읽기를 멈추고 413(C010)을 반환합니다.</li>
+ * </ul>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-06
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    /**
+     * 멱등성 키 요청 헤더
+     */
+    public static final String HEADER = "Idempotency-Key";
+
+    /**
+     * 저장된 응답을 돌려줄 때 붙이는 응답 헤더
+     */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<Integer> TRANSIENT_STATUSES = Set.of(408, 409, 429);
+
+    private final IdempotencyProperties properties;
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyFilter(IdempotencyProperties properties,
+                             IdempotencyStore store,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !StringUtils.hasText(request.getHeader(HEADER))
+                || !isTargetEndpoint(request.getMethod(), applicationPath(request));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(HEADER).trim();
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, ErrorCode.INVALID_INPUT_VALUE, "invalid");
+            return;
+        }
+
+        long maxBodySize = properties.getMaxBodySize().toBytes();
+        byte[] body = request.getContentLengthLong() > maxBodySize
+                ? null : readBody(request.getInputStream(), maxBodySize);
+        if (body == null) {
+            writeError(request, response, ErrorCode.REQUEST_BODY_TOO_LARGE, "too_large");
+            return;
+        }
+        String key = sha256((scope(request) + "\n" + request.getMethod() + " " + applicationPath(request)
+                + "\n" + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+        String fingerprint = sha256(body);
+        HttpServletRequest cachedRequest = new CachedBodyRequest(request, body);
+
+        long deadline = System.nanoTime() + properties.getWaitTimeout().toNanos();
+        while (true) {
+            String claimToken = UUID.randomUUID().toString();
+            IdempotencyRecord existing = store.tryAcquire(key, IdempotencyRecord.inProgress(fingerprint, claimToken,
+                    Instant.now().plus(properties.getInProgressTimeout())));
+
+            if (existing == null) {
+                CompletableFuture<Void> signal = new CompletableFuture<>();
+                inFlight.put(key, signal);
+                try {
+                    execute(cachedRequest, response, filterChain, key, claimToken, fingerprint);
+                } finally {
+                    inFlight.remove(key, signal);
+                    signal.complete(null);
+                }
+                return;
+            }
+            if (!existing.getFingerprint().equals(fingerprint)) {
+                writeError(request, response, ErrorCode.IDEMPOTENCY_KEY_REUSED, "mismatch");
+                return;
+            }
+            if (existing.isCompleted()) {
+                replay(response, existing);
+                return;
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || !awaitCompletion(key, remaining)) {
+                writeError(request, response, ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS, "in_progress");
+                return;
+            }
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String key, String claimToken, String fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+            count("executed");
+            int status = wrapper.getStatus();
+            if (status < 500 && !TRANSIENT_STATUSES.contains(status)) {
+                stored = completeQuietly(key, claimToken, IdempotencyRecord.completed(fingerprint, status,
+                        wrapper.getContentType(), wrapper.getContentAsByteArray(),
+                        Instant.now().plus(properties.getTtl())));
+            }
+        } finally {
+            if (!stored) {
+                releaseQuietly(key, claimToken);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyRecord record) throws IOException {
+        count("replayed");
+        response.setStatus(record.getStatus());
+        if (record.getContentType() != null) {
+            response.setContentType(record.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        byte[] body = record.getBody() != null ? record.getBody() : new byte[0];
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    // 같은 노드의 요청이면 완료 신호를, 다른 노드의 요청이면 poll-interval만큼 기다린다
+    private boolean awaitCompletion(String key, long remainingNanos) {
+        long waitNanos = Math.min(remainingNanos, properties.getPollInterval().toNanos());
+        CompletableFuture<Void> signal = inFlight.get(key);
+        try {
+            if (signal != null) {
+                signal.get(remainingNanos, TimeUnit.NANOSECONDS);
+            } else {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return true;
+        }
+    }
+
+    private boolean completeQuietly(String key, String claimToken, IdempotencyRecord completed) {
+        try {
+            if (store.complete(key, claimToken, completed)) {
+                return true;
+            }
+            // 처리 중 표시가 만료되어 다른 요청이 다시 선점했으므로 그 요청의 결과를 덮어쓰지 않는다
+            count("claim_lost");
+            log.warn("멱등성 키 선점 만료 - 응답을 저장하지 않습니다 (in-progress-timeout 초과)");
+            return false;
+        } catch (RuntimeException e) {
+            log.warn("멱등성 응답 저장 실패 - error: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void releaseQuietly(String key, String claimToken) {
+        try {
+            store.release(key, claimToken);
+        } catch (RuntimeException e) {
+            log.warn("멱등성 키 선점 해제 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response,
+                            ErrorCode errorCode, String result) throws IOException {
+        count(result);
+        response.setStatus(errorCode.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), AxResponse.failure(errorCode, request.getRequestURI()));
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("http.idempotency.requests", "result", result).increment();
+    }
+
+    private boolean isTargetEndpoint(String method, String path) {
+        for (String endpoint : properties.getEndpoints()) {
+            int space = endpoint.indexOf(' ');
+            if (space > 0
+                    && endpoint.substring(0, space).equalsIgnoreCase(method)
+                    && pathMatcher.match(endpoint.substring(space + 1).trim(), path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 최대 크기보다 1바이트 더 읽어 보고 넘으면 null을 반환한다 (Content-Length가 없거나 틀린 요청 대비)
+    private static byte[] readBody(InputStream in, long maxBodySize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        long total = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            total += read;
+            if (total > maxBodySize) {
+                return null;
+            }
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    // 저장 키의 요청자 구분 - 인증된 사용자 이름, 인증되지 않았으면 클라이언트 IP
+    private static String scope(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return "ip:" + request.getRemoteAddr();
+        }
+        return "user:" + authentication.getName();
+    }
+
+    private static String applicationPath(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 미리 읽어 둔 본문을 다시 제공하는 요청 래퍼
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문을 이미 모두 읽었으므로 비동기 읽기 요청에는 곧바로 읽기 가능/완료를 알린다
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
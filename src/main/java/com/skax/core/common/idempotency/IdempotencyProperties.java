@@ -0,0 +1,79 @@
+package com.skax.core.common.idempotency;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 멱등성 키 처리 설정
+ *
+ * <p>{@code app.idempotency.*} 설정을 바인딩합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-06
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * 멱등성 키 처리 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 저장소 종류 (memory: 노드 로컬 캐시, jdbc: tbl_idempotency_key 테이블)
+     */
+    private String store = "memory";
+
+    /**
+     * 적용 대상 엔드포인트 ("METHOD Ant 경로 패턴" 형식)
+     */
+    private List<String> endpoints = new ArrayList<>(List.of(
+            "POST /api/v1/carts/*/items",
+            "POST /api/v1/products"));
+
+    /**
+     * 완료된 응답 보관 기간
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * 메모리 저장소의 최대 키 수
+     */
+    private long maxEntries = 10_000;
+
+    /**
+     * 지문 계산을 위해 메모리에 읽는 요청 본문의 최대 크기 (넘으면 413)
+     */
+    private DataSize maxBodySize = DataSize.ofMegabytes(1);
+
+    /**
+     * 처리 중 표시의 유효 시간 (처리 노드가 중단되어도 이 시간이 지나면 같은 키로 다시 실행 가능)
+     */
+    private Duration inProgressTimeout = Duration.ofSeconds(30);
+
+    /**
+     * 동시에 들어온 중복 요청이 첫 요청의 완료를 기다리는 최대 시간
+     */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 다른 노드에서 처리 중인 요청의 완료를 확인하는 간격
+     */
+    private Duration pollInterval = Duration.ofMillis(100);
+
+    /**
+     * jdbc 저장소의 만료 키 삭제 주기
+     */
+    private Duration purgeInterval = Duration.ofMinutes(10);
+}
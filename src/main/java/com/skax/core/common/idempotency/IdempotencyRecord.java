@@ -0,0 +1,75 @@
+package com.skax.core.common.idempotency;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 멱등성 키 저장 레코드
+ *
+ * <p>처리 중 상태이거나, 처리가 끝난 요청의 응답(상태 코드, Content-Type, 본문)을 담습니다.
+ * 처리 중 레코드의 {@code claimToken}은 키를 선점한 요청만 완료/해제할 수 있도록 저장소가 비교합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-06
+ * @version 1.0
+ */
+@Getter
+public final class IdempotencyRecord {
+
+    private final String fingerprint;
+    private final String claimToken;
+    private final boolean completed;
+    private final int status;
+    private final String contentType;
+    private final byte[] body;
+    private final Instant expiresAt;
+
+    IdempotencyRecord(String fingerprint, String claimToken, boolean completed, int status,
+                      String contentType, byte[] body, Instant expiresAt) {
+        this.fingerprint = fingerprint;
+        this.claimToken = claimToken;
+        this.completed = completed;
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 처리 중 레코드를 생성합니다.
+     *
+     * @param fingerprint 요청 본문 지문
+     * @param claimToken 선점한 요청을 식별하는 토큰
+     * @param expiresAt 처리 중 표시 만료 시각
+     * @return 처리 중 레코드
+     */
+    public static IdempotencyRecord inProgress(String fingerprint, String claimToken, Instant expiresAt) {
+        return new IdempotencyRecord(fingerprint, claimToken, false, 0, null, null, expiresAt);
+    }
+
+    /**
+     * 처리 완료 레코드를 생성합니다.
+     *
+     * @param fingerprint 요청 본문 지문
+     * @param status 응답 상태 코드
+     * @param contentType 응답 Content-Type
+     * @param body 응답 본문
+     * @param expiresAt 보관 만료 시각
+     * @return 완료 레코드
+     */
+    public static IdempotencyRecord completed(String fingerprint, int status, String contentType,
+                                              byte[] body, Instant expiresAt) {
+        return new IdempotencyRecord(fingerprint, null, true, status, contentType, body, expiresAt);
+    }
+
+    /**
+     * 주어진 시각 기준으로 만료되었는지 여부를 반환합니다.
+     *
+     * @param now 기준 시각
+     * @return 만료되었으면 true
+     */
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
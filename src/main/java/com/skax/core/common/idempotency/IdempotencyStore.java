@@ -0,0 +1,51 @@
+package com.skax.core.common.idempotency;
+
+/**
+ * 멱등성 키 저장소
+ *
+ * <p>키 선점은 원자적이어야 합니다. 같은 키로 동시에 {@link #tryAcquire(String, IdempotencyRecord)}를
+ * 호출하면 하나만 선점에 성공합니다. 만료된 레코드는 없는 것으로 취급합니다.
+ * 완료와 해제는 선점 시 저장한 토큰이 일치할 때만 적용되므로, 처리 중 표시가 만료된 뒤
+ * 다른 요청이 다시 선점한 키를 이전 요청이 덮어쓰거나 지우지 않습니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-06
+ * @version 1.0
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 키를 처리 중 상태로 선점합니다.
+     *
+     * @param key 저장 키
+     * @param inProgress 처리 중 레코드
+     * @return 선점에 성공하면 null, 이미 유효한 레코드가 있으면 그 레코드
+     */
+    IdempotencyRecord tryAcquire(String key, IdempotencyRecord inProgress);
+
+    /**
+     * 선점한 키에 처리 결과를 저장합니다.
+     *
+     * @param key 저장 키
+     * @param claimToken 선점 시 사용한 토큰
+     * @param completed 완료 레코드
+     * @return 저장했으면 true, 선점이 만료되었거나 다른 요청이 다시 선점했으면 false
+     */
+    boolean complete(String key, String claimToken, IdempotencyRecord completed);
+
+    /**
+     * 처리 중인 키의 선점을 해제하여 같은 키로 다시 실행할 수 있게 합니다.
+     *
+     * @param key 저장 키
+     * @param claimToken 선점 시 사용한 토큰 (다른 토큰의 선점은 해제하지 않음)
+     */
+    void release(String key, String claimToken);
+
+    /**
+     * 키의 유효한 레코드를 조회합니다.
+     *
+     * @param key 저장 키
+     * @return 레코드 (없거나 만료되었으면 null)
+     */
+    IdempotencyRecord find(String key);
+}
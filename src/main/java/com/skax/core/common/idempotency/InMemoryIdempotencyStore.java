@@ -0,0 +1,98 @@
+package com.skax.core.common.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 노드 로컬 메모리 {@link IdempotencyStore} 구현체 (기본값)
+ *
+ * <p>Caffeine 캐시에 최대 {@code max-entries}개까지 보관하며, 레코드마다 만료 시각이 지나면 제거됩니다.
+ * 용량을 넘으면 오래 사용되지 않은 키부터 제거되므로, 그 키로 다시 요청하면 새로 실행됩니다.
+ * 여러 노드로 운영할 때는 {@link JdbcIdempotencyStore}를 사용합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-06
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, IdempotencyRecord> cache;
+
+    public InMemoryIdempotencyStore(IdempotencyProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfter(new RecordExpiry())
+                .build();
+    }
+
+    @Override
+    public IdempotencyRecord tryAcquire(String key, IdempotencyRecord inProgress) {
+        Instant now = Instant.now();
+        IdempotencyRecord[] existing = new IdempotencyRecord[1];
+        cache.asMap().compute(key, (k, current) -> {
+            if (current != null && !current.isExpired(now)) {
+                existing[0] = current;
+                return current;
+            }
+            return inProgress;
+        });
+        return existing[0];
+    }
+
+    @Override
+    public boolean complete(String key, String claimToken, IdempotencyRecord completed) {
+        boolean[] stored = new boolean[1];
+        cache.asMap().computeIfPresent(key, (k, current) -> {
+            if (!isClaimedBy(current, claimToken)) {
+                return current;
+            }
+            stored[0] = true;
+            return completed;
+        });
+        return stored[0];
+    }
+
+    @Override
+    public void release(String key, String claimToken) {
+        cache.asMap().computeIfPresent(key, (k, current) -> isClaimedBy(current, claimToken) ? null : current);
+    }
+
+    @Override
+    public IdempotencyRecord find(String key) {
+        IdempotencyRecord record = cache.getIfPresent(key);
+        return record != null && !record.isExpired(Instant.now()) ? record : null;
+    }
+
+    private static boolean isClaimedBy(IdempotencyRecord record, String claimToken) {
+        return !record.isCompleted() && claimToken.equals(record.getClaimToken());
+    }
+
+    /**
+     * 레코드의 만료 시각까지 보관
+     */
+    private static final class RecordExpiry implements Expiry<String, IdempotencyRecord> {
+
+        @Override
+        public long expireAfterCreate(String key, IdempotencyRecord value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, IdempotencyRecord value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, IdempotencyRecord value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.skax.core.common.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * DB 테이블 {@link IdempotencyStore} 구현체 (다중 노드용)
+ *
+ * <p>{@code tbl_idempotency_key} 테이블(db/postgresql/migration.sql)의 기본 키 제약으로
+ * 노드 간 키 선점을 보장합니다. 만료된 키는 선점 시점에 대체되고,
+ * {@code purge-interval}마다 일괄 삭제됩니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-06
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.idempotency", name = "store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore, SchedulingConfigurer {
+
+    private static final String STATUS_IN_PROGRESS = "IN_PROGRESS";
+    private static final String STATUS_COMPLETED = "COMPLETED";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO tbl_idempotency_key (idem_key, fingerprint, claim_token, status, expires_at) "
+                    + "VALUES (?, ?, ?, ?, ?)";
+    private static final String COMPLETE_SQL =
+            "UPDATE tbl_idempotency_key SET status = ?, response_status = ?, content_type = ?, response_body = ?, "
+                    + "expires_at = ?, claim_token = NULL WHERE idem_key = ? AND claim_token = ? AND status = '"
+                    + STATUS_IN_PROGRESS + "'";
+    private static final String SELECT_SQL =
+            "SELECT fingerprint, claim_token, status, response_status, content_type, response_body, expires_at "
+                    + "FROM tbl_idempotency_key WHERE idem_key = ?";
+    private static final String DELETE_EXPIRED_KEY_SQL =
+            "DELETE FROM tbl_idempotency_key WHERE idem_key = ? AND expires_at <= ?";
+    private static final String RELEASE_SQL =
+            "DELETE FROM tbl_idempotency_key WHERE idem_key = ? AND claim_token = ? AND status = '"
+                    + STATUS_IN_PROGRESS + "'";
+    private static final String PURGE_SQL =
+            "DELETE FROM tbl_idempotency_key WHERE expires_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdempotencyProperties properties;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, IdempotencyProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(this::purgeExpired, properties.getPurgeInterval());
+    }
+
+    @Override
+    public IdempotencyRecord tryAcquire(String key, IdempotencyRecord inProgress) {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, key, inProgress.getFingerprint(), inProgress.getClaimToken(),
+                        STATUS_IN_PROGRESS,
+                        Timestamp.from(inProgress.getExpiresAt()));
+                return null;
+            } catch (DuplicateKeyException e) {
+                Instant now = Instant.now();
+                IdempotencyRecord existing = select(key);
+                if (existing != null && !existing.isExpired(now)) {
+                    return existing;
+                }
+                // 만료된 키는 지우고 한 번 더 선점을 시도한다
+                jdbcTemplate.update(DELETE_EXPIRED_KEY_SQL, key, Timestamp.from(now));
+            }
+        }
+        IdempotencyRecord existing = find(key);
+        return existing != null ? existing : inProgress;
+    }
+
+    @Override
+    public boolean complete(String key, String claimToken, IdempotencyRecord completed) {
+        return jdbcTemplate.update(COMPLETE_SQL, STATUS_COMPLETED, completed.getStatus(),
+                completed.getContentType(), completed.getBody(), Timestamp.from(completed.getExpiresAt()),
+                key, claimToken) == 1;
+    }
+
+    @Override
+    public void release(String key, String claimToken) {
+        jdbcTemplate.update(RELEASE_SQL, key, claimToken);
+    }
+
+    @Override
+    public IdempotencyRecord find(String key) {
+        IdempotencyRecord record = select(key);
+        return record != null && !record.isExpired(Instant.now()) ? record : null;
+    }
+
+    /**
+     * 만료된 키를 일괄 삭제합니다.
+     */
+    public void purgeExpired() {
+        try {
+            int deleted = jdbcTemplate.update(PURGE_SQL, Timestamp.from(Instant.now()));
+            if (deleted > 0) {
+                log.debug("만료된 멱등성 키 삭제 - {}건", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("만료된 멱등성 키 삭제 실패 - error: {}", e.getMessage());
+        }
+    }
+
+    private IdempotencyRecord select(String key) {
+        List<IdempotencyRecord> records = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new IdempotencyRecord(
+                rs.getString("fingerprint"),
+                rs.getString("claim_token"),
+                STATUS_COMPLETED.equals(rs.getString("status")),
+                rs.getInt("response_status"),
+                rs.getString("content_type"),
+                rs.getBytes("response_body"),
+                rs.getTimestamp("expires_at").toInstant()), key);
+        return records.isEmpty() ? null : records.get(0);
+    }
+}
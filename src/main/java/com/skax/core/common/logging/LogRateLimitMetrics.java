@@ -0,0 +1,57 @@
+package com.skax.core.common.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 발생률 제한 메트릭
+ *
+ * <p>logback에 등록된 {@link LogRateLimitTurboFilter}의 접두사별 버려진 로그 건수를
+ * {@code logging.events.dropped} 카운터(prefix, reason 태그)로 노출합니다.
+ * reason은 초당 한도 초과({@code rate-limit})와 샘플링 제외({@code sampling})를 구분합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-02
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class LogRateLimitMetrics implements MeterBinder {
+
+    private static final String METER_NAME = "logging.events.dropped";
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+        if (!(loggerFactory instanceof LoggerContext loggerContext)) {
+            return;
+        }
+        for (TurboFilter turboFilter : loggerContext.getTurboFilterList()) {
+            if (turboFilter instanceof LogRateLimitTurboFilter filter) {
+                filter.getRules().values().forEach(rule -> bind(registry, rule));
+                log.debug("로그 발생률 제한 메트릭 등록 - 접두사: {}", filter.getRules().keySet());
+            }
+        }
+    }
+
+    void bind(MeterRegistry registry, LogRateLimitTurboFilter.Rule rule) {
+        FunctionCounter.builder(METER_NAME, rule, LogRateLimitTurboFilter.Rule::getRateLimited)
+                .description("발생률 제한 또는 샘플링으로 버려진 로그 건수")
+                .tag("prefix", rule.getPrefix())
+                .tag("reason", "rate-limit")
+                .register(registry);
+        FunctionCounter.builder(METER_NAME, rule, LogRateLimitTurboFilter.Rule::getSampledOut)
+                .description("발생률 제한 또는 샘플링으로 버려진 로그 건수")
+                .tag("prefix", rule.getPrefix())
+                .tag("reason", "sampling")
+                .register(registry);
+    }
+}
@@ -0,0 +1,248 @@
+package com.skax.core.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로거 접두사별 로그 발생률 제한/샘플링 TurboFilter
+ *
+ * <p>logback-spring.xml에서 {@code <limit>로거명=초당건수</limit>}로 로거 접두사별 초당 한도를,
+ * {@code <sample>로거명=N</sample>}으로 N건 중 1건만 남기는 샘플링을 지정합니다.
+ * 한도와 샘플링은 접두사 단위로 적용되어 접두사 아래의 모든 로거가 하나의 한도를 나눠 씁니다.
+ * 로거에는 가장 긴 접두사가 일치하는 설정이 적용됩니다.</p>
+ *
+ * <p>{@code <follow>로거명=선행접두사</follow>}로 지정한 로거는 자체 한도/샘플링 없이, 같은 스레드에서 바로 전에
+ * 선행 접두사 규칙이 내린 결정을 그대로 따릅니다. SQL 로그와 그 뒤에 이어지는 바인딩 파라미터 로그처럼 함께 읽어야
+ * 하는 로그가 한쪽만 남지 않게 합니다. 선행 로그가 비활성화되어 결정이 없으면 따르는 로그는 통과합니다.</p>
+ *
+ * <p>INFO 이하 로그만 대상이며 WARN/ERROR 로그는 항상 통과합니다.
+ * 비활성화된 레벨의 로그 호출은 로거의 유효 레벨만 확인하고 바로 반환하므로 추가 비용이 거의 없습니다.
+ * 버려진 로그 건수는 {@link LogRateLimitMetrics}가 {@code logging.events.dropped} 메트릭으로 노출합니다.</p>
+ *
+ * <pre>
+ * &lt;turboFilter class="com.skax.core.common.logging.LogRateLimitTurboFilter"&gt;
+ *     &lt;limit&gt;org.hibernate.SQL=50&lt;/limit&gt;
+ *     &lt;follow&gt;org.hibernate.orm.jdbc.bind=org.hibernate.SQL&lt;/follow&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-02
+ * @version 1.0
+ */
+public class LogRateLimitTurboFilter extends TurboFilter {
+
+    private final Map<String, Integer> limits = new TreeMap<>();
+    private final Map<String, Integer> samples = new TreeMap<>();
+    private final Map<String, String> follows = new TreeMap<>();
+    private volatile Map<String, Rule> rulesByPrefix = Collections.emptyMap();
+    private final Map<String, Rule> rulesByLogger = new ConcurrentHashMap<>();
+
+    /**
+     * 로거 접두사별 초당 한도를 추가합니다. (형식: "로거명=초당건수")
+     *
+     * @param limit 한도 설정 문자열
+     */
+    public void addLimit(String limit) {
+        parse(limit, "limit", limits);
+    }
+
+    /**
+     * 로거 접두사별 샘플링 간격을 추가합니다. (형식: "로거명=N", N건 중 1건 기록)
+     *
+     * @param sample 샘플링 설정 문자열
+     */
+    public void addSample(String sample) {
+        parse(sample, "sample", samples);
+    }
+
+    /**
+     * 선행 접두사의 결정을 따르는 로거 접두사를 추가합니다. (형식: "로거명=선행접두사")
+     *
+     * @param follow 따르기 설정 문자열
+     */
+    public void addFollow(String follow) {
+        int separator = follow.lastIndexOf('=');
+        if (separator <= 0 || separator == follow.length() - 1) {
+            addWarn("잘못된 follow 형식입니다 (로거명=선행접두사): " + follow);
+            return;
+        }
+        follows.put(follow.substring(0, separator).trim(), follow.substring(separator + 1).trim());
+    }
+
+    @Override
+    public void start() {
+        Map<String, Rule> rules = new LinkedHashMap<>();
+        for (String prefix : limits.keySet()) {
+            rules.put(prefix, new Rule(prefix, limits.get(prefix), samples.getOrDefault(prefix, 1), null));
+        }
+        for (String prefix : samples.keySet()) {
+            rules.putIfAbsent(prefix, new Rule(prefix, 0, samples.get(prefix), null));
+        }
+        for (Map.Entry<String, String> follow : follows.entrySet()) {
+            Rule leader = rules.get(follow.getValue());
+            if (leader == null || leader.leader != null) {
+                addWarn("follow 대상은 limit 또는 sample로 설정된 접두사여야 합니다: " + follow.getValue());
+                continue;
+            }
+            if (rules.containsKey(follow.getKey())) {
+                addWarn("follow 로거에는 limit/sample을 함께 지정할 수 없습니다: " + follow.getKey());
+                continue;
+            }
+            leader.followed = true;
+            rules.put(follow.getKey(), new Rule(follow.getKey(), 0, 1, leader));
+        }
+        rulesByPrefix = Collections.unmodifiableMap(rules);
+        rulesByLogger.clear();
+        super.start();
+    }
+
+    /**
+     * 한도 초과 또는 샘플링으로 버려진 로그 건수 합계를 반환합니다.
+     *
+     * @return 버려진 로그 건수
+     */
+    public long getDroppedEvents() {
+        long dropped = 0;
+        for (Rule rule : rulesByPrefix.values()) {
+            dropped += rule.rateLimited.get() + rule.sampledOut.get();
+        }
+        return dropped;
+    }
+
+    /**
+     * 접두사별 적용 규칙을 반환합니다.
+     *
+     * @return 접두사 → 규칙
+     */
+    public Map<String, Rule> getRules() {
+        return rulesByPrefix;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.WARN) || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Rule rule = rulesByLogger.computeIfAbsent(logger.getName(), this::resolveRule);
+        return rule == Rule.NONE || rule.decide() ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private Rule resolveRule(String loggerName) {
+        // 가장 긴 접두사가 일치하는 설정을 사용한다
+        Rule matched = Rule.NONE;
+        for (Rule rule : rulesByPrefix.values()) {
+            if ((loggerName.equals(rule.prefix) || loggerName.startsWith(rule.prefix + "."))
+                    && rule.prefix.length() > matched.prefix.length()) {
+                matched = rule;
+            }
+        }
+        return matched;
+    }
+
+    private void parse(String value, String element, Map<String, Integer> target) {
+        int separator = value.lastIndexOf('=');
+        if (separator <= 0) {
+            addWarn("잘못된 " + element + " 형식입니다 (로거명=숫자): " + value);
+            return;
+        }
+        try {
+            target.put(value.substring(0, separator).trim(), Integer.parseInt(value.substring(separator + 1).trim()));
+        } catch (NumberFormatException e) {
+            addWarn("잘못된 " + element + " 값입니다 (로거명=숫자): " + value);
+        }
+    }
+
+    /**
+     * 접두사 하나에 적용되는 샘플링 + 1초 고정 윈도우 한도
+     *
+     * <p>윈도우(초)와 건수를 하나의 long에 담아 CAS로 갱신하므로, 윈도우가 바뀌는 순간에도
+     * 이전 윈도우의 건수가 새 윈도우에 섞이거나 초기화가 유실되지 않습니다.
+     * 다른 규칙을 따르는 규칙({@code leader})은 선행 규칙이 스레드별로 남긴 마지막 결정을 사용하며,
+     * 그 결정으로 버려진 건수는 샘플링 사유로 집계합니다.</p>
+     */
+    public static final class Rule {
+
+        private static final Rule NONE = new Rule("", 0, 1, null);
+        private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+        private final String prefix;
+        private final int permitsPerSecond;
+        private final int sampleEvery;
+        private final AtomicLong window = new AtomicLong();
+        private final AtomicLong sequence = new AtomicLong();
+        private final AtomicLong rateLimited = new AtomicLong();
+        private final AtomicLong sampledOut = new AtomicLong();
+        private final Rule leader;
+        private final ThreadLocal<Boolean> lastDecision = new ThreadLocal<>();
+        private volatile boolean followed;
+
+        private Rule(String prefix, int permitsPerSecond, int sampleEvery, Rule leader) {
+            this.prefix = prefix;
+            this.permitsPerSecond = permitsPerSecond;
+            this.sampleEvery = Math.max(1, sampleEvery);
+            this.leader = leader;
+        }
+
+        private boolean decide() {
+            if (leader != null) {
+                if (Boolean.FALSE.equals(leader.lastDecision.get())) {
+                    sampledOut.incrementAndGet();
+                    return false;
+                }
+                return true;
+            }
+            boolean accepted = tryAcquire();
+            if (followed) {
+                lastDecision.set(accepted);
+            }
+            return accepted;
+        }
+
+        private boolean tryAcquire() {
+            if (sampleEvery > 1 && sequence.getAndIncrement() % sampleEvery != 0) {
+                sampledOut.incrementAndGet();
+                return false;
+            }
+            if (permitsPerSecond <= 0) {
+                return true;
+            }
+
+            long nowSecond = System.currentTimeMillis() / 1000;
+            while (true) {
+                long current = window.get();
+                long count = (current >>> 32) == nowSecond ? current & COUNT_MASK : 0;
+                if (count >= permitsPerSecond) {
+                    rateLimited.incrementAndGet();
+                    return false;
+                }
+                if (window.compareAndSet(current, (nowSecond << 32) | (count + 1))) {
+                    return true;
+                }
+            }
+        }
+
+        public String getPrefix() {
+            return prefix;
+        }
+
+        public long getRateLimited() {
+            return rateLimited.get();
+        }
+
+        public long getSampledOut() {
+            return sampledOut.get();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.skax.core.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 메서드 메트릭 Aspect
+ *
+ * <p>{@code com.skax.core.service} 패키지의 모든 *ServiceImpl 공개 메서드 실행 시간을
+ * {@code service.method} 타이머로, 예외 발생 횟수를 {@code service.method.errors} 카운터로 기록합니다.
+ * 트랜잭션을 포함한 전체 실행 시간을 측정하도록 가장 바깥쪽에서 실행됩니다.</p>
+ *
+ * <p>샘플링 비율이 1 미만인 메서드는 측정한 일부 호출만 담기므로 같은 이름의 타이머와 섞이지 않도록
+ * {@code service.method.sampled} 타이머(태그 {@code sample.rate})로 기록하고, 전체 호출 수는
+ * {@code service.method.calls} 카운터로 따로 셉니다. 따라서 {@code service.method}의 count는 항상 실제 호출 수입니다.</p>
+ *
+ * <p>메서드별 미터는 최초 호출 시 한 번만 등록하여 캐시하므로, 호출당 비용은
+ * 샘플링 판정과 타이머 기록(System.nanoTime 2회, 히스토그램 갱신)으로 제한됩니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-31
+ * @version 1.0
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private static final String TIMER_NAME = "service.method";
+    private static final String SAMPLED_TIMER_NAME = "service.method.sampled";
+    private static final String CALL_COUNTER_NAME = "service.method.calls";
+    private static final String ERROR_COUNTER_NAME = "service.method.errors";
+
+    private final MeterRegistry meterRegistry;
+    private final ServiceMetricsProperties properties;
+    private final Map<Method, MethodMeters> metersByMethod = new ConcurrentHashMap<>();
+
+    /**
+     * 서비스 구현체 메서드의 실행 시간과 오류를 기록합니다.
+     *
+     * @param joinPoint 조인 포인트
+     * @return 메서드 실행 결과
+     * @throws Throwable 메서드에서 발생한 예외
+     */
+    @Around("execution(public * com.skax.core.service..*ServiceImpl.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!properties.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        MethodMeters meters = metersByMethod.computeIfAbsent(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(),
+                method -> new MethodMeters(joinPoint.getTarget().getClass().getSimpleName(), method.getName()));
+
+        boolean sampled = meters.calls == null
+                || (meters.sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < meters.sampleRate);
+        if (meters.calls != null) {
+            meters.calls.increment();
+        }
+        long start = sampled ? System.nanoTime() : 0L;
+
+        try {
+            Object result = joinPoint.proceed();
+            if (sampled) {
+                meters.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            return result;
+        } catch (Throwable e) {
+            if (sampled) {
+                meters.error.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            Counter.builder(ERROR_COUNTER_NAME)
+                    .description("서비스 메서드 예외 발생 횟수")
+                    .tag("class", meters.className)
+                    .tag("method", meters.methodName)
+                    .tag("exception", e.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        }
+    }
+
+    /**
+     * 메서드별로 캐시되는 미터 묶음
+     */
+    private final class MethodMeters {
+
+        private final String className;
+        private final String methodName;
+        private final double sampleRate;
+        private final Timer success;
+        private final Timer error;
+        private final Counter calls;
+
+        private MethodMeters(String className, String methodName) {
+            this.className = className;
+            this.methodName = methodName;
+            this.sampleRate = properties.sampleRateOf(className, methodName);
+            this.success = timer("success");
+            this.error = timer("error");
+            this.calls = sampleRate < 1.0
+                    ? Counter.builder(CALL_COUNTER_NAME)
+                        .description("샘플링되는 서비스 메서드의 전체 호출 횟수")
+                        .tag("class", className)
+                        .tag("method", methodName)
+                        .register(meterRegistry)
+                    : null;
+            log.debug("서비스 메트릭 등록 - {}.{} (sampleRate: {})", className, methodName, sampleRate);
+        }
+
+        // 샘플링되는 메서드는 이름을 달리하여 count가 전체 호출 수로 오인되지 않도록 함
+        private Timer timer(String outcome) {
+            Timer.Builder builder = sampleRate < 1.0
+                    ? Timer.builder(SAMPLED_TIMER_NAME)
+                        .description("서비스 메서드 실행 시간 (일부 호출만 측정)")
+                        .tag("sample.rate", Double.toString(sampleRate))
+                    : Timer.builder(TIMER_NAME)
+                        .description("서비스 메서드 실행 시간");
+            return builder
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry);
+        }
+    }
+}
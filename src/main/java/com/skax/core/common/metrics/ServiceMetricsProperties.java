@@ -0,0 +1,54 @@
+package com.skax.core.common.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 서비스 메서드 메트릭 설정
+ *
+ * <p>{@code app.metrics.service.*} 설정을 바인딩합니다. 호출 빈도가 매우 높은 메서드는
+ * {@code sample-rates}에 "클래스명.메서드명: 비율" 형식으로 지정하여 일부 호출만 시간을 측정할 수 있습니다.
+ * 이런 메서드의 시간은 {@code service.method.sampled}로, 전체 호출 수는 {@code service.method.calls}로 기록됩니다.
+ * 오류 카운트는 샘플링과 관계없이 모든 호출에 대해 기록됩니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-31
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.metrics.service")
+public class ServiceMetricsProperties {
+
+    /**
+     * 서비스 메서드 메트릭 수집 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 기본 시간 측정 비율 (0.0 ~ 1.0)
+     */
+    private double defaultSampleRate = 1.0;
+
+    /**
+     * 메서드별 시간 측정 비율 (키: "ProductServiceImpl.getProductById")
+     */
+    private Map<String, Double> sampleRates = new HashMap<>();
+
+    /**
+     * 메서드의 시간 측정 비율을 반환합니다.
+     *
+     * @param className 클래스명
+     * @param methodName 메서드명
+     * @return 시간 측정 비율
+     */
+    public double sampleRateOf(String className, String methodName) {
+        return sampleRates.getOrDefault(className + "." + methodName, defaultSampleRate);
+    }
+}
@@ -0,0 +1,56 @@
+package com.skax.core.common.persistence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hibernate 세션 필터 해제 도우미
+ *
+ * <p>엔티티에 {@code autoEnabled}로 선언된 {@code @FilterDef} 필터는 모든 세션에서 켜져 있습니다.
+ * 삭제/복구처럼 필터가 숨기는 행도 보아야 하는 경로는 이 클래스로 현재 트랜잭션의 세션에서만 필터를 끕니다.</p>
+ *
+ * <p>세션은 트랜잭션보다 오래 유지될 수 있으므로(open-in-view) 이 호출로 끈 필터는
+ * 트랜잭션이 끝날 때 다시 켭니다. 트랜잭션 밖에서는 필터를 끌 수 없으므로 예외가 발생합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-28
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class HibernateFilters {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 현재 트랜잭션 동안 필터를 해제합니다.
+     *
+     * @param filterName 필터명
+     * @throws IllegalStateException 트랜잭션 밖에서 호출한 경우
+     */
+    public void disable(String filterName) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("필터 해제는 트랜잭션 안에서만 가능합니다: " + filterName);
+        }
+        Session session = entityManager.unwrap(Session.class);
+        if (session.getEnabledFilter(filterName) == null) {
+            return;
+        }
+        session.disableFilter(filterName);
+        log.debug("트랜잭션 동안 필터 해제 - filter: {}", filterName);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (session.isOpen()) {
+                    session.enableFilter(filterName);
+                }
+            }
+        });
+    }
+}
@@ -139,6 +139,35 @@ public class AxResponse<T> {
                 .build();
     }
 
+    /**
+     * 에러 코드로 실패 응답을 생성합니다.
+     * 
+     * <p>컨트롤러 밖(서블릿 필터 등)에서 {@code GlobalExceptionHandler}와 같은 형식의 응답을 만들 때 사용합니다.</p>
+     * 
+     * @param errorCode 에러 코드
+     * @param path 요청 경로
+     * @return 실패 응답
+     */
+    public static AxResponse<Void> failure(ErrorCode errorCode, String path) {
+        ErrorInfo errorInfo = ErrorInfo.builder()
+                .hscode(errorCode.getHttpStatusCode())
+                .code(errorCode.getCode())
+                .message(errorCode.getMessage())
+                .timestamp(LocalDateTime.now())
+                .path(path)
+                .build();
+
+        return AxResponse.<Void>builder()
+                .success(false)
+                .message(errorCode.getMessage())
+                .error(errorInfo)
+                .statusCode(errorCode.getStatus().value())
+                .statusText(errorCode.getStatus().getReasonPhrase())
+                .timestamp(LocalDateTime.now())
+                .path(path)
+                .build();
+    }
+
     /**
      * 에러 정보 클래스
      */
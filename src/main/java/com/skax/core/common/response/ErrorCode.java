@@ -49,6 +49,9 @@ public enum ErrorCode {
     PRODUCT_OUT_OF_STOCK(HttpStatus.CONFLICT, "P003", "재고가 부족합니다"),
     PRODUCT_PRICE_INVALID(HttpStatus.BAD_REQUEST, "P004", "잘못된 상품 가격입니다"),
     PRODUCT_CATEGORY_INVALID(HttpStatus.BAD_REQUEST, "P005", "잘못된 상품 카테고리입니다"),
+    PRODUCT_IMAGE_INVALID(HttpStatus.BAD_REQUEST, "P006", "지원하지 않는 이미지 형식입니다"),
+    PRODUCT_IMAGE_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "P007", "이미지 파일 크기가 너무 큽니다"),
+    PRODUCT_IMAGE_NOT_UPLOADED(HttpStatus.BAD_REQUEST, "P008", "업로드되지 않은 이미지입니다"),
 
     // ==================== 샘플 관련 (S001~S099) ====================
     SAMPLE_NOT_FOUND(HttpStatus.NOT_FOUND, "S001", "샘플을 찾을 수 없습니다"),
@@ -61,6 +64,10 @@ public enum ErrorCode {
     DUPLICATE_RESOURCE(HttpStatus.CONFLICT, "C004", "중복된 리소스입니다"),
     INVALID_REQUEST_FORMAT(HttpStatus.BAD_REQUEST, "C005", "잘못된 요청 형식입니다"),
     MISSING_REQUIRED_PARAMETER(HttpStatus.BAD_REQUEST, "C006", "필수 파라미터가 누락되었습니다"),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "C007", "다른 요청에 의해 데이터가 변경되었습니다. 다시 시도해주세요"),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "C008", "같은 멱등성 키가 다른 요청 본문에 사용되었습니다"),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(HttpStatus.CONFLICT, "C009", "같은 멱등성 키의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요"),
+    REQUEST_BODY_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "C010", "요청 본문 크기가 허용 범위를 초과했습니다"),
 
     // ==================== 인증/인가 오류 (A001~A099) ====================
     AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, "A001", "인증에 실패했습니다"),
@@ -1,8 +1,10 @@
 package com.skax.core.common.response;
 
+import com.skax.core.common.concurrency.Copyable;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -14,8 +16,8 @@ import java.util.List;
  * @version 1.0
  */
 @Getter
-@Builder
-public class PageResponse<T> {
+@Builder(toBuilder = true)
+public class PageResponse<T> implements Copyable<PageResponse<T>> {
 
     /**
      * 페이지 데이터
@@ -62,6 +64,23 @@ public class PageResponse<T> {
      */
     private final boolean empty;
 
+    /**
+     * 페이지 데이터의 각 요소를 복사한 PageResponse를 반환합니다. ({@link Copyable}이 아닌 요소는 그대로 공유)
+     *
+     * @return 복사본
+     */
+    @Override
+    public PageResponse<T> copy() {
+        if (content == null) {
+            return toBuilder().build();
+        }
+        List<T> copied = new ArrayList<>(content.size());
+        for (T item : content) {
+            copied.add(Copyable.copyOf(item));
+        }
+        return toBuilder().content(copied).build();
+    }
+
     /**
      * 페이징 정보와 컨텐츠로 PageResponse를 생성합니다.
      * 
@@ -0,0 +1,221 @@
+package com.skax.core.common.scheduling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계층형 타이밍 휠 (Hierarchical Timing Wheel)
+ *
+ * <p>키별로 하나의 만료 작업을 보관하고, 시간을 진행시키면 만료된 값을 반환합니다.
+ * 가장 낮은 단계의 한 칸은 {@code tick} 만큼의 시간이고, 상위 단계의 한 칸은
+ * 하위 단계 전체({@code tick × wheelSize^level})를 나타냅니다. 하위 단계가 한 바퀴 돌 때마다
+ * 상위 단계의 현재 칸에 있는 항목을 하위 단계로 재배치(cascade)합니다.</p>
+ *
+ * <p>등록/취소는 O(1)이며, 시간 진행 비용은 지나간 tick 수와 만료·재배치되는 항목 수에 비례합니다.
+ * 메모리는 등록된 항목 수에 비례하고 슬롯은 필요할 때만 생성됩니다.
+ * 휠 범위({@code tick × wheelSize^levels})를 넘는 만료 시각은 최상위 단계의 마지막 칸에 두었다가
+ * 재배치 시점에 다시 배치합니다.</p>
+ *
+ * <p>이 클래스는 스레드 안전하지 않습니다. 호출하는 쪽에서 동기화해야 합니다.</p>
+ *
+ * @param <K> 작업 키 타입
+ * @param <V> 작업 값 타입
+ * @author ByounggwanLee
+ * @since 2025-09-04
+ * @version 1.0
+ */
+public class HierarchicalTimingWheel<K, V> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final int levels;
+    private final long[] levelSpans;
+    private final Map<K, Timeout<K, V>>[][] slots;
+    private final Map<K, Timeout<K, V>> timeouts = new HashMap<>();
+    private long currentTick;
+
+    /**
+     * 타이밍 휠을 생성합니다.
+     *
+     * @param tick 최하위 단계의 한 칸 시간
+     * @param wheelSize 단계별 칸 수
+     * @param levels 단계 수
+     * @param start 시작 시각
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(Duration tick, int wheelSize, int levels, Instant start) {
+        if (tick.toMillis() <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("tick은 1ms 이상, wheelSize는 2 이상, levels는 1 이상이어야 합니다.");
+        }
+        this.tickMillis = tick.toMillis();
+        this.wheelSize = wheelSize;
+        this.levels = levels;
+        this.levelSpans = new long[levels + 1];
+        this.levelSpans[0] = 1;
+        for (int level = 1; level <= levels; level++) {
+            this.levelSpans[level] = Math.multiplyExact(levelSpans[level - 1], wheelSize);
+        }
+        this.slots = new Map[levels][wheelSize];
+        this.currentTick = start.toEpochMilli() / tickMillis;
+    }
+
+    /**
+     * 휠이 표현할 수 있는 최대 시간 범위를 반환합니다.
+     *
+     * @return 최대 범위
+     */
+    public Duration span() {
+        return Duration.ofMillis(tickMillis * levelSpans[levels]);
+    }
+
+    /**
+     * 작업을 등록합니다. 같은 키의 기존 작업은 대체됩니다.
+     *
+     * <p>이미 지난 시각이면 다음 {@link #advance(Instant)} 호출에서 만료됩니다.</p>
+     *
+     * @param key 작업 키
+     * @param value 작업 값
+     * @param deadline 만료 시각
+     */
+    public void schedule(K key, V value, Instant deadline) {
+        cancel(key);
+        Timeout<K, V> timeout = new Timeout<>(key, value, deadline.toEpochMilli() / tickMillis);
+        timeouts.put(key, timeout);
+        place(timeout, currentTick + 1);
+    }
+
+    /**
+     * 작업을 취소합니다.
+     *
+     * @param key 작업 키
+     * @return 취소된 작업 값 (없으면 null)
+     */
+    public V cancel(K key) {
+        Timeout<K, V> timeout = timeouts.remove(key);
+        if (timeout == null) {
+            return null;
+        }
+        Map<K, Timeout<K, V>> slot = slots[timeout.level][timeout.slot];
+        if (slot != null) {
+            slot.remove(key);
+        }
+        return timeout.value;
+    }
+
+    /**
+     * 등록된 작업을 모두 제거합니다.
+     */
+    public void clear() {
+        timeouts.clear();
+        for (Map<K, Timeout<K, V>>[] level : slots) {
+            for (int i = 0; i < level.length; i++) {
+                level[i] = null;
+            }
+        }
+    }
+
+    /**
+     * 등록된 작업 수를 반환합니다.
+     *
+     * @return 작업 수
+     */
+    public int size() {
+        return timeouts.size();
+    }
+
+    /**
+     * 주어진 시각까지 시간을 진행시키고 만료된 작업 값을 반환합니다.
+     *
+     * @param now 현재 시각
+     * @return 만료된 작업 값 목록 (만료 시각 순)
+     */
+    public List<V> advance(Instant now) {
+        long targetTick = now.toEpochMilli() / tickMillis;
+        List<V> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            Map<K, Timeout<K, V>> slot = slots[0][slotIndex(currentTick, 0)];
+            if (slot != null && !slot.isEmpty()) {
+                slots[0][slotIndex(currentTick, 0)] = null;
+                for (Timeout<K, V> timeout : slot.values()) {
+                    if (timeout.deadlineTick <= currentTick) {
+                        timeouts.remove(timeout.key);
+                        expired.add(timeout.value);
+                    } else {
+                        place(timeout, currentTick + 1);
+                    }
+                }
+            }
+        }
+        return expired;
+    }
+
+    // 상위 단계가 한 칸 넘어가는 시점이면 해당 칸의 항목을 하위 단계로 재배치한다
+    private void cascade() {
+        for (int level = levels - 1; level >= 1; level--) {
+            if (currentTick % levelSpans[level] != 0) {
+                continue;
+            }
+            int index = slotIndex(currentTick, level);
+            Map<K, Timeout<K, V>> slot = slots[level][index];
+            if (slot != null && !slot.isEmpty()) {
+                slots[level][index] = null;
+                // 재배치 직후 현재 tick의 최하위 칸을 처리하므로 지금 만료되는 항목은 현재 칸에 둔다
+                slot.values().forEach(timeout -> place(timeout, currentTick));
+            }
+        }
+    }
+
+    private void place(Timeout<K, V> timeout, long earliestTick) {
+        long delta = timeout.deadlineTick - currentTick;
+        int level;
+        long tick;
+        if (timeout.deadlineTick <= earliestTick) {
+            // 이미 지난(또는 곧 만료될) 작업은 가장 이른 처리 tick에 만료
+            level = 0;
+            tick = earliestTick;
+        } else {
+            level = 0;
+            while (level < levels - 1 && delta >= levelSpans[level + 1]) {
+                level++;
+            }
+            // 최상위 단계 범위를 넘으면 마지막 칸에 두고 재배치 때 다시 배치
+            tick = delta >= levelSpans[levels]
+                    ? currentTick + levelSpans[levels] - levelSpans[level]
+                    : timeout.deadlineTick;
+        }
+        timeout.level = level;
+        timeout.slot = slotIndex(tick, level);
+        Map<K, Timeout<K, V>> slot = slots[level][timeout.slot];
+        if (slot == null) {
+            slot = new LinkedHashMap<>();
+            slots[level][timeout.slot] = slot;
+        }
+        slot.put(timeout.key, timeout);
+    }
+
+    private int slotIndex(long tick, int level) {
+        return (int) ((tick / levelSpans[level]) % wheelSize);
+    }
+
+    private static final class Timeout<K, V> {
+
+        private final K key;
+        private final V value;
+        private final long deadlineTick;
+        private int level;
+        private int slot;
+
+        private Timeout(K key, V value, long deadlineTick) {
+            this.key = key;
+            this.value = value;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.skax.core.common.sql;
+
+/**
+ * 요청당 SQL 예산 초과 예외
+ *
+ * <p>{@code app.sql-budget.fail-on-violation=true}인 환경(테스트)에서
+ * SQL 실행 수 한도 초과 또는 N+1 패턴이 감지되면 발생합니다. SQL 실행 시점에 한 번,
+ * 중간에 가려진 경우를 위해 {@link SqlBudgetFilter}에서 요청 종료 시 한 번 더 발생합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-01
+ * @version 1.0
+ */
+public class SqlBudgetExceededException extends IllegalStateException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,89 @@
+package com.skax.core.common.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 SQL 예산 필터
+ *
+ * <p>요청마다 {@link SqlRequestContext}를 바인딩하고, 요청 종료 시 SQL 실행 수와 JDBC 실행 시간을
+ * {@code http.sql.statements}, {@code http.sql.jdbc.time} 메트릭(uri 패턴 태그)으로 기록합니다.
+ * N+1 의심 패턴은 경고 로그로 남깁니다.</p>
+ *
+ * <p>{@code fail-on-violation=true}이면 요청 처리 중 기록된 예산 위반을 요청 종료 시 {@link SqlBudgetExceededException}으로
+ * 다시 던집니다. StatementInspector에서 던진 예외는 리포지토리 예외 변환({@code InvalidDataAccessApiUsageException})이나
+ * 서비스 코드의 catch, {@code GlobalExceptionHandler}의 500 응답에 가려질 수 있기 때문입니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-01
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+@RequiredArgsConstructor
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        SqlRequestContext context = SqlRequestContext.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestContext.end();
+            record(request, context);
+        }
+        if (properties.isFailOnViolation() && context.getViolation() != null) {
+            throw new SqlBudgetExceededException(request.getMethod() + " " + request.getRequestURI() + ": "
+                    + context.getViolation());
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlRequestContext context) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("http.sql.statements")
+                .description("요청당 SQL 실행 수")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(context.getStatementCount());
+        Timer.builder("http.sql.jdbc.time")
+                .description("요청당 JDBC 실행 시간")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(context.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (context.getMaxRepeat() >= properties.getRepeatThreshold()) {
+            log.warn("[SQL 예산] N+1 의심 - {} {}: 총 {}건, 최다 반복 {}회: {}",
+                    request.getMethod(), uri, context.getStatementCount(),
+                    context.getMaxRepeat(), context.getMostRepeatedShape());
+        }
+    }
+}
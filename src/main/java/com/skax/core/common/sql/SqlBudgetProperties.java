@@ -0,0 +1,48 @@
+package com.skax.core.common.sql;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청당 SQL 예산(budget) 설정
+ *
+ * <p>{@code app.sql-budget.*} 설정을 바인딩합니다. 한 요청에서 실행되는 SQL 수와
+ * 같은 형태(shape)의 SQL 반복 횟수(N+1 의심)에 대한 한도를 정의합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-01
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.sql-budget")
+public class SqlBudgetProperties {
+
+    /**
+     * SQL 예산 검사 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 요청당 최대 SQL 실행 수
+     */
+    private int maxStatements = 30;
+
+    /**
+     * 같은 형태의 SQL이 이 횟수 이상 반복되면 N+1로 판단
+     */
+    private int repeatThreshold = 10;
+
+    /**
+     * 예산 초과 시 예외 발생 여부 (테스트 환경에서 사용)
+     */
+    private boolean failOnViolation = false;
+
+    /**
+     * SQL 실행 통계를 응답 헤더로 노출할지 여부 (로컬 환경에서 사용)
+     */
+    private boolean exposeHeaders = false;
+}
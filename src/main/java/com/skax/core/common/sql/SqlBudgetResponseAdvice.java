@@ -0,0 +1,59 @@
+package com.skax.core.common.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL 실행 통계 응답 헤더 Advice
+ *
+ * <p>{@code app.sql-budget.expose-headers=true}(로컬 환경)이면 응답 본문을 쓰기 직전에
+ * 지금까지의 SQL 실행 수, JDBC 실행 시간, 최다 반복 횟수를 응답 헤더로 추가합니다.</p>
+ *
+ * <ul>
+ *   <li>X-Sql-Count: SQL 실행 수</li>
+ *   <li>X-Sql-Jdbc-Time-Ms: JDBC 실행 시간 (밀리초)</li>
+ *   <li>X-Sql-Max-Repeat: 같은 형태 SQL의 최다 반복 횟수</li>
+ * </ul>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-01
+ * @version 1.0
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class SqlBudgetResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private final SqlBudgetProperties properties;
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return properties.isEnabled() && properties.isExposeHeaders();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body,
+                                  @NonNull MethodParameter returnType,
+                                  @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request,
+                                  @NonNull ServerHttpResponse response) {
+        SqlRequestContext context = SqlRequestContext.current();
+        if (context != null) {
+            response.getHeaders().set("X-Sql-Count", String.valueOf(context.getStatementCount()));
+            response.getHeaders().set("X-Sql-Jdbc-Time-Ms",
+                    String.valueOf(TimeUnit.NANOSECONDS.toMillis(context.getJdbcNanos())));
+            response.getHeaders().set("X-Sql-Max-Repeat", String.valueOf(context.getMaxRepeat()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,57 @@
+package com.skax.core.common.sql;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.regex.Pattern;
+
+/**
+ * 요청당 SQL 예산 검사 StatementInspector
+ *
+ * <p>Hibernate가 실행하는 모든 SQL을 가로채 현재 요청의 {@link SqlRequestContext}에 기록합니다.
+ * 파라미터 바인딩 값은 SQL에 포함되지 않으므로 공백과 숫자 리터럴만 정규화하여 SQL 형태를 구분합니다.
+ * 한도를 넘으면 위반 내용을 컨텍스트에 기록하고, 설정에 따라 경고 로그를 남기거나 예외를 발생시킵니다.
+ * 이 예외는 Spring의 예외 변환이나 서비스 코드의 catch에 가려질 수 있으므로 {@link SqlBudgetFilter}가
+ * 요청 종료 시 기록된 위반을 다시 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-01
+ * @version 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlBudgetStatementInspector implements StatementInspector {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+
+    private final SqlBudgetProperties properties;
+
+    @Override
+    public String inspect(String sql) {
+        SqlRequestContext context = SqlRequestContext.current();
+        if (context == null || !properties.isEnabled()) {
+            return sql;
+        }
+
+        String shape = NUMBER_LITERAL.matcher(WHITESPACE.matcher(sql).replaceAll(" ")).replaceAll("?");
+        int repeat = context.recordStatement(shape);
+
+        if (context.getStatementCount() == properties.getMaxStatements() + 1) {
+            violation(context, "요청당 SQL 실행 수 한도 초과 - limit: " + properties.getMaxStatements());
+        }
+        if (repeat == properties.getRepeatThreshold()) {
+            violation(context, "N+1 쿼리 의심 - 같은 형태의 SQL " + repeat + "회 반복: " + shape);
+        }
+        return sql;
+    }
+
+    private void violation(SqlRequestContext context, String message) {
+        context.recordViolation(message);
+        if (properties.isFailOnViolation()) {
+            throw new SqlBudgetExceededException(message);
+        }
+        log.warn("[SQL 예산] {}", message);
+    }
+}
@@ -0,0 +1,115 @@
+package com.skax.core.common.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 실행 통계
+ *
+ * <p>요청을 처리하는 스레드에 바인딩되어 SQL 실행 수, JDBC 실행 시간,
+ * SQL 형태별 반복 횟수를 누적합니다. {@link SqlBudgetFilter}가 요청 시작 시 생성하고 종료 시 해제합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-01
+ * @version 1.0
+ */
+public final class SqlRequestContext {
+
+    private static final ThreadLocal<SqlRequestContext> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Integer> shapeCounts = new HashMap<>();
+    private int statementCount;
+    private long jdbcNanos;
+    private long jdbcStart;
+    private int maxRepeat;
+    private String mostRepeatedShape;
+    private String violation;
+
+    private SqlRequestContext() {
+    }
+
+    /**
+     * 현재 스레드에 새로운 컨텍스트를 바인딩합니다.
+     *
+     * @return 생성된 컨텍스트
+     */
+    public static SqlRequestContext begin() {
+        SqlRequestContext context = new SqlRequestContext();
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * 현재 스레드의 컨텍스트를 반환합니다.
+     *
+     * @return 컨텍스트 (요청 처리 중이 아니면 null)
+     */
+    public static SqlRequestContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드의 컨텍스트를 해제합니다.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * SQL 실행을 기록하고 해당 형태의 누적 반복 횟수를 반환합니다.
+     *
+     * @param shape 정규화된 SQL 형태
+     * @return 같은 형태의 누적 실행 횟수
+     */
+    int recordStatement(String shape) {
+        statementCount++;
+        int repeat = shapeCounts.merge(shape, 1, Integer::sum);
+        if (repeat > maxRepeat) {
+            maxRepeat = repeat;
+            mostRepeatedShape = shape;
+        }
+        return repeat;
+    }
+
+    /**
+     * 예산 위반을 기록합니다. 첫 번째 위반만 보관합니다.
+     *
+     * @param message 위반 내용
+     */
+    void recordViolation(String message) {
+        if (violation == null) {
+            violation = message;
+        }
+    }
+
+    void jdbcStarted() {
+        jdbcStart = System.nanoTime();
+    }
+
+    void jdbcEnded() {
+        if (jdbcStart != 0L) {
+            jdbcNanos += System.nanoTime() - jdbcStart;
+            jdbcStart = 0L;
+        }
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public int getMaxRepeat() {
+        return maxRepeat;
+    }
+
+    public String getMostRepeatedShape() {
+        return mostRepeatedShape;
+    }
+
+    public String getViolation() {
+        return violation;
+    }
+}
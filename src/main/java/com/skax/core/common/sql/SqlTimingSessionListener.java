@@ -0,0 +1,42 @@
+package com.skax.core.common.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * JDBC 실행 시간 측정 세션 리스너
+ *
+ * <p>{@code hibernate.session.events.auto} 설정으로 세션마다 생성되며,
+ * JDBC 문장 실행 시간을 현재 요청의 {@link SqlRequestContext}에 누적합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-01
+ * @version 1.0
+ */
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        SqlRequestContext context = SqlRequestContext.current();
+        if (context != null) {
+            context.jdbcStarted();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlRequestContext context = SqlRequestContext.current();
+        if (context != null) {
+            context.jdbcEnded();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        jdbcExecuteStatementEnd();
+    }
+}
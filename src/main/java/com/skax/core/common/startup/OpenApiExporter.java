@@ -0,0 +1,83 @@
+package com.skax.core.common.startup;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 빌드 시점 OpenAPI 문서 생성기
+ *
+ * <p>{@value #PROFILE} 프로파일에서만 동작합니다. 애플리케이션이 시작되면 자신의
+ * {@code /v3/api-docs/{그룹}} 문서를 내려받아 {@code app.startup.openapi-export-file}에 저장하고 종료합니다.
+ * Gradle {@code generateOpenApiDocs} 작업이 이 프로파일로 애플리케이션을 실행하며, 생성된 문서는
+ * {@code fastStartJar}(기본 bootJar가 아님)의 {@code static/openapi/openapi.json}으로 포함되어
+ * {@code fast-start} 프로파일에서 springdoc 없이 제공됩니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@Profile(OpenApiExporter.PROFILE)
+@RequiredArgsConstructor
+public class OpenApiExporter {
+
+    /**
+     * 문서 생성 프로파일
+     */
+    public static final String PROFILE = "openapi-export";
+
+    private final StartupProperties properties;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    /**
+     * 애플리케이션 시작이 완료되면 OpenAPI 문서를 저장하고 애플리케이션을 종료합니다.
+     *
+     * @param event 애플리케이션 준비 완료 이벤트
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void export(ApplicationReadyEvent event) {
+        int exitCode = 0;
+        try {
+            int port = ((WebServerApplicationContext) event.getApplicationContext()).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + contextPath + "/v3/api-docs/" + properties.getOpenapiGroup());
+            Path target = Paths.get(properties.getOpenapiExportFile()).toAbsolutePath();
+            Files.createDirectories(target.getParent());
+
+            HttpResponse<Path> response = HttpClient.newHttpClient()
+                    .send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofFile(target));
+            if (response.statusCode() != 200) {
+                Files.deleteIfExists(target);
+                throw new IOException("OpenAPI 문서 요청 실패 - " + uri + ", status: " + response.statusCode());
+            }
+            log.info("OpenAPI 문서 생성 완료 - {}", target);
+        } catch (IOException e) {
+            log.error("OpenAPI 문서 생성 실패 - {}", e.getMessage(), e);
+            exitCode = 1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exitCode = 1;
+        }
+
+        int status = exitCode;
+        System.exit(SpringApplication.exit(event.getApplicationContext(), () -> status));
+    }
+}
@@ -0,0 +1,59 @@
+package com.skax.core.common.startup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 설정
+ *
+ * <p>{@code app.startup.*} 설정을 바인딩합니다. 초기 데이터 생성 시점과
+ * 빌드 시점 OpenAPI 문서 생성({@code openapi-export} 프로파일) 설정을 정의합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.startup")
+public class StartupProperties {
+
+    /**
+     * 초기 데이터 생성 시점
+     */
+    private SeedMode seedMode = SeedMode.STARTUP;
+
+    /**
+     * 빌드 시점에 내보낼 OpenAPI 그룹 이름
+     */
+    private String openapiGroup = "all";
+
+    /**
+     * 빌드 시점에 생성한 OpenAPI 문서를 저장할 파일 경로
+     */
+    private String openapiExportFile = "build/openapi/openapi.json";
+
+    /**
+     * 초기 데이터 생성 시점
+     */
+    public enum SeedMode {
+
+        /**
+         * 애플리케이션 시작 중에 생성 (시작 완료 전에 데이터가 준비됨)
+         */
+        STARTUP,
+
+        /**
+         * 애플리케이션 시작 완료 후 별도 스레드에서 생성 (시작 경로에서 제외)
+         */
+        BACKGROUND,
+
+        /**
+         * 생성하지 않음
+         */
+        OFF
+    }
+}
@@ -0,0 +1,87 @@
+package com.skax.core.common.startup;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 초기 데이터 생성 실행기
+ *
+ * <p>초기 데이터 생성 작업을 {@code app.startup.seed-mode} 설정에 따라 실행합니다.
+ * {@code startup}이면 호출 즉시 실행하고, {@code background}이면 애플리케이션 시작이 완료된 뒤
+ * 등록 순서대로 {@value #THREAD_NAME} 스레드에서 실행하며, {@code off}이면 실행하지 않습니다.</p>
+ *
+ * <p>백그라운드 실행 중 발생한 예외는 애플리케이션을 중단시키지 않고 로그로만 남깁니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupSeedExecutor {
+
+    private static final String THREAD_NAME = "startup-seed";
+
+    private final StartupProperties properties;
+    private final List<SeedTask> deferredTasks = new ArrayList<>();
+
+    /**
+     * 초기 데이터 생성 작업을 실행하거나 시작 완료 후로 미룹니다.
+     *
+     * @param name 작업 이름 (로그용)
+     * @param task 초기 데이터 생성 작업
+     */
+    public void execute(String name, Runnable task) {
+        switch (properties.getSeedMode()) {
+            case OFF -> log.info("초기 데이터 생성 생략 - {}", name);
+            case BACKGROUND -> {
+                synchronized (deferredTasks) {
+                    deferredTasks.add(new SeedTask(name, task));
+                }
+                log.info("초기 데이터 생성을 시작 완료 후로 미룸 - {}", name);
+            }
+            default -> run(name, task);
+        }
+    }
+
+    /**
+     * 애플리케이션 시작이 완료되면 미뤄둔 작업을 백그라운드 스레드에서 실행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        List<SeedTask> tasks;
+        synchronized (deferredTasks) {
+            tasks = List.copyOf(deferredTasks);
+            deferredTasks.clear();
+        }
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        Thread thread = new Thread(() -> tasks.forEach(seedTask -> {
+            try {
+                run(seedTask.name(), seedTask.task());
+            } catch (RuntimeException e) {
+                log.error("초기 데이터 생성 실패 - {}, error: {}", seedTask.name(), e.getMessage(), e);
+            }
+        }), THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static void run(String name, Runnable task) {
+        long started = System.nanoTime();
+        task.run();
+        log.info("초기 데이터 생성 완료 - {} ({}ms)", name, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private record SeedTask(String name, Runnable task) {
+    }
+}
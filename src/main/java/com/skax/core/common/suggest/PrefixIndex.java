@@ -0,0 +1,341 @@
+package com.skax.core.common.suggest;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 접두어 자동완성 색인
+ *
+ * <p>정규화한 이름을 문자 단위 트라이(trie)에 저장하고, 각 노드에 그 하위 트리에서 점수가 가장 높은
+ * 항목 {@code topK}개를 미리 정렬해 둡니다. 조회는 접두어 길이만큼 노드를 따라간 뒤 해당 노드의 목록을
+ * 잘라 반환하므로 색인 크기와 무관하게 접두어 길이에 비례하는 시간이 걸립니다.</p>
+ *
+ * <p>이름은 전체 이름과 각 단어의 시작 위치부터 색인되므로 중간 단어로도 찾을 수 있습니다.
+ * 정규화는 NFKD 분해 후 소문자 변환과 공백 정리를 수행합니다. 한글 음절은 자모로 분해되므로
+ * 입력 중인 음절("티ㅅ")로도 "티셔츠"를 찾을 수 있습니다. {@code maxDepth}보다 긴 접두어는
+ * {@code maxDepth}까지만 비교합니다.</p>
+ *
+ * <p>추가/삭제는 해당 항목의 경로에 있는 노드만 갱신합니다. 삭제 시에는 경로의 노드마다 자신의 항목과
+ * 자식 노드의 상위 목록을 병합하여 다시 계산합니다. {@link #rebuild(Supplier)}는 새 트라이를 잠금 밖에서 만든 뒤
+ * 교체하며, 만드는 동안 들어온 추가/삭제는 기록해 두었다가 교체 직전에 새 트라이에 다시 적용합니다.</p>
+ *
+ * @param <K> 항목 식별자 타입
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+public final class PrefixIndex<K> {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int MAX_KEYS_PER_ENTRY = 8;
+
+    private final int topK;
+    private final int maxDepth;
+    private final Comparator<Entry<K>> ranking = Comparator.<Entry<K>>comparingLong(Entry::score).reversed()
+            .thenComparing(Entry::text)
+            .thenComparing(entry -> String.valueOf(entry.id()));
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Trie trie = new Trie();
+    private List<Consumer<Trie>> journal;
+
+    /**
+     * @param topK 노드별로 유지할 최대 항목 수 (조회 가능한 최대 개수)
+     * @param maxDepth 색인할 최대 접두어 길이 (정규화 후 문자 수)
+     */
+    public PrefixIndex(int topK, int maxDepth) {
+        this.topK = topK;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * 자동완성 항목
+     *
+     * @param id 식별자
+     * @param text 표시 이름
+     * @param score 정렬 점수 (클수록 먼저 반환)
+     * @param <K> 식별자 타입
+     */
+    public record Entry<K>(K id, String text, long score) {
+    }
+
+    /**
+     * 항목을 추가하거나 교체합니다.
+     *
+     * @param id 식별자
+     * @param text 표시 이름 (비어 있으면 삭제와 같음)
+     * @param score 정렬 점수
+     */
+    public void put(K id, String text, long score) {
+        Entry<K> entry = new Entry<>(id, text, score);
+        write(target -> target.put(entry));
+    }
+
+    /**
+     * 항목을 삭제합니다.
+     *
+     * @param id 식별자
+     */
+    public void remove(K id) {
+        write(target -> target.remove(id));
+    }
+
+    /**
+     * 접두어로 시작하는 항목을 점수가 높은 순서로 반환합니다.
+     *
+     * @param prefix 접두어
+     * @param limit 최대 개수 ({@code topK}를 넘을 수 없음)
+     * @return 항목 목록
+     */
+    public List<Entry<K>> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = trie.find(key.substring(0, Math.min(key.length(), maxDepth)));
+            if (node == null) {
+                return List.of();
+            }
+            List<Entry<K>> top = node.top;
+            return List.copyOf(top.subList(0, Math.min(limit, top.size())));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 항목 수를 반환합니다.
+     *
+     * @return 항목 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return trie.entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 항목으로 색인을 다시 만듭니다.
+     *
+     * <p>{@code loader}는 잠금 밖에서 호출되며, 그동안의 조회는 기존 색인을 사용합니다.</p>
+     *
+     * @param loader 전체 항목 공급자
+     */
+    public void rebuild(Supplier<Collection<Entry<K>>> loader) {
+        lock.writeLock().lock();
+        try {
+            if (journal != null) {
+                throw new IllegalStateException("색인 재구성이 이미 진행 중입니다.");
+            }
+            journal = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Trie fresh = null;
+        try {
+            Trie building = new Trie();
+            loader.get().forEach(building::put);
+            fresh = building;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (fresh != null) {
+                    for (Consumer<Trie> change : journal) {
+                        change.accept(fresh);
+                    }
+                    trie = fresh;
+                }
+                journal = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void write(Consumer<Trie> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(trie);
+            if (journal != null) {
+                journal.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 정규화한 문자열을 반환합니다.
+     *
+     * @param text 원본 문자열
+     * @return NFKD 분해, 소문자 변환, 공백 정리된 문자열
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD).toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(decomposed).replaceAll(" ").trim();
+    }
+
+    /**
+     * 이름의 색인 키 목록을 반환합니다. (전체 이름과 각 단어 시작 위치부터의 접미어)
+     */
+    private List<String> keysOf(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        int start = 0;
+        while (start >= 0 && keys.size() < MAX_KEYS_PER_ENTRY) {
+            String key = normalized.substring(start);
+            keys.add(key.substring(0, Math.min(key.length(), maxDepth)));
+            int space = normalized.indexOf(' ', start);
+            start = space < 0 ? -1 : space + 1;
+        }
+        return List.copyOf(keys);
+    }
+
+    /**
+     * 트라이 (잠금 안에서만 접근)
+     */
+    private final class Trie {
+
+        private final Node root = new Node();
+        private final Map<K, Entry<K>> entries = new HashMap<>();
+
+        private Node find(String key) {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.children.get(key.charAt(i));
+            }
+            return node;
+        }
+
+        private void put(Entry<K> entry) {
+            remove(entry.id());
+            List<String> keys = keysOf(entry.text());
+            if (keys.isEmpty()) {
+                return;
+            }
+            entries.put(entry.id(), entry);
+            for (String key : keys) {
+                Node node = root;
+                node.offer(entry);
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                    node.offer(entry);
+                }
+                node.terminals.add(entry);
+            }
+        }
+
+        private void remove(K id) {
+            Entry<K> entry = entries.remove(id);
+            if (entry == null) {
+                return;
+            }
+            for (String key : keysOf(entry.text())) {
+                List<Node> path = new ArrayList<>(key.length() + 1);
+                Node node = root;
+                path.add(node);
+                for (int i = 0; i < key.length() && node != null; i++) {
+                    node = node.children.get(key.charAt(i));
+                    path.add(node);
+                }
+                if (node == null) {
+                    continue;
+                }
+                node.terminals.removeIf(terminal -> terminal.id().equals(id));
+
+                // 깊은 노드부터 상위 목록을 다시 계산하고 빈 노드는 제거
+                for (int depth = path.size() - 1; depth >= 0; depth--) {
+                    Node current = path.get(depth);
+                    if (depth > 0 && current.isEmpty()) {
+                        path.get(depth - 1).children.remove(key.charAt(depth - 1));
+                    } else if (current.contains(id)) {
+                        current.recompute();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 트라이 노드
+     *
+     * <p>{@code top}은 하위 트리 전체에서 점수가 높은 항목을 식별자 중복 없이 최대 {@code topK}개 보관하는
+     * 불변 목록이며, 변경 시 새 목록으로 교체됩니다.</p>
+     */
+    private final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Entry<K>> terminals = new ArrayList<>(1);
+        private List<Entry<K>> top = List.of();
+
+        private void offer(Entry<K> entry) {
+            if (top.size() >= topK && ranking.compare(entry, top.get(top.size() - 1)) >= 0) {
+                return;
+            }
+            List<Entry<K>> merged = new ArrayList<>(top.size() + 1);
+            for (Entry<K> existing : top) {
+                if (!existing.id().equals(entry.id())) {
+                    merged.add(existing);
+                }
+            }
+            merged.add(entry);
+            merged.sort(ranking);
+            top = List.copyOf(merged.subList(0, Math.min(topK, merged.size())));
+        }
+
+        private void recompute() {
+            List<Entry<K>> candidates = new ArrayList<>(terminals);
+            children.values().forEach(child -> candidates.addAll(child.top));
+            candidates.sort(ranking);
+            List<Entry<K>> recomputed = new ArrayList<>(topK);
+            Set<K> seen = new HashSet<>();
+            for (Entry<K> candidate : candidates) {
+                if (recomputed.size() == topK) {
+                    break;
+                }
+                if (seen.add(candidate.id())) {
+                    recomputed.add(candidate);
+                }
+            }
+            top = List.copyOf(recomputed);
+        }
+
+        private boolean contains(K id) {
+            for (Entry<K> entry : top) {
+                if (entry.id().equals(id)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isEmpty() {
+            return terminals.isEmpty() && children.isEmpty();
+        }
+    }
+}
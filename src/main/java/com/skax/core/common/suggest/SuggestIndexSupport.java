@@ -0,0 +1,176 @@
+package com.skax.core.common.suggest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 자동완성 색인 기반 클래스
+ *
+ * <p>{@link PrefixIndex}를 감싸 저장소 기준 재구성과 변경 반영을 담당합니다.
+ * 애플리케이션 시작이 완료되면 별도 스레드에서 {@link #loadEntries()}로 색인을 만들고,
+ * 이후 {@code rebuild-interval}마다 다시 만듭니다. 첫 재구성이 끝나기 전에는 빈 결과를 반환합니다.</p>
+ *
+ * <p>서비스의 쓰기 작업은 {@link #putAfterCommit}, {@link #removeAfterCommit}로 변경을 알리며,
+ * 트랜잭션이 진행 중이면 커밋된 뒤에만 색인에 반영합니다. 색인 크기와 재구성 시간은
+ * {@code suggest.index.size}, {@code suggest.index.rebuild} 메트릭({@code index} 태그)으로 노출됩니다.</p>
+ *
+ * @param <K> 항목 식별자 타입
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@Slf4j
+public abstract class SuggestIndexSupport<K> implements SchedulingConfigurer {
+
+    private final String name;
+    private final SuggestProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final PrefixIndex<K> index;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile boolean ready;
+
+    protected SuggestIndexSupport(String name, SuggestProperties properties, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.index = new PrefixIndex<>(properties.getMaxResults(), properties.getMaxPrefixLength());
+
+        Gauge.builder("suggest.index.size", index, PrefixIndex::size)
+                .description("자동완성 색인 항목 수")
+                .tag("index", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장소에서 색인할 전체 항목을 읽습니다.
+     *
+     * @return 전체 항목
+     */
+    protected abstract Collection<PrefixIndex.Entry<K>> loadEntries();
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        registrar.addFixedDelayTask(
+                new FixedDelayTask(this::rebuild, properties.getRebuildInterval(), properties.getRebuildInterval()));
+    }
+
+    /**
+     * 애플리케이션 시작이 완료되면 별도 스레드에서 색인을 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Thread thread = new Thread(this::rebuild, "suggest-" + name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 저장소 기준으로 색인을 다시 만듭니다. 이미 진행 중이면 건너뜁니다.
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            index.rebuild(this::loadEntries);
+            ready = true;
+            log.info("자동완성 색인 재구성 완료 - index: {}, entries: {}", name, index.size());
+        } catch (RuntimeException e) {
+            log.warn("자동완성 색인 재구성 실패 - index: {}, error: {}", name, e.getMessage());
+        } finally {
+            sample.stop(meterRegistry.timer("suggest.index.rebuild", "index", name));
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 항목을 점수가 높은 순서로 반환합니다.
+     *
+     * @param prefix 접두어
+     * @param limit 최대 개수 ({@code max-results}를 넘을 수 없음)
+     * @return 항목 목록 (색인이 준비되지 않았으면 빈 목록)
+     */
+    public List<PrefixIndex.Entry<K>> suggest(String prefix, int limit) {
+        if (!ready) {
+            return List.of();
+        }
+        return index.suggest(prefix, Math.min(limit, properties.getMaxResults()));
+    }
+
+    /**
+     * 색인이 준비되었는지 반환합니다.
+     *
+     * @return 첫 재구성이 끝났으면 true
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 커밋 후 항목을 추가하거나 교체합니다.
+     *
+     * @param id 식별자
+     * @param text 표시 이름
+     * @param score 정렬 점수
+     */
+    protected void putAfterCommit(K id, String text, long score) {
+        afterCommit(() -> index.put(id, text, score));
+    }
+
+    /**
+     * 커밋 후 항목을 삭제합니다.
+     *
+     * @param id 식별자
+     */
+    protected void removeAfterCommit(K id) {
+        afterCommit(() -> index.remove(id));
+    }
+
+    /**
+     * 시각을 정렬 점수(epoch 밀리초)로 변환합니다.
+     *
+     * @param dateTime 시각
+     * @return epoch 밀리초 (null이면 0)
+     */
+    protected static long recency(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.skax.core.common.suggest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 자동완성 색인 설정
+ *
+ * <p>{@code app.suggest.*} 설정을 바인딩합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.suggest")
+public class SuggestProperties {
+
+    /**
+     * 자동완성 색인 사용 여부 (false면 색인을 만들지 않고 빈 결과 반환)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 한 번에 반환할 수 있는 최대 항목 수 (노드별로 유지하는 상위 항목 수)
+     */
+    private int maxResults = 10;
+
+    /**
+     * 색인할 최대 접두어 길이 (정규화 후 문자 수, 한글은 자모 단위)
+     */
+    private int maxPrefixLength = 32;
+
+    /**
+     * 저장소 기준 전체 재구성 주기 (저장소를 직접 변경한 경우의 차이 보정)
+     */
+    private Duration rebuildInterval = Duration.ofMinutes(30);
+}
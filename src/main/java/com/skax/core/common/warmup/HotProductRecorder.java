@@ -0,0 +1,110 @@
+package com.skax.core.common.warmup;
+
+import com.skax.core.service.product.cache.ProductDetailCache;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 인기 상품 목록 기록기
+ *
+ * <p>상품 상세 캐시에서 접근 빈도가 높은 상품 번호를 {@code record-interval}마다, 그리고 종료 시
+ * {@code hot-products-file}에 한 줄에 하나씩 기록합니다. 다음 시작 시 {@link StartupWarmup}이
+ * 이 목록을 읽어 같은 상품들을 미리 캐시에 적재합니다.</p>
+ *
+ * <p>캐시가 비어 있으면 기존 기록을 덮어쓰지 않으므로, 재시작 직후의 빈 캐시가 이전 기록을 지우지 않습니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotProductRecorder implements SchedulingConfigurer {
+
+    private final ProductDetailCache productDetailCache;
+    private final WarmupProperties properties;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        registrar.addFixedDelayTask(this::record, properties.getRecordInterval());
+    }
+
+    /**
+     * 현재 인기 상품 목록을 파일에 기록합니다.
+     */
+    public void record() {
+        List<Long> hottest = productDetailCache.hottest(properties.getHotProductCount());
+        if (hottest.isEmpty()) {
+            return;
+        }
+        Path target = file();
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), "hot-products-", ".tmp");
+            try {
+                Files.writeString(temp, hottest.stream().map(String::valueOf).collect(Collectors.joining("\n")));
+                try {
+                    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            log.debug("인기 상품 목록 기록 - {}건, file: {}", hottest.size(), target);
+        } catch (IOException e) {
+            log.warn("인기 상품 목록 기록 실패 - file: {}, error: {}", target, e.getMessage());
+        }
+    }
+
+    /**
+     * 기록된 인기 상품 목록을 읽습니다.
+     *
+     * @return 상품 번호 목록 (기록이 없거나 읽을 수 없으면 빈 목록)
+     */
+    public List<Long> load() {
+        Path source = file();
+        if (Files.notExists(source)) {
+            return List.of();
+        }
+        try (Stream<String> lines = Files.lines(source)) {
+            return lines.map(String::trim)
+                    .filter(line -> !line.isEmpty())
+                    .map(Long::valueOf)
+                    .limit(properties.getHotProductCount())
+                    .toList();
+        } catch (IOException | NumberFormatException e) {
+            log.warn("인기 상품 목록 읽기 실패 - file: {}, error: {}", source, e.getMessage());
+            return List.of();
+        }
+    }
+
+    @PreDestroy
+    public void recordOnShutdown() {
+        if (properties.isEnabled()) {
+            record();
+        }
+    }
+
+    private Path file() {
+        return Paths.get(properties.getHotProductsFile()).toAbsolutePath().normalize();
+    }
+}
@@ -0,0 +1,218 @@
+package com.skax.core.common.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.core.common.fields.FieldSelection;
+import com.skax.core.dto.product.response.ProductResponse;
+import com.skax.core.entity.product.Product;
+import com.skax.core.repository.product.ProductRepository;
+import com.skax.core.service.product.ProductService;
+import com.skax.core.service.role.RoleService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시작 워밍업
+ *
+ * <p>애플리케이션 시작이 완료되면 {@value #THREAD_NAME} 스레드에서 다음 단계를 순서대로 실행합니다.</p>
+ * <ol>
+ *   <li>역할 데이터 조회 (활성 역할, 기본 역할)</li>
+ *   <li>카탈로그 집계 조회 (활성 상품 수, 평균/최고/최저 가격)</li>
+ *   <li>인기 상품 상세를 조회하여 상품 상세 캐시에 적재
+ *       ({@link HotProductRecorder} 기록, 없으면 최근 수정된 상품 순)</li>
+ *   <li>상품 목록/검색/가격 범위/상세, 역할 목록 조회와 응답 직렬화를 {@code jit-iterations}회 반복하여
+ *       주요 조회 경로의 JIT 컴파일을 유도</li>
+ * </ol>
+ *
+ * <p>{@link WarmupHealthIndicator}는 워밍업이 끝나거나 {@code timeout}이 지날 때까지
+ * {@code OUT_OF_SERVICE}를 보고하므로 readiness 그룹에 포함하면 로드 밸런서가 워밍업이 끝난 노드로만
+ * 요청을 보냅니다. 각 단계의 실패는 로그로만 남기고 다음 단계를 진행하며,
+ * 소요 시간은 {@code app.warmup{result}} 메트릭으로 기록됩니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class StartupWarmup {
+
+    private static final String THREAD_NAME = "startup-warmup";
+    private static final int PAGE_SIZE = 20;
+    private static final int LIST_PAGES = 5;
+
+    private final ProductService productService;
+    private final RoleService roleService;
+    private final ProductRepository productRepository;
+    private final HotProductRecorder hotProductRecorder;
+    private final ObjectMapper objectMapper;
+    private final WarmupProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Instant startedAt;
+    private volatile boolean finished;
+
+    public StartupWarmup(ProductService productService,
+                         RoleService roleService,
+                         ProductRepository productRepository,
+                         HotProductRecorder hotProductRecorder,
+                         ObjectMapper objectMapper,
+                         WarmupProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.productService = productService;
+        this.roleService = roleService;
+        this.productRepository = productRepository;
+        this.hotProductRecorder = hotProductRecorder;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 애플리케이션 시작이 완료되면 워밍업을 백그라운드 스레드에서 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        startedAt = Instant.now();
+        Thread thread = new Thread(this::run, THREAD_NAME);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 요청을 받을 준비가 되었는지 반환합니다.
+     *
+     * @return 워밍업이 비활성화되었거나, 끝났거나, 제한 시간이 지났으면 true
+     */
+    public boolean isReady() {
+        return !properties.isEnabled() || finished || isTimedOut();
+    }
+
+    /**
+     * 워밍업 제한 시간이 지났는지 반환합니다.
+     *
+     * @return 워밍업이 시작되었고 제한 시간이 지났으면 true
+     */
+    public boolean isTimedOut() {
+        Instant started = startedAt;
+        return started != null && Duration.between(started, Instant.now()).compareTo(properties.getTimeout()) > 0;
+    }
+
+    /**
+     * 워밍업 완료 여부를 반환합니다.
+     *
+     * @return 모든 단계가 끝났으면 true
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    private void run() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        log.info("시작 워밍업 시작 - timeout: {}", properties.getTimeout());
+        try {
+            step("역할", this::warmRoles);
+            step("카탈로그 집계", this::warmCatalogAggregates);
+            List<ProductResponse> hotProducts = new ArrayList<>();
+            step("인기 상품", () -> hotProducts.addAll(warmHotProducts()));
+            step("주요 조회 경로", () -> exerciseReadPaths(hotProducts));
+        } finally {
+            finished = true;
+            long elapsed = sample.stop(meterRegistry.timer("app.warmup", "result", isTimedOut() ? "timeout" : "completed"));
+            log.info("시작 워밍업 완료 - {}ms{}", elapsed / 1_000_000, isTimedOut() ? " (제한 시간 초과)" : "");
+        }
+    }
+
+    private void step(String name, Runnable step) {
+        if (isTimedOut()) {
+            log.warn("시작 워밍업 제한 시간 초과 - 생략: {}", name);
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            step.run();
+            log.debug("시작 워밍업 단계 완료 - {} ({}ms)", name, (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("시작 워밍업 단계 실패 - {}, error: {}", name, e.getMessage());
+        }
+    }
+
+    private void warmRoles() {
+        roleService.getAllActiveRoles();
+        roleService.getTotalActiveRoleCount();
+        roleService.getDefaultRole();
+    }
+
+    private void warmCatalogAggregates() {
+        productService.getTotalActiveProductCount();
+        productService.getAverageProductPrice();
+        productService.getMostExpensiveProduct();
+        productService.getCheapestProduct();
+    }
+
+    private List<ProductResponse> warmHotProducts() {
+        List<Long> pnos = hotProductRecorder.load();
+        if (pnos.isEmpty()) {
+            pnos = productRepository.findByDeletedFalse(PageRequest.of(0, properties.getHotProductCount(),
+                            Sort.by(Sort.Direction.DESC, "updatedAt")))
+                    .map(Product::getPno)
+                    .getContent();
+        }
+
+        List<ProductResponse> products = new ArrayList<>(pnos.size());
+        for (Long pno : pnos) {
+            if (isTimedOut()) {
+                break;
+            }
+            try {
+                products.add(productService.getProductById(pno, FieldSelection.all()));
+            } catch (RuntimeException e) {
+                log.debug("인기 상품 적재 생략 - pno: {}, error: {}", pno, e.getMessage());
+            }
+        }
+        log.info("인기 상품 적재 - {}/{}건", products.size(), pnos.size());
+        return products;
+    }
+
+    private void exerciseReadPaths(List<ProductResponse> hotProducts) {
+        FieldSelection all = FieldSelection.all();
+        for (int i = 0; i < properties.getJitIterations() && !isTimedOut(); i++) {
+            PageRequest page = PageRequest.of(i % LIST_PAGES, PAGE_SIZE);
+            serialize(productService.getAllProducts(page, all));
+            serialize(productService.getProductsByPriceRange(0, Integer.MAX_VALUE, page, all));
+            serialize(roleService.getAllActiveRoles());
+            if (!hotProducts.isEmpty()) {
+                ProductResponse product = hotProducts.get(i % hotProducts.size());
+                serialize(productService.getProductById(product.getPno(), all));
+                serialize(productService.searchProductsByName(keywordOf(product), page, all));
+            }
+        }
+    }
+
+    private static String keywordOf(ProductResponse product) {
+        String name = product.getProductName();
+        return name == null || name.length() <= 2 ? name : name.substring(0, 2);
+    }
+
+    private void serialize(Object response) {
+        try {
+            objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
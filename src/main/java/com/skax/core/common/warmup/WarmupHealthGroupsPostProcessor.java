@@ -0,0 +1,71 @@
+package com.skax.core.common.warmup;
+
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+import org.springframework.boot.actuate.health.AdditionalHealthEndpointPath;
+import org.springframework.boot.actuate.health.HealthEndpointGroup;
+import org.springframework.boot.actuate.health.HealthEndpointGroups;
+import org.springframework.boot.actuate.health.HealthEndpointGroupsPostProcessor;
+import org.springframework.boot.actuate.health.HttpCodeStatusMapper;
+import org.springframework.boot.actuate.health.StatusAggregator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 기본 헬스 그룹에서 시작 워밍업 인디케이터를 제외하는 후처리기
+ *
+ * <p>기본 그룹({@code /actuator/health})은 모든 인디케이터를 포함하며 설정으로 제외할 수 없으므로,
+ * 워밍업 중 {@code OUT_OF_SERVICE}(503)가 기본 헬스 체크까지 번지지 않도록 기본 그룹의 멤버십에서
+ * {@value WarmupHealthIndicator#NAME}만 뺍니다. {@code readiness} 등 명시적으로 포함한 그룹은 그대로입니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@Component
+public class WarmupHealthGroupsPostProcessor implements HealthEndpointGroupsPostProcessor {
+
+    @Override
+    public HealthEndpointGroups postProcessHealthEndpointGroups(HealthEndpointGroups groups) {
+        Map<String, HealthEndpointGroup> named = new LinkedHashMap<>();
+        groups.getNames().forEach(name -> named.put(name, groups.get(name)));
+        return HealthEndpointGroups.of(new ExcludingGroup(groups.getPrimary()), named);
+    }
+
+    /**
+     * 워밍업 인디케이터만 멤버에서 제외하고 나머지는 원래 그룹에 위임합니다.
+     */
+    private record ExcludingGroup(HealthEndpointGroup delegate) implements HealthEndpointGroup {
+
+        @Override
+        public boolean isMember(String name) {
+            return !WarmupHealthIndicator.NAME.equals(name) && delegate.isMember(name);
+        }
+
+        @Override
+        public boolean showComponents(SecurityContext securityContext) {
+            return delegate.showComponents(securityContext);
+        }
+
+        @Override
+        public boolean showDetails(SecurityContext securityContext) {
+            return delegate.showDetails(securityContext);
+        }
+
+        @Override
+        public StatusAggregator getStatusAggregator() {
+            return delegate.getStatusAggregator();
+        }
+
+        @Override
+        public HttpCodeStatusMapper getHttpCodeStatusMapper() {
+            return delegate.getHttpCodeStatusMapper();
+        }
+
+        @Override
+        public AdditionalHealthEndpointPath getAdditionalPath() {
+            return delegate.getAdditionalPath();
+        }
+    }
+}
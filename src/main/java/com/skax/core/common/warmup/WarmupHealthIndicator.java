@@ -0,0 +1,37 @@
+package com.skax.core.common.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 워밍업 헬스 인디케이터
+ *
+ * <p>{@link StartupWarmup}이 끝나거나 제한 시간이 지날 때까지 {@code OUT_OF_SERVICE}(503)를 보고합니다.
+ * {@code management.endpoint.health.group.readiness}에 {@code warmup}으로 포함되어
+ * 워밍업 중인 노드가 트래픽을 받지 않게 합니다. 기본 그룹({@code /actuator/health})에서는
+ * {@link WarmupHealthGroupsPostProcessor}가 제외합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    /** 헬스 기여자 이름 (빈 이름 {@code warmupHealthIndicator}에서 접미사를 뺀 이름) */
+    public static final String NAME = "warmup";
+
+    private final StartupWarmup startupWarmup;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = startupWarmup.isReady() ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("finished", startupWarmup.isFinished())
+                .withDetail("timedOut", startupWarmup.isTimedOut())
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.skax.core.common.warmup;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 시작 워밍업 설정
+ *
+ * <p>{@code app.warmup.*} 설정을 바인딩합니다. 시작 직후 캐시를 채우고 주요 조회 경로를 반복 실행하는
+ * 워밍업 단계와, 다음 시작 시 사용할 인기 상품 목록 기록 주기를 정의합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.warmup")
+public class WarmupProperties {
+
+    /**
+     * 워밍업 사용 여부 (false면 readiness를 막지 않음)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 워밍업 최대 시간 (초과하면 워밍업이 끝나지 않아도 readiness를 UP으로 보고)
+     */
+    private Duration timeout = Duration.ofSeconds(60);
+
+    /**
+     * 미리 적재할 인기 상품 수
+     */
+    private int hotProductCount = 100;
+
+    /**
+     * 인기 상품 목록 기록 파일 (상품 상세 캐시의 접근 빈도 순)
+     */
+    private String hotProductsFile = "./data/warmup/hot-products.txt";
+
+    /**
+     * 인기 상품 목록 기록 주기 (종료 시에도 기록)
+     */
+    private Duration recordInterval = Duration.ofMinutes(5);
+
+    /**
+     * 주요 조회 경로 반복 실행 횟수 (JIT 컴파일 유도)
+     */
+    private int jitIterations = 200;
+}
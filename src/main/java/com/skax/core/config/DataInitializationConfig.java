@@ -1,5 +1,6 @@
 package com.skax.core.config;
 
+import com.skax.core.common.startup.StartupSeedExecutor;
 import com.skax.core.entity.member.Member;
 import com.skax.core.entity.member.MemberRole;
 import com.skax.core.repository.member.MemberRepository;
@@ -28,6 +29,7 @@ public class DataInitializationConfig {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final StartupSeedExecutor startupSeedExecutor;
 
     /**
      * 시스템 사용자 초기화
@@ -37,7 +39,7 @@ public class DataInitializationConfig {
      */
     @Bean
     public CommandLineRunner initializeSystemUser() {
-        return args -> {
+        return args -> startupSeedExecutor.execute("시스템 사용자", () -> {
             String systemEmail = "system@skax.core";
             
             if (!memberRepository.existsByEmail(systemEmail)) {
@@ -55,6 +57,6 @@ public class DataInitializationConfig {
             } else {
                 log.info("시스템 사용자가 이미 존재합니다: {}", systemEmail);
             }
-        };
+        });
     }
 }
@@ -1,5 +1,6 @@
 package com.skax.core.config;
 
+import com.skax.core.common.startup.StartupSeedExecutor;
 import com.skax.core.entity.cart.Cart;
 import com.skax.core.entity.cart.CartItem;
 import com.skax.core.entity.member.Member;
@@ -11,6 +12,8 @@ import com.skax.core.repository.cart.CartRepository;
 import com.skax.core.repository.member.MemberRepository;
 import com.skax.core.repository.product.ProductRepository;
 import com.skax.core.repository.todo.TodoRepository;
+import com.skax.core.service.product.image.ProductImageStore;
+import com.skax.core.service.product.image.ThumbnailGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -20,6 +23,13 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -28,7 +38,8 @@ import java.util.Random;
 /**
  * 애플리케이션 시작 시 테스트 데이터를 생성하는 DataLoader
  * 
- * <p>프로젝트 시작 시 모든 엔티티별로 테스트 데이터 100건을 자동으로 생성합니다.</p>
+ * <p>프로젝트 시작 시 모든 엔티티별로 테스트 데이터 100건을 자동으로 생성합니다.
+ * 생성 시점은 {@code app.startup.seed-mode} 설정을 따릅니다({@link StartupSeedExecutor}).</p>
  * <ul>
  *   <li>Member: 100건 (일반 회원 + 소셜 로그인 회원)</li>
  *   <li>Product: 100건 (다양한 카테고리, 가격대, BaseEntity 기반 감사 정보 포함)</li>
@@ -60,6 +71,9 @@ public class DataLoader implements CommandLineRunner {
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
     private final PasswordEncoder passwordEncoder;
+    private final StartupSeedExecutor startupSeedExecutor;
+    private final ProductImageStore productImageStore;
+    private final ThumbnailGenerator thumbnailGenerator;
     
     private final Random random = new Random();
 
@@ -137,6 +151,19 @@ public class DataLoader implements CommandLineRunner {
         "@yahoo.com", "@hotmail.com", "@icloud.com", "@company.co.kr", "@tech.net"
     };
 
+    /**
+     * 상품 샘플 이미지 색상 목록
+     */
+    private static final Color[] SAMPLE_IMAGE_COLORS = {
+        new Color(0xE5, 0x73, 0x73), new Color(0x64, 0xB5, 0xF6), new Color(0x81, 0xC7, 0x84),
+        new Color(0xFF, 0xD5, 0x4F), new Color(0xBA, 0x68, 0xC8), new Color(0x90, 0xA4, 0xAE)
+    };
+
+    /**
+     * 상품 샘플 이미지 한 변의 픽셀 수
+     */
+    private static final int SAMPLE_IMAGE_SIZE = 800;
+
     /**
      * 회원 닉네임 접두사
      */
@@ -183,7 +210,15 @@ public class DataLoader implements CommandLineRunner {
     };
 
     @Override
-    public void run(String... args) throws Exception {
+    public void run(String... args) {
+        startupSeedExecutor.execute("테스트 데이터", this::loadTestData);
+    }
+
+    /**
+     * 엔티티별 테스트 데이터를 생성합니다.
+     * {@code app.startup.seed-mode}에 따라 시작 중 또는 시작 완료 후 백그라운드에서 실행됩니다.
+     */
+    private void loadTestData() {
         log.info("=== 엔티티별 테스트 데이터 로딩 시작 ===");
         
         // 시스템 사용자로 SecurityContext 설정 (audit 정보 자동 입력을 위함)
@@ -332,7 +367,7 @@ public class DataLoader implements CommandLineRunner {
      * <p>BaseEntity 기반 감사 시스템을 활용하여 다양한 생성자/수정자 정보가 기록되도록 합니다.</p>
      * <ul>
      *   <li>다양한 카테고리와 가격대의 상품 생성</li>
-     *   <li>각 상품마다 1~3개의 이미지 파일 추가</li>
+     *   <li>각 상품마다 1~3개의 이미지 추가 (이미지 저장소에 저장한 샘플 이미지 중에서 선택)</li>
      *   <li>10% 확률로 논리적 삭제 처리 (BaseEntity.deleted = true)</li>
      *   <li>생성자/수정자 정보 다양화를 위한 인증 컨텍스트 변경</li>
      * </ul>
@@ -347,6 +382,7 @@ public class DataLoader implements CommandLineRunner {
         }
 
         log.info("Product 테스트 데이터 100건 생성 시작...");
+        List<String> sampleImages = createSampleImages();
         List<Product> products = new ArrayList<>();
         
         for (int i = 0; i < 100; i++) {
@@ -373,10 +409,10 @@ public class DataLoader implements CommandLineRunner {
                     .category(category)
                     .build();
             
-            // 랜덤하게 1~3개의 상품 이미지 추가
-            int imageCount = random.nextInt(3) + 1;
+            // 랜덤하게 1~3개의 상품 이미지 추가 (저장소에 있는 파일명만 사용하여 URL이 실제로 제공되도록 함)
+            int imageCount = sampleImages.isEmpty() ? 0 : random.nextInt(3) + 1;
             for (int j = 0; j < imageCount; j++) {
-                product.addImageString("product_" + (i + 1) + "_image_" + (j + 1) + ".jpg");
+                product.addImageString(sampleImages.get(random.nextInt(sampleImages.size())));
             }
             
             products.add(product);
@@ -432,6 +468,38 @@ public class DataLoader implements CommandLineRunner {
                  savedProducts.size(), activeProducts.size(), deletedCount);
     }
 
+    /**
+     * 상품 테스트 데이터에 사용할 단색 샘플 이미지를 이미지 저장소에 저장하고 썸네일 생성을 요청합니다.
+     * 
+     * <p>저장소는 내용 주소 방식이므로 다시 실행해도 같은 파일명으로 한 번만 저장됩니다.
+     * 저장에 실패하면 이미지 없이 상품을 생성합니다.</p>
+     * 
+     * @return 저장된 샘플 이미지 파일명 목록
+     */
+    private List<String> createSampleImages() {
+        List<String> fileNames = new ArrayList<>();
+        try {
+            for (Color color : SAMPLE_IMAGE_COLORS) {
+                BufferedImage image = new BufferedImage(SAMPLE_IMAGE_SIZE, SAMPLE_IMAGE_SIZE, BufferedImage.TYPE_INT_RGB);
+                Graphics2D graphics = image.createGraphics();
+                graphics.setColor(color);
+                graphics.fillRect(0, 0, SAMPLE_IMAGE_SIZE, SAMPLE_IMAGE_SIZE);
+                graphics.dispose();
+
+                ByteArrayOutputStream png = new ByteArrayOutputStream();
+                ImageIO.write(image, "png", png);
+                String fileName = productImageStore.save(new ByteArrayInputStream(png.toByteArray()));
+                thumbnailGenerator.generateAll(fileName);
+                fileNames.add(fileName);
+            }
+        } catch (IOException e) {
+            log.warn("샘플 상품 이미지 저장 실패 - 이미지 없이 상품을 생성합니다: {}", e.getMessage());
+            return List.of();
+        }
+        log.info("샘플 상품 이미지 {}건 저장", fileNames.size());
+        return fileNames;
+    }
+
     /**
      * Cart 테스트 데이터를 생성합니다 (회원별로 자동 생성).
      */
@@ -0,0 +1,43 @@
+package com.skax.core.config;
+
+import com.skax.core.common.sql.SqlBudgetProperties;
+import com.skax.core.common.sql.SqlBudgetStatementInspector;
+import com.skax.core.common.sql.SqlTimingSessionListener;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 추가 설정 클래스
+ *
+ * <p>요청당 SQL 예산 검사를 위한 StatementInspector와 JDBC 실행 시간 측정용 세션 리스너를 등록합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-01
+ * @version 1.0
+ */
+@Slf4j
+@Configuration
+public class HibernateConfig {
+
+    /**
+     * SQL 예산 검사 관련 Hibernate 설정을 추가합니다.
+     *
+     * @param sqlBudgetProperties SQL 예산 설정
+     * @return Hibernate 속성 커스터마이저
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlBudgetHibernateCustomizer(SqlBudgetProperties sqlBudgetProperties) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                    new SqlBudgetStatementInspector(sqlBudgetProperties));
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                    SqlTimingSessionListener.class.getName());
+            log.info("SQL 예산 검사 설정 - maxStatements: {}, repeatThreshold: {}, failOnViolation: {}",
+                    sqlBudgetProperties.getMaxStatements(), sqlBudgetProperties.getRepeatThreshold(),
+                    sqlBudgetProperties.isFailOnViolation());
+        };
+    }
+}
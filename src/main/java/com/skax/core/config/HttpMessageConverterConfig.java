@@ -0,0 +1,65 @@
+package com.skax.core.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.skax.core.common.fields.SparseFieldsetResponseAdvice;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * HTTP 메시지 컨버터 설정 클래스
+ *
+ * <p>AxResponse 페이로드를 JSON 외에 CBOR(application/cbor) 바이너리 형식으로도 응답할 수 있도록
+ * 컨버터를 등록합니다. Spring Boot의 HttpMessageConverters는 같은 타입의 기본 컨버터 위치에
+ * 이 빈을 대체 삽입하므로 JSON 컨버터가 항상 앞에 남고, Accept 헤더가 없거나 {@code *}/{@code *}인
+ * 요청은 기존과 동일하게 JSON으로 응답합니다.</p>
+ *
+ * <p>응답 압축(gzip)은 application.yml의 {@code server.compression} 설정으로 처리되며,
+ * 최소 응답 크기 미만의 작은 응답은 압축하지 않습니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-28
+ * @version 1.0
+ */
+@Slf4j
+@Configuration
+public class HttpMessageConverterConfig {
+
+    /**
+     * 응답 필드 선택용 기본 필터를 등록합니다.
+     *
+     * <p>{@code @JsonFilter}가 붙은 DTO는 필터 제공자가 없으면 직렬화에 실패하므로,
+     * 기본값으로 모든 필드를 출력하는 필터를 등록합니다. 요청별 필드 선택은
+     * {@link SparseFieldsetResponseAdvice}가 덮어씁니다.</p>
+     *
+     * @return ObjectMapper 빌더 커스터마이저
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .setFailOnUnknownId(false));
+    }
+
+    /**
+     * CBOR 메시지 컨버터를 생성합니다.
+     *
+     * <p>Spring Boot가 구성한 Jackson2ObjectMapperBuilder(프로토타입 빈)를 사용하므로
+     * JSON 응답과 동일한 날짜 포맷, 모듈, 직렬화 옵션이 CBOR 응답에도 적용됩니다.</p>
+     *
+     * @param builder Spring Boot가 구성한 ObjectMapper 빌더
+     * @return CBOR 메시지 컨버터
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper cborMapper = builder.factory(new CBORFactory()).build();
+        log.info("CBOR 메시지 컨버터 등록 완료 - mediaType: application/cbor");
+        return new MappingJackson2CborHttpMessageConverter(cborMapper);
+    }
+}
@@ -0,0 +1,38 @@
+package com.skax.core.config;
+
+import com.skax.core.common.startup.StartupSeedExecutor;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+
+/**
+ * 지연 초기화 설정 클래스
+ *
+ * <p>{@code spring.main.lazy-initialization}이 켜진 경우({@code fast-start} 프로파일)에도
+ * 시작 시점에 만들어져야 하는 빈을 지연 초기화 대상에서 제외합니다.</p>
+ * <ul>
+ *   <li>{@link SchedulingConfigurer}: 주기 작업(장바구니 write-behind, 만료 정리, 알림 등) 등록</li>
+ *   <li>{@link HealthIndicator}: 첫 헬스 체크가 빈 생성 비용을 떠안지 않도록 함</li>
+ *   <li>{@link StartupSeedExecutor}: 시작 완료 이벤트로 초기 데이터 생성을 시작</li>
+ * </ul>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@Configuration(proxyBeanMethods = false)
+public class LazyInitializationConfig {
+
+    /**
+     * 시작 시점에 생성할 빈 타입을 지정합니다.
+     *
+     * @return 지연 초기화 제외 필터
+     */
+    @Bean
+    static LazyInitializationExcludeFilter eagerStartupBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                SchedulingConfigurer.class, HealthIndicator.class, StartupSeedExecutor.class);
+    }
+}
@@ -11,6 +11,7 @@ import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.oas.models.tags.Tag;
 import org.springdoc.core.models.GroupedOpenApi;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -22,11 +23,15 @@ import java.util.List;
  * <p>Spring Boot 애플리케이션의 REST API 문서화를 위한 OpenAPI 3.0 설정을 제공합니다.
  * 표준화된 응답 형식(AxResponse)에 대한 문서화와 보안 설정을 포함합니다.</p>
  * 
+ * <p>{@code springdoc.api-docs.enabled=false}({@code fast-start} 프로파일)이면 등록되지 않으며,
+ * 이 경우 {@code fastStartJar}에 포함된 빌드 시점 {@code /openapi/openapi.json} 정적 문서가 제공됩니다.</p>
+ * 
  * @author ByounggwanLee
  * @since 2025-08-19
  * @version 1.0
  */
 @Configuration
+@ConditionalOnProperty(prefix = "springdoc.api-docs", name = "enabled", matchIfMissing = true)
 public class OpenApiConfig {
 
     @Value("${server.port:8080}")
@@ -172,6 +177,12 @@ public class OpenApiConfig {
                         }
                         ```
                         
+                        ## 📦 응답 인코딩
+                        
+                        - 기본 응답 형식은 JSON(`application/json`)입니다.
+                        - `Accept: application/cbor` 헤더로 동일한 응답을 CBOR 바이너리 형식으로 받을 수 있습니다.
+                        - `Accept-Encoding: gzip` 헤더를 보내면 2KB 이상의 응답은 gzip으로 압축됩니다.
+                        
                         ## 🔐 인증 방식
                         
                         ### 1. JWT Bearer Token
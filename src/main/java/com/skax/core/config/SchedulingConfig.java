@@ -0,0 +1,19 @@
+package com.skax.core.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정 클래스
+ * 
+ * <p>{@code @Scheduled} 및 {@code SchedulingConfigurer} 기반의 주기 작업을 활성화합니다.
+ * 스케줄러 스레드 풀은 {@code spring.task.scheduling.*} 설정을 따릅니다.</p>
+ * 
+ * @author ByounggwanLee
+ * @since 2025-09-04
+ * @version 1.0
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,5 +1,6 @@
 package com.skax.core.config;
 
+import com.skax.core.service.product.image.ProductImageStore;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -144,6 +145,12 @@ public class SecurityConfig {
                                 new AntPathRequestMatcher("/api/actuator/health")
                         ).permitAll()
                         
+                        // 상품 이미지 조회 (img 태그/CDN에서 인증 없이 요청)
+                        .requestMatchers(
+                                new AntPathRequestMatcher(ProductImageStore.IMAGE_PATH + "/**", "GET"),
+                                new AntPathRequestMatcher(ProductImageStore.IMAGE_PATH + "/**", "HEAD")
+                        ).permitAll()
+                        
                         // 나머지 모든 요청은 인증 필요
                         .anyRequest().authenticated())
                 
@@ -1,5 +1,6 @@
 package com.skax.core.controller.cart;
 
+import com.skax.core.common.fields.FieldSelection;
 import com.skax.core.common.response.AxResponseEntity;
 import com.skax.core.dto.cart.request.CartItemAddRequest;
 import com.skax.core.dto.cart.request.CartItemUpdateRequest;
@@ -40,6 +41,7 @@ public class CartController {
      * 회원의 장바구니를 조회합니다.
      * 
      * @param memberId 회원 ID
+     * @param fields 응답 필드 목록 (쉼표 구분, 생략 시 전체)
      * @return 장바구니 정보
      */
     @Operation(summary = "장바구니 조회", description = "회원의 장바구니를 조회합니다. 없으면 새로 생성합니다.")
@@ -50,10 +52,15 @@ public class CartController {
     @GetMapping("/{memberId}")
     public AxResponseEntity<CartResponse> getCart(
             @Parameter(description = "회원 ID", example = "user@example.com")
-            @PathVariable String memberId) {
+            @PathVariable String memberId,
+            @Parameter(description = "응답에 포함할 장바구니/아이템 필드 (쉼표 구분, 생략 시 전체). "
+                    + "아이템 필드는 items.quantity처럼 지정하고, items만 지정하면 아이템 전체를 출력합니다. "
+                    + "items를 선택하지 않으면 아이템을, audit(items.audit)를 선택하지 않으면 감사 정보를 조회하지 않습니다.",
+                    example = "cno,totalAmount,items.productName,items.productPrice,items.quantity")
+            @RequestParam(required = false) String fields) {
         log.info("장바구니 조회 - 회원 ID: {}", memberId);
         
-        CartResponse cart = cartService.getOrCreateCart(memberId);
+        CartResponse cart = cartService.getOrCreateCart(memberId, FieldSelection.parse(fields));
         return AxResponseEntity.ok(cart, "장바구니를 성공적으로 조회했습니다.");
     }
 
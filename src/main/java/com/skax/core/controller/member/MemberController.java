@@ -5,6 +5,7 @@ import com.skax.core.common.response.PageResponse;
 import com.skax.core.dto.member.request.MemberCreateRequest;
 import com.skax.core.dto.member.request.MemberUpdateRequest;
 import com.skax.core.dto.member.response.MemberResponse;
+import com.skax.core.dto.member.response.MemberSuggestResponse;
 import com.skax.core.service.member.MemberService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,6 +19,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 회원 관리 컨트롤러
  * 
@@ -162,4 +165,28 @@ public class MemberController {
         PageResponse<MemberResponse> members = memberService.searchMembersByNickname(keyword, pageable);
         return AxResponseEntity.okPage(members, "회원 검색을 성공적으로 완료했습니다.");
     }
+
+    /**
+     * 닉네임 자동완성 후보를 조회합니다.
+     * 
+     * @param prefix 입력 중인 닉네임 접두어
+     * @param limit 최대 개수
+     * @return 자동완성 후보 목록
+     */
+    @Operation(summary = "닉네임 자동완성",
+            description = "닉네임(각 단어 포함)이 접두어로 시작하는 회원을 최근 가입/수정 순으로 조회합니다. 메모리 색인을 사용합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "닉네임 자동완성 성공")
+    })
+    @GetMapping("/suggest")
+    public AxResponseEntity<List<MemberSuggestResponse>> suggestMembers(
+            @Parameter(description = "닉네임 접두어", example = "홍길")
+            @RequestParam String prefix,
+            @Parameter(description = "최대 개수 (최대 app.suggest.max-results)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("닉네임 자동완성 - 접두어: {}", prefix);
+        
+        List<MemberSuggestResponse> suggestions = memberService.suggestMembers(prefix, limit);
+        return AxResponseEntity.ok(suggestions, "닉네임 자동완성을 성공적으로 조회했습니다.");
+    }
 }
@@ -1,11 +1,18 @@
 package com.skax.core.controller.product;
 
+import com.skax.core.common.exception.BusinessException;
+import com.skax.core.common.fields.FieldSelection;
 import com.skax.core.common.response.AxResponseEntity;
+import com.skax.core.common.response.ErrorCode;
 import com.skax.core.common.response.PageResponse;
+import com.skax.core.dto.product.request.ProductBatchRequest;
 import com.skax.core.dto.product.request.ProductCreateRequest;
 import com.skax.core.dto.product.request.ProductUpdateRequest;
+import com.skax.core.dto.product.response.ProductBatchItemResponse;
 import com.skax.core.dto.product.response.ProductResponse;
+import com.skax.core.dto.product.response.ProductSuggestResponse;
 import com.skax.core.service.product.ProductService;
+import com.skax.core.service.product.cache.ProductDetailCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,8 +23,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * 상품 관리 컨트롤러
  * 
@@ -34,6 +44,10 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Products", description = "상품 관리 API")
 public class ProductController {
 
+    private static final String FIELDS_DESCRIPTION =
+            "응답에 포함할 상품 필드 (쉼표 구분, 생략 시 전체). 선택하지 않은 이미지와 감사 정보는 조회하지 않습니다.";
+    private static final String FIELDS_EXAMPLE = "pno,productName,price,thumbnail";
+
     private final ProductService productService;
 
     /**
@@ -60,6 +74,7 @@ public class ProductController {
      * 상품 정보를 조회합니다.
      * 
      * @param pno 상품 번호
+     * @param fields 응답 필드 목록 (쉼표 구분, 생략 시 전체)
      * @return 상품 정보
      */
     @Operation(summary = "상품 정보 조회", description = "상품 번호로 상품 정보를 조회합니다.")
@@ -70,33 +85,95 @@ public class ProductController {
     @GetMapping("/{pno}")
     public AxResponseEntity<ProductResponse> getProduct(
             @Parameter(description = "상품 번호", example = "1")
-            @PathVariable Long pno) {
+            @PathVariable Long pno,
+            @Parameter(description = FIELDS_DESCRIPTION, example = FIELDS_EXAMPLE)
+            @RequestParam(required = false) String fields) {
         log.info("상품 정보 조회 - 상품 번호: {}", pno);
         
-        ProductResponse product = productService.getProductById(pno);
-        return AxResponseEntity.ok(product, "상품 정보를 성공적으로 조회했습니다.");
+        ProductResponse product = productService.getProductById(pno, FieldSelection.parse(fields));
+        return AxResponseEntity.ok(product, ProductDetailCache.DETAIL_MESSAGE);
+    }
+
+    /**
+     * 여러 상품을 한 번에 조회합니다.
+     * 
+     * @param ids 상품 번호 목록 (쉼표 구분)
+     * @param fields 응답 필드 목록 (쉼표 구분, 생략 시 전체)
+     * @return 요청 순서대로의 조회 결과 목록
+     */
+    @Operation(summary = "상품 일괄 조회",
+            description = "여러 상품을 한 번에 조회합니다. 결과는 요청 순서대로 반환되며, "
+                    + "존재하지 않거나 삭제된 상품은 found=false로 표시됩니다. (최대 300건)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "상품 일괄 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "조회 건수 초과 또는 잘못된 상품 번호")
+    })
+    @GetMapping(params = "ids")
+    public AxResponseEntity<List<ProductBatchItemResponse>> getProducts(
+            @Parameter(description = "상품 번호 목록 (쉼표 구분)", example = "3,1,2")
+            @RequestParam List<Long> ids,
+            @Parameter(description = FIELDS_DESCRIPTION, example = FIELDS_EXAMPLE)
+            @RequestParam(required = false) String fields) {
+        log.info("상품 일괄 조회 - {}건", ids.size());
+        
+        List<ProductBatchItemResponse> products = productService.getProductsByIds(ids, FieldSelection.parse(fields));
+        return AxResponseEntity.ok(products, "상품 목록을 성공적으로 조회했습니다.");
+    }
+
+    /**
+     * 여러 상품을 한 번에 조회합니다. (긴 목록용)
+     * 
+     * @param request 상품 일괄 조회 요청 데이터
+     * @param fields 응답 필드 목록 (쉼표 구분, 생략 시 전체)
+     * @return 요청 순서대로의 조회 결과 목록
+     */
+    @Operation(summary = "상품 일괄 조회 (POST)",
+            description = "상품 번호 목록이 길어 쿼리 스트링에 담기 어려울 때 사용합니다. (최대 300건)")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "상품 일괄 조회 성공"),
+        @ApiResponse(responseCode = "400", description = "조회 건수 초과 또는 잘못된 상품 번호")
+    })
+    @PostMapping("/batch")
+    public AxResponseEntity<List<ProductBatchItemResponse>> getProductsInBatch(
+            @Valid @RequestBody ProductBatchRequest request,
+            @Parameter(description = FIELDS_DESCRIPTION, example = FIELDS_EXAMPLE)
+            @RequestParam(required = false) String fields) {
+        log.info("상품 일괄 조회 (POST) - {}건", request.getIds().size());
+        
+        List<ProductBatchItemResponse> products = productService.getProductsByIds(request.getIds(),
+                FieldSelection.parse(fields));
+        return AxResponseEntity.ok(products, "상품 목록을 성공적으로 조회했습니다.");
     }
 
     /**
      * 상품 정보를 수정합니다.
      * 
      * @param pno 상품 번호
+     * @param ifMatch 조회 시점의 상품 버전 (If-Match 헤더, 요청 본문의 version보다 우선)
      * @param request 상품 수정 요청 데이터
      * @return 수정된 상품 정보
      */
-    @Operation(summary = "상품 정보 수정", description = "상품 정보를 수정합니다.")
+    @Operation(summary = "상품 정보 수정",
+            description = "상품 정보를 수정합니다. If-Match 헤더나 version 필드로 조회한 버전을 보내면 "
+                    + "그 사이 다른 수정이 있었을 때 덮어쓰지 않고 409를 응답합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "상품 수정 성공"),
         @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
-        @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음")
+        @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음"),
+        @ApiResponse(responseCode = "409", description = "상품 버전 불일치 (다른 요청이 먼저 수정함)")
     })
     @PutMapping("/{pno}")
     public AxResponseEntity<ProductResponse> updateProduct(
             @Parameter(description = "상품 번호", example = "1")
             @PathVariable Long pno,
+            @Parameter(description = "조회 시점의 상품 버전", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ProductUpdateRequest request) {
         log.info("상품 정보 수정 - 상품 번호: {}", pno);
         
+        if (ifMatch != null) {
+            request.setVersion(parseVersion(ifMatch));
+        }
         ProductResponse product = productService.updateProduct(pno, request);
         return AxResponseEntity.updated(product, "상품 정보가 성공적으로 수정되었습니다.");
     }
@@ -125,6 +202,7 @@ public class ProductController {
      * 모든 상품을 페이징하여 조회합니다.
      * 
      * @param pageable 페이징 정보
+     * @param fields 응답 필드 목록 (쉼표 구분, 생략 시 전체)
      * @return 페이징된 상품 목록
      */
     @Operation(summary = "상품 목록 조회", description = "모든 상품을 페이징하여 조회합니다.")
@@ -133,10 +211,12 @@ public class ProductController {
     })
     @GetMapping
     public AxResponseEntity<PageResponse<ProductResponse>> getAllProducts(
-            @PageableDefault(size = 20) Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable,
+            @Parameter(description = FIELDS_DESCRIPTION, example = FIELDS_EXAMPLE)
+            @RequestParam(required = false) String fields) {
         log.info("상품 목록 조회 - 페이지: {}, 크기: {}", pageable.getPageNumber(), pageable.getPageSize());
         
-        PageResponse<ProductResponse> products = productService.getAllProducts(pageable);
+        PageResponse<ProductResponse> products = productService.getAllProducts(pageable, FieldSelection.parse(fields));
         return AxResponseEntity.okPage(products, "상품 목록을 성공적으로 조회했습니다.");
     }
 
@@ -145,6 +225,7 @@ public class ProductController {
      * 
      * @param keyword 검색 키워드
      * @param pageable 페이징 정보
+     * @param fields 응답 필드 목록 (쉼표 구분, 생략 시 전체)
      * @return 검색된 상품 목록
      */
     @Operation(summary = "상품 검색", description = "상품명으로 상품을 검색합니다.")
@@ -155,19 +236,47 @@ public class ProductController {
     public AxResponseEntity<PageResponse<ProductResponse>> searchProducts(
             @Parameter(description = "검색 키워드", example = "iPhone")
             @RequestParam String keyword,
-            @PageableDefault(size = 20) Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable,
+            @Parameter(description = FIELDS_DESCRIPTION, example = FIELDS_EXAMPLE)
+            @RequestParam(required = false) String fields) {
         log.info("상품 검색 - 키워드: {}", keyword);
         
-        PageResponse<ProductResponse> products = productService.searchProductsByName(keyword, pageable);
+        PageResponse<ProductResponse> products = productService.searchProductsByName(keyword, pageable,
+                FieldSelection.parse(fields));
         return AxResponseEntity.okPage(products, "상품 검색을 성공적으로 완료했습니다.");
     }
 
+    /**
+     * 상품명 자동완성 후보를 조회합니다.
+     * 
+     * @param prefix 입력 중인 상품명 접두어
+     * @param limit 최대 개수
+     * @return 자동완성 후보 목록
+     */
+    @Operation(summary = "상품명 자동완성",
+            description = "상품명(각 단어 포함)이 접두어로 시작하는 상품을 최근 등록/수정 순으로 조회합니다. 메모리 색인을 사용합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "상품명 자동완성 성공")
+    })
+    @GetMapping("/suggest")
+    public AxResponseEntity<List<ProductSuggestResponse>> suggestProducts(
+            @Parameter(description = "상품명 접두어", example = "티셔")
+            @RequestParam String prefix,
+            @Parameter(description = "최대 개수 (최대 app.suggest.max-results)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("상품명 자동완성 - 접두어: {}", prefix);
+        
+        List<ProductSuggestResponse> suggestions = productService.suggestProducts(prefix, limit);
+        return AxResponseEntity.ok(suggestions, "상품명 자동완성을 성공적으로 조회했습니다.");
+    }
+
     /**
      * 가격 범위로 상품을 조회합니다.
      * 
      * @param minPrice 최소 가격
      * @param maxPrice 최대 가격
      * @param pageable 페이징 정보
+     * @param fields 응답 필드 목록 (쉼표 구분, 생략 시 전체)
      * @return 해당 가격 범위의 상품 목록
      */
     @Operation(summary = "가격 범위 상품 조회", description = "가격 범위로 상품을 조회합니다.")
@@ -180,10 +289,27 @@ public class ProductController {
             @RequestParam int minPrice,
             @Parameter(description = "최대 가격", example = "2000000")
             @RequestParam int maxPrice,
-            @PageableDefault(size = 20) Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable,
+            @Parameter(description = FIELDS_DESCRIPTION, example = FIELDS_EXAMPLE)
+            @RequestParam(required = false) String fields) {
         log.info("가격 범위 상품 조회 - 최소: {}, 최대: {}", minPrice, maxPrice);
         
-        PageResponse<ProductResponse> products = productService.getProductsByPriceRange(minPrice, maxPrice, pageable);
+        PageResponse<ProductResponse> products = productService.getProductsByPriceRange(minPrice, maxPrice, pageable,
+                FieldSelection.parse(fields));
         return AxResponseEntity.okPage(products, "가격 범위 상품을 성공적으로 조회했습니다.");
     }
+
+    // If-Match 헤더 값("3", W/"3", 3)에서 버전 추출
+    private static Long parseVersion(String ifMatch) {
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST_FORMAT, "If-Match 헤더는 상품 버전이어야 합니다: " + ifMatch);
+        }
+    }
 }
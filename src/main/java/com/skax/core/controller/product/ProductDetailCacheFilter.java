@@ -0,0 +1,149 @@
+package com.skax.core.controller.product;
+
+import com.skax.core.service.product.cache.ProductDetailCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 상품 상세 조회 캐시 필터
+ *
+ * <p>GET /api/v1/products/{pno} 요청이 {@link ProductDetailCache}에 적중하면 컨트롤러를 거치지 않고
+ * 미리 직렬화된 바이트를 그대로 응답합니다. 캐시 미스이거나 JSON 이외의 형식(CBOR 등)을 요청한 경우,
+ * 쿼리 파라미터가 있는 경우에는 기존 처리 흐름으로 넘깁니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-28
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductDetailCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern DETAIL_PATH = Pattern.compile("^/api/v1/products/(\\d{1,18})$");
+
+    private final ProductDetailCache productDetailCache;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod())
+                || request.getQueryString() != null
+                || !DETAIL_PATH.matcher(applicationPath(request)).matches()
+                || !acceptsJson(request.getHeader(HttpHeaders.ACCEPT));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        Matcher matcher = DETAIL_PATH.matcher(applicationPath(request));
+        Optional<ProductDetailCache.Entry> cached = matcher.matches()
+                ? productDetailCache.get(Long.valueOf(matcher.group(1)))
+                : Optional.empty();
+
+        if (cached.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ProductDetailCache.Entry entry = cached.get();
+        boolean gzip = entry.isCompressible() && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            entry.writeGzip(out);
+        } else {
+            entry.writeJson(out);
+        }
+        out.flush();
+    }
+
+    private static String applicationPath(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static boolean acceptsJson(String accept) {
+        if (!StringUtils.hasText(accept)) {
+            return true;
+        }
+        try {
+            List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+            return mediaTypes.stream().noneMatch(MediaType.APPLICATION_CBOR::equalsTypeAndSubtype)
+                    && mediaTypes.stream().anyMatch(type -> type.includes(MediaType.APPLICATION_JSON));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Accept-Encoding 헤더가 gzip을 허용하는지 확인합니다. (RFC 9110 12.5.3)
+     *
+     * <p>{@code gzip}(또는 {@code x-gzip})이 명시되어 있으면 그 q 값을, 없으면 {@code *}의 q 값을 따르며
+     * q=0은 거부로 봅니다.</p>
+     *
+     * @param acceptEncoding Accept-Encoding 헤더 값
+     * @return gzip 응답이 허용되면 true
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double quality = quality(parts);
+            if ("gzip".equals(coding) || "x-gzip".equals(coding)) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if ("*".equals(coding)) {
+                wildcardQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.length() > 2 && (parameter.charAt(0) == 'q' || parameter.charAt(0) == 'Q')
+                    && parameter.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,213 @@
+package com.skax.core.controller.product;
+
+import com.skax.core.common.exception.BusinessException;
+import com.skax.core.common.response.AxResponseEntity;
+import com.skax.core.common.response.ErrorCode;
+import com.skax.core.dto.product.response.ProductImageResponse;
+import com.skax.core.service.product.ProductService;
+import com.skax.core.service.product.image.ProductImageProperties;
+import com.skax.core.service.product.image.ProductImageStore;
+import com.skax.core.service.product.image.ThumbnailGenerator;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 상품 이미지 컨트롤러
+ *
+ * <p>상품 이미지 업로드와 원본/썸네일 이미지 조회 API를 제공합니다.</p>
+ *
+ * <p>이미지 조회는 파일 내용을 애플리케이션 메모리로 복사하지 않습니다. 컨테이너(Tomcat NIO)가
+ * sendfile을 지원하면 요청 속성으로 파일 구간을 넘겨 커널이 직접 전송하게 하고, 지원하지 않으면
+ * {@link FileChannel#transferTo}로 전송합니다. 단일 구간 Range 요청(206)과 If-None-Match(304)를 지원하며,
+ * 파일명이 내용 해시이므로 {@code Cache-Control: immutable}로 오래 캐시하도록 응답합니다.</p>
+ *
+ * <p>썸네일이 아직 생성되지 않았으면 생성을 요청하고 {@code variant-wait-timeout} 동안 기다리며,
+ * 그래도 없으면 원본을 캐시 금지로 응답합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-07
+ * @version 1.0
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Product Images", description = "상품 이미지 API")
+public class ProductImageController {
+
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ProductService productService;
+    private final ProductImageStore productImageStore;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final ProductImageProperties properties;
+
+    /**
+     * 상품 이미지를 업로드합니다.
+     *
+     * @param pno 상품 번호
+     * @param file 이미지 파일 (JPEG, PNG, GIF)
+     * @return 등록된 이미지의 원본/썸네일 URL
+     */
+    @Operation(summary = "상품 이미지 업로드",
+            description = "이미지를 업로드하여 상품 이미지 목록의 마지막에 추가합니다. 썸네일은 비동기로 생성됩니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "상품 이미지 등록 성공"),
+        @ApiResponse(responseCode = "400", description = "지원하지 않는 이미지 형식"),
+        @ApiResponse(responseCode = "413", description = "이미지 파일 크기 초과")
+    })
+    @PostMapping(path = "/api/v1/products/{pno}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public AxResponseEntity<ProductImageResponse> uploadProductImage(
+            @Parameter(description = "상품 번호", example = "1")
+            @PathVariable Long pno,
+            @Parameter(description = "이미지 파일 (JPEG, PNG, GIF)")
+            @RequestPart("file") MultipartFile file) {
+        log.info("상품 이미지 업로드 - 상품 번호: {}, 크기: {}", pno, file.getSize());
+
+        ProductImageResponse image = productService.uploadProductImage(pno, file);
+        return AxResponseEntity.created(image, "상품 이미지를 성공적으로 등록했습니다.");
+    }
+
+    /**
+     * 원본 또는 썸네일 이미지를 조회합니다.
+     *
+     * @param size 크기 이름 (original 또는 설정된 썸네일 크기)
+     * @param fileName 이미지 파일명
+     * @param request HTTP 요청
+     * @param response HTTP 응답
+     * @throws IOException 파일 전송에 실패한 경우
+     */
+    @Operation(summary = "상품 이미지 조회", description = "원본 또는 썸네일 이미지를 조회합니다. Range 요청을 지원합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "이미지 조회 성공"),
+        @ApiResponse(responseCode = "206", description = "이미지 부분 조회 성공"),
+        @ApiResponse(responseCode = "304", description = "변경 없음"),
+        @ApiResponse(responseCode = "404", description = "이미지를 찾을 수 없음"),
+        @ApiResponse(responseCode = "416", description = "잘못된 Range 요청")
+    })
+    @GetMapping(ProductImageStore.IMAGE_PATH + "/{size}/{fileName:.+}")
+    public void getImage(
+            @Parameter(description = "크기 이름", example = "small")
+            @PathVariable String size,
+            @Parameter(description = "이미지 파일명")
+            @PathVariable String fileName,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        if (!productImageStore.isValid(size, fileName)) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, fileName);
+        }
+
+        String servedSize = size;
+        if (!ProductImageStore.ORIGINAL.equals(size) && Files.notExists(productImageStore.path(size, fileName))
+                && Files.exists(productImageStore.path(ProductImageStore.ORIGINAL, fileName))
+                && !thumbnailGenerator.await(size, fileName, properties.getVariantWaitTimeout())) {
+            servedSize = ProductImageStore.ORIGINAL;
+        }
+        Path path = productImageStore.path(servedSize, fileName);
+        if (Files.notExists(path)) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, fileName);
+        }
+
+        String etag = "\"" + servedSize + "-" + fileName + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, servedSize.equals(size)
+                ? "public, max-age=" + properties.getCacheMaxAge().toSeconds() + ", immutable"
+                : "no-cache");
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long length = Files.size(path);
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(range);
+                // 여러 구간 요청은 전체 응답으로 대신한다 (RFC 9110 허용)
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+        }
+
+        response.setContentType(productImageStore.contentType(fileName));
+        response.setContentLengthLong(end - start + 1);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || length == 0) {
+            return;
+        }
+        transfer(request, response, path, start, end);
+    }
+
+    private static void transfer(HttpServletRequest request, HttpServletResponse response,
+                                 Path path, long start, long end) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = end - start + 1;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> candidate.equals("*") || candidate.equals(etag)
+                        || candidate.equals("W/" + etag));
+    }
+}
@@ -2,9 +2,12 @@ package com.skax.core.controller.todo;
 
 import com.skax.core.common.response.AxResponseEntity;
 import com.skax.core.common.response.PageResponse;
+import com.skax.core.dto.todo.request.TodoBulkCompleteRequest;
 import com.skax.core.dto.todo.request.TodoCreateRequest;
+import com.skax.core.dto.todo.request.TodoReassignRequest;
 import com.skax.core.dto.todo.request.TodoUpdateRequest;
 import com.skax.core.dto.todo.response.TodoResponse;
+import com.skax.core.dto.todo.response.TodoStatsResponse;
 import com.skax.core.service.todo.TodoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -420,6 +423,27 @@ public class TodoController {
         return AxResponseEntity.ok(count, "완료 상태별 할일 개수를 성공적으로 조회했습니다.");
     }
 
+    /**
+     * 작성자별 할일 통계 조회
+     * 
+     * @param writer 작성자명 (생략 시 전체 작성자)
+     * @return 작성자별 전체/완료/미완료/기한 초과 개수
+     */
+    @GetMapping("/stats")
+    @Operation(summary = "작성자별 할일 통계 조회", 
+               description = "작성자별 전체/완료/미완료/기한 초과 할일 개수를 한 번에 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "할일 통계 조회 성공"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public AxResponseEntity<List<TodoStatsResponse>> getTodoStats(
+            @Parameter(description = "작성자명 (생략 시 전체)") @RequestParam(required = false) String writer) {
+        log.info("할일 통계 조회 요청 - 작성자: {}", writer);
+        
+        List<TodoStatsResponse> response = todoService.getTodoStats(writer);
+        return AxResponseEntity.ok(response, "할일 통계를 성공적으로 조회했습니다.");
+    }
+
     /**
      * 할일 제목으로 검색
      * 
@@ -448,7 +472,7 @@ public class TodoController {
      * @return 삭제 결과
      */
     @DeleteMapping("/all")
-    @Operation(summary = "모든 할일 삭제", description = "등록된 모든 할일을 삭제합니다. (관리자 전용)")
+    @Operation(summary = "모든 할일 삭제", description = "등록된 모든 할일을 단일 DELETE 문으로 삭제합니다. (관리자 전용)")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "모든 할일 삭제 성공"),
         @ApiResponse(responseCode = "403", description = "권한 부족"),
@@ -468,7 +492,7 @@ public class TodoController {
      * @return 삭제 결과
      */
     @DeleteMapping("/writer/{writer}")
-    @Operation(summary = "작성자별 할일 삭제", description = "특정 작성자의 모든 할일을 삭제합니다.")
+    @Operation(summary = "작성자별 할일 삭제", description = "특정 작성자의 모든 할일을 단일 DELETE 문으로 삭제합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "작성자별 할일 삭제 성공"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류")
@@ -480,6 +504,46 @@ public class TodoController {
         return AxResponseEntity.deleted("작성자별 할일이 성공적으로 삭제되었습니다.");
     }
 
+    /**
+     * 할일 일괄 완료
+     * 
+     * @param request 완료 처리할 할일 번호 목록
+     * @return 완료 처리된 할일 수
+     */
+    @PatchMapping("/complete")
+    @Operation(summary = "할일 일괄 완료", description = "여러 할일을 단일 UPDATE 문으로 완료 처리합니다. 이미 완료된 할일은 건수에서 제외됩니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "할일 일괄 완료 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public AxResponseEntity<Integer> completeTodos(@Valid @RequestBody TodoBulkCompleteRequest request) {
+        log.info("할일 일괄 완료 요청 - 요청 건수: {}", request.getTnos().size());
+        
+        int completed = todoService.completeTodos(request);
+        return AxResponseEntity.updated(completed, "할일이 성공적으로 일괄 완료되었습니다.");
+    }
+
+    /**
+     * 할일 작성자 이관
+     * 
+     * @param request 기존/새 작성자 정보
+     * @return 이관된 할일 수
+     */
+    @PatchMapping("/writer/reassign")
+    @Operation(summary = "할일 작성자 이관", description = "기존 작성자의 모든 할일을 새 작성자로 단일 UPDATE 문으로 이관합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "할일 작성자 이관 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 요청 데이터"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    public AxResponseEntity<Integer> reassignWriter(@Valid @RequestBody TodoReassignRequest request) {
+        log.info("할일 작성자 이관 요청 - {} -> {}", request.getFromWriter(), request.getToWriter());
+        
+        int reassigned = todoService.reassignWriter(request);
+        return AxResponseEntity.updated(reassigned, "할일 작성자가 성공적으로 이관되었습니다.");
+    }
+
     /**
      * 할일 목록을 리스트 형태로 조회 (페이징 없음)
      * 
@@ -19,7 +19,7 @@ import java.time.LocalDateTime;
  */
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class AuditDto {
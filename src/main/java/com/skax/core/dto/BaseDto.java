@@ -62,4 +62,22 @@ public abstract class BaseDto {
      * 삭제 여부
      */
     private Boolean deleted;
+
+    /**
+     * 공통 속성을 다른 DTO에 복사합니다. 하위 클래스의 방어적 복사에 사용합니다.
+     *
+     * @param target 복사 대상
+     * @param <T> 대상 타입
+     * @return 복사 대상
+     */
+    protected <T extends BaseDto> T copyBaseTo(T target) {
+        target.setCreatedAt(createdAt);
+        target.setUpdatedAt(updatedAt);
+        target.setCreatedBy(createdBy);
+        target.setCreatedByNickname(createdByNickname);
+        target.setUpdatedBy(updatedBy);
+        target.setUpdatedByNickname(updatedByNickname);
+        target.setDeleted(deleted);
+        return target;
+    }
 }
@@ -63,6 +63,7 @@ public interface CartMapper {
     @Mapping(target = "product", ignore = true)  // 별도로 설정
     @Mapping(target = "cart", ignore = true)     // 별도로 설정
     @Mapping(target = "qty", source = "quantity")
+    @Mapping(target = "version", ignore = true)
     CartItem toEntity(CartItemAddRequest request);
 
     /**
@@ -1,5 +1,7 @@
 package com.skax.core.dto.cart.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.skax.core.common.fields.FieldSelection;
 import com.skax.core.dto.BaseDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -23,6 +25,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "장바구니 아이템 응답")
+@JsonFilter(FieldSelection.FILTER_ID)
 public class CartItemResponse extends BaseDto {
 
     /**
@@ -56,9 +59,10 @@ public class CartItemResponse extends BaseDto {
     private Integer productPrice;
 
     /**
-     * 상품 이미지 (대표 이미지)
+     * 상품 대표 이미지 URL (상품 응답의 thumbnail과 같은 썸네일, 업로드된 이미지가 없으면 null)
      */
-    @Schema(description = "상품 이미지", example = "iphone15pro.jpg")
+    @Schema(description = "상품 대표 이미지 썸네일 URL",
+            example = "/api/api/v1/images/small/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08.jpg")
     private String productImage;
 
     /**
@@ -1,5 +1,7 @@
 package com.skax.core.dto.cart.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.skax.core.common.fields.FieldSelection;
 import com.skax.core.dto.BaseDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -25,6 +27,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "장바구니 응답")
+@JsonFilter(FieldSelection.FILTER_ID)
 public class CartResponse extends BaseDto {
 
     /**
@@ -0,0 +1,29 @@
+package com.skax.core.dto.member.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 회원 닉네임 자동완성 응답 DTO
+ * 
+ * <p>닉네임만 포함하며 회원 식별자(이메일)는 노출하지 않습니다.</p>
+ * 
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberSuggestResponse {
+
+    /**
+     * 닉네임
+     */
+    private String nickname;
+}
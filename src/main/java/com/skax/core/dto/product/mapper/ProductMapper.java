@@ -37,8 +37,9 @@ public interface ProductMapper {
     @Mapping(target = "pname", source = "productName")
     @Mapping(target = "price", source = "price")
     @Mapping(target = "pdesc", source = "description")
-    @Mapping(target = "imageList", ignore = true)
+    @Mapping(target = "images", ignore = true)
     @Mapping(target = "category", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Product toEntity(ProductCreateRequest request);
 
     /**
@@ -51,7 +52,8 @@ public interface ProductMapper {
     @Mapping(target = "productName", source = "pname")
     @Mapping(target = "price", source = "price")
     @Mapping(target = "description", source = "pdesc")
-    @Mapping(target = "images", source = "imageList", qualifiedByName = "mapImages")
+    @Mapping(target = "images", ignore = true)  // 이미지 URL은 ProductImageStore로 생성
+    @Mapping(target = "thumbnail", ignore = true)
     @Mapping(target = "audit", ignore = true)
     ProductResponse toResponse(Product product);
 
@@ -0,0 +1,38 @@
+package com.skax.core.dto.product.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 상품 일괄 조회 요청 DTO
+ * 
+ * <p>조회할 상품 번호가 많아 쿼리 스트링에 담기 어려울 때 사용합니다.</p>
+ * 
+ * @author ByounggwanLee
+ * @since 2025-09-06
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "상품 일괄 조회 요청 데이터")
+public class ProductBatchRequest {
+
+    /**
+     * 조회할 상품 번호 목록
+     * 한 번에 최대 300건까지 조회합니다.
+     */
+    @NotEmpty(message = "상품 번호 목록은 필수입니다.")
+    @Size(max = 300, message = "한 번에 최대 300건까지 조회할 수 있습니다.")
+    @Schema(description = "조회할 상품 번호 목록 (요청 순서대로 응답)", example = "[3, 1, 2]", required = true)
+    private List<@NotNull Long> ids;
+}
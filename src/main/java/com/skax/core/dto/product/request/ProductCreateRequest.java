@@ -51,6 +51,7 @@ public class ProductCreateRequest {
     /**
      * 상품 이미지 목록
      */
-    @Schema(description = "상품 이미지 파일명 목록", example = "[\"image1.jpg\", \"image2.jpg\"]")
+    @Schema(description = "상품 이미지 파일명 목록 (이미지 업로드 API가 반환한 파일명)",
+            example = "[\"9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08.jpg\"]")
     private List<String> images;
 }
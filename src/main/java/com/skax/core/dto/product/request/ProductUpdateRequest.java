@@ -50,6 +50,14 @@ public class ProductUpdateRequest {
     /**
      * 상품 이미지 목록
      */
-    @Schema(description = "상품 이미지 파일명 목록", example = "[\"new_image1.jpg\", \"new_image2.jpg\"]")
+    @Schema(description = "상품 이미지 파일명 목록 (이미지 업로드 API가 반환한 파일명)",
+            example = "[\"9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08.jpg\"]")
     private List<String> images;
+
+    /**
+     * 클라이언트가 조회한 상품 버전 (생략 시 버전 확인 없이 수정, If-Match 헤더가 있으면 헤더 값 사용)
+     */
+    @PositiveOrZero(message = "상품 버전은 0 이상이어야 합니다")
+    @Schema(description = "조회 시점의 상품 버전 (다르면 409 Conflict)", example = "3")
+    private Long version;
 }
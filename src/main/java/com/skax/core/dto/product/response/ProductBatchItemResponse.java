@@ -0,0 +1,63 @@
+package com.skax.core.dto.product.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 일괄 조회 항목 응답 DTO
+ * 
+ * <p>요청한 상품 번호 하나에 대한 조회 결과입니다. 존재하지 않거나 삭제된 상품은
+ * {@code found=false}, {@code product=null}로 응답합니다.</p>
+ * 
+ * @author ByounggwanLee
+ * @since 2025-09-06
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "상품 일괄 조회 항목 응답")
+public class ProductBatchItemResponse {
+
+    /**
+     * 요청한 상품 번호
+     */
+    @Schema(description = "요청한 상품 번호", example = "1")
+    private Long pno;
+
+    /**
+     * 상품 존재 여부
+     */
+    @Schema(description = "상품 존재 여부 (없거나 삭제된 상품이면 false)", example = "true")
+    private boolean found;
+
+    /**
+     * 상품 정보 (없으면 null)
+     */
+    @Schema(description = "상품 정보 (없으면 null)")
+    private ProductResponse product;
+
+    /**
+     * 조회된 상품 항목을 생성합니다.
+     * 
+     * @param product 상품 정보
+     * @return 조회 결과 항목
+     */
+    public static ProductBatchItemResponse found(ProductResponse product) {
+        return new ProductBatchItemResponse(product.getPno(), true, product);
+    }
+
+    /**
+     * 조회되지 않은 상품 항목을 생성합니다.
+     * 
+     * @param pno 요청한 상품 번호
+     * @return 조회 결과 항목
+     */
+    public static ProductBatchItemResponse notFound(Long pno) {
+        return new ProductBatchItemResponse(pno, false, null);
+    }
+}
@@ -0,0 +1,66 @@
+package com.skax.core.dto.product.response;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.skax.core.common.concurrency.Copyable;
+import com.skax.core.common.fields.FieldSelection;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 상품 이미지 응답 DTO
+ *
+ * <p>이미지 파일명과 원본/썸네일 크기별 이미지 URL을 전달합니다.
+ * 목록 화면은 {@code sizes}의 썸네일 URL을 사용하여 원본 이미지를 내려받지 않도록 합니다.
+ * 이미지 저장소 도입 전에 등록된 파일명은 제공할 파일이 없으므로 URL 없이 {@code legacy=true}로 전달합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-07
+ * @version 1.0
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "상품 이미지 응답")
+@JsonFilter(FieldSelection.FILTER_ID)
+public class ProductImageResponse implements Copyable<ProductImageResponse> {
+
+    /**
+     * 이미지 파일명 (내용의 SHA-256 + 확장자)
+     */
+    @Schema(description = "이미지 파일명",
+            example = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08.jpg")
+    private String fileName;
+
+    /**
+     * 원본 이미지 URL
+     */
+    @Schema(description = "원본 이미지 URL",
+            example = "/api/api/v1/images/original/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08.jpg")
+    private String url;
+
+    /**
+     * 썸네일 크기별 이미지 URL
+     */
+    @Schema(description = "썸네일 크기별 이미지 URL (small, medium 등)")
+    private Map<String, String> sizes;
+
+    /**
+     * 이미지 저장소에 없는 이전 파일명 여부 (true이면 url과 sizes가 비어 있음)
+     */
+    @Schema(description = "이미지 저장소에 없는 이전 파일명 여부 (true이면 URL 없음)", example = "false")
+    private boolean legacy;
+
+    @Override
+    public ProductImageResponse copy() {
+        return toBuilder()
+                .sizes(sizes != null ? new LinkedHashMap<>(sizes) : null)
+                .build();
+    }
+}
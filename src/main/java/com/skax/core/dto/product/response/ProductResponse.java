@@ -1,5 +1,8 @@
 package com.skax.core.dto.product.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.skax.core.common.concurrency.Copyable;
+import com.skax.core.common.fields.FieldSelection;
 import com.skax.core.dto.AuditDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -7,23 +10,27 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * 상품 응답 DTO
  * 
- * <p>상품 정보를 클라이언트에 전달할 때 사용하는 데이터 전송 객체입니다.</p>
+ * <p>상품 정보를 클라이언트에 전달할 때 사용하는 데이터 전송 객체입니다.
+ * {@code fields} 요청 파라미터로 출력할 속성을 제한할 수 있습니다.</p>
  * 
  * @author ByounggwanLee
  * @since 2025-08-23
  * @version 1.0
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "상품 응답")
-public class ProductResponse {
+@JsonFilter(FieldSelection.FILTER_ID)
+public class ProductResponse implements Copyable<ProductResponse> {
 
     /**
      * 상품 번호
@@ -50,14 +57,36 @@ public class ProductResponse {
     private Integer price;
 
     /**
-     * 상품 이미지 목록
+     * 상품 버전 (낙관적 잠금)
      */
-    @Schema(description = "상품 이미지 파일명 목록")
-    private List<String> images;
+    @Schema(description = "상품 버전 (동시 수정 감지용)", example = "0")
+    private Long version;
+
+    /**
+     * 상품 이미지 목록 (원본/썸네일 크기별 URL 포함)
+     */
+    @Schema(description = "상품 이미지 목록")
+    private List<ProductImageResponse> images;
+
+    /**
+     * 대표 이미지 (첫 번째 이미지의 목록용 썸네일 URL)
+     */
+    @Schema(description = "대표 이미지 썸네일 URL",
+            example = "/api/api/v1/images/small/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08.jpg")
+    private String thumbnail;
 
     /**
      * 감사 정보 (생성자, 수정자, 생성일시, 수정일시, 삭제여부)
      */
     @Schema(description = "감사 정보")
     private AuditDto audit;
+
+    @Override
+    public ProductResponse copy() {
+        return toBuilder()
+                .images(images != null ? images.stream().map(ProductImageResponse::copy)
+                        .collect(Collectors.toCollection(ArrayList::new)) : null)
+                .audit(audit != null ? audit.toBuilder().build() : null)
+                .build();
+    }
 }
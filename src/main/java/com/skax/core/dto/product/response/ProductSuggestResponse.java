@@ -0,0 +1,34 @@
+package com.skax.core.dto.product.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품명 자동완성 응답 DTO
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "상품명 자동완성 응답")
+public class ProductSuggestResponse {
+
+    /**
+     * 상품 번호
+     */
+    @Schema(description = "상품 번호", example = "1")
+    private Long pno;
+
+    /**
+     * 상품명
+     */
+    @Schema(description = "상품명", example = "프리미엄 티셔츠")
+    private String productName;
+}
@@ -1,5 +1,6 @@
 package com.skax.core.dto.role.response;
 
+import com.skax.core.common.concurrency.Copyable;
 import com.skax.core.dto.BaseDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -19,11 +20,11 @@ import lombok.NoArgsConstructor;
  */
 @Data
 @EqualsAndHashCode(callSuper = false)
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "역할 응답")
-public class RoleResponse extends BaseDto {
+public class RoleResponse extends BaseDto implements Copyable<RoleResponse> {
 
     /**
      * 역할 ID
@@ -54,4 +55,9 @@ public class RoleResponse extends BaseDto {
      */
     @Schema(description = "해당 역할을 가진 회원 수", example = "5")
     private Long memberCount;
+
+    @Override
+    public RoleResponse copy() {
+        return copyBaseTo(toBuilder().build());
+    }
 }
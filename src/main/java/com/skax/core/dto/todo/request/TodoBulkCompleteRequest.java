@@ -0,0 +1,36 @@
+package com.skax.core.dto.todo.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 할일 일괄 완료 요청 DTO
+ * 
+ * @author ByounggwanLee
+ * @since 2025-09-03
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "할일 일괄 완료 요청 데이터")
+public class TodoBulkCompleteRequest {
+
+    /**
+     * 완료 처리할 할일 번호 목록
+     * 한 번에 최대 1000건까지 처리합니다.
+     */
+    @NotEmpty(message = "할일 번호 목록은 필수입니다.")
+    @Size(max = 1000, message = "한 번에 최대 1000건까지 완료 처리할 수 있습니다.")
+    @Schema(description = "완료 처리할 할일 번호 목록", example = "[1, 2, 3]", required = true)
+    private List<@NotNull Long> tnos;
+}
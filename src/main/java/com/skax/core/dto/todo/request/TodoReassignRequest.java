@@ -0,0 +1,40 @@
+package com.skax.core.dto.todo.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 할일 작성자 이관 요청 DTO
+ * 
+ * @author ByounggwanLee
+ * @since 2025-09-03
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "할일 작성자 이관 요청 데이터")
+public class TodoReassignRequest {
+
+    /**
+     * 기존 작성자
+     */
+    @NotBlank(message = "기존 작성자는 필수입니다.")
+    @Size(max = 256, message = "작성자는 256자 이하여야 합니다.")
+    @Schema(description = "기존 작성자", example = "홍길동", required = true, maxLength = 256)
+    private String fromWriter;
+
+    /**
+     * 새 작성자
+     */
+    @NotBlank(message = "새 작성자는 필수입니다.")
+    @Size(max = 256, message = "작성자는 256자 이하여야 합니다.")
+    @Schema(description = "새 작성자", example = "김철수", required = true, maxLength = 256)
+    private String toWriter;
+}
@@ -0,0 +1,50 @@
+package com.skax.core.dto.todo.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 작성자별 할일 통계 응답 DTO
+ *
+ * <p>전체/완료/미완료/기한 초과 개수를 한 번에 제공합니다.
+ * JPQL 생성자 표현식(SELECT new ...)에서 직접 생성됩니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-03
+ * @version 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoStatsResponse {
+
+    /**
+     * 작성자
+     */
+    private String writer;
+
+    /**
+     * 전체 할일 개수
+     */
+    private Long total;
+
+    /**
+     * 완료된 할일 개수
+     */
+    private Long completed;
+
+    /**
+     * 미완료된 할일 개수
+     */
+    private Long incomplete;
+
+    /**
+     * 기한이 지난 미완료 할일 개수 (마감일 &lt; 오늘)
+     */
+    private Long overdue;
+}
@@ -4,6 +4,7 @@ import com.skax.core.entity.member.Member;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MappedSuperclass;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.CreatedBy;
@@ -15,6 +16,7 @@ import org.springframework.data.annotation.LastModifiedBy;
  * Spring Data JPA Auditing을 사용하여 자동으로 생성자/수정자를 설정합니다.
  * @author ByounggwanLee
  */
+@MappedSuperclass
 @Getter
 @Setter
 public abstract class AuditableEntity extends BaseTimeEntity {
@@ -40,7 +40,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @NoArgsConstructor
 @Getter
 @ToString(exclude = "owner")
-@Table(name = "tbl_cart", indexes = { @Index(name = "idx_cart_email", columnList = "member_owner") })
+@Table(name = "tbl_cart", indexes = {
+    @Index(name = "idx_cart_email", columnList = "member_owner"),
+    @Index(name = "idx_cart_updated_at", columnList = "updated_at")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Cart extends BaseEntity {
 
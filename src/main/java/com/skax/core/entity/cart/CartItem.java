@@ -11,6 +11,7 @@ import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,6 +28,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
  *   <li>상품 정보 (product)</li>
  *   <li>장바구니 정보 (cart)</li>
  *   <li>수량 (qty)</li>
+ *   <li>버전 (낙관적 잠금)</li>
  * </ul>
  * 
  * <p>하나의 장바구니에는 여러 아이템이 포함될 수 있으며, 각 아이템은 특정 상품과 수량 정보를 가집니다.</p>
@@ -42,7 +44,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Builder
 @ToString(exclude = "cart")
 @Table(name = "tbl_cart_item", indexes = {
-    @Index(columnList = "cart_cno", name = "idx_cartitem_cart"),
+    @Index(columnList = "cart_cno, updated_at", name = "idx_cartitem_cart_updated_at"),
     @Index(columnList = "product_pno, cart_cno", name = "idx_cartitem_pno_cart")
 })
 @EntityListeners(AuditingEntityListener.class)
@@ -78,6 +80,13 @@ public class CartItem extends BaseEntity {
    */
   private int qty;
 
+  /**
+   * 엔티티 버전
+   * 같은 아이템의 수량을 동시에 변경할 때 갱신 손실을 막기 위한 낙관적 잠금에 사용됩니다.
+   */
+  @Version
+  private Long version;
+
   /**
    * 장바구니 아이템의 수량을 변경합니다.
    * 
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.skax.core.entity.BaseEntity;
+import com.skax.core.service.member.availability.MemberAvailabilityListener;
 
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
@@ -11,13 +12,18 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.springframework.data.domain.Persistable;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 /**
@@ -35,6 +41,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
  * 
  * <p>이메일을 기본키로 사용하며, 소셜 로그인과 일반 로그인을 모두 지원합니다.</p>
  * 
+ * <p>기본키를 애플리케이션이 지정하므로 {@link Persistable}로 새 엔티티 여부를 직접 알립니다.
+ * 조회하거나 저장한 적 없는 회원은 항상 {@code persist}로 저장되어, 같은 이메일이 이미 있으면
+ * 기존 회원을 덮어쓰지 않고 기본키 제약 위반으로 실패합니다.</p>
+ * 
  * @author ByounggwanLee
  * @since 2025-08-19
  * @version 1.0
@@ -50,8 +60,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @AllArgsConstructor
 @Builder
 @ToString(exclude = "memberRoleList")
-@EntityListeners(AuditingEntityListener.class)
-public class Member extends BaseEntity {
+@EntityListeners({AuditingEntityListener.class, MemberAvailabilityListener.class})
+public class Member extends BaseEntity implements Persistable<String> {
 
     /**
      * 회원 이메일 주소 (기본키)
@@ -110,6 +120,32 @@ public class Member extends BaseEntity {
     @Builder.Default
     private List<MemberRole> memberRoleList = new ArrayList<>();
 
+    /**
+     * 영속 상태 여부 (조회 또는 저장 후 true)
+     * 새 회원 저장을 insert로만 처리하기 위해 사용하며 컬럼에 매핑되지 않습니다.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private boolean persisted = false;
+
+    @Override
+    public String getId() {
+        return email;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
     /**
      * 회원에게 새로운 권한을 추가합니다.
      * 
@@ -2,20 +2,31 @@ package com.skax.core.entity.product;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 import com.skax.core.entity.BaseEntity;
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.SortNatural;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 /**
@@ -27,26 +38,53 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
  *   <li>상품명 (pname)</li>
  *   <li>가격 (price)</li>
  *   <li>상품 설명 (pdesc)</li>
- *   <li>상품 이미지 목록 (imageList)</li>
+ *   <li>상품 이미지 목록 (images)</li>
  *   <li>삭제 플래그 (BaseEntity의 deleted 사용)</li>
+ *   <li>버전 (낙관적 잠금)</li>
  * </ul>
  * 
  * <p>상품의 가격 변경, 삭제 상태 변경 등의 비즈니스 로직을 포함합니다.</p>
  * 
+ * <p>{@value #ACTIVE_FILTER} 필터는 모든 세션에서 자동으로 켜져, 조건을 빠뜨린 조회에서도 논리적으로 삭제된 상품을
+ * 제외합니다. 식별자 조회(findById)와 지연 로딩에는 적용되지 않습니다. 삭제/복구 처리처럼 삭제된 상품도 보아야 하는
+ * 경로는 {@code HibernateFilters#disable}로 해당 트랜잭션에서만 명시적으로 끕니다.
+ * 활성 상품 목록 조회가 인덱스를 타도록 deleted 컬럼을 선두로 하는 복합 인덱스를 정의합니다.</p>
+ * 
+ * <p>이미지 목록은 sort_order 컬럼의 정렬 키로 정렬되는 집합으로 매핑됩니다. 키는 {@value #IMAGE_SORT_GAP}
+ * 간격으로 배정하고, 이미지를 옮기거나 사이에 넣을 때는 이웃한 두 키의 중간값을 사용하므로 다른 이미지의 행은
+ * 바뀌지 않습니다. 이미지 하나를 옮기면 그 행만 DELETE 후 INSERT 되고, 삭제하면 그 행만 DELETE 됩니다.
+ * 중간값을 더 만들 수 없을 때만 전체 키를 다시 매깁니다.</p>
+ * 
  * @author ByounggwanLee
  * @since 2025-08-19
  * @version 1.0
  */
 @Entity
-@Table(name = "tbl_product")
+@Table(name = "tbl_product", indexes = {
+    @Index(name = "idx_product_deleted_pno", columnList = "deleted, pno"),
+    @Index(name = "idx_product_deleted_price", columnList = "deleted, price"),
+    @Index(name = "idx_product_deleted_category", columnList = "deleted, category")
+})
+@FilterDef(name = Product.ACTIVE_FILTER, defaultCondition = "deleted = false", autoEnabled = true)
+@Filter(name = Product.ACTIVE_FILTER)
 @Getter
-@ToString(exclude = "imageList")
+@ToString(exclude = "images")
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
 public class Product extends BaseEntity {
 
+    /**
+     * 활성 상품(deleted = false) 조회 필터명
+     */
+    public static final String ACTIVE_FILTER = "activeProductFilter";
+
+    /**
+     * 이미지 정렬 키 간격 (맨 뒤에 추가할 때의 증가폭, 다시 매길 때의 간격)
+     */
+    public static final long IMAGE_SORT_GAP = 1L << 20;
+
     /**
      * 상품 고유 식별자
      * 데이터베이스에서 자동으로 생성되는 기본키입니다.
@@ -81,11 +119,22 @@ public class Product extends BaseEntity {
 
     /**
      * 상품 이미지 목록
-     * 상품과 연관된 이미지들의 정보를 저장합니다.
+     * 상품과 연관된 이미지들의 정보를 정렬 키 순서로 저장합니다.
+     * 표시 순서의 목록은 {@link #getImageList()}로 조회합니다.
      */
     @ElementCollection
+    @CollectionTable(name = "product_image_list", joinColumns = @JoinColumn(name = "product_pno"))
+    @SortNatural
+    @Getter(AccessLevel.NONE)
     @Builder.Default
-    private List<ProductImage> imageList = new ArrayList<>();
+    private SortedSet<ProductImage> images = new TreeSet<>();
+
+    /**
+     * 엔티티 버전
+     * 동시 수정 시 나중에 커밋하는 쪽이 실패하도록 낙관적 잠금에 사용됩니다.
+     */
+    @Version
+    private Long version;
 
     /**
      * 상품의 가격을 변경합니다.
@@ -125,16 +174,25 @@ public class Product extends BaseEntity {
         this.category = category;
     }
 
+    /**
+     * 상품 이미지 목록을 표시 순서대로 반환합니다.
+     * 
+     * @return 이미지 목록 (변경 불가)
+     */
+    public List<ProductImage> getImageList() {
+        return List.copyOf(images);
+    }
+
     /**
      * 상품에 이미지를 추가합니다.
-     * 이미지의 순서는 현재 이미지 목록의 크기를 기준으로 자동 설정됩니다.
+     * 이미지는 목록의 마지막 위치에 추가되며, 정렬 키는 마지막 이미지의 키에 간격을 더한 값입니다.
      * 
-     * @param image 추가할 상품 이미지
+     * @param image 추가할 상품 이미지 (파일명만 사용)
      * @throws IllegalArgumentException image가 null인 경우
      */
     public void addImage(ProductImage image) {
-        image.setOrd(this.imageList.size());
-        imageList.add(image);
+        long sortOrder = images.isEmpty() ? IMAGE_SORT_GAP : images.last().getSortOrder() + IMAGE_SORT_GAP;
+        images.add(image(image.getFileName(), sortOrder));
     }
 
     /**
@@ -151,11 +209,95 @@ public class Product extends BaseEntity {
         addImage(productImage);
     }
 
+    /**
+     * 이미지 목록을 주어진 파일명 목록으로 교체합니다.
+     * 현재 목록과 새 목록의 최장 공통 부분 수열에 속한 이미지는 정렬 키를 그대로 두고,
+     * 나머지 위치에는 앞뒤로 남은 이미지의 키 사이 값을 고르게 나누어 배정합니다.
+     * 나눌 간격이 없으면 전체 키를 {@value #IMAGE_SORT_GAP} 간격으로 다시 매깁니다.
+     * 
+     * @param fileNames 새 이미지 파일명 목록 (표시 순서대로)
+     */
+    public void replaceImages(List<String> fileNames) {
+        List<ProductImage> current = getImageList();
+        ProductImage[] kept = longestCommonImages(current, fileNames);
+
+        List<ProductImage> target = new ArrayList<>(fileNames.size());
+        int start = 0;
+        while (start < fileNames.size()) {
+            if (kept[start] != null) {
+                target.add(kept[start++]);
+                continue;
+            }
+            int end = start;
+            while (end < fileNames.size() && kept[end] == null) {
+                end++;
+            }
+            long low = start == 0 ? 0 : kept[start - 1].getSortOrder();
+            long step = end == fileNames.size()
+                    ? IMAGE_SORT_GAP
+                    : (kept[end].getSortOrder() - low) / (end - start + 1);
+            if (step == 0) {
+                renumberImages(fileNames);
+                return;
+            }
+            for (int i = start; i < end; i++) {
+                target.add(image(fileNames.get(i), low + step * (i - start + 1)));
+            }
+            start = end;
+        }
+        images.retainAll(target);
+        images.addAll(target);
+    }
+
     /**
      * 상품의 모든 이미지를 제거합니다.
      * 이미지 목록을 초기화하여 빈 상태로 만듭니다.
      */
     public void clearList() {
-        this.imageList.clear();
+        this.images.clear();
+    }
+
+    /**
+     * 새 파일명 목록의 위치별로, 순서를 유지한 채 그대로 둘 수 있는 현재 이미지를 찾습니다. (최장 공통 부분 수열)
+     */
+    private static ProductImage[] longestCommonImages(List<ProductImage> current, List<String> fileNames) {
+        int[][] lengths = new int[current.size() + 1][fileNames.size() + 1];
+        for (int i = current.size() - 1; i >= 0; i--) {
+            for (int j = fileNames.size() - 1; j >= 0; j--) {
+                lengths[i][j] = Objects.equals(current.get(i).getFileName(), fileNames.get(j))
+                        ? lengths[i + 1][j + 1] + 1
+                        : Math.max(lengths[i + 1][j], lengths[i][j + 1]);
+            }
+        }
+        ProductImage[] kept = new ProductImage[fileNames.size()];
+        int i = 0;
+        int j = 0;
+        while (i < current.size() && j < fileNames.size()) {
+            if (Objects.equals(current.get(i).getFileName(), fileNames.get(j))) {
+                kept[j++] = current.get(i++);
+            } else if (lengths[i + 1][j] >= lengths[i][j + 1]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return kept;
+    }
+
+    /**
+     * 모든 이미지의 정렬 키를 {@value #IMAGE_SORT_GAP} 간격으로 다시 매깁니다.
+     * 키와 파일명이 같은 이미지는 그대로 남습니다.
+     */
+    private void renumberImages(List<String> fileNames) {
+        List<ProductImage> target = new ArrayList<>(fileNames.size());
+        for (int i = 0; i < fileNames.size(); i++) {
+            target.add(image(fileNames.get(i), IMAGE_SORT_GAP * (i + 1)));
+        }
+        images.retainAll(target);
+        images.addAll(target);
+    }
+
+    private static ProductImage image(String fileName, long sortOrder) {
+        return ProductImage.builder().fileName(fileName).sortOrder(sortOrder).build();
     }
 }
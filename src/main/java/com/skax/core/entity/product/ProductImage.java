@@ -1,8 +1,13 @@
 package com.skax.core.entity.product;
 
+import java.util.Comparator;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
 import jakarta.persistence.Embeddable;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
@@ -13,10 +18,13 @@ import lombok.ToString;
  * <p>상품과 연관된 이미지 파일의 정보를 저장합니다. 다음과 같은 정보를 포함합니다:</p>
  * <ul>
  *   <li>이미지 파일명 (fileName)</li>
- *   <li>이미지 순서 (ord)</li>
+ *   <li>정렬 키 (sortOrder)</li>
  * </ul>
  * 
- * <p>@Embeddable로 선언되어 Product 엔티티에 포함되어 저장됩니다.</p>
+ * <p>@Embeddable로 선언되어 Product 엔티티에 포함되어 저장됩니다.
+ * 정렬 키는 목록 위치가 아니라 간격을 둔 값이므로, 이미지를 옮기거나 삭제해도 다른 이미지의 키는 바뀌지 않습니다.
+ * 키 배정은 {@link Product}가 담당하며, 값 객체이므로 키를 바꿀 때는 새 객체로 교체합니다.
+ * 모든 속성이 필수여야 Hibernate가 목록 전체를 다시 쓰지 않고 바뀐 행만 DELETE/INSERT 합니다.</p>
  * 
  * @author ByounggwanLee
  * @since 2025-08-19
@@ -25,32 +33,33 @@ import lombok.ToString;
 @Embeddable
 @Getter
 @ToString
+@EqualsAndHashCode
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class ProductImage {
+public class ProductImage implements Comparable<ProductImage> {
+
+    private static final Comparator<ProductImage> ORDER = Comparator.comparingLong(ProductImage::getSortOrder)
+            .thenComparing(ProductImage::getFileName, Comparator.nullsFirst(Comparator.naturalOrder()));
 
     /**
      * 이미지 파일명
      * 서버에 저장된 이미지 파일의 이름입니다.
      */
+    @Basic(optional = false)
+    @Column(name = "file_name", nullable = false)
     private String fileName;
 
     /**
-     * 이미지 순서
-     * 상품 이미지들의 표시 순서를 나타냅니다.
-     * 0부터 시작하여 순차적으로 증가합니다.
+     * 정렬 키
+     * 작은 값이 먼저 표시되며, 이웃한 이미지의 키 사이에 간격을 두어 배정됩니다.
      */
-    private int ord;
+    @Basic(optional = false)
+    @Column(name = "sort_order", nullable = false)
+    private long sortOrder;
 
-    /**
-     * 이미지의 순서를 설정합니다.
-     * 
-     * @param ord 이미지 순서 (0 이상의 값)
-     * @throws IllegalArgumentException ord가 음수인 경우
-     */
-    public void setOrd(int ord) {
-        this.ord = ord;
+    @Override
+    public int compareTo(ProductImage other) {
+        return ORDER.compare(this, other);
     }
-
 }
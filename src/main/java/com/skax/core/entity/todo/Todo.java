@@ -8,6 +8,7 @@ import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -35,7 +36,11 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
  * @version 1.0
  */
 @Entity
-@Table(name = "tbl_todo")
+@Table(name = "tbl_todo", indexes = {
+    @Index(name = "idx_todo_writer_complete", columnList = "writer, complete"),
+    @Index(name = "idx_todo_complete_updated_at", columnList = "complete, updated_at"),
+    @Index(name = "idx_todo_due_date", columnList = "due_date")
+})
 @Getter
 @ToString
 @Builder
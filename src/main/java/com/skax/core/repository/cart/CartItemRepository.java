@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -51,6 +53,25 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     @Query("SELECT ci FROM CartItem ci WHERE ci.cart.cno = :cartId")
     List<CartItem> findByCartId(@Param("cartId") Long cartId);
 
+    /**
+     * 장바구니 ID로 모든 아이템을 상품과 함께 한 번에 조회합니다.
+     * 
+     * @param cartId 장바구니 ID
+     * @return 해당 장바구니의 아이템 목록 (상품 적재됨)
+     */
+    @Query("SELECT ci FROM CartItem ci JOIN FETCH ci.product WHERE ci.cart.cno = :cartId")
+    List<CartItem> findWithProductByCartId(@Param("cartId") Long cartId);
+
+    /**
+     * 장바구니 ID로 모든 아이템을 상품과 상품 이미지 목록까지 한 번에 조회합니다.
+     * 
+     * @param cartId 장바구니 ID
+     * @return 해당 장바구니의 아이템 목록 (상품과 이미지 목록 적재됨)
+     */
+    @Query("SELECT DISTINCT ci FROM CartItem ci JOIN FETCH ci.product p LEFT JOIN FETCH p.images " +
+           "WHERE ci.cart.cno = :cartId")
+    List<CartItem> findWithProductAndImagesByCartId(@Param("cartId") Long cartId);
+
     /**
      * 회원 이메일로 장바구니 아이템들을 조회합니다.
      * 
@@ -199,4 +220,26 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     @Modifying
     @Query("UPDATE CartItem ci SET ci.qty = :qty WHERE ci.cart.cno = :cartId AND ci.product.pno = :productId")
     int updateQuantityByCartAndProduct(@Param("cartId") Long cartId, @Param("productId") Long productId, @Param("qty") int qty);
+
+    /**
+     * 여러 장바구니의 아이템을 모두 삭제합니다. (장바구니 정리용)
+     *
+     * @param cartIds 장바구니 ID 목록
+     * @return 삭제된 아이템 수
+     */
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.cart.cno IN :cartIds")
+    int deleteByCartIdIn(@Param("cartIds") Collection<Long> cartIds);
+
+    /**
+     * 기준 시각 이후 수정된 아이템이 없는 장바구니의 아이템만 삭제합니다. (장바구니 정리용)
+     *
+     * @param cartIds 장바구니 ID 목록
+     * @param cutoff 기준 시각
+     * @return 삭제된 아이템 수
+     */
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.cart.cno IN :cartIds AND ci.cart.cno NOT IN (" +
+           "SELECT r.cart.cno FROM CartItem r WHERE r.cart.cno IN :cartIds AND r.updatedAt >= :cutoff)")
+    int deleteIdleByCartIdIn(@Param("cartIds") Collection<Long> cartIds, @Param("cutoff") LocalDateTime cutoff);
 }
@@ -2,11 +2,16 @@ package com.skax.core.repository.cart;
 
 import com.skax.core.entity.cart.Cart;
 import com.skax.core.entity.member.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -79,4 +84,40 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
      */
     @Query("DELETE FROM Cart c WHERE c.owner.email = :email")
     long deleteByOwnerEmail(@Param("email") String email);
+
+    /**
+     * 마지막 수정 시각이 기준 시각 이전인 장바구니 번호를 번호 순으로 조회합니다. (장바구니 정리용)
+     *
+     * @param cutoff 기준 시각
+     * @param afterCno 이 번호보다 큰 장바구니만 조회 (키셋 페이징)
+     * @param pageable 조회 건수 제한
+     * @return 장바구니 번호 목록
+     */
+    @Query("SELECT c.cno FROM Cart c WHERE c.updatedAt < :cutoff AND c.cno > :afterCno ORDER BY c.cno")
+    List<Long> findCartIdsUpdatedBefore(@Param("cutoff") LocalDateTime cutoff,
+                                        @Param("afterCno") Long afterCno,
+                                        Pageable pageable);
+
+    /**
+     * 비활성 회원의 장바구니 번호를 번호 순으로 조회합니다. (장바구니 정리용)
+     *
+     * @param afterCno 이 번호보다 큰 장바구니만 조회 (키셋 페이징)
+     * @param pageable 조회 건수 제한
+     * @return 장바구니 번호 목록
+     */
+    @Query("SELECT c.cno FROM Cart c WHERE c.owner.isActive = false AND c.cno > :afterCno ORDER BY c.cno")
+    List<Long> findCartIdsOfInactiveMembers(@Param("afterCno") Long afterCno, Pageable pageable);
+
+    /**
+     * 아이템이 없는 장바구니를 삭제합니다.
+     *
+     * <p>정리 도중 아이템이 추가된 장바구니는 삭제하지 않습니다.</p>
+     *
+     * @param cnos 장바구니 번호 목록
+     * @return 삭제된 장바구니 수
+     */
+    @Modifying
+    @Query("DELETE FROM Cart c WHERE c.cno IN :cnos " +
+           "AND NOT EXISTS (SELECT ci.cino FROM CartItem ci WHERE ci.cart = c)")
+    int deleteEmptyCartsByCnoIn(@Param("cnos") Collection<Long> cnos);
 }
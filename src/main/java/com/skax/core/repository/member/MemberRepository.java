@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -109,4 +111,29 @@ public interface MemberRepository extends JpaRepository<Member, String> {
      * @return 회원 수
      */
     long countBySocial(boolean social);
+
+    /**
+     * 여러 회원의 이메일과 닉네임을 한 번에 조회합니다.
+     * 
+     * @param emails 회원 이메일 목록
+     * @return [email, nickname] 배열 목록
+     */
+    @Query("SELECT m.email, m.nickname FROM Member m WHERE m.email IN :emails")
+    List<Object[]> findNicknamesByEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * 자동완성 색인용으로 회원의 이메일, 닉네임, 수정일시를 조회합니다.
+     * 
+     * @return [email, nickname, updatedAt] 배열 목록
+     */
+    @Query("SELECT m.email, m.nickname, m.updatedAt FROM Member m WHERE m.deleted = false")
+    List<Object[]> findSuggestEntries();
+
+    /**
+     * 가용성 필터 구성용으로 전체 회원(논리 삭제 포함)의 이메일과 닉네임을 조회합니다.
+     * 
+     * @return [email, nickname] 배열 목록
+     */
+    @Query("SELECT m.email, m.nickname FROM Member m")
+    List<Object[]> findAvailabilityKeys();
 }
@@ -1,13 +1,16 @@
 package com.skax.core.repository.product;
 
 import com.skax.core.entity.product.Product;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -108,6 +111,55 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      */
     Optional<Product> findByPnoAndDeletedFalse(Long pno);
 
+    /**
+     * 상품 ID로 활성 상품을 쓰기 잠금(SELECT ... FOR UPDATE)과 함께 조회합니다.
+     *
+     * <p>트랜잭션이 끝날 때까지 같은 상품을 수정하려는 다른 트랜잭션은 대기하므로,
+     * 경합이 심한 갱신에서 낙관적 잠금 충돌과 재시도 대신 사용할 수 있습니다.</p>
+     *
+     * @param pno 상품 ID
+     * @return 잠금을 획득한 활성 상품
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.pno = :pno")
+    Optional<Product> findByPnoForUpdate(@Param("pno") Long pno);
+
+    /**
+     * 여러 상품 번호의 활성 상품을 이미지 목록과 함께 한 번에 조회합니다.
+     * 
+     * @param pnos 상품 번호 목록
+     * @return 활성 상품 목록 (순서 보장 없음)
+     */
+    @Query("SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.images " +
+           "WHERE p.pno IN :pnos AND p.deleted = false")
+    List<Product> findActiveWithImagesByPnoIn(@Param("pnos") Collection<Long> pnos);
+
+    /**
+     * 상품 번호 목록에 해당하는 상품의 이미지 파일명을 표시 순서대로 조회합니다.
+     *
+     * @param pnos 상품 번호 목록
+     * @return [상품 번호, 파일명] 목록 (상품 번호, 이미지 순서 정렬)
+     */
+    @Query("SELECT p.pno, i.fileName FROM Product p JOIN p.images i " +
+           "WHERE p.pno IN :pnos ORDER BY p.pno, i.sortOrder")
+    List<Object[]> findImageFileNamesByPnoIn(@Param("pnos") Collection<Long> pnos);
+
+    /**
+     * 여러 상품 번호의 활성 상품을 이미지 목록 없이 한 번에 조회합니다.
+     * 
+     * @param pnos 상품 번호 목록
+     * @return 활성 상품 목록 (순서 보장 없음)
+     */
+    List<Product> findByPnoInAndDeletedFalse(Collection<Long> pnos);
+
+    /**
+     * 자동완성 색인용으로 활성 상품의 번호, 이름, 수정일시를 조회합니다.
+     * 
+     * @return [pno, pname, updatedAt] 배열 목록
+     */
+    @Query("SELECT p.pno, p.pname, p.updatedAt FROM Product p WHERE p.deleted = false")
+    List<Object[]> findSuggestEntries();
+
     /**
      * 복합 조건으로 상품을 검색합니다.
      * 
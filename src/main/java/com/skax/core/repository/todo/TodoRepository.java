@@ -1,13 +1,19 @@
 package com.skax.core.repository.todo;
 
+import com.skax.core.dto.todo.response.TodoStatsResponse;
+import com.skax.core.entity.member.Member;
 import com.skax.core.entity.todo.Todo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -64,11 +70,16 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     /**
      * 제목에 특정 키워드가 포함된 할일 목록을 조회합니다.
      * 
-     * @param title 제목 키워드
+     * <p>LOWER(title) LIKE 형태로 조회하여 운영 DB의 LOWER(title) 트라이그램 인덱스
+     * (idx_todo_title_trgm)를 사용합니다. 키워드의 {@code \}, {@code %}, {@code _}는
+     * 호출하는 쪽에서 {@code \}로 이스케이프해야 합니다.</p>
+     * 
+     * @param title 이스케이프된 제목 키워드
      * @param pageable 페이징 정보
      * @return 할일 목록
      */
-    Page<Todo> findByTitleContainingIgnoreCase(String title, Pageable pageable);
+    @Query("SELECT t FROM Todo t WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%')) ESCAPE '\\'")
+    Page<Todo> findByTitleContainingIgnoreCase(@Param("title") String title, Pageable pageable);
 
     /**
      * 작성자별 완료된 할일 개수를 조회합니다.
@@ -108,13 +119,13 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     /**
      * 제목과 작성자로 할일을 검색합니다.
      * 
-     * @param title 제목 키워드
+     * @param title 이스케이프된 제목 키워드 ({@link #findByTitleContainingIgnoreCase} 참고)
      * @param writer 작성자
      * @param pageable 페이징 정보
      * @return 검색된 할일 목록
      */
     @Query("SELECT t FROM Todo t WHERE " +
-           "(:title IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%'))) AND " +
+           "(:title IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :title, '%')) ESCAPE '\\') AND " +
            "(:writer IS NULL OR t.writer = :writer)")
     Page<Todo> searchTodos(@Param("title") String title, 
                           @Param("writer") String writer, 
@@ -162,9 +173,96 @@ public interface TodoRepository extends JpaRepository<Todo, Long> {
     long countByComplete(Boolean complete);
 
     /**
-     * 작성자별 모든 할일을 삭제합니다.
+     * 작성자별 모든 할일을 단일 DELETE 문으로 삭제합니다.
+     * 
+     * <p>엔티티를 로딩하지 않으며, 실행 후 영속성 컨텍스트를 비웁니다.</p>
      * 
      * @param writer 작성자
+     * @return 삭제된 할일 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Todo t WHERE t.writer = :writer")
+    int deleteAllByWriterInBulk(@Param("writer") String writer);
+
+    /**
+     * 모든 할일을 단일 DELETE 문으로 삭제합니다.
+     * 
+     * @return 삭제된 할일 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Todo t")
+    int deleteAllInBulk();
+
+    /**
+     * 할일 번호 목록의 미완료 할일을 단일 UPDATE 문으로 완료 처리합니다.
+     * 
+     * @param tnos 할일 번호 목록
+     * @param now 수정 시각
+     * @param updatedBy 수정자 (일괄 JPQL은 JPA Auditing을 거치지 않으므로 직접 지정)
+     * @return 완료 처리된 할일 수 (이미 완료된 할일은 제외)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.complete = true, t.updatedAt = :now, t.updatedBy = :updatedBy " +
+           "WHERE t.tno IN :tnos AND t.complete = false")
+    int completeAllByTnoIn(@Param("tnos") Collection<Long> tnos,
+                           @Param("now") LocalDateTime now,
+                           @Param("updatedBy") Member updatedBy);
+
+    /**
+     * 작성자의 모든 할일을 다른 작성자로 단일 UPDATE 문으로 이관합니다.
+     * 
+     * @param fromWriter 기존 작성자
+     * @param toWriter 새 작성자
+     * @param now 수정 시각
+     * @param updatedBy 수정자 (일괄 JPQL은 JPA Auditing을 거치지 않으므로 직접 지정)
+     * @return 이관된 할일 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Todo t SET t.writer = :toWriter, t.updatedAt = :now, t.updatedBy = :updatedBy " +
+           "WHERE t.writer = :fromWriter")
+    int reassignWriter(@Param("fromWriter") String fromWriter,
+                       @Param("toWriter") String toWriter,
+                       @Param("now") LocalDateTime now,
+                       @Param("updatedBy") Member updatedBy);
+
+    /**
+     * 작성자별 할일 통계를 하나의 GROUP BY 쿼리로 조회합니다.
+     *
+     * <p>전체/완료/미완료/기한 초과 개수를 테이블 한 번의 스캔으로 집계합니다.
+     * 작성자를 지정하지 않으면(null) 모든 작성자의 통계를 반환합니다.
+     * 작성자가 없는 할일은 작성자 null인 그룹으로 맨 앞에 정렬됩니다(메모리 카운터와 같은 순서).</p>
+     *
+     * @param writer 작성자 (null이면 전체)
+     * @param today 기한 초과 판단 기준일
+     * @return 작성자별 할일 통계 목록
+     */
+    @Query("SELECT new com.skax.core.dto.todo.response.TodoStatsResponse(" +
+           "t.writer, COUNT(t), " +
+           "SUM(CASE WHEN t.complete = true THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN t.complete = false THEN 1L ELSE 0L END), " +
+           "SUM(CASE WHEN t.complete = false AND t.dueDate < :today THEN 1L ELSE 0L END)) " +
+           "FROM Todo t WHERE (:writer IS NULL OR t.writer = :writer) " +
+           "GROUP BY t.writer ORDER BY t.writer NULLS FIRST")
+    List<TodoStatsResponse> findStatsGroupByWriter(@Param("writer") String writer,
+                                                   @Param("today") LocalDate today);
+
+    /**
+     * 미완료 할일 개수를 작성자/마감일별로 조회합니다. (통계 카운터 초기화용)
+     *
+     * @return [작성자, 마감일, 개수] 배열 목록
+     */
+    @Query("SELECT t.writer, t.dueDate, COUNT(t) FROM Todo t " +
+           "WHERE t.complete = false AND t.dueDate IS NOT NULL " +
+           "GROUP BY t.writer, t.dueDate")
+    List<Object[]> countIncompleteGroupByWriterAndDueDate();
+
+    /**
+     * 마감일이 범위 안에 있는 미완료 할일 목록을 조회합니다. (마감 알림 적재용)
+     *
+     * @param from 시작 마감일 (포함)
+     * @param to 종료 마감일 (포함)
+     * @return 미완료 할일 목록
      */
-    void deleteByWriter(String writer);
+    @Query("SELECT t FROM Todo t WHERE t.dueDate BETWEEN :from AND :to AND t.complete = false")
+    List<Todo> findIncompleteByDueDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
 }
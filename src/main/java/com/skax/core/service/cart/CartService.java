@@ -1,5 +1,6 @@
 package com.skax.core.service.cart;
 
+import com.skax.core.common.fields.FieldSelection;
 import com.skax.core.dto.cart.request.CartItemAddRequest;
 import com.skax.core.dto.cart.request.CartItemUpdateRequest;
 import com.skax.core.dto.cart.response.CartResponse;
@@ -30,11 +31,14 @@ public interface CartService {
     /**
      * 회원의 장바구니를 조회합니다. 장바구니가 없으면 새로 생성합니다.
      * 
+     * <p>일부 필드만 선택하면 선택하지 않은 아이템 목록과 감사 정보는 적재하지 않습니다.</p>
+     * 
      * @param memberId 회원 ID
+     * @param fields 응답 필드 선택
      * @return 장바구니 정보
      * @throws IllegalArgumentException 존재하지 않는 회원인 경우
      */
-    CartResponse getOrCreateCart(String memberId);
+    CartResponse getOrCreateCart(String memberId, FieldSelection fields);
 
     /**
      * 장바구니에 상품을 추가합니다.
@@ -1,5 +1,6 @@
 package com.skax.core.service.cart.impl;
 
+import com.skax.core.common.fields.FieldSelection;
 import com.skax.core.dto.cart.request.CartItemAddRequest;
 import com.skax.core.dto.cart.request.CartItemUpdateRequest;
 import com.skax.core.dto.cart.response.CartResponse;
@@ -8,12 +9,15 @@ import com.skax.core.entity.cart.Cart;
 import com.skax.core.entity.cart.CartItem;
 import com.skax.core.entity.member.Member;
 import com.skax.core.entity.product.Product;
+import com.skax.core.entity.product.ProductImage;
 import com.skax.core.dto.cart.mapper.CartMapper;
 import com.skax.core.repository.cart.CartRepository;
 import com.skax.core.repository.cart.CartItemRepository;
 import com.skax.core.repository.member.MemberRepository;
 import com.skax.core.repository.product.ProductRepository;
 import com.skax.core.service.cart.CartService;
+import com.skax.core.service.cart.writebehind.CartWriteBehindStore;
+import com.skax.core.service.product.image.ProductImageStore;
 import com.skax.core.util.ServiceUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +31,9 @@ import java.util.List;
  * 
  * <p>장바구니 및 장바구니 아이템의 생성, 조회, 수정, 삭제 등의 비즈니스 로직을 처리합니다.</p>
  * 
+ * <p>{@code app.cart.write-behind.enabled=true}이면 조회와 수량 변경은 {@link CartWriteBehindStore}가
+ * 메모리에서 처리하고, 아이템 추가/삭제와 장바구니 비우기는 DB에 즉시 반영합니다.</p>
+ * 
  * @author ByounggwanLee
  * @since 2025-08-19
  * @version 1.0
@@ -43,12 +50,42 @@ public class CartServiceImpl implements CartService {
     private final ProductRepository productRepository;
     private final CartMapper cartMapper;
     private final ServiceUtils serviceUtils;
+    private final CartWriteBehindStore cartWriteBehindStore;
+    private final ProductImageStore productImageStore;
 
     @Override
     @Transactional
-    public CartResponse getOrCreateCart(String memberId) {
-        log.debug("Getting or creating cart for member: {}", memberId);
+    public CartResponse getOrCreateCart(String memberId, FieldSelection fields) {
+        log.debug("Getting or creating cart for member: {}, fields: {}", memberId, fields);
         
+        if (cartWriteBehindStore.isEnabled()) {
+            // 메모리 캐시에서 조회하므로 필드 선택은 응답 출력에만 적용
+            return cartWriteBehindStore.getOrCreateCart(memberId);
+        }
+        return loadOrCreateCart(memberId, fields);
+    }
+
+    /**
+     * 장바구니 아이템을 상품 대표 이미지 URL까지 채운 응답으로 변환합니다.
+     * 
+     * <p>상품 응답의 {@code thumbnail}과 같은 규칙({@link ProductImageStore#thumbnailUrl(List)})을 사용합니다.</p>
+     * 
+     * @param item 장바구니 아이템 (상품 적재됨)
+     * @return 장바구니 아이템 응답
+     */
+    private CartItemResponse toItemResponse(CartItem item) {
+        CartItemResponse response = cartMapper.toItemResponse(item);
+        response.setProductImage(productImageStore.thumbnailUrl(item.getProduct().getImageList().stream()
+                .map(ProductImage::getFileName)
+                .toList()));
+        return response;
+    }
+
+    private CartResponse loadOrCreateCart(String memberId) {
+        return loadOrCreateCart(memberId, FieldSelection.all());
+    }
+
+    private CartResponse loadOrCreateCart(String memberId, FieldSelection fields) {
         // 회원 존재 확인
         Member member = memberRepository.findByEmail(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다: " + memberId));
@@ -62,15 +99,32 @@ public class CartServiceImpl implements CartService {
                     return cartRepository.save(newCart);
                 });
         
+        boolean includeAudit = fields.includes(FieldSelection.AUDIT);
         CartResponse response = cartMapper.toResponse(cart);
-        serviceUtils.mapWithAudit(cart, response);
+        if (includeAudit) {
+            serviceUtils.mapWithAudit(cart, response);
+        }
         
-        // 장바구니 아이템들 조회 및 설정
-        List<CartItem> items = cartItemRepository.findByCartId(cart.getCno());
+        if (!fields.includes("items")) {
+            return response;
+        }
+        
+        // 장바구니 아이템들 조회 및 설정 (상품은 함께 조회, 상품 이미지는 items.productImage를 선택한 경우에만)
+        // 아이템 감사 정보는 items 전체 또는 items.audit을 선택한 경우에만 조회
+        boolean includeItemImage = fields.includes("items.productImage");
+        List<CartItem> items = includeItemImage
+                ? cartItemRepository.findWithProductAndImagesByCartId(cart.getCno())
+                : cartItemRepository.findWithProductByCartId(cart.getCno());
+        boolean includeItemAudit = fields.includes("items." + FieldSelection.AUDIT);
+        if (includeItemAudit) {
+            serviceUtils.prefetchAudit(items);
+        }
         List<CartItemResponse> itemResponses = items.stream()
                 .map(item -> {
-                    CartItemResponse itemResponse = cartMapper.toItemResponse(item);
-                    return serviceUtils.mapWithAudit(item, itemResponse);
+                    CartItemResponse itemResponse = includeItemImage
+                            ? toItemResponse(item)
+                            : cartMapper.toItemResponse(item);
+                    return includeItemAudit ? serviceUtils.mapWithAudit(item, itemResponse) : itemResponse;
                 })
                 .toList();
         
@@ -86,13 +140,28 @@ public class CartServiceImpl implements CartService {
         log.info("Adding item to cart - member: {}, product: {}, quantity: {}", 
                 memberId, request.getProductId(), request.getQuantity());
         
+        if (cartWriteBehindStore.isEnabled()) {
+            productRepository.findByPnoAndDeletedFalse(request.getProductId())
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다: " + request.getProductId()));
+            // 이미 담긴 상품은 메모리에서 수량만 증가, 새 상품은 DB에 즉시 추가
+            CartItemResponse increased = cartWriteBehindStore.increaseIfPresent(
+                    memberId, request.getProductId(), request.getQuantity());
+            if (increased != null) {
+                return increased;
+            }
+            return cartWriteBehindStore.writeThrough(memberId, () -> addItemToCartDirect(memberId, request));
+        }
+        return addItemToCartDirect(memberId, request);
+    }
+
+    private CartItemResponse addItemToCartDirect(String memberId, CartItemAddRequest request) {
         // 장바구니 조회 또는 생성
-        CartResponse cartResponse = getOrCreateCart(memberId);
+        CartResponse cartResponse = loadOrCreateCart(memberId);
         Cart cart = cartRepository.findById(cartResponse.getCno())
                 .orElseThrow(() -> new IllegalArgumentException("장바구니를 찾을 수 없습니다"));
         
         // 상품 존재 확인
-        Product product = productRepository.findByPnoAndDelFlagFalse(request.getProductId())
+        Product product = productRepository.findByPnoAndDeletedFalse(request.getProductId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다: " + request.getProductId()));
         
         // 기존 장바구니 아이템 확인
@@ -104,7 +173,7 @@ public class CartServiceImpl implements CartService {
             existingItem.changeQty(existingItem.getQty() + request.getQuantity());
             CartItem updatedItem = cartItemRepository.save(existingItem);
             log.info("Updated existing cart item with id: {}", updatedItem.getCino());
-            CartItemResponse response = cartMapper.toItemResponse(updatedItem);
+            CartItemResponse response = toItemResponse(updatedItem);
             return serviceUtils.mapWithAudit(updatedItem, response);
         } else {
             // 새로운 아이템 추가
@@ -116,7 +185,7 @@ public class CartServiceImpl implements CartService {
             
             CartItem savedItem = cartItemRepository.save(cartItem);
             log.info("Successfully added new cart item with id: {}", savedItem.getCino());
-            CartItemResponse response = cartMapper.toItemResponse(savedItem);
+            CartItemResponse response = toItemResponse(savedItem);
             return serviceUtils.mapWithAudit(savedItem, response);
         }
     }
@@ -126,6 +195,10 @@ public class CartServiceImpl implements CartService {
     public CartItemResponse updateCartItem(String memberId, Long itemId, CartItemUpdateRequest request) {
         log.info("Updating cart item with id: {} for member: {}", itemId, memberId);
         
+        if (cartWriteBehindStore.isEnabled()) {
+            return cartWriteBehindStore.changeQuantity(memberId, itemId, quantity -> request.getQuantity());
+        }
+        
         // 장바구니 아이템 조회 및 소유자 확인
         CartItem cartItem = cartItemRepository.findById(itemId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 장바구니 아이템입니다: " + itemId));
@@ -140,7 +213,7 @@ public class CartServiceImpl implements CartService {
         CartItem updatedItem = cartItemRepository.save(cartItem);
         log.info("Successfully updated cart item with id: {}", itemId);
         
-        CartItemResponse response = cartMapper.toItemResponse(updatedItem);
+        CartItemResponse response = toItemResponse(updatedItem);
         return serviceUtils.mapWithAudit(updatedItem, response);
     }
 
@@ -149,6 +222,17 @@ public class CartServiceImpl implements CartService {
     public void removeItemFromCart(String memberId, Long itemId) {
         log.info("Removing cart item with id: {} for member: {}", itemId, memberId);
         
+        if (cartWriteBehindStore.isEnabled()) {
+            cartWriteBehindStore.writeThrough(memberId, () -> {
+                removeItemFromCartDirect(memberId, itemId);
+                return null;
+            });
+            return;
+        }
+        removeItemFromCartDirect(memberId, itemId);
+    }
+
+    private void removeItemFromCartDirect(String memberId, Long itemId) {
         // 장바구니 아이템 조회 및 소유자 확인
         CartItem cartItem = cartItemRepository.findById(itemId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 장바구니 아이템입니다: " + itemId));
@@ -178,6 +262,17 @@ public class CartServiceImpl implements CartService {
     public void clearCart(String memberId) {
         log.info("Clearing cart for member: {}", memberId);
         
+        if (cartWriteBehindStore.isEnabled()) {
+            cartWriteBehindStore.writeThrough(memberId, () -> {
+                clearCartDirect(memberId);
+                return null;
+            });
+            return;
+        }
+        clearCartDirect(memberId);
+    }
+
+    private void clearCartDirect(String memberId) {
         // 장바구니 조회
         Cart cart = cartRepository.findByOwnerEmail(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("장바구니를 찾을 수 없습니다"));
@@ -192,6 +287,10 @@ public class CartServiceImpl implements CartService {
     public CartItemResponse increaseItemQuantity(String memberId, Long itemId, int amount) {
         log.info("Increasing quantity for cart item with id: {} by {} for member: {}", itemId, amount, memberId);
         
+        if (cartWriteBehindStore.isEnabled()) {
+            return cartWriteBehindStore.changeQuantity(memberId, itemId, quantity -> quantity + amount);
+        }
+        
         // 장바구니 아이템 조회 및 소유자 확인
         CartItem cartItem = cartItemRepository.findById(itemId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 장바구니 아이템입니다: " + itemId));
@@ -205,7 +304,7 @@ public class CartServiceImpl implements CartService {
         
         log.info("Successfully increased quantity for cart item with id: {}", itemId);
         
-        CartItemResponse response = cartMapper.toItemResponse(updatedItem);
+        CartItemResponse response = toItemResponse(updatedItem);
         return serviceUtils.mapWithAudit(updatedItem, response);
     }
 
@@ -214,6 +313,10 @@ public class CartServiceImpl implements CartService {
     public CartItemResponse decreaseItemQuantity(String memberId, Long itemId, int amount) {
         log.info("Decreasing quantity for cart item with id: {} by {} for member: {}", itemId, amount, memberId);
         
+        if (cartWriteBehindStore.isEnabled()) {
+            return cartWriteBehindStore.changeQuantity(memberId, itemId, quantity -> quantity - amount);
+        }
+        
         // 장바구니 아이템 조회 및 소유자 확인
         CartItem cartItem = cartItemRepository.findById(itemId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 장바구니 아이템입니다: " + itemId));
@@ -232,7 +335,7 @@ public class CartServiceImpl implements CartService {
             cartItem.changeQty(newQuantity);
             CartItem updatedItem = cartItemRepository.save(cartItem);
             log.info("Successfully decreased quantity for cart item with id: {}", itemId);
-            CartItemResponse response = cartMapper.toItemResponse(updatedItem);
+            CartItemResponse response = toItemResponse(updatedItem);
             return serviceUtils.mapWithAudit(updatedItem, response);
         }
     }
@@ -241,6 +344,10 @@ public class CartServiceImpl implements CartService {
     public boolean hasProductInCart(String memberId, Long productId) {
         log.debug("Checking if product {} is in cart for member: {}", productId, memberId);
         
+        if (cartWriteBehindStore.isEnabled()) {
+            return cartWriteBehindStore.getProductQuantity(memberId, productId) > 0;
+        }
+        
         // 장바구니 조회
         Cart cart = cartRepository.findByOwnerEmail(memberId).orElse(null);
         if (cart == null) {
@@ -254,6 +361,10 @@ public class CartServiceImpl implements CartService {
     public int getProductQuantityInCart(String memberId, Long productId) {
         log.debug("Getting quantity of product {} in cart for member: {}", productId, memberId);
         
+        if (cartWriteBehindStore.isEnabled()) {
+            return cartWriteBehindStore.getProductQuantity(memberId, productId);
+        }
+        
         // 장바구니 조회
         Cart cart = cartRepository.findByOwnerEmail(memberId).orElse(null);
         if (cart == null) {
@@ -289,6 +400,10 @@ public class CartServiceImpl implements CartService {
     public int getCartTotalAmount(String memberId) {
         log.debug("Getting total amount for member: {}", memberId);
         
+        if (cartWriteBehindStore.isEnabled()) {
+            return cartWriteBehindStore.getCartTotalAmount(memberId);
+        }
+        
         // 장바구니 조회
         Cart cart = cartRepository.findByOwnerEmail(memberId).orElse(null);
         if (cart == null) {
@@ -0,0 +1,211 @@
+package com.skax.core.service.cart.sweep;
+
+import com.skax.core.repository.cart.CartItemRepository;
+import com.skax.core.repository.cart.CartRepository;
+import com.skax.core.service.cart.writebehind.CartWriteBehindStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 방치된 장바구니 정리 작업
+ *
+ * <p>다음 장바구니의 아이템과 장바구니 자체를 주기적으로 삭제합니다.</p>
+ * <ul>
+ *   <li>비활성 회원(isActive = false)의 장바구니</li>
+ *   <li>장바구니와 모든 아이템이 {@code idle-after} 동안 변경되지 않은 장바구니
+ *       (idx_cart_updated_at, idx_cartitem_cart_updated_at 사용)</li>
+ * </ul>
+ *
+ * <p>장바구니 번호 키셋으로 {@code batch-size}건씩 조회하고, 배치마다 짧은 트랜잭션에서
+ * 아이템 → 빈 장바구니 순으로 일괄 삭제합니다. 삭제 직전에 방치 조건을 다시 확인하므로
+ * 정리 도중 사용된 장바구니는 삭제되지 않습니다. 배치 사이에는 {@code max-rows-per-second}를
+ * 넘지 않도록 대기하여 장시간 잠금이나 I/O 급증을 피합니다.</p>
+ *
+ * <p>write-behind 저장소를 사용하는 경우 배치 삭제 전후에 해당 장바구니를 저장소에서 제거합니다.
+ * 삭제 전에는 메모리에만 있는 수량 변경이 반영되어 사용 중인 장바구니가 방치된 것으로 판단되지 않고,
+ * 삭제 후에는 삭제된 아이템이 메모리에 남아 조회되거나 다시 반영되지 않습니다.</p>
+ *
+ * <p>진행 상황은 {@code cart.sweeper.*} 메트릭으로 노출됩니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-05
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class AbandonedCartSweeper implements SchedulingConfigurer {
+
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final CartSweeperProperties properties;
+    private final CartWriteBehindStore cartWriteBehindStore;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter deletedCarts;
+    private final Counter deletedItems;
+    private final Timer runTimer;
+    private final AtomicLong batchesInRun = new AtomicLong();
+    private final AtomicReference<Double> lastRowsPerSecond = new AtomicReference<>(0.0);
+
+    public AbandonedCartSweeper(CartRepository cartRepository,
+                                CartItemRepository cartItemRepository,
+                                CartSweeperProperties properties,
+                                CartWriteBehindStore cartWriteBehindStore,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.cartRepository = cartRepository;
+        this.cartItemRepository = cartItemRepository;
+        this.properties = properties;
+        this.cartWriteBehindStore = cartWriteBehindStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout((int) properties.getBatchTimeout().toSeconds());
+
+        this.deletedCarts = Counter.builder("cart.sweeper.deleted")
+                .description("정리된 장바구니 행 수")
+                .tag("table", "tbl_cart")
+                .register(meterRegistry);
+        this.deletedItems = Counter.builder("cart.sweeper.deleted")
+                .description("정리된 장바구니 행 수")
+                .tag("table", "tbl_cart_item")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("cart.sweeper.run")
+                .description("장바구니 정리 실행 시간")
+                .register(meterRegistry);
+        Gauge.builder("cart.sweeper.batches", batchesInRun, AtomicLong::get)
+                .description("현재(또는 마지막) 실행에서 처리한 배치 수")
+                .register(meterRegistry);
+        Gauge.builder("cart.sweeper.rows.per.second", lastRowsPerSecond, AtomicReference::get)
+                .description("마지막 실행의 초당 삭제 행 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (!properties.isEnabled()) {
+            log.info("장바구니 정리 비활성화");
+            return;
+        }
+        registrar.addFixedDelayTask(this::sweep, properties.getInterval());
+        log.info("장바구니 정리 작업 등록 - interval: {}, idleAfter: {}, batchSize: {}, maxRowsPerSecond: {}",
+                properties.getInterval(), properties.getIdleAfter(),
+                properties.getBatchSize(), properties.getMaxRowsPerSecond());
+    }
+
+    /**
+     * 방치된 장바구니를 정리합니다.
+     */
+    public void sweep() {
+        runTimer.record(() -> {
+            batchesInRun.set(0);
+            long started = System.nanoTime();
+            long rows = 0;
+            try {
+                rows += sweepInactiveMembers(started);
+                rows += sweepIdleCarts(started);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("장바구니 정리 중단 - 삭제 행: {}", rows);
+            } catch (RuntimeException e) {
+                log.warn("장바구니 정리 실패 - error: {}", e.getMessage());
+            }
+            double seconds = Math.max((System.nanoTime() - started) / 1_000_000_000.0, 0.001);
+            lastRowsPerSecond.set(rows / seconds);
+            if (rows > 0) {
+                log.info("장바구니 정리 완료 - 배치: {}, 삭제 행: {}, 초당 {}행",
+                        batchesInRun.get(), rows, String.format("%.1f", rows / seconds));
+            }
+        });
+    }
+
+    private long sweepInactiveMembers(long started) throws InterruptedException {
+        long rows = 0;
+        long afterCno = 0;
+        while (hasBatchBudget()) {
+            List<Long> cnos = cartRepository.findCartIdsOfInactiveMembers(afterCno, batch());
+            if (cnos.isEmpty()) {
+                break;
+            }
+            afterCno = cnos.get(cnos.size() - 1);
+            rows += deleteBatch(cnos, () -> cartItemRepository.deleteByCartIdIn(cnos));
+            throttle(started, rows);
+        }
+        return rows;
+    }
+
+    private long sweepIdleCarts(long started) throws InterruptedException {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getIdleAfter());
+        long rows = 0;
+        long afterCno = 0;
+        while (hasBatchBudget()) {
+            List<Long> cnos = cartRepository.findCartIdsUpdatedBefore(cutoff, afterCno, batch());
+            if (cnos.isEmpty()) {
+                break;
+            }
+            afterCno = cnos.get(cnos.size() - 1);
+            rows += deleteBatch(cnos, () -> cartItemRepository.deleteIdleByCartIdIn(cnos, cutoff));
+            throttle(started, rows);
+        }
+        return rows;
+    }
+
+    private long deleteBatch(List<Long> cnos, ItemDeletion itemDeletion) {
+        // 메모리에만 있는 수량 변경을 먼저 반영해야 삭제 조건 재확인이 최신 수정 시각을 본다
+        cartWriteBehindStore.evictCarts(cnos);
+        int[] deleted = transactionTemplate.execute(status -> {
+            int items = itemDeletion.delete();
+            int carts = cartRepository.deleteEmptyCartsByCnoIn(cnos);
+            return new int[] {items, carts};
+        });
+        // 삭제 도중 다시 적재된 장바구니가 삭제된 아이템을 보관하지 않도록 한 번 더 제거
+        cartWriteBehindStore.evictCarts(cnos);
+        if (deleted == null) {
+            return 0;
+        }
+        deletedItems.increment(deleted[0]);
+        deletedCarts.increment(deleted[1]);
+        long batches = batchesInRun.incrementAndGet();
+        if (batches % 50 == 0) {
+            log.info("장바구니 정리 진행 중 - 배치: {}", batches);
+        }
+        return deleted[0] + deleted[1];
+    }
+
+    // 누적 삭제 행 수가 초당 한도를 넘지 않도록 대기
+    private void throttle(long started, long rows) throws InterruptedException {
+        if (properties.getMaxRowsPerSecond() <= 0) {
+            return;
+        }
+        long expectedMillis = rows * 1000 / properties.getMaxRowsPerSecond();
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        if (expectedMillis > elapsedMillis) {
+            Thread.sleep(expectedMillis - elapsedMillis);
+        }
+    }
+
+    private boolean hasBatchBudget() {
+        return batchesInRun.get() < properties.getMaxBatchesPerRun();
+    }
+
+    private PageRequest batch() {
+        return PageRequest.of(0, properties.getBatchSize());
+    }
+
+    @FunctionalInterface
+    private interface ItemDeletion {
+        int delete();
+    }
+}
@@ -0,0 +1,59 @@
+package com.skax.core.service.cart.sweep;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 방치된 장바구니 정리 설정
+ *
+ * <p>{@code app.cart.sweeper.*} 설정을 바인딩합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-05
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.cart.sweeper")
+public class CartSweeperProperties {
+
+    /**
+     * 장바구니 정리 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 정리 작업 실행 주기
+     */
+    private Duration interval = Duration.ofHours(1);
+
+    /**
+     * 이 기간 동안 변경이 없는 장바구니를 방치된 것으로 판단
+     */
+    private Duration idleAfter = Duration.ofDays(30);
+
+    /**
+     * 한 트랜잭션에서 처리할 장바구니 수
+     */
+    private int batchSize = 200;
+
+    /**
+     * 초당 최대 삭제 행 수 (장바구니 + 아이템)
+     */
+    private int maxRowsPerSecond = 2000;
+
+    /**
+     * 한 번의 실행에서 처리할 최대 배치 수
+     */
+    private int maxBatchesPerRun = 500;
+
+    /**
+     * 배치 트랜잭션 타임아웃
+     */
+    private Duration batchTimeout = Duration.ofSeconds(10);
+}
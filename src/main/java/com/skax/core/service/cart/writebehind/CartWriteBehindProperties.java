@@ -0,0 +1,59 @@
+package com.skax.core.service.cart.writebehind;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 장바구니 write-behind 저장소 설정
+ *
+ * <p>{@code app.cart.write-behind.*} 설정을 바인딩합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-05
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.cart.write-behind")
+public class CartWriteBehindProperties {
+
+    /**
+     * write-behind 저장소 사용 여부 (false면 모든 변경을 즉시 DB에 반영)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 변경된 수량을 DB에 반영하는 주기 (장애 시 유실될 수 있는 최대 구간)
+     */
+    private Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * 한 번의 JDBC 배치로 반영할 최대 행 수
+     */
+    private int flushBatchSize = 500;
+
+    /**
+     * 회원별 잠금 스트라이프 수
+     */
+    private int lockStripes = 256;
+
+    /**
+     * 이 기간 동안 사용되지 않은(반영 완료된) 장바구니는 메모리에서 제거
+     */
+    private Duration expireAfterAccess = Duration.ofMinutes(10);
+
+    /**
+     * 반영에 실패한 수량 변경의 최대 재시도 횟수 (초과하면 버리고 장바구니를 DB에서 다시 적재)
+     */
+    private int maxFlushRetries = 5;
+
+    /**
+     * 재시도 간격의 상한 (flush-interval부터 두 배씩 늘어남)
+     */
+    private Duration maxRetryBackoff = Duration.ofSeconds(30);
+}
@@ -0,0 +1,830 @@
+package com.skax.core.service.cart.writebehind;
+
+import com.skax.core.dto.BaseDto;
+import com.skax.core.dto.cart.mapper.CartMapper;
+import com.skax.core.dto.cart.response.CartItemResponse;
+import com.skax.core.dto.cart.response.CartResponse;
+import com.skax.core.entity.cart.Cart;
+import com.skax.core.entity.cart.CartItem;
+import com.skax.core.entity.member.Member;
+import com.skax.core.entity.product.Product;
+import com.skax.core.repository.cart.CartItemRepository;
+import com.skax.core.repository.cart.CartRepository;
+import com.skax.core.repository.member.MemberRepository;
+import com.skax.core.repository.product.ProductRepository;
+import com.skax.core.service.product.image.ProductImageStore;
+import com.skax.core.util.ServiceUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * 장바구니 write-behind 저장소
+ *
+ * <p>{@code app.cart.write-behind.enabled=true}이면 사용 중인 장바구니를 메모리(ConcurrentHashMap,
+ * 내부적으로 분할 잠금)에 보관하고, 장바구니 조회/총액 계산과 수량 변경(추가/증가/감소/수정)을
+ * DB 왕복 없이 처리합니다. 같은 회원의 요청은 회원별 스트라이프 잠금으로 직렬화됩니다.
+ * 변경된 수량은 {@code flush-interval}마다 JDBC 배치 UPDATE로 {@code tbl_cart_item}에 반영됩니다.</p>
+ *
+ * <h3>내구성(durability)</h3>
+ * <ul>
+ *   <li>수량 변경만 지연 반영됩니다. 정상 종료 시에는 종료 직전에 모두 반영합니다.
+ *       프로세스가 비정상 종료되면 마지막 반영 이후 최대 {@code flush-interval} 동안의
+ *       수량 변경이 유실될 수 있으며, 재시작 후에는 DB에 마지막으로 반영된 수량으로 복구됩니다.</li>
+ *   <li>아이템 추가(새 상품), 삭제, 장바구니 비우기, 수량이 0 이하가 되어 삭제되는 경우는
+ *       {@link #writeThrough(String, Supplier)} 또는 즉시 삭제로 DB에 동기 반영됩니다.
+ *       동기 변경 전에는 해당 회원의 미반영 수량을 먼저 반영하므로 순서가 뒤바뀌지 않습니다.</li>
+ *   <li>반영은 아이템별로 마지막에 수집된 값만 기록하므로 더 오래된 값(재시도 포함)이 최신 값을 덮어쓰지 않습니다.
+ *       반영에 실패한 값은 {@code flush-interval}부터 두 배씩 늘어나는 간격({@code max-retry-backoff} 상한)으로
+ *       최대 {@code max-flush-retries}번 재시도하며, 초과하면 버리고 장바구니를 DB에서 다시 적재합니다.</li>
+ *   <li>반영 대상 행이 이미 삭제된 경우(갱신 0건)에도 변경을 버리고 장바구니를 다시 적재합니다.
+ *       버린 건수는 {@code cart.writebehind.dropped} 메트릭으로 노출됩니다.</li>
+ *   <li>반영은 별도 트랜잭션에서 {@code version}을 올리므로, 호출한 트랜잭션이 이미 적재한
+ *       아이템 엔티티는 반영 직후 다시 읽어 이후의 JPA 변경이 낙관적 잠금 충돌을 일으키지 않게 합니다.</li>
+ *   <li>정기 반영과 종료 시 반영은 직렬화되며, 종료 시에는 재시도 대기 중인 값도 간격과 관계없이 반영을 시도합니다.</li>
+ *   <li>방치된 장바구니 정리 작업은 삭제 전후에 {@link #evictCarts(Collection)}로 해당 장바구니를
+ *       메모리에서 제거하여, 삭제된 행이 메모리에 남거나 이후 반영 대상이 되지 않도록 합니다.</li>
+ *   <li>여러 애플리케이션 인스턴스가 같은 회원의 장바구니를 동시에 처리하는 환경에서는
+ *       회원 단위 라우팅(sticky session)이 전제되어야 합니다.</li>
+ * </ul>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-05
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class CartWriteBehindStore implements SchedulingConfigurer {
+
+    private static final String FLUSH_SQL =
+            "UPDATE tbl_cart_item SET qty = ?, version = version + 1, updated_at = ? WHERE cino = ?";
+
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final MemberRepository memberRepository;
+    private final ProductRepository productRepository;
+    private final CartMapper cartMapper;
+    private final ServiceUtils serviceUtils;
+    private final ProductImageStore productImageStore;
+    private final JdbcTemplate jdbcTemplate;
+    private final CartWriteBehindProperties properties;
+    private final TransactionTemplate loadTemplate;
+    private final TransactionTemplate flushTemplate;
+    private final EntityManager entityManager;
+
+    private final Map<String, CachedCart> carts = new ConcurrentHashMap<>();
+    private final Map<Long, String> membersByCno = new ConcurrentHashMap<>();
+    private final Map<Long, ProductSnapshot> products = new ConcurrentHashMap<>();
+    private final Set<String> dirtyMembers = ConcurrentHashMap.newKeySet();
+    private final Map<Long, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+    private final Map<Long, PendingWrite> retries = new ConcurrentHashMap<>();
+    private final ReentrantLock[] memberLocks;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Counter flushedRows;
+    private final Counter flushFailures;
+    private final Counter droppedMissing;
+    private final Counter droppedRetries;
+
+    public CartWriteBehindStore(CartRepository cartRepository,
+                                CartItemRepository cartItemRepository,
+                                MemberRepository memberRepository,
+                                ProductRepository productRepository,
+                                CartMapper cartMapper,
+                                ServiceUtils serviceUtils,
+                                ProductImageStore productImageStore,
+                                JdbcTemplate jdbcTemplate,
+                                CartWriteBehindProperties properties,
+                                PlatformTransactionManager transactionManager,
+                                EntityManager entityManager,
+                                MeterRegistry meterRegistry) {
+        this.cartRepository = cartRepository;
+        this.cartItemRepository = cartItemRepository;
+        this.memberRepository = memberRepository;
+        this.productRepository = productRepository;
+        this.cartMapper = cartMapper;
+        this.serviceUtils = serviceUtils;
+        this.productImageStore = productImageStore;
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.loadTemplate = new TransactionTemplate(transactionManager);
+        this.flushTemplate = new TransactionTemplate(transactionManager);
+        this.flushTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.entityManager = entityManager;
+
+        this.memberLocks = new ReentrantLock[Math.max(1, properties.getLockStripes())];
+        for (int i = 0; i < memberLocks.length; i++) {
+            memberLocks[i] = new ReentrantLock();
+        }
+
+        this.flushedRows = Counter.builder("cart.writebehind.flushed")
+                .description("DB에 반영된 장바구니 수량 변경 행 수")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("cart.writebehind.flush.failures")
+                .description("장바구니 수량 반영 실패 횟수")
+                .register(meterRegistry);
+        this.droppedMissing = Counter.builder("cart.writebehind.dropped")
+                .description("반영하지 못하고 버린 장바구니 수량 변경 수")
+                .tag("reason", "missing-row")
+                .register(meterRegistry);
+        this.droppedRetries = Counter.builder("cart.writebehind.dropped")
+                .description("반영하지 못하고 버린 장바구니 수량 변경 수")
+                .tag("reason", "retries-exhausted")
+                .register(meterRegistry);
+        Gauge.builder("cart.writebehind.carts", carts, Map::size)
+                .description("메모리에 보관 중인 장바구니 수")
+                .register(meterRegistry);
+        Gauge.builder("cart.writebehind.dirty", dirtyMembers, Set::size)
+                .description("미반영 변경이 있는 장바구니 수")
+                .register(meterRegistry);
+        Gauge.builder("cart.writebehind.retries", retries, Map::size)
+                .description("재시도 대기 중인 수량 변경 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * write-behind 저장소 사용 여부를 반환합니다.
+     *
+     * @return 사용 중이면 true
+     */
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (!isEnabled()) {
+            return;
+        }
+        registrar.addFixedDelayTask(this::flush, properties.getFlushInterval());
+        log.info("장바구니 write-behind 저장소 사용 - flushInterval: {}, lockStripes: {}",
+                properties.getFlushInterval(), memberLocks.length);
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 회원의 장바구니를 조회합니다. (없으면 생성)
+     *
+     * @param memberId 회원 ID (이메일)
+     * @return 장바구니 응답
+     */
+    public CartResponse getOrCreateCart(String memberId) {
+        return withCart(memberId, true, null, this::toResponse);
+    }
+
+    /**
+     * 장바구니 총 금액을 계산합니다.
+     *
+     * @param memberId 회원 ID (이메일)
+     * @return 총 금액
+     */
+    public int getCartTotalAmount(String memberId) {
+        return withCart(memberId, false, 0, cart -> cart.items.values().stream()
+                .mapToInt(item -> item.qty * product(item.productId).price)
+                .sum());
+    }
+
+    /**
+     * 장바구니에 담긴 상품 수량을 조회합니다.
+     *
+     * @param memberId 회원 ID (이메일)
+     * @param productId 상품 번호
+     * @return 수량 (없으면 0)
+     */
+    public int getProductQuantity(String memberId, Long productId) {
+        return withCart(memberId, false, 0, cart -> {
+            CachedItem item = cart.findByProduct(productId);
+            return item != null ? item.qty : 0;
+        });
+    }
+
+    // ==================== 수량 변경 (지연 반영) ====================
+
+    /**
+     * 장바구니 아이템의 수량을 변경합니다.
+     *
+     * <p>변경된 수량이 0 이하이면 아이템을 즉시 삭제하고 null을 반환합니다.</p>
+     *
+     * @param memberId 회원 ID (이메일)
+     * @param itemId 장바구니 아이템 번호
+     * @param change 현재 수량 → 새 수량
+     * @return 변경된 아이템 응답 (삭제되면 null)
+     */
+    public CartItemResponse changeQuantity(String memberId, Long itemId, IntUnaryOperator change) {
+        return withCart(memberId, true, null, cart -> {
+            CachedItem item = cart.items.get(itemId);
+            if (item == null) {
+                if (cartItemRepository.existsById(itemId)) {
+                    throw new IllegalArgumentException("해당 장바구니 아이템에 접근할 권한이 없습니다");
+                }
+                throw new IllegalArgumentException("존재하지 않는 장바구니 아이템입니다: " + itemId);
+            }
+
+            int newQuantity = change.applyAsInt(item.qty);
+            if (newQuantity <= 0) {
+                // 삭제는 호출한 트랜잭션에서 즉시 수행하고, 롤백되면 장바구니를 다시 적재한다
+                cartItemRepository.deleteById(itemId);
+                cart.items.remove(itemId);
+                cart.dirty.remove(itemId);
+                pendingWrites.remove(itemId);
+                retries.remove(itemId);
+                evictAfterCompletion(memberId);
+                return null;
+            }
+            markDirty(cart, item, newQuantity);
+            return toItemResponse(cart, item);
+        });
+    }
+
+    /**
+     * 장바구니에 이미 담긴 상품이면 수량을 늘립니다.
+     *
+     * @param memberId 회원 ID (이메일)
+     * @param productId 상품 번호
+     * @param amount 증가량
+     * @return 변경된 아이템 응답 (담기지 않은 상품이면 null)
+     */
+    public CartItemResponse increaseIfPresent(String memberId, Long productId, int amount) {
+        return withCart(memberId, true, null, cart -> {
+            CachedItem item = cart.findByProduct(productId);
+            if (item == null) {
+                return null;
+            }
+            markDirty(cart, item, item.qty + amount);
+            return toItemResponse(cart, item);
+        });
+    }
+
+    // ==================== 동기 반영 ====================
+
+    /**
+     * 장바구니 구조를 바꾸는 작업(아이템 추가/삭제, 비우기)을 DB에 직접 수행합니다.
+     *
+     * <p>회원 잠금을 잡은 상태에서 미반영 수량을 먼저 반영한 뒤 작업을 실행하고,
+     * 메모리의 장바구니를 제거합니다. 트랜잭션 종료 후 한 번 더 제거하여
+     * 커밋 전 상태가 다시 적재되는 것을 방지합니다.</p>
+     *
+     * @param memberId 회원 ID (이메일)
+     * @param action DB 작업
+     * @param <T> 결과 타입
+     * @return 작업 결과
+     */
+    public <T> T writeThrough(String memberId, Supplier<T> action) {
+        ReentrantLock lock = lockFor(memberId);
+        lock.lock();
+        try {
+            evictCart(memberId);
+            return action.get();
+        } finally {
+            uncache(memberId, carts.get(memberId));
+            lock.unlock();
+            evictAfterCompletion(memberId);
+        }
+    }
+
+    /**
+     * 상품 정보(가격/이름/대표 이미지) 스냅샷을 무효화합니다.
+     *
+     * <p>커밋 전에 다시 적재된 이전 값이 남지 않도록 트랜잭션 종료 후 한 번 더 제거합니다.</p>
+     *
+     * @param pno 상품 번호
+     */
+    public void evictProduct(Long pno) {
+        products.remove(pno);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    products.remove(pno);
+                }
+            });
+        }
+    }
+
+    /**
+     * 장바구니 번호에 해당하는 장바구니를 메모리에서 제거합니다.
+     *
+     * <p>방치된 장바구니 정리 작업이 삭제 전후에 호출합니다. 삭제 전 호출은 메모리에만 있는 수량 변경을
+     * 먼저 반영하여 삭제 직전의 방치 조건 재확인이 최신 수정 시각을 보게 하고,
+     * 삭제 후 호출은 삭제 도중 다시 적재된 장바구니를 제거합니다.</p>
+     *
+     * @param cnos 장바구니 번호 목록
+     */
+    public void evictCarts(Collection<Long> cnos) {
+        for (Long cno : cnos) {
+            String memberId = membersByCno.get(cno);
+            if (memberId != null) {
+                evictCart(memberId);
+            }
+        }
+    }
+
+    // ==================== 반영 (flush) ====================
+
+    /**
+     * 미반영 수량 변경을 JDBC 배치로 DB에 반영하고, 오래 사용되지 않은 장바구니를 메모리에서 제거합니다.
+     */
+    public void flush() {
+        flush(false);
+    }
+
+    /**
+     * 애플리케이션 종료 시 미반영 변경을 모두 반영합니다.
+     *
+     * <p>진행 중인 정기 반영이 끝나기를 기다린 뒤, 재시도 대기 중인 값도 간격과 관계없이 반영을 시도합니다.</p>
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (isEnabled()) {
+            flush(true);
+            log.info("장바구니 write-behind 종료 반영 완료 - 재시도 대기: {}건", retries.size());
+        }
+    }
+
+    // 정기 반영과 종료 시 반영이 겹치지 않도록 직렬화한다
+    private void flush(boolean ignoreBackoff) {
+        flushLock.lock();
+        try {
+            List<PendingWrite> batch = dueRetries(ignoreBackoff);
+            for (String memberId : new ArrayList<>(dirtyMembers)) {
+                ReentrantLock lock = lockFor(memberId);
+                lock.lock();
+                try {
+                    dirtyMembers.remove(memberId);
+                    CachedCart cart = carts.get(memberId);
+                    if (cart != null) {
+                        collect(cart, batch);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                if (batch.size() >= properties.getFlushBatchSize()) {
+                    write(batch);
+                    batch = new ArrayList<>();
+                }
+            }
+            write(batch);
+            evictIdleCarts();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private List<PendingWrite> dueRetries(boolean ignoreBackoff) {
+        long now = System.currentTimeMillis();
+        List<PendingWrite> due = new ArrayList<>();
+        for (PendingWrite retry : retries.values()) {
+            if ((ignoreBackoff || retry.notBefore <= now) && retries.remove(retry.cino, retry)) {
+                due.add(retry);
+            }
+        }
+        return due;
+    }
+
+    private void evictCart(String memberId) {
+        ReentrantLock lock = lockFor(memberId);
+        lock.lock();
+        try {
+            CachedCart cart = carts.get(memberId);
+            uncache(memberId, cart);
+            if (cart != null && !cart.dirty.isEmpty()) {
+                List<PendingWrite> batch = new ArrayList<>();
+                collect(cart, batch);
+                write(batch);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evictAfterCompletion(String memberId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictCart(memberId);
+                }
+            });
+        }
+    }
+
+    private void evictIdleCarts() {
+        long threshold = System.currentTimeMillis() - properties.getExpireAfterAccess().toMillis();
+        carts.forEach((memberId, cart) -> {
+            if (cart.lastAccess < threshold && cart.dirty.isEmpty()) {
+                ReentrantLock lock = lockFor(memberId);
+                if (lock.tryLock()) {
+                    try {
+                        if (cart.lastAccess < threshold && cart.dirty.isEmpty()) {
+                            uncache(memberId, cart);
+                        }
+                    } finally {
+                        lock.unlock();
+                    }
+                }
+            }
+        });
+    }
+
+    // 회원 잠금을 잡은 상태에서 호출. 아이템의 이전 미반영 값(재시도 포함)은 새 값으로 대체된다
+    private void collect(CachedCart cart, List<PendingWrite> batch) {
+        for (Long cino : cart.dirty) {
+            CachedItem item = cart.items.get(cino);
+            if (item != null) {
+                PendingWrite write = new PendingWrite(cart.base.getMemberId(), cino, item.qty, item.updatedAt, 0, 0);
+                pendingWrites.put(cino, write);
+                retries.remove(cino);
+                batch.add(write);
+            }
+        }
+        cart.dirty.clear();
+    }
+
+    private void write(List<PendingWrite> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<PendingWrite> written = new ArrayList<>();
+        List<PendingWrite> missing = new ArrayList<>();
+        List<PendingWrite> exhausted = new ArrayList<>();
+        writeLock.lock();
+        try {
+            writeLatest(batch, written, missing, exhausted);
+        } finally {
+            writeLock.unlock();
+        }
+        refreshManaged(written);
+        missing.forEach(write -> discard(write, true));
+        exhausted.forEach(write -> discard(write, false));
+    }
+
+    // 아이템별로 마지막에 수집된 값만 기록하여 오래된 값(재시도 포함)이 최신 수량을 덮어쓰지 않는다
+    private void writeLatest(List<PendingWrite> batch, List<PendingWrite> written,
+                             List<PendingWrite> missing, List<PendingWrite> exhausted) {
+        List<PendingWrite> writes = new ArrayList<>(batch.size());
+        for (PendingWrite write : batch) {
+            if (pendingWrites.get(write.cino) == write) {
+                writes.add(write);
+            }
+        }
+        if (writes.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(writes.size());
+        for (PendingWrite write : writes) {
+            args.add(new Object[] {write.qty, Timestamp.valueOf(write.updatedAt), write.cino});
+        }
+
+        int[] counts;
+        try {
+            counts = flushTemplate.execute(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, args));
+        } catch (RuntimeException e) {
+            flushFailures.increment();
+            scheduleRetries(writes, exhausted);
+            log.warn("장바구니 수량 반영 실패, 재시도 예정 - 행: {}, error: {}", writes.size(), e.getMessage());
+            return;
+        }
+
+        for (int i = 0; i < writes.size(); i++) {
+            PendingWrite write = writes.get(i);
+            pendingWrites.remove(write.cino, write);
+            if (counts != null && counts[i] == 0) {
+                missing.add(write);
+            } else {
+                written.add(write);
+            }
+        }
+        flushedRows.increment(written.size());
+        if (!missing.isEmpty()) {
+            droppedMissing.increment(missing.size());
+            log.warn("삭제된 장바구니 아이템의 수량 변경을 버림 - cino: {}",
+                    missing.stream().map(write -> write.cino).toList());
+        }
+    }
+
+    private void scheduleRetries(List<PendingWrite> writes, List<PendingWrite> exhausted) {
+        long now = System.currentTimeMillis();
+        for (PendingWrite write : writes) {
+            int attempts = write.attempts + 1;
+            if (attempts > properties.getMaxFlushRetries()) {
+                if (pendingWrites.remove(write.cino, write)) {
+                    droppedRetries.increment();
+                    exhausted.add(write);
+                    log.error("장바구니 수량 반영 재시도 초과로 변경을 버림 - cino: {}, qty: {}", write.cino, write.qty);
+                }
+                continue;
+            }
+            PendingWrite retry = write.retry(attempts, now + backoffMillis(attempts));
+            // 그 사이 새 값이 수집되었으면 대체되지 않고 버려진다
+            if (pendingWrites.replace(write.cino, write, retry)) {
+                retries.put(write.cino, retry);
+            }
+        }
+    }
+
+    private long backoffMillis(int attempts) {
+        long backoff = properties.getFlushInterval().toMillis() << Math.min(attempts - 1, 20);
+        return Math.min(backoff, properties.getMaxRetryBackoff().toMillis());
+    }
+
+    // 반영이 별도 트랜잭션에서 version을 올렸으므로 호출한 트랜잭션이 적재해 둔 아이템을 다시 읽는다
+    private void refreshManaged(List<PendingWrite> written) {
+        if (written.isEmpty() || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        for (PendingWrite write : written) {
+            CartItem managed = entityManager.getReference(CartItem.class, write.cino);
+            if (Hibernate.isInitialized(managed)) {
+                entityManager.refresh(managed);
+            }
+        }
+    }
+
+    /**
+     * 반영할 수 없는 변경을 버리고 장바구니를 DB에서 다시 적재하도록 메모리에서 제거합니다.
+     * 행이 삭제된 경우에는 아이템도 제거하며, 같은 장바구니의 다른 미반영 변경은 다음 반영으로 넘깁니다.
+     */
+    private void discard(PendingWrite write, boolean rowMissing) {
+        ReentrantLock lock = lockFor(write.memberId);
+        lock.lock();
+        try {
+            CachedCart cart = carts.get(write.memberId);
+            if (cart == null || !cart.items.containsKey(write.cino)) {
+                return;
+            }
+            if (rowMissing) {
+                cart.items.remove(write.cino);
+                cart.dirty.remove(write.cino);
+            }
+            List<PendingWrite> rest = new ArrayList<>();
+            collect(cart, rest);
+            rest.forEach(pending -> retries.put(pending.cino, pending));
+            uncache(write.memberId, cart);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ==================== 내부 ====================
+
+    // create가 false이면 장바구니가 없을 때 생성하지 않고 기본값을 반환한다
+    private <T> T withCart(String memberId, boolean create, T absent, Function<CachedCart, T> function) {
+        ReentrantLock lock = lockFor(memberId);
+        lock.lock();
+        try {
+            CachedCart cart = carts.get(memberId);
+            if (cart == null) {
+                cart = load(memberId, create);
+                if (cart == null) {
+                    return absent;
+                }
+                carts.put(memberId, cart);
+                membersByCno.put(cart.base.getCno(), memberId);
+            }
+            cart.lastAccess = System.currentTimeMillis();
+            return function.apply(cart);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CachedCart load(String memberId, boolean create) {
+        return loadTemplate.execute(status -> {
+            Cart cart = cartRepository.findByOwnerEmail(memberId).orElse(null);
+            if (cart == null) {
+                if (!create) {
+                    return null;
+                }
+                Member member = memberRepository.findByEmail(memberId)
+                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다: " + memberId));
+                cart = cartRepository.save(Cart.builder().owner(member).build());
+            }
+
+            CachedCart cached = new CachedCart(serviceUtils.mapWithAudit(cart, cartMapper.toResponse(cart)));
+            List<CartItem> items = cartItemRepository.findByCartId(cart.getCno());
+            serviceUtils.prefetchAudit(items);
+            Map<Long, String> thumbnails = thumbnailUrls(items.stream()
+                    .map(item -> item.getProduct().getPno())
+                    .filter(pno -> !products.containsKey(pno))
+                    .toList());
+            for (CartItem item : items) {
+                Product product = item.getProduct();
+                products.putIfAbsent(product.getPno(), new ProductSnapshot(product.getPname(), product.getPrice(),
+                        thumbnails.get(product.getPno())));
+                CartItemResponse audit = serviceUtils.mapWithAudit(item, new CartItemResponse());
+                // 아직 반영되지 않은 값이 있으면 DB 값 대신 사용한다
+                PendingWrite pending = pendingWrites.get(item.getCino());
+                int qty = pending != null ? pending.qty : item.getQty();
+                cached.items.put(item.getCino(), new CachedItem(item.getCino(), product.getPno(), qty, audit));
+            }
+            return cached;
+        });
+    }
+
+    // 회원 잠금을 잡은 상태에서 호출
+    private void uncache(String memberId, CachedCart cart) {
+        if (cart != null && carts.remove(memberId, cart)) {
+            membersByCno.remove(cart.base.getCno(), memberId);
+        }
+    }
+
+    // 없는 상품은 캐시하지 않아 이후에 생성되거나 복구되면 다시 조회된다
+    private ProductSnapshot product(Long pno) {
+        ProductSnapshot cached = products.get(pno);
+        if (cached != null) {
+            return cached;
+        }
+        return productRepository.findById(pno)
+                .map(product -> products.computeIfAbsent(pno,
+                        key -> new ProductSnapshot(product.getPname(), product.getPrice(),
+                                thumbnailUrls(List.of(pno)).get(pno))))
+                .orElse(ProductSnapshot.MISSING);
+    }
+
+    // 상품별 대표 이미지 URL (이미지 파일명을 한 번에 조회, 대표 이미지가 없는 상품은 포함하지 않음)
+    private Map<Long, String> thumbnailUrls(Collection<Long> pnos) {
+        if (pnos.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<String>> fileNames = new HashMap<>();
+        for (Object[] row : productRepository.findImageFileNamesByPnoIn(pnos)) {
+            fileNames.computeIfAbsent((Long) row[0], key -> new ArrayList<>()).add((String) row[1]);
+        }
+        Map<Long, String> urls = new HashMap<>();
+        fileNames.forEach((pno, names) -> {
+            String url = productImageStore.thumbnailUrl(names);
+            if (url != null) {
+                urls.put(pno, url);
+            }
+        });
+        return urls;
+    }
+
+    private void markDirty(CachedCart cart, CachedItem item, int quantity) {
+        item.qty = quantity;
+        item.updatedAt = LocalDateTime.now();
+        cart.dirty.add(item.cino);
+        dirtyMembers.add(cart.base.getMemberId());
+    }
+
+    private ReentrantLock lockFor(String memberId) {
+        return memberLocks[Math.floorMod(memberId.hashCode(), memberLocks.length)];
+    }
+
+    private CartResponse toResponse(CachedCart cart) {
+        CartResponse response = CartResponse.builder()
+                .cno(cart.base.getCno())
+                .memberId(cart.base.getMemberId())
+                .items(cart.items.values().stream().map(item -> toItemResponse(cart, item)).toList())
+                .build();
+        copyAudit(cart.base, response);
+        return response;
+    }
+
+    private CartItemResponse toItemResponse(CachedCart cart, CachedItem item) {
+        ProductSnapshot product = product(item.productId);
+        CartItemResponse response = CartItemResponse.builder()
+                .itemId(item.cino)
+                .cartId(cart.base.getCno())
+                .productId(item.productId)
+                .productName(product.name)
+                .productPrice(product.price)
+                .productImage(product.image)
+                .quantity(item.qty)
+                .totalPrice(item.qty * product.price)
+                .build();
+        copyAudit(item.audit, response);
+        if (item.updatedAt != null) {
+            response.setUpdatedAt(item.updatedAt);
+        }
+        return response;
+    }
+
+    private static void copyAudit(BaseDto source, BaseDto target) {
+        target.setCreatedAt(source.getCreatedAt());
+        target.setUpdatedAt(source.getUpdatedAt());
+        target.setCreatedBy(source.getCreatedBy());
+        target.setCreatedByNickname(source.getCreatedByNickname());
+        target.setUpdatedBy(source.getUpdatedBy());
+        target.setUpdatedByNickname(source.getUpdatedByNickname());
+        target.setDeleted(source.getDeleted());
+    }
+
+    /**
+     * 메모리에 보관되는 장바구니 (회원 잠금 안에서만 접근)
+     */
+    private static final class CachedCart {
+
+        private final CartResponse base;
+        private final Map<Long, CachedItem> items = new LinkedHashMap<>();
+        private final Set<Long> dirty = new HashSet<>();
+        private volatile long lastAccess;
+
+        private CachedCart(CartResponse base) {
+            this.base = base;
+        }
+
+        private CachedItem findByProduct(Long productId) {
+            for (CachedItem item : items.values()) {
+                if (item.productId.equals(productId)) {
+                    return item;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 메모리에 보관되는 장바구니 아이템
+     */
+    private static final class CachedItem {
+
+        private final Long cino;
+        private final Long productId;
+        private final CartItemResponse audit;
+        private int qty;
+        private LocalDateTime updatedAt;
+
+        private CachedItem(Long cino, Long productId, int qty, CartItemResponse audit) {
+            this.cino = cino;
+            this.productId = productId;
+            this.qty = qty;
+            this.audit = audit;
+        }
+    }
+
+    /**
+     * 상품 이름/가격/대표 이미지 URL 스냅샷
+     */
+    private static final class ProductSnapshot {
+
+        private static final ProductSnapshot MISSING = new ProductSnapshot(null, 0, null);
+
+        private final String name;
+        private final int price;
+        private final String image;
+
+        private ProductSnapshot(String name, int price, String image) {
+            this.name = name;
+            this.price = price;
+            this.image = image;
+        }
+    }
+
+    /**
+     * 반영 대기 중인 수량 변경 (아이템별 최신 값은 pendingWrites에 있는 인스턴스)
+     */
+    private static final class PendingWrite {
+
+        private final String memberId;
+        private final Long cino;
+        private final int qty;
+        private final LocalDateTime updatedAt;
+        private final int attempts;
+        private final long notBefore;
+
+        private PendingWrite(String memberId, Long cino, int qty, LocalDateTime updatedAt, int attempts, long notBefore) {
+            this.memberId = memberId;
+            this.cino = cino;
+            this.qty = qty;
+            this.updatedAt = updatedAt;
+            this.attempts = attempts;
+            this.notBefore = notBefore;
+        }
+
+        private PendingWrite retry(int attempts, long notBefore) {
+            return new PendingWrite(memberId, cino, qty, updatedAt, attempts, notBefore);
+        }
+    }
+}
@@ -3,9 +3,12 @@ package com.skax.core.service.member;
 import com.skax.core.dto.member.request.MemberCreateRequest;
 import com.skax.core.dto.member.request.MemberUpdateRequest;
 import com.skax.core.dto.member.response.MemberResponse;
+import com.skax.core.dto.member.response.MemberSuggestResponse;
 import com.skax.core.common.response.PageResponse;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 /**
  * 회원 관리 서비스 인터페이스
  * 
@@ -79,6 +82,18 @@ public interface MemberService {
      */
     PageResponse<MemberResponse> searchMembersByNickname(String nickname, Pageable pageable);
 
+    /**
+     * 닉네임 접두어로 자동완성 후보를 조회합니다.
+     * 
+     * <p>DB를 조회하지 않고 메모리 색인에서 최근 가입/수정된 회원 순으로 반환합니다.
+     * 후보는 닉네임만 포함하며, 같은 닉네임은 한 번만 반환합니다.</p>
+     * 
+     * @param prefix 입력 중인 닉네임 접두어
+     * @param limit 최대 개수
+     * @return 자동완성 후보 목록
+     */
+    List<MemberSuggestResponse> suggestMembers(String prefix, int limit);
+
     /**
      * 소셜 로그인 여부로 회원을 조회합니다.
      * 
@@ -0,0 +1,281 @@
+package com.skax.core.service.member.availability;
+
+import com.skax.core.common.bloom.BloomFilter;
+import com.skax.core.repository.member.MemberRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 이메일/닉네임 사용 가능 여부 필터
+ *
+ * <p>회원 이메일과 닉네임을 각각 {@link BloomFilter}에 보관하여 가입 폼의 중복 확인 요청 중
+ * "확실히 없음"인 경우는 DB를 조회하지 않습니다. "있을 수 있음"인 경우에만 {@code MemberRepository}로 확인합니다.
+ * 필터는 노드마다 메모리에 있고 커밋 후에 갱신되므로 입력 중 중복 확인에만 사용하며,
+ * 실제 가입은 항상 DB로 확인합니다.</p>
+ *
+ * <p>필터는 애플리케이션 시작이 완료되면 별도 스레드에서 전체 회원(논리 삭제 포함)으로 만들어지며,
+ * 그 전에는 항상 DB를 조회합니다. 회원 생성/수정은 {@link MemberAvailabilityListener}가 커밋 후 반영합니다.
+ * 블룸 필터는 값을 제거할 수 없으므로 삭제나 닉네임 변경 후의 이전 값은 거짓 양성으로 남으며,
+ * 삭제 비율이 {@code max-stale-ratio}를 넘거나, 필터가 예상 원소 수를 넘거나, {@code rebuild-interval}이 지나면
+ * 다시 만듭니다. 재구성 중의 저장은 기존 필터와 새 필터 모두에 반영되므로 거짓 음성이 생기지 않습니다.</p>
+ *
+ * <p>조회 결과는 {@code member.availability.checks{field, result}} 메트릭으로 기록됩니다.
+ * {@code result}는 {@code absent}(DB 생략), {@code present}, {@code false_positive}(필터는 있음, DB는 없음),
+ * {@code unavailable}(필터 준비 전)이며, 관측 거짓 양성률은 false_positive / (false_positive + absent)입니다.
+ * 현재 비트 채움 비율로 추정한 거짓 양성률은 {@code member.availability.filter.fpp{field}}로 노출됩니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class MemberAvailabilityFilter implements SchedulingConfigurer {
+
+    private static final String EMAIL = "email";
+    private static final String NICKNAME = "nickname";
+
+    private final MemberRepository memberRepository;
+    private final MemberAvailabilityProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicLong removed = new AtomicLong();
+
+    private volatile Filters current;
+    private volatile Filters building;
+
+    public MemberAvailabilityFilter(MemberRepository memberRepository,
+                                    MemberAvailabilityProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.memberRepository = memberRepository;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("member.availability.filter.fpp", this, filter -> filter.expectedFalsePositiveRate(Filters::emails))
+                .description("이메일 블룸 필터의 추정 거짓 양성률")
+                .tag("field", EMAIL)
+                .register(meterRegistry);
+        Gauge.builder("member.availability.filter.fpp", this, filter -> filter.expectedFalsePositiveRate(Filters::nicknames))
+                .description("닉네임 블룸 필터의 추정 거짓 양성률")
+                .tag("field", NICKNAME)
+                .register(meterRegistry);
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 이메일 사용 여부를 확인합니다.
+     *
+     * @param email 이메일
+     * @param database 필터가 "있을 수 있음"일 때 사용할 DB 조회
+     * @return 이미 사용 중이면 true
+     */
+    public boolean emailExists(String email, Predicate<String> database) {
+        return exists(EMAIL, email, Filters::emails, database);
+    }
+
+    /**
+     * 닉네임 사용 여부를 확인합니다.
+     *
+     * @param nickname 닉네임
+     * @param database 필터가 "있을 수 있음"일 때 사용할 DB 조회
+     * @return 이미 사용 중이면 true
+     */
+    public boolean nicknameExists(String nickname, Predicate<String> database) {
+        return exists(NICKNAME, nickname, Filters::nicknames, database);
+    }
+
+    private boolean exists(String field, String value, Function<Filters, BloomFilter> filterOf,
+                           Predicate<String> database) {
+        Filters filters = properties.isEnabled() ? current : null;
+        if (filters == null) {
+            count(field, "unavailable");
+            return database.test(value);
+        }
+        if (!filterOf.apply(filters).mightContain(value)) {
+            count(field, "absent");
+            return false;
+        }
+        boolean exists = database.test(value);
+        count(field, exists ? "present" : "false_positive");
+        return exists;
+    }
+
+    // ==================== 변경 반영 ====================
+
+    /**
+     * 새로 저장된 회원의 이메일과 닉네임을 필터에 추가합니다. (트랜잭션이 진행 중이면 커밋 후)
+     *
+     * @param email 이메일
+     * @param nickname 닉네임
+     */
+    public void recordCreated(String email, String nickname) {
+        afterCommit(() -> forEachGeneration(filters -> filters.add(email, nickname)));
+    }
+
+    /**
+     * 수정된 회원의 닉네임을 필터에 추가합니다. (트랜잭션이 진행 중이면 커밋 후)
+     *
+     * @param nickname 닉네임
+     */
+    public void recordUpdated(String nickname) {
+        afterCommit(() -> forEachGeneration(filters -> filters.nicknames().put(nickname)));
+    }
+
+    /**
+     * 회원 삭제를 기록합니다. 블룸 필터에서는 제거할 수 없으므로 재구성 판단에만 사용합니다.
+     */
+    public void recordRemoved() {
+        afterCommit(removed::incrementAndGet);
+    }
+
+    // ==================== 재구성 ====================
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        registrar.addFixedDelayTask(new FixedDelayTask(this::rebuildIfNeeded,
+                properties.getRebuildCheckInterval(), properties.getRebuildCheckInterval()));
+    }
+
+    /**
+     * 애플리케이션 시작이 완료되면 별도 스레드에서 필터를 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Thread thread = new Thread(this::rebuild, "member-availability-filter");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 삭제 비율, 포화 여부, 마지막 재구성 이후 시간을 확인하여 필요하면 필터를 다시 만듭니다.
+     */
+    public void rebuildIfNeeded() {
+        Filters filters = current;
+        if (filters == null) {
+            rebuild();
+            return;
+        }
+        boolean stale = removed.get() > filters.memberCount() * properties.getMaxStaleRatio();
+        boolean saturated = filters.inserted().get() > filters.capacity();
+        boolean expired = Duration.between(filters.builtAt(), Instant.now()).compareTo(properties.getRebuildInterval()) > 0;
+        if (stale || saturated || expired) {
+            log.info("회원 가용성 필터 재구성 - removed: {}, inserted: {}/{}, expired: {}",
+                    removed.get(), filters.inserted().get(), filters.capacity(), expired);
+            rebuild();
+        }
+    }
+
+    /**
+     * 전체 회원으로 필터를 다시 만듭니다. 이미 진행 중이면 건너뜁니다.
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            long memberCount = memberRepository.count();
+            long capacity = Math.max(properties.getExpectedInsertions(),
+                    (long) Math.ceil(memberCount * properties.getGrowthFactor()));
+            Filters next = new Filters(
+                    BloomFilter.create(capacity, properties.getFalsePositiveRate()),
+                    BloomFilter.create(capacity, properties.getFalsePositiveRate()),
+                    capacity, memberCount, new AtomicLong(), Instant.now());
+            building = next;
+            removed.set(0);
+
+            List<Object[]> rows = memberRepository.findAvailabilityKeys();
+            rows.forEach(row -> next.add((String) row[0], (String) row[1]));
+
+            current = next;
+            log.info("회원 가용성 필터 구성 완료 - members: {}, capacity: {}, bits: {}, hashes: {}",
+                    rows.size(), capacity, next.emails().bitSize(), next.emails().hashFunctions());
+        } catch (RuntimeException e) {
+            log.warn("회원 가용성 필터 구성 실패 - error: {}", e.getMessage());
+        } finally {
+            building = null;
+            sample.stop(meterRegistry.timer("member.availability.filter.rebuild"));
+            rebuilding.set(false);
+        }
+    }
+
+    // building을 먼저 읽어야 교체 직후에도 새 필터에 반영된다 (교체 순서: current = building, building = null)
+    private void forEachGeneration(Consumer<Filters> change) {
+        Filters next = building;
+        Filters active = current;
+        if (next != null) {
+            change.accept(next);
+        }
+        if (active != null && active != next) {
+            change.accept(active);
+        }
+    }
+
+    private double expectedFalsePositiveRate(Function<Filters, BloomFilter> filterOf) {
+        Filters filters = current;
+        return filters != null ? filterOf.apply(filters).expectedFalsePositiveRate() : Double.NaN;
+    }
+
+    private void count(String field, String result) {
+        meterRegistry.counter("member.availability.checks", "field", field, "result", result).increment();
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * 이메일/닉네임 필터 한 세대
+     *
+     * @param emails 이메일 필터
+     * @param nicknames 닉네임 필터
+     * @param capacity 예상 원소 수
+     * @param memberCount 구성 시점의 회원 수
+     * @param inserted 추가된 회원 수
+     * @param builtAt 구성 시각
+     */
+    private record Filters(BloomFilter emails, BloomFilter nicknames, long capacity, long memberCount,
+                           AtomicLong inserted, Instant builtAt) {
+
+        private void add(String email, String nickname) {
+            emails.put(email);
+            nicknames.put(nickname);
+            inserted.incrementAndGet();
+        }
+    }
+}
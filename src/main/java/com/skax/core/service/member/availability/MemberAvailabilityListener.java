@@ -0,0 +1,56 @@
+package com.skax.core.service.member.availability;
+
+import com.skax.core.entity.member.Member;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * 회원 가용성 필터 갱신 엔티티 리스너
+ *
+ * <p>회원 저장/삭제를 {@link MemberAvailabilityFilter}에 알립니다. 서비스뿐 아니라 초기 데이터 생성 등
+ * JPA로 회원을 저장하는 모든 경로를 포함해야 필터에 거짓 음성이 생기지 않으므로 엔티티 리스너로 구현합니다.
+ * Hibernate가 Spring 빈 컨테이너로 생성자 주입하여 만들며, EntityManagerFactory 초기화 중에 생성되므로
+ * 필터는 {@link ObjectProvider}로 사용 시점에 조회합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@RequiredArgsConstructor
+public class MemberAvailabilityListener {
+
+    private final ObjectProvider<MemberAvailabilityFilter> memberAvailabilityFilter;
+
+    /**
+     * 회원 생성 후 이메일과 닉네임을 필터에 추가합니다.
+     *
+     * @param member 저장된 회원
+     */
+    @PostPersist
+    public void onCreated(Member member) {
+        memberAvailabilityFilter.ifAvailable(filter -> filter.recordCreated(member.getEmail(), member.getNickname()));
+    }
+
+    /**
+     * 회원 수정 후 닉네임을 필터에 추가합니다. (이메일은 기본키이므로 변경되지 않음)
+     *
+     * @param member 수정된 회원
+     */
+    @PostUpdate
+    public void onUpdated(Member member) {
+        memberAvailabilityFilter.ifAvailable(filter -> filter.recordUpdated(member.getNickname()));
+    }
+
+    /**
+     * 회원 삭제를 기록합니다.
+     *
+     * @param member 삭제된 회원
+     */
+    @PostRemove
+    public void onRemoved(Member member) {
+        memberAvailabilityFilter.ifAvailable(MemberAvailabilityFilter::recordRemoved);
+    }
+}
@@ -0,0 +1,59 @@
+package com.skax.core.service.member.availability;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 이메일/닉네임 사용 가능 여부 필터 설정
+ *
+ * <p>{@code app.member-availability.*} 설정을 바인딩합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.member-availability")
+public class MemberAvailabilityProperties {
+
+    /**
+     * 블룸 필터 사용 여부 (false면 항상 DB 조회)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 최소 예상 원소 수 (회원 수가 적을 때의 필터 크기)
+     */
+    private long expectedInsertions = 100_000;
+
+    /**
+     * 목표 거짓 양성 확률
+     */
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * 재구성 시 현재 회원 수에 곱할 여유 배수 (이후 가입분 수용)
+     */
+    private double growthFactor = 2.0;
+
+    /**
+     * 재구성 필요 여부 확인 주기
+     */
+    private Duration rebuildCheckInterval = Duration.ofMinutes(5);
+
+    /**
+     * 최대 재구성 간격 (변경이 없어도 이 간격마다 재구성)
+     */
+    private Duration rebuildInterval = Duration.ofHours(6);
+
+    /**
+     * 재구성 기준 삭제 비율 (삭제 수 / 마지막 재구성 시 회원 수)
+     */
+    private double maxStaleRatio = 0.2;
+}
@@ -0,0 +1,187 @@
+package com.skax.core.service.member.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skax.core.entity.BaseEntity;
+import com.skax.core.entity.member.Member;
+import com.skax.core.repository.member.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 회원 표시명(닉네임) 캐시
+ *
+ * <p>감사 정보(생성자/수정자)를 응답에 매핑할 때 회원 프록시를 초기화하면 회원마다 지연 로딩 SELECT가
+ * 발생합니다. 이 캐시는 이메일 → 닉네임 매핑을 크기 제한된 메모리 캐시에 보관하여
+ * 같은 회원이 작성한 엔티티 목록을 추가 쿼리 없이 변환할 수 있게 합니다.</p>
+ *
+ * <p>목록 변환 전에 {@link #prefetch(Collection)}를 호출하면 캐시에 없는 회원들의 닉네임을
+ * 한 번의 IN 쿼리로 적재합니다. 회원 수정/삭제 시 {@link #evict(String)}로 무효화하며,
+ * 적중률은 {@code cache.*{cache=member.displayName}} 메트릭으로 노출됩니다.</p>
+ *
+ * <p>무효화와 동시에 진행 중인 조회가 이전 닉네임을 다시 넣지 않도록 이메일별 세대(generation) 값을 둡니다.
+ * 조회는 DB를 읽기 전에 세대 값을 기록하고, 그 사이 무효화가 있었다면 결과를 캐시에 넣지 않습니다.
+ * 영속성 컨텍스트에 이미 로딩되어 있던 회원은 무효화 이전 상태일 수 있으므로 응답에만 사용하고 캐시에 넣지 않습니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-30
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class MemberDisplayNameCache {
+
+    private static final String CACHE_NAME = "member.displayName";
+
+    private static final int GENERATION_STRIPES = 256;
+
+    private final MemberRepository memberRepository;
+    private final Cache<String, String> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public MemberDisplayNameCache(MemberRepository memberRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.cache.member-display-name.max-size:10000}") long maxSize,
+                                  @Value("${app.cache.member-display-name.expire-after-write:30m}") Duration expireAfterWrite) {
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        log.info("회원 표시명 캐시 초기화 - maxSize: {}, expireAfterWrite: {}", maxSize, expireAfterWrite);
+    }
+
+    /**
+     * 회원의 닉네임을 반환합니다.
+     *
+     * <p>캐시에 있으면 회원 프록시를 초기화하지 않고 반환합니다. 초기화되지 않은 프록시를 이번에 로딩한 경우에만
+     * 결과를 캐시에 넣습니다.</p>
+     *
+     * @param member 회원 엔티티 또는 프록시
+     * @return 닉네임 (회원이 null이면 null)
+     */
+    public String nicknameOf(Member member) {
+        if (member == null) {
+            return null;
+        }
+        String email = emailOf(member);
+        String nickname = cache.getIfPresent(email);
+        if (nickname != null) {
+            return nickname;
+        }
+        boolean loadsNow = member instanceof HibernateProxy proxy && proxy.getHibernateLazyInitializer().isUninitialized();
+        long generation = generationOf(email);
+        nickname = member.getNickname();
+        if (loadsNow) {
+            putIfCurrent(email, generation, nickname);
+        }
+        return nickname;
+    }
+
+    /**
+     * 회원 프록시를 초기화하지 않고 이메일(식별자)을 반환합니다.
+     *
+     * @param member 회원 엔티티 또는 프록시
+     * @return 이메일 (회원이 null이면 null)
+     */
+    public String emailOf(Member member) {
+        if (member == null) {
+            return null;
+        }
+        if (member instanceof HibernateProxy proxy) {
+            return (String) proxy.getHibernateLazyInitializer().getIdentifier();
+        }
+        return member.getEmail();
+    }
+
+    /**
+     * 엔티티 목록의 생성자/수정자 닉네임을 한 번의 쿼리로 미리 적재합니다.
+     *
+     * @param entities 감사 정보를 가진 엔티티 목록
+     */
+    public void prefetch(Collection<? extends BaseEntity> entities) {
+        if (entities == null || entities.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> missing = new HashMap<>();
+        for (BaseEntity entity : entities) {
+            collectMissing(entity.getCreatedBy(), missing);
+            collectMissing(entity.getUpdatedBy(), missing);
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        for (Object[] row : memberRepository.findNicknamesByEmails(missing.keySet())) {
+            String email = (String) row[0];
+            putIfCurrent(email, missing.get(email), (String) row[1]);
+        }
+        log.debug("회원 표시명 일괄 적재 - 요청: {}건", missing.size());
+    }
+
+    /**
+     * 회원의 캐시된 표시명을 무효화합니다.
+     *
+     * <p>즉시 무효화하고, 트랜잭션이 진행 중이면 트랜잭션 종료 후 한 번 더 무효화합니다.
+     * 두 번 모두 세대 값을 올려 그 전에 시작한 조회의 결과가 캐시에 들어가지 않도록 합니다.</p>
+     *
+     * @param email 회원 이메일
+     */
+    public void evict(String email) {
+        invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(email);
+                }
+            });
+        }
+    }
+
+    private void invalidate(String email) {
+        generations.incrementAndGet(stripe(email));
+        cache.invalidate(email);
+    }
+
+    // 조회 시작 이후 무효화가 없었던 경우에만 저장
+    private void putIfCurrent(String email, long generation, String nickname) {
+        if (nickname == null) {
+            return;
+        }
+        cache.asMap().compute(email, (key, existing) -> generationOf(key) == generation ? nickname : existing);
+    }
+
+    private long generationOf(String email) {
+        return generations.get(stripe(email));
+    }
+
+    private int stripe(String email) {
+        return Math.floorMod(email.hashCode(), GENERATION_STRIPES);
+    }
+
+    private void collectMissing(Member member, Map<String, Long> missing) {
+        if (member == null) {
+            return;
+        }
+        String email = emailOf(member);
+        if (!cache.asMap().containsKey(email)) {
+            missing.putIfAbsent(email, generationOf(email));
+        }
+    }
+}
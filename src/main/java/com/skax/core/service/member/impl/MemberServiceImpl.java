@@ -1,22 +1,29 @@
 package com.skax.core.service.member.impl;
 
 import com.skax.core.common.response.PageResponse;
+import com.skax.core.common.suggest.PrefixIndex;
 import com.skax.core.util.ServiceUtils;
 import com.skax.core.dto.member.request.MemberCreateRequest;
 import com.skax.core.dto.member.request.MemberUpdateRequest;
 import com.skax.core.dto.member.response.MemberResponse;
+import com.skax.core.dto.member.response.MemberSuggestResponse;
 import com.skax.core.entity.member.Member;
 import com.skax.core.entity.member.MemberRole;
 import com.skax.core.repository.member.MemberRepository;
 import com.skax.core.service.member.MemberService;
+import com.skax.core.service.member.availability.MemberAvailabilityFilter;
+import com.skax.core.service.member.cache.MemberDisplayNameCache;
+import com.skax.core.service.member.suggest.MemberNicknameSuggestIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.Set;
 
@@ -38,13 +45,16 @@ public class MemberServiceImpl implements MemberService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final ServiceUtils serviceUtils;
+    private final MemberDisplayNameCache memberDisplayNameCache;
+    private final MemberNicknameSuggestIndex memberNicknameSuggestIndex;
+    private final MemberAvailabilityFilter memberAvailabilityFilter;
 
     @Override
     @Transactional
     public MemberResponse createMember(MemberCreateRequest request) {
         log.info("Creating new member with email: {}", request.getEmail());
         
-        // 이메일 중복 확인
+        // 이메일 중복 확인 (가입은 노드별 메모리 필터가 아닌 DB로 확인, 동시 가입은 기본키 제약으로 실패)
         if (memberRepository.existsByEmail(request.getEmail())) {
             log.warn("Attempt to create member with existing email: {}", request.getEmail());
             throw new IllegalArgumentException("이미 존재하는 이메일입니다: " + request.getEmail());
@@ -62,6 +72,7 @@ public class MemberServiceImpl implements MemberService {
         
         // 회원 저장
         Member savedMember = memberRepository.save(member);
+        memberNicknameSuggestIndex.index(savedMember);
         log.info("Successfully created member with id: {}", savedMember.getEmail());
         
         MemberResponse response = convertToResponse(savedMember);
@@ -128,6 +139,8 @@ public class MemberServiceImpl implements MemberService {
         updateMemberFromRequest(request, member);
         
         Member updatedMember = memberRepository.save(member);
+        memberDisplayNameCache.evict(email);
+        memberNicknameSuggestIndex.index(updatedMember);
         log.info("Successfully updated member with email: {}", email);
         
         MemberResponse response = convertToResponse(updatedMember);
@@ -143,6 +156,8 @@ public class MemberServiceImpl implements MemberService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다: " + email));
         
         memberRepository.delete(member);
+        memberDisplayNameCache.evict(email);
+        memberNicknameSuggestIndex.remove(email);
         
         log.info("Successfully deleted member with email: {}", email);
     }
@@ -175,6 +190,17 @@ public class MemberServiceImpl implements MemberService {
         return PageResponse.from(responsePage);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<MemberSuggestResponse> suggestMembers(String prefix, int limit) {
+        // 색인 키(이메일)는 응답에 포함하지 않음 - 접두어를 바꿔 가며 호출해 회원 이메일을 수집할 수 없도록
+        return memberNicknameSuggestIndex.suggest(prefix, limit).stream()
+                .map(PrefixIndex.Entry::text)
+                .distinct()
+                .map(nickname -> MemberSuggestResponse.builder().nickname(nickname).build())
+                .toList();
+    }
+
     @Override
     public PageResponse<MemberResponse> getMembersBySocial(boolean social, Pageable pageable) {
         log.debug("Retrieving members by social status: {} with pagination: page={}, size={}", 
@@ -281,13 +307,13 @@ public class MemberServiceImpl implements MemberService {
     @Override
     public boolean isEmailExists(String email) {
         log.debug("Checking if email exists: {}", email);
-        return memberRepository.existsByEmail(email);
+        return memberAvailabilityFilter.emailExists(email, memberRepository::existsByEmail);
     }
 
     @Override
     public boolean isNicknameExists(String nickname) {
         log.debug("Checking if nickname exists: {}", nickname);
-        return memberRepository.existsByNickname(nickname);
+        return memberAvailabilityFilter.nicknameExists(nickname, memberRepository::existsByNickname);
     }
 
     @Override
@@ -0,0 +1,60 @@
+package com.skax.core.service.member.suggest;
+
+import com.skax.core.common.suggest.PrefixIndex;
+import com.skax.core.common.suggest.SuggestIndexSupport;
+import com.skax.core.common.suggest.SuggestProperties;
+import com.skax.core.entity.member.Member;
+import com.skax.core.repository.member.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 회원 닉네임 자동완성 색인
+ *
+ * <p>회원 닉네임을 색인하며 최근에 가입/수정된 회원을 먼저 반환합니다.
+ * MemberServiceImpl의 생성/수정은 {@link #index(Member)}, 삭제는 {@link #remove(String)}를 호출합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@Component
+public class MemberNicknameSuggestIndex extends SuggestIndexSupport<String> {
+
+    private final MemberRepository memberRepository;
+
+    public MemberNicknameSuggestIndex(MemberRepository memberRepository,
+                                      SuggestProperties properties,
+                                      MeterRegistry meterRegistry) {
+        super("member", properties, meterRegistry);
+        this.memberRepository = memberRepository;
+    }
+
+    @Override
+    protected Collection<PrefixIndex.Entry<String>> loadEntries() {
+        return memberRepository.findSuggestEntries().stream()
+                .map(row -> new PrefixIndex.Entry<>((String) row[0], (String) row[1], recency((LocalDateTime) row[2])))
+                .toList();
+    }
+
+    /**
+     * 회원을 색인에 반영합니다. (커밋 후)
+     *
+     * @param member 회원 엔티티
+     */
+    public void index(Member member) {
+        putAfterCommit(member.getEmail(), member.getNickname(), System.currentTimeMillis());
+    }
+
+    /**
+     * 회원을 색인에서 제거합니다. (커밋 후)
+     *
+     * @param email 회원 이메일
+     */
+    public void remove(String email) {
+        removeAfterCommit(email);
+    }
+}
@@ -2,9 +2,17 @@ package com.skax.core.service.product;
 
 import com.skax.core.dto.product.request.ProductCreateRequest;
 import com.skax.core.dto.product.request.ProductUpdateRequest;
+import com.skax.core.common.exception.BusinessException;
+import com.skax.core.common.fields.FieldSelection;
+import com.skax.core.dto.product.response.ProductBatchItemResponse;
+import com.skax.core.dto.product.response.ProductImageResponse;
 import com.skax.core.dto.product.response.ProductResponse;
+import com.skax.core.dto.product.response.ProductSuggestResponse;
 import com.skax.core.common.response.PageResponse;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
 
 /**
  * 상품 관리 서비스 인터페이스
@@ -27,12 +35,18 @@ import org.springframework.data.domain.Pageable;
  */
 public interface ProductService {
 
+    /**
+     * 일괄 조회 최대 건수
+     */
+    int MAX_BATCH_SIZE = 300;
+
     /**
      * 새로운 상품을 등록합니다.
      * 
      * @param request 상품 생성 요청 정보
      * @return 생성된 상품 정보
      * @throws IllegalArgumentException 필수 정보가 누락된 경우
+     * @throws com.skax.core.common.exception.BusinessException 업로드되지 않은 이미지 파일명이 있는 경우
      */
     ProductResponse createProduct(ProductCreateRequest request);
 
@@ -43,6 +57,10 @@ public interface ProductService {
      * @param request 상품 수정 요청 정보
      * @return 수정된 상품 정보
      * @throws IllegalArgumentException 존재하지 않는 상품이거나 삭제된 상품인 경우
+     * @throws org.springframework.dao.OptimisticLockingFailureException 요청의 버전이 현재 버전과 다르거나
+     *         수정 중 다른 요청이 먼저 반영된 경우 (409 Conflict)
+     * @throws com.skax.core.common.exception.BusinessException 새로 추가하는 이미지 파일명이 업로드되지 않은 경우
+     *         (이미 등록된 이전 파일명은 그대로 둘 수 있음)
      */
     ProductResponse updateProduct(Long pno, ProductUpdateRequest request);
 
@@ -65,28 +83,47 @@ public interface ProductService {
     /**
      * 상품 번호로 상품을 조회합니다.
      * 
+     * <p>일부 필드만 선택하면 선택하지 않은 이미지와 감사 정보는 적재하지 않으며,
+     * 상품 상세 캐시에는 전체 필드를 조회한 결과만 저장합니다.</p>
+     * 
      * @param pno 조회할 상품 번호
+     * @param fields 응답 필드 선택
      * @return 상품 정보
      * @throws IllegalArgumentException 존재하지 않는 상품이거나 삭제된 상품인 경우
      */
-    ProductResponse getProductById(Long pno);
+    ProductResponse getProductById(Long pno, FieldSelection fields);
+
+    /**
+     * 여러 상품을 한 번에 조회합니다.
+     * 
+     * <p>상품 상세 캐시에 있는 상품은 캐시에서, 나머지는 한 번의 쿼리로 조회합니다.
+     * 결과는 요청 순서대로 반환되며 존재하지 않거나 삭제된 상품은 찾지 못함으로 표시됩니다.</p>
+     * 
+     * @param pnos 조회할 상품 번호 목록 (최대 {@value #MAX_BATCH_SIZE}건)
+     * @param fields 응답 필드 선택
+     * @return 요청 순서대로의 조회 결과 목록
+     * @throws BusinessException 조회 건수가 최대치를 넘는 경우
+     */
+    List<ProductBatchItemResponse> getProductsByIds(List<Long> pnos, FieldSelection fields);
 
     /**
      * 모든 활성 상품을 페이징하여 조회합니다.
      * 
      * @param pageable 페이징 정보
+     * @param fields 응답 필드 선택
      * @return 페이징된 상품 목록
      */
-    PageResponse<ProductResponse> getAllProducts(Pageable pageable);
+    PageResponse<ProductResponse> getAllProducts(Pageable pageable, FieldSelection fields);
 
     /**
      * 상품명으로 상품을 검색합니다.
      * 
      * @param keyword 검색 키워드
      * @param pageable 페이징 정보
+     * @param fields 응답 필드 선택
      * @return 검색된 상품 목록
      */
-    PageResponse<ProductResponse> searchProductsByName(String keyword, Pageable pageable);
+    PageResponse<ProductResponse> searchProductsByName(String keyword, Pageable pageable, FieldSelection fields);
 
     /**
      * 상품명 또는 설명으로 상품을 검색합니다.
@@ -97,15 +134,28 @@ public interface ProductService {
      */
     PageResponse<ProductResponse> searchProducts(String keyword, Pageable pageable);
 
+    /**
+     * 상품명 접두어로 자동완성 후보를 조회합니다.
+     * 
+     * <p>DB를 조회하지 않고 메모리 색인에서 최근 등록/수정된 상품 순으로 반환합니다.</p>
+     * 
+     * @param prefix 입력 중인 상품명 접두어
+     * @param limit 최대 개수
+     * @return 자동완성 후보 목록
+     */
+    List<ProductSuggestResponse> suggestProducts(String prefix, int limit);
+
     /**
      * 가격 범위로 상품을 조회합니다.
      * 
      * @param minPrice 최소 가격
      * @param maxPrice 최대 가격
      * @param pageable 페이징 정보
+     * @param fields 응답 필드 선택
      * @return 해당 가격 범위의 상품 목록
      */
-    PageResponse<ProductResponse> getProductsByPriceRange(int minPrice, int maxPrice, Pageable pageable);
+    PageResponse<ProductResponse> getProductsByPriceRange(int minPrice, int maxPrice, Pageable pageable,
+                                                          FieldSelection fields);
 
     /**
      * 복합 조건으로 상품을 검색합니다.
@@ -122,11 +172,25 @@ public interface ProductService {
      * 상품에 이미지를 추가합니다.
      * 
      * @param pno 상품 번호
-     * @param fileName 이미지 파일명
+     * @param fileName 이미지 파일명 (이미지 업로드로 저장된 파일명)
      * @throws IllegalArgumentException 존재하지 않는 상품이거나 삭제된 상품인 경우
+     * @throws com.skax.core.common.exception.BusinessException 업로드되지 않은 파일명인 경우
      */
     void addProductImage(Long pno, String fileName);
 
+    /**
+     * 이미지 파일을 업로드하여 상품 이미지 목록의 마지막에 추가합니다.
+     * 
+     * <p>파일은 내용 주소 방식으로 저장되고, 썸네일은 별도 작업 풀에서 비동기로 생성됩니다.</p>
+     * 
+     * @param pno 상품 번호
+     * @param file 업로드한 이미지 파일 (JPEG, PNG, GIF)
+     * @return 등록된 이미지의 원본/썸네일 URL
+     * @throws IllegalArgumentException 존재하지 않는 상품이거나 삭제된 상품인 경우
+     * @throws BusinessException 지원하지 않는 이미지 형식인 경우
+     */
+    ProductImageResponse uploadProductImage(Long pno, MultipartFile file);
+
     /**
      * 상품의 모든 이미지를 제거합니다.
      * 
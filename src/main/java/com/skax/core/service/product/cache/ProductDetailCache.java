@@ -0,0 +1,344 @@
+package com.skax.core.service.product.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.skax.core.common.response.AxResponse;
+import com.skax.core.dto.product.response.ProductResponse;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 상품 상세 응답 바이트 캐시
+ *
+ * <p>상품 상세 조회(GET /api/v1/products/{pno}) 응답을 직렬화된 바이트 형태로 보관합니다.
+ * 캐시 적중 시 엔티티 조회, DTO 변환, ObjectMapper 직렬화를 모두 건너뛰고
+ * 요청마다 달라지는 timestamp 값만 끼워 넣어 전송합니다. 본문은 {@code AxResponseEntity.ok}와 같은 봉투를
+ * 기준 시각(timestamp)으로 직렬화한 뒤 그 값의 앞/뒤로 나누어 보관하므로, 필드 구성과 순서가
+ * 캐시를 거치지 않은 응답과 같습니다.</p>
+ *
+ * <p>압축 응답은 gzip 멤버 연결(RFC 1952) 방식으로 구성합니다. timestamp 앞/뒤 본문은 미리 압축해 두고
+ * timestamp 값만 요청마다 별도의 gzip 멤버로 압축해 사이에 이어 붙입니다.</p>
+ *
+ * <p>캐시 엔트리는 상품 번호와 엔티티 버전(@Version)으로 식별됩니다. 더 낮은 버전의 응답이
+ * 더 높은 버전의 엔트리를 덮어쓰지 않으며, 상품 번호별 세대(generation) 값으로 무효화 순서를 보장합니다.
+ * ProductServiceImpl의 쓰기 작업은 {@link #evict(Long)}를 호출해 세대를 증가시키고,
+ * 조회 시점의 세대와 다른 세대에서 만들어진 응답은 캐시에 저장되지 않습니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-28
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ProductDetailCache {
+
+    /**
+     * 상품 상세 조회 성공 메시지
+     */
+    public static final String DETAIL_MESSAGE = "상품 정보를 성공적으로 조회했습니다.";
+
+    private static final int GENERATION_STRIPES = 64;
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    // 직렬화 결과에서 timestamp 값의 위치를 찾기 위한 기준 시각
+    private static final LocalDateTime TIMESTAMP_PLACEHOLDER = LocalDateTime.of(1, 1, 1, 0, 0);
+
+    // 캐시에 함께 보관하는 DTO의 힙 크기 추정치 (직렬화 크기 대비 배수, 문자열/박싱 객체 헤더 포함)
+    private static final int RESPONSE_WEIGHT_FACTOR = 2;
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int compressionThreshold;
+    private final Cache<Long, Entry> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public ProductDetailCache(ObjectMapper objectMapper,
+                              @Value("${app.cache.product-detail.enabled:true}") boolean enabled,
+                              @Value("${app.cache.product-detail.max-size:64MB}") DataSize maxSize,
+                              @Value("${server.compression.min-response-size:2KB}") DataSize compressionThreshold) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.compressionThreshold = (int) compressionThreshold.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Long pno, Entry entry) -> entry.weight())
+                .build();
+        log.info("상품 상세 바이트 캐시 초기화 - enabled: {}, maxSize: {}", enabled, maxSize);
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 캐시된 상품 상세 응답을 조회합니다.
+     *
+     * @param pno 상품 번호
+     * @return 캐시 엔트리 (없으면 빈 Optional)
+     */
+    public Optional<Entry> get(Long pno) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(pno));
+    }
+
+    /**
+     * 상품 번호의 현재 세대 값을 반환합니다.
+     *
+     * <p>상품을 DB에서 읽기 전에 호출하고, 그 값을 {@link #put(Long, long, ProductResponse)}에 전달해야 합니다.</p>
+     *
+     * @param pno 상품 번호
+     * @return 현재 세대 값
+     */
+    public long currentGeneration(Long pno) {
+        return generations.get(stripe(pno));
+    }
+
+    /**
+     * 접근 빈도가 높은 순서로 캐시된 상품 번호를 반환합니다.
+     *
+     * <p>캐시 제거 정책(W-TinyLFU)의 빈도 정보를 사용하며, 시작 시 워밍업 대상을 기록하는 데 사용됩니다.</p>
+     *
+     * @param limit 최대 개수
+     * @return 상품 번호 목록 (자주 조회된 순)
+     */
+    public List<Long> hottest(int limit) {
+        return cache.policy().eviction()
+                .map(eviction -> List.copyOf(eviction.hottest(limit).keySet()))
+                .orElseGet(List::of);
+    }
+
+    // ==================== 저장 / 무효화 ====================
+
+    /**
+     * 상품 상세 응답을 직렬화하여 캐시에 저장합니다.
+     *
+     * <p>조회 시작 이후 해당 상품에 쓰기 작업이 있었다면(세대 불일치) 저장하지 않습니다.</p>
+     *
+     * @param pno 상품 번호
+     * @param generation 조회 시작 시점의 세대 값
+     * @param response 상품 응답 DTO
+     */
+    public void put(Long pno, long generation, ProductResponse response) {
+        if (!enabled || currentGeneration(pno) != generation) {
+            return;
+        }
+
+        Entry entry;
+        try {
+            entry = serialize(pno, generation, response);
+        } catch (JsonProcessingException e) {
+            log.warn("상품 상세 응답 직렬화 실패 - pno: {}, error: {}", pno, e.getMessage());
+            return;
+        }
+        if (entry == null) {
+            return;
+        }
+
+        cache.asMap().compute(pno, (key, existing) ->
+                currentGeneration(key) == generation && !entry.isOlderThan(existing) ? entry : existing);
+    }
+
+    /**
+     * 상품 상세 캐시를 무효화합니다.
+     *
+     * <p>즉시 무효화하고, 트랜잭션이 진행 중이면 트랜잭션 종료 후 한 번 더 무효화하여
+     * 커밋 전의 이전 데이터가 다시 캐시되는 것을 방지합니다.</p>
+     *
+     * @param pno 상품 번호
+     */
+    public void evict(Long pno) {
+        invalidate(pno);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(pno);
+                }
+            });
+        }
+    }
+
+    /**
+     * 전체 캐시를 비웁니다.
+     */
+    public void clear() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        cache.invalidateAll();
+    }
+
+    private void invalidate(Long pno) {
+        generations.incrementAndGet(stripe(pno));
+        cache.asMap().remove(pno);
+    }
+
+    private int stripe(Long pno) {
+        return (int) Math.floorMod(pno, (long) GENERATION_STRIPES);
+    }
+
+    // ==================== 직렬화 ====================
+
+    private Entry serialize(Long pno, long generation, ProductResponse response) throws JsonProcessingException {
+        // AxResponseEntity.ok와 같은 봉투를 기준 시각으로 직렬화하고, timestamp 값의 앞/뒤를 나누어 보관한다
+        AxResponse<ProductResponse> envelope = AxResponse.<ProductResponse>builder()
+                .success(true)
+                .message(DETAIL_MESSAGE)
+                .data(response)
+                .timestamp(TIMESTAMP_PLACEHOLDER)
+                .statusCode(HttpStatus.OK.value())
+                .statusText(HttpStatus.OK.getReasonPhrase())
+                .build();
+
+        byte[] json = objectMapper.writeValueAsBytes(envelope);
+        String key = "\"timestamp\":";
+        byte[] placeholder = (key + quote(TIMESTAMP_PLACEHOLDER)).getBytes(StandardCharsets.UTF_8);
+        int index = lastIndexOf(json, placeholder);
+        if (index < 0) {
+            // 날짜 직렬화 설정이 ISO 문자열이 아니면 직접 만든 timestamp와 형식이 달라지므로 캐시하지 않는다
+            log.warn("상품 상세 응답 캐시 생략 - timestamp 형식을 찾을 수 없음, pno: {}", pno);
+            return null;
+        }
+        byte[] head = Arrays.copyOfRange(json, 0, index + key.length());
+        byte[] tail = Arrays.copyOfRange(json, index + placeholder.length, json.length);
+
+        boolean compressible = json.length >= compressionThreshold;
+        // 호출자가 이후에 응답 DTO를 수정해도 캐시된 DTO가 바뀌지 않도록 복사본을 보관한다
+        return new Entry(pno, generation, response.copy(), head, tail,
+                compressible ? gzip(head) : null, compressible ? gzip(tail) : null);
+    }
+
+    private static String quote(LocalDateTime timestamp) {
+        return "\"" + TIMESTAMP_FORMAT.format(timestamp) + "\"";
+    }
+
+    private static int lastIndexOf(byte[] source, byte[] target) {
+        for (int i = source.length - target.length; i >= 0; i--) {
+            if (Arrays.equals(source, i, i + target.length, target, 0, target.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 상품 상세 캐시 엔트리
+     *
+     * <p>timestamp 값 앞/뒤의 직렬화된 응답 본문과 각각의 압축본, 원본 DTO를 함께 보관합니다.
+     * DTO는 {@link #getResponse()}가 호출마다 복사본을 돌려주므로 여러 요청이 공유하지 않습니다.</p>
+     */
+    @Getter
+    public static final class Entry {
+
+        private final Long pno;
+        private final long generation;
+        private final ProductResponse response;
+        private final byte[] head;
+        private final byte[] tail;
+        private final byte[] gzipHead;
+        private final byte[] gzipTail;
+
+        private Entry(Long pno, long generation, ProductResponse response,
+                      byte[] head, byte[] tail, byte[] gzipHead, byte[] gzipTail) {
+            this.pno = pno;
+            this.generation = generation;
+            this.response = response;
+            this.head = head;
+            this.tail = tail;
+            this.gzipHead = gzipHead;
+            this.gzipTail = gzipTail;
+        }
+
+        /**
+         * 캐시된 응답 DTO의 복사본을 반환합니다.
+         *
+         * @return 응답 DTO 복사본
+         */
+        public ProductResponse getResponse() {
+            return response.copy();
+        }
+
+        /**
+         * 압축 응답을 제공할 수 있는지 여부를 반환합니다.
+         *
+         * @return 압축본이 있으면 true
+         */
+        public boolean isCompressible() {
+            return gzipHead != null;
+        }
+
+        /**
+         * 비압축 JSON 응답을 출력합니다.
+         *
+         * @param out 출력 스트림
+         * @throws IOException 출력 실패 시
+         */
+        public void writeJson(OutputStream out) throws IOException {
+            out.write(head);
+            out.write(timestamp());
+            out.write(tail);
+        }
+
+        /**
+         * gzip 압축 응답을 출력합니다.
+         *
+         * @param out 출력 스트림
+         * @throws IOException 출력 실패 시
+         */
+        public void writeGzip(OutputStream out) throws IOException {
+            out.write(gzipHead);
+            out.write(gzip(timestamp()));
+            out.write(gzipTail);
+        }
+
+        private static byte[] timestamp() {
+            return quote(LocalDateTime.now()).getBytes(StandardCharsets.UTF_8);
+        }
+
+        private boolean isOlderThan(Entry other) {
+            if (other == null || other.response.getVersion() == null || response.getVersion() == null) {
+                return false;
+            }
+            return response.getVersion() < other.response.getVersion();
+        }
+
+        // 직렬화 본문과 압축본에 더해, 함께 보관하는 DTO의 추정 크기를 포함한다
+        private int weight() {
+            int serialized = head.length + tail.length;
+            int compressed = gzipHead != null ? gzipHead.length + gzipTail.length : 0;
+            return serialized * (1 + RESPONSE_WEIGHT_FACTOR) + compressed;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.skax.core.service.product.image;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 상품 이미지 저장소 설정
+ *
+ * <p>{@code app.product-image.*} 설정을 바인딩합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-07
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.product-image")
+public class ProductImageProperties {
+
+    /**
+     * 이미지 파일 저장 디렉터리
+     */
+    private String baseDir = "./data/product-images";
+
+    /**
+     * 응답에 사용할 이미지 URL 접두어 (비어 있으면 컨텍스트 경로 + /api/v1/images, CDN 사용 시 지정)
+     */
+    private String publicUrlPrefix = "";
+
+    /**
+     * 썸네일 크기별 긴 변의 최대 픽셀 수 (원본보다 크게 확대하지 않음)
+     */
+    private Map<String, Integer> sizes = defaultSizes();
+
+    /**
+     * 목록용 대표 이미지(thumbnail)에 사용할 썸네일 크기
+     */
+    private String thumbnailSize = "small";
+
+    /**
+     * 썸네일 생성 작업 스레드 수
+     */
+    private int workerThreads = 2;
+
+    /**
+     * 썸네일 생성 대기열 크기 (가득 차면 요청 시점에 다시 생성)
+     */
+    private int queueCapacity = 200;
+
+    /**
+     * 썸네일이 아직 없을 때 생성 완료를 기다리는 최대 시간 (초과 시 원본을 캐시 없이 응답)
+     */
+    private Duration variantWaitTimeout = Duration.ofSeconds(1);
+
+    /**
+     * 이미지 응답의 Cache-Control max-age (내용 주소 파일명이므로 변경되지 않음)
+     */
+    private Duration cacheMaxAge = Duration.ofDays(365);
+
+    private static Map<String, Integer> defaultSizes() {
+        Map<String, Integer> sizes = new LinkedHashMap<>();
+        sizes.put("small", 200);
+        sizes.put("medium", 600);
+        return sizes;
+    }
+}
@@ -0,0 +1,282 @@
+package com.skax.core.service.product.image;
+
+import com.skax.core.common.exception.BusinessException;
+import com.skax.core.common.response.ErrorCode;
+import com.skax.core.dto.product.response.ProductImageResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 내용 주소 방식의 로컬 디스크 상품 이미지 저장소
+ *
+ * <p>업로드된 이미지는 내용의 SHA-256 값을 파일명으로 사용하여 저장하므로 같은 이미지는 한 번만 저장되고,
+ * 저장된 파일은 변경되지 않습니다. 파일은 {@code base-dir/{크기}/{해시 앞 2자리}/{파일명}}에 위치하며
+ * 원본은 {@value #ORIGINAL} 크기로 저장됩니다.</p>
+ *
+ * <p>파일 형식은 확장자나 Content-Type이 아니라 파일 앞부분의 시그니처로 판별합니다(JPEG, PNG, GIF).
+ * 모든 쓰기는 임시 파일에 기록한 뒤 원자적으로 이동하므로 읽는 쪽이 쓰다 만 파일을 보지 않습니다.</p>
+ *
+ * <p>저장소 도입 전에 등록된 자유 형식 파일명(예: {@code product_1_image_1.jpg})은 이 저장소에 파일이 없으므로
+ * URL을 만들지 않고 {@code legacy}로 표시합니다. 새로 등록하는 파일명은 {@link #requireStored(String)}로 검증합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-07
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ProductImageStore {
+
+    /**
+     * 원본 이미지 크기 이름
+     */
+    public static final String ORIGINAL = "original";
+
+    /**
+     * 이미지 조회 경로 (컨텍스트 경로 제외)
+     */
+    public static final String IMAGE_PATH = "/api/v1/images";
+
+    private static final Pattern FILE_NAME = Pattern.compile("[0-9a-f]{64}\\.(jpg|png|gif)");
+    private static final String TEMP_DIR = "tmp";
+
+    private static final byte[] JPEG_SIGNATURE = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF};
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final byte[] GIF_SIGNATURE = {'G', 'I', 'F', '8'};
+
+    private final ProductImageProperties properties;
+    private final Path baseDir;
+    private final String urlPrefix;
+
+    public ProductImageStore(ProductImageProperties properties,
+                             @Value("${server.servlet.context-path:}") String contextPath) {
+        this.properties = properties;
+        this.baseDir = Paths.get(properties.getBaseDir()).toAbsolutePath().normalize();
+        this.urlPrefix = StringUtils.hasText(properties.getPublicUrlPrefix())
+                ? StringUtils.trimTrailingCharacter(properties.getPublicUrlPrefix(), '/')
+                : contextPath + IMAGE_PATH;
+        log.info("상품 이미지 저장소 - baseDir: {}, urlPrefix: {}", baseDir, urlPrefix);
+    }
+
+    /**
+     * 업로드된 이미지를 저장합니다.
+     *
+     * @param content 이미지 내용
+     * @return 저장된 파일명 (내용의 SHA-256 + 확장자)
+     * @throws BusinessException 지원하지 않는 이미지 형식인 경우
+     * @throws IOException 파일 쓰기에 실패한 경우
+     */
+    public String save(InputStream content) throws IOException {
+        Path temp = createTempFile();
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(content, digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String fileName = HexFormat.of().formatHex(digest.digest()) + "." + detectExtension(temp);
+            Path target = path(ORIGINAL, fileName);
+            if (Files.notExists(target)) {
+                moveAtomically(temp, target);
+                log.debug("상품 이미지 저장 - {}", fileName);
+            }
+            return fileName;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 썸네일 이미지를 저장합니다.
+     *
+     * @param size 썸네일 크기 이름
+     * @param fileName 원본 파일명
+     * @param image 썸네일 이미지
+     * @throws IOException 파일 쓰기에 실패한 경우
+     */
+    public void saveVariant(String size, String fileName, BufferedImage image) throws IOException {
+        Path temp = createTempFile();
+        try {
+            if (!ImageIO.write(image, formatName(fileName), temp.toFile())) {
+                throw new IOException("이미지 인코더를 찾을 수 없습니다: " + fileName);
+            }
+            moveAtomically(temp, path(size, fileName));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 크기 이름과 파일명이 이 저장소에서 제공할 수 있는 형식인지 확인합니다.
+     *
+     * @param size 크기 이름 ({@value #ORIGINAL} 또는 설정된 썸네일 크기)
+     * @param fileName 파일명
+     * @return 유효하면 true
+     */
+    public boolean isValid(String size, String fileName) {
+        return isStoredName(fileName)
+                && (ORIGINAL.equals(size) || properties.getSizes().containsKey(size));
+    }
+
+    /**
+     * 이 저장소가 만든 형식(SHA-256 + 확장자)의 파일명인지 확인합니다.
+     *
+     * @param fileName 파일명
+     * @return 저장소 형식이면 true (자유 형식의 이전 파일명이면 false)
+     */
+    public boolean isStoredName(String fileName) {
+        return fileName != null && FILE_NAME.matcher(fileName).matches();
+    }
+
+    /**
+     * 상품에 등록할 파일명이 이 저장소에 업로드된 이미지인지 검증합니다.
+     *
+     * @param fileName 파일명
+     * @throws BusinessException 저장소 형식이 아니거나 원본 파일이 없는 경우
+     */
+    public void requireStored(String fileName) {
+        if (!isStoredName(fileName) || Files.notExists(path(ORIGINAL, fileName))) {
+            throw new BusinessException(ErrorCode.PRODUCT_IMAGE_NOT_UPLOADED,
+                    "업로드된 이미지의 파일명만 등록할 수 있습니다: " + fileName);
+        }
+    }
+
+    /**
+     * 이미지 파일 경로를 반환합니다. 호출 전에 {@link #isValid(String, String)}로 검증해야 합니다.
+     *
+     * @param size 크기 이름
+     * @param fileName 파일명
+     * @return 파일 경로
+     */
+    public Path path(String size, String fileName) {
+        return baseDir.resolve(size).resolve(fileName.substring(0, 2)).resolve(fileName);
+    }
+
+    /**
+     * 파일명의 Content-Type을 반환합니다.
+     *
+     * @param fileName 파일명
+     * @return Content-Type
+     */
+    public String contentType(String fileName) {
+        return "image/" + formatName(fileName);
+    }
+
+    /**
+     * 파일명의 원본/썸네일 URL을 담은 응답을 생성합니다.
+     *
+     * <p>저장소 형식이 아닌 이전 파일명은 URL 없이 {@code legacy=true}로 응답합니다.</p>
+     *
+     * @param fileName 파일명
+     * @return 상품 이미지 응답
+     */
+    public ProductImageResponse toResponse(String fileName) {
+        if (!isStoredName(fileName)) {
+            return ProductImageResponse.builder()
+                    .fileName(fileName)
+                    .sizes(new LinkedHashMap<>())
+                    .legacy(true)
+                    .build();
+        }
+        Map<String, String> sizes = new LinkedHashMap<>();
+        properties.getSizes().keySet().forEach(size -> sizes.put(size, url(size, fileName)));
+        return ProductImageResponse.builder()
+                .fileName(fileName)
+                .url(url(ORIGINAL, fileName))
+                .sizes(sizes)
+                .build();
+    }
+
+    /**
+     * 목록용 대표 이미지(thumbnail-size 썸네일) URL을 반환합니다.
+     *
+     * <p>저장소 형식인 첫 번째 이미지를 사용하며, 이전 파일명만 있으면 null을 반환합니다.</p>
+     *
+     * @param fileNames 이미지 파일명 목록 (표시 순서대로)
+     * @return 썸네일 URL (없으면 null)
+     */
+    public String thumbnailUrl(List<String> fileNames) {
+        String size = properties.getSizes().containsKey(properties.getThumbnailSize())
+                ? properties.getThumbnailSize()
+                : ORIGINAL;
+        return fileNames.stream()
+                .filter(this::isStoredName)
+                .findFirst()
+                .map(fileName -> url(size, fileName))
+                .orElse(null);
+    }
+
+    private String url(String size, String fileName) {
+        return urlPrefix + "/" + size + "/" + fileName;
+    }
+
+    private Path createTempFile() throws IOException {
+        Path tempDir = baseDir.resolve(TEMP_DIR);
+        Files.createDirectories(tempDir);
+        return Files.createTempFile(tempDir, "image-", ".tmp");
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String detectExtension(Path file) throws IOException {
+        byte[] header;
+        try (InputStream in = Files.newInputStream(file)) {
+            header = in.readNBytes(PNG_SIGNATURE.length);
+        }
+        if (startsWith(header, JPEG_SIGNATURE)) {
+            return "jpg";
+        }
+        if (startsWith(header, PNG_SIGNATURE)) {
+            return "png";
+        }
+        if (startsWith(header, GIF_SIGNATURE)) {
+            return "gif";
+        }
+        throw new BusinessException(ErrorCode.PRODUCT_IMAGE_INVALID, "JPEG, PNG, GIF 이미지만 등록할 수 있습니다.");
+    }
+
+    private static boolean startsWith(byte[] header, byte[] signature) {
+        return header.length >= signature.length
+                && Arrays.equals(header, 0, signature.length, signature, 0, signature.length);
+    }
+
+    private static String formatName(String fileName) {
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1);
+        return "jpg".equals(extension) ? "jpeg" : extension;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.skax.core.service.product.image;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 상품 이미지 썸네일 생성기
+ *
+ * <p>{@code worker-threads}개의 스레드와 {@code queue-capacity} 크기의 대기열을 가진 전용 풀에서
+ * 썸네일을 비동기로 생성합니다. 대기열이 가득 차면 작업을 버리고, 해당 썸네일은 처음 요청될 때 다시 생성됩니다.
+ * 같은 썸네일에 대한 중복 작업은 하나로 합칩니다.</p>
+ *
+ * <p>썸네일은 원본 비율을 유지하여 긴 변이 설정된 픽셀 수가 되도록 축소하며(확대하지 않음),
+ * 압축 해제 폭탄을 막기 위해 {@value #MAX_PIXELS} 픽셀을 넘는 원본은 처리하지 않습니다.
+ * 결과는 {@code product.image.thumbnails} 메트릭으로 기록됩니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-07
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ThumbnailGenerator {
+
+    private static final long MAX_PIXELS = 50_000_000L;
+
+    private final ProductImageStore store;
+    private final ProductImageProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+
+    public ThumbnailGenerator(ProductImageStore store,
+                              ProductImageProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.store = store;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(properties.getWorkerThreads(), properties.getWorkerThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "thumbnail-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("product.image.thumbnails.queue", executor, pool -> pool.getQueue().size())
+                .description("대기 중인 썸네일 생성 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 설정된 모든 크기의 썸네일 생성을 요청합니다.
+     *
+     * @param fileName 원본 파일명
+     */
+    public void generateAll(String fileName) {
+        properties.getSizes().keySet().forEach(size -> submit(size, fileName));
+    }
+
+    /**
+     * 썸네일 생성을 요청하고 완료될 때까지 최대 {@code timeout} 동안 기다립니다.
+     *
+     * @param size 썸네일 크기 이름
+     * @param fileName 원본 파일명
+     * @param timeout 최대 대기 시간
+     * @return 썸네일이 준비되었으면 true
+     */
+    public boolean await(String size, String fileName, Duration timeout) {
+        try {
+            submit(size, fileName).get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private CompletableFuture<Void> submit(String size, String fileName) {
+        String key = size + "/" + fileName;
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        CompletableFuture<Void> existing = pending.putIfAbsent(key, future);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(size, fileName);
+                    future.complete(null);
+                } catch (Exception e) {
+                    count("failed");
+                    log.warn("썸네일 생성 실패 - {}, error: {}", key, e.getMessage());
+                    future.completeExceptionally(e);
+                } finally {
+                    pending.remove(key, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(key, future);
+            count("rejected");
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void generate(String size, String fileName) throws IOException {
+        if (Files.exists(store.path(size, fileName))) {
+            return;
+        }
+        BufferedImage original = read(store.path(ProductImageStore.ORIGINAL, fileName));
+        boolean opaque = fileName.endsWith(".jpg");
+        store.saveVariant(size, fileName, scale(original, properties.getSizes().get(size), opaque));
+        count("generated");
+    }
+
+    private static BufferedImage read(Path source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("이미지를 읽을 수 없습니다: " + source.getFileName());
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_PIXELS) {
+                    throw new IOException("이미지 해상도가 너무 큽니다: " + pixels + " 픽셀");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 한 번에 절반 이하로 줄이면 계단 현상이 생기므로 절반씩 단계적으로 축소한다
+    private static BufferedImage scale(BufferedImage source, int maxEdge, boolean opaque) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double ratio = Math.min(1.0, (double) maxEdge / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * ratio));
+        int targetHeight = Math.max(1, (int) Math.round(height * ratio));
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = resize(current, width, height, opaque);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width, int height, boolean opaque) {
+        BufferedImage target = new BufferedImage(width, height,
+                opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("product.image.thumbnails", "result", result).increment();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,19 +1,50 @@
 package com.skax.core.service.product.impl;
 
+import com.skax.core.common.concurrency.OptimisticRetry;
+import com.skax.core.common.concurrency.SingleFlight;
+import com.skax.core.common.exception.BusinessException;
+import com.skax.core.common.fields.FieldSelection;
+import com.skax.core.common.persistence.HibernateFilters;
+import com.skax.core.common.response.ErrorCode;
 import com.skax.core.common.response.PageResponse;
-import com.skax.core.dto.AuditDto;
 import com.skax.core.dto.product.request.ProductCreateRequest;
 import com.skax.core.dto.product.request.ProductUpdateRequest;
+import com.skax.core.dto.product.response.ProductBatchItemResponse;
+import com.skax.core.dto.product.response.ProductImageResponse;
 import com.skax.core.dto.product.response.ProductResponse;
+import com.skax.core.dto.product.response.ProductSuggestResponse;
 import com.skax.core.entity.product.Product;
+import com.skax.core.entity.product.ProductImage;
 import com.skax.core.repository.product.ProductRepository;
+import com.skax.core.service.cart.writebehind.CartWriteBehindStore;
 import com.skax.core.service.product.ProductService;
+import com.skax.core.service.product.cache.ProductDetailCache;
+import com.skax.core.service.product.image.ProductImageStore;
+import com.skax.core.service.product.image.ThumbnailGenerator;
+import com.skax.core.service.product.suggest.ProductNameSuggestIndex;
+import com.skax.core.util.AuditMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 상품 관리 서비스 구현체
@@ -31,11 +62,18 @@ import org.springframework.transaction.annotation.Transactional;
 public class ProductServiceImpl implements ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductDetailCache productDetailCache;
+    private final AuditMapper auditMapper;
+    private final CartWriteBehindStore cartWriteBehindStore;
+    private final ProductImageStore productImageStore;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final ProductNameSuggestIndex productNameSuggestIndex;
+    private final HibernateFilters hibernateFilters;
 
     @Override
     @Transactional
     public ProductResponse createProduct(ProductCreateRequest request) {
-        log.info("상품 생성 요청: {}", request);
+        log.info("상품 생성 요청: productName={}", request.getProductName());
         
         Product product = Product.builder()
                 .pname(request.getProductName())
@@ -44,12 +82,14 @@ public class ProductServiceImpl implements ProductService {
                 .category("기본") // 현재 DTO에 category 필드가 없으므로 기본값 설정
                 .build();
         
-        // 이미지 추가
+        // 이미지 추가 (업로드된 이미지만)
         if (request.getImages() != null && !request.getImages().isEmpty()) {
+            request.getImages().forEach(productImageStore::requireStored);
             request.getImages().forEach(product::addImageString);
         }
         
         Product savedProduct = productRepository.save(product);
+        productNameSuggestIndex.index(savedProduct);
         log.info("상품 생성 완료: pno={}", savedProduct.getPno());
         
         return convertToResponse(savedProduct);
@@ -58,10 +98,16 @@ public class ProductServiceImpl implements ProductService {
     @Override
     @Transactional
     public ProductResponse updateProduct(Long pno, ProductUpdateRequest request) {
-        log.info("상품 수정 요청: pno={}, request={}", pno, request);
+        log.info("상품 수정 요청: pno={}, version={}", pno, request.getVersion());
         
         Product product = getActiveProductEntity(pno);
         
+        // 클라이언트가 조회한 뒤 다른 요청이 먼저 수정했다면 덮어쓰지 않음 (409 Conflict)
+        if (request.getVersion() != null && !request.getVersion().equals(product.getVersion())) {
+            log.warn("상품 버전 불일치: pno={}, expected={}, actual={}", pno, request.getVersion(), product.getVersion());
+            throw new ObjectOptimisticLockingFailureException(Product.class, pno);
+        }
+        
         // 필드 업데이트
         if (request.getProductName() != null) {
             product.changeName(request.getProductName());
@@ -73,12 +119,20 @@ public class ProductServiceImpl implements ProductService {
             product.changeDesc(request.getDescription());
         }
         
-        // 이미지 업데이트
+        // 이미지 업데이트 (추가/이동/삭제된 이미지만 반영, 새로 추가하는 이미지는 업로드된 이미지만)
         if (request.getImages() != null) {
-            product.clearList();
-            request.getImages().forEach(product::addImageString);
+            Set<String> current = product.getImageList().stream()
+                    .map(ProductImage::getFileName)
+                    .collect(Collectors.toSet());
+            request.getImages().stream()
+                    .filter(fileName -> !current.contains(fileName))
+                    .forEach(productImageStore::requireStored);
+            product.replaceImages(request.getImages());
         }
         
+        productDetailCache.evict(pno);
+        cartWriteBehindStore.evictProduct(pno);
+        productNameSuggestIndex.index(product);
         log.info("상품 수정 완료: pno={}", pno);
         return convertToResponse(product);
     }
@@ -88,8 +142,12 @@ public class ProductServiceImpl implements ProductService {
     public void deleteProduct(Long pno) {
         log.info("상품 삭제 요청: pno={}", pno);
         
+        includeDeletedProducts();
         Product product = getProductEntity(pno);
         product.softDelete();
+        productDetailCache.evict(pno);
+        cartWriteBehindStore.evictProduct(pno);
+        productNameSuggestIndex.remove(pno);
         
         log.info("상품 삭제 완료: pno={}", pno);
     }
@@ -99,37 +157,98 @@ public class ProductServiceImpl implements ProductService {
     public void restoreProduct(Long pno) {
         log.info("상품 복구 요청: pno={}", pno);
         
+        includeDeletedProducts();
         Product product = getProductEntity(pno);
         product.restore();
+        productDetailCache.evict(pno);
+        productNameSuggestIndex.index(product);
         
         log.info("상품 복구 완료: pno={}", pno);
     }
 
     @Override
-    public ProductResponse getProductById(Long pno) {
-        log.debug("상품 조회 요청: pno={}", pno);
+    @SingleFlight
+    public ProductResponse getProductById(Long pno, FieldSelection fields) {
+        log.debug("상품 조회 요청: pno={}, fields={}", pno, fields);
         
+        if (!fields.isAll()) {
+            // 캐시된 전체 응답이 있으면 그대로 사용하고, 없으면 선택한 필드만 적재 (캐시에는 저장하지 않음)
+            Optional<ProductDetailCache.Entry> cached = productDetailCache.get(pno);
+            if (cached.isPresent()) {
+                return cached.get().getResponse();
+            }
+            return convertToResponse(getActiveProductEntity(pno), fields);
+        }
+        
+        long generation = productDetailCache.currentGeneration(pno);
         Product product = getActiveProductEntity(pno);
-        return convertToResponse(product);
+        ProductResponse response = convertToResponse(product);
+        productDetailCache.put(pno, generation, response);
+        return response;
     }
 
     @Override
-    public PageResponse<ProductResponse> getAllProducts(Pageable pageable) {
-        log.debug("전체 상품 조회 요청: pageable={}", pageable);
+    public List<ProductBatchItemResponse> getProductsByIds(List<Long> pnos, FieldSelection fields) {
+        if (pnos.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "한 번에 최대 " + MAX_BATCH_SIZE + "건까지 조회할 수 있습니다.");
+        }
+        if (pnos.stream().anyMatch(Objects::isNull)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "상품 번호가 비어 있습니다.");
+        }
+        log.debug("상품 일괄 조회 요청: {}건", pnos.size());
+
+        // 캐시 적중 상품은 그대로 사용하고, 나머지는 조회 전 세대 값을 기록
+        Map<Long, ProductResponse> found = new HashMap<>();
+        Map<Long, Long> missGenerations = new LinkedHashMap<>();
+        for (Long pno : new LinkedHashSet<>(pnos)) {
+            productDetailCache.get(pno).ifPresentOrElse(
+                    entry -> found.put(pno, entry.getResponse()),
+                    () -> missGenerations.put(pno, productDetailCache.currentGeneration(pno)));
+        }
+
+        if (!missGenerations.isEmpty()) {
+            List<Product> products = includesImages(fields)
+                    ? productRepository.findActiveWithImagesByPnoIn(missGenerations.keySet())
+                    : productRepository.findByPnoInAndDeletedFalse(missGenerations.keySet());
+            if (fields.includes(FieldSelection.AUDIT)) {
+                auditMapper.prefetch(products);
+            }
+            for (Product product : products) {
+                ProductResponse response = convertToResponse(product, fields);
+                if (fields.isAll()) {
+                    productDetailCache.put(product.getPno(), missGenerations.get(product.getPno()), response);
+                }
+                found.put(product.getPno(), response);
+            }
+        }
+
+        return pnos.stream()
+                .map(pno -> found.containsKey(pno)
+                        ? ProductBatchItemResponse.found(found.get(pno))
+                        : ProductBatchItemResponse.notFound(pno))
+                .toList();
+    }
+
+    @Override
+    public PageResponse<ProductResponse> getAllProducts(Pageable pageable, FieldSelection fields) {
+        log.debug("전체 상품 조회 요청: pageable={}, fields={}", pageable, fields);
         
         Page<Product> productPage = productRepository.findByDeletedFalse(pageable);
-        return convertToPageResponse(productPage);
+        return convertToPageResponse(productPage, fields);
     }
 
     @Override
-    public PageResponse<ProductResponse> searchProductsByName(String keyword, Pageable pageable) {
-        log.debug("상품명 검색 요청: keyword={}, pageable={}", keyword, pageable);
+    public PageResponse<ProductResponse> searchProductsByName(String keyword, Pageable pageable,
+                                                              FieldSelection fields) {
+        log.debug("상품명 검색 요청: keyword={}, pageable={}, fields={}", keyword, pageable, fields);
         
         Page<Product> productPage = productRepository.findByPnameContainingAndDeletedFalse(keyword, pageable);
-        return convertToPageResponse(productPage);
+        return convertToPageResponse(productPage, fields);
     }
 
     @Override
+    @SingleFlight
     public PageResponse<ProductResponse> searchProducts(String keyword, Pageable pageable) {
         log.debug("상품 검색 요청: keyword={}, pageable={}", keyword, pageable);
         
@@ -139,11 +258,24 @@ public class ProductServiceImpl implements ProductService {
     }
 
     @Override
-    public PageResponse<ProductResponse> getProductsByPriceRange(int minPrice, int maxPrice, Pageable pageable) {
-        log.debug("가격 범위 상품 조회 요청: minPrice={}, maxPrice={}, pageable={}", minPrice, maxPrice, pageable);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ProductSuggestResponse> suggestProducts(String prefix, int limit) {
+        return productNameSuggestIndex.suggest(prefix, limit).stream()
+                .map(entry -> ProductSuggestResponse.builder()
+                        .pno(entry.id())
+                        .productName(entry.text())
+                        .build())
+                .toList();
+    }
+
+    @Override
+    public PageResponse<ProductResponse> getProductsByPriceRange(int minPrice, int maxPrice, Pageable pageable,
+                                                                 FieldSelection fields) {
+        log.debug("가격 범위 상품 조회 요청: minPrice={}, maxPrice={}, pageable={}, fields={}",
+                minPrice, maxPrice, pageable, fields);
         
         Page<Product> productPage = productRepository.findByPriceBetweenAndDeletedFalse(minPrice, maxPrice, pageable);
-        return convertToPageResponse(productPage);
+        return convertToPageResponse(productPage, fields);
     }
 
     @Override
@@ -172,12 +304,37 @@ public class ProductServiceImpl implements ProductService {
     public void addProductImage(Long pno, String fileName) {
         log.info("상품 이미지 추가 요청: pno={}, fileName={}", pno, fileName);
         
+        productImageStore.requireStored(fileName);
         Product product = getActiveProductEntity(pno);
         product.addImageString(fileName);
+        productDetailCache.evict(pno);
+        cartWriteBehindStore.evictProduct(pno);
         
         log.info("상품 이미지 추가 완료: pno={}", pno);
     }
 
+    @Override
+    @Transactional
+    @OptimisticRetry
+    public ProductImageResponse uploadProductImage(Long pno, MultipartFile file) {
+        log.info("상품 이미지 업로드 요청: pno={}, size={}", pno, file.getSize());
+        
+        Product product = getActiveProductEntity(pno);
+        String fileName;
+        try (InputStream content = file.getInputStream()) {
+            fileName = productImageStore.save(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("상품 이미지 저장 실패: pno=" + pno, e);
+        }
+        product.addImageString(fileName);
+        productDetailCache.evict(pno);
+        cartWriteBehindStore.evictProduct(pno);
+        thumbnailGenerator.generateAll(fileName);
+        
+        log.info("상품 이미지 업로드 완료: pno={}, fileName={}", pno, fileName);
+        return productImageStore.toResponse(fileName);
+    }
+
     @Override
     @Transactional
     public void clearProductImages(Long pno) {
@@ -185,6 +342,8 @@ public class ProductServiceImpl implements ProductService {
         
         Product product = getActiveProductEntity(pno);
         product.clearList();
+        productDetailCache.evict(pno);
+        cartWriteBehindStore.evictProduct(pno);
         
         log.info("상품 이미지 전체 삭제 완료: pno={}", pno);
     }
@@ -200,6 +359,8 @@ public class ProductServiceImpl implements ProductService {
         
         Product product = getActiveProductEntity(pno);
         product.changePrice(newPrice);
+        productDetailCache.evict(pno);
+        cartWriteBehindStore.evictProduct(pno);
         
         log.info("상품 가격 변경 완료: pno={}", pno);
     }
@@ -261,6 +422,15 @@ public class ProductServiceImpl implements ProductService {
         return product;
     }
 
+    /**
+     * 현재 트랜잭션에서 활성 상품 필터를 해제하여 삭제된 상품도 조회합니다.
+     * 
+     * <p>삭제/복구처럼 삭제된 상품을 다뤄야 하는 경로에서만 호출합니다.</p>
+     */
+    private void includeDeletedProducts() {
+        hibernateFilters.disable(Product.ACTIVE_FILTER);
+    }
+
     /**
      * Product 엔티티를 ProductResponse로 변환합니다.
      * 
@@ -268,27 +438,42 @@ public class ProductServiceImpl implements ProductService {
      * @return ProductResponse
      */
     private ProductResponse convertToResponse(Product product) {
-        // 감사 정보 구성
-        AuditDto auditDto = AuditDto.builder()
-                .createdBy(product.getCreatedBy() != null ? product.getCreatedBy().getEmail() : null)
-                .createdByNickname(product.getCreatedBy() != null ? product.getCreatedBy().getNickname() : null)
-                .updatedBy(product.getUpdatedBy() != null ? product.getUpdatedBy().getEmail() : null)
-                .updatedByNickname(product.getUpdatedBy() != null ? product.getUpdatedBy().getNickname() : null)
-                .createdAt(product.getCreatedAt())
-                .updatedAt(product.getUpdatedAt())
-                .deleted(product.isDeleted())
-                .build();
+        return convertToResponse(product, FieldSelection.all());
+    }
 
-        return ProductResponse.builder()
+    /**
+     * Product 엔티티를 선택한 필드만 채운 ProductResponse로 변환합니다.
+     * 
+     * <p>이미지 목록(images, thumbnail)과 감사 정보(audit)는 선택한 경우에만 적재합니다.</p>
+     * 
+     * @param product 상품 엔티티
+     * @param fields 응답 필드 선택
+     * @return ProductResponse
+     */
+    private ProductResponse convertToResponse(Product product, FieldSelection fields) {
+        ProductResponse.ProductResponseBuilder builder = ProductResponse.builder()
                 .pno(product.getPno())
                 .productName(product.getPname())
-                .description(product.getPdesc())
                 .price(product.getPrice())
-                .images(product.getImageList().stream()
-                        .map(image -> image.getFileName())
-                        .toList())
-                .audit(auditDto)
-                .build();
+                .version(product.getVersion());
+        if (fields.includes("description")) {
+            builder.description(product.getPdesc());
+        }
+        if (includesImages(fields)) {
+            List<String> fileNames = product.getImageList().stream()
+                    .map(image -> image.getFileName())
+                    .toList();
+            builder.images(fileNames.stream().map(productImageStore::toResponse).toList())
+                    .thumbnail(productImageStore.thumbnailUrl(fileNames));
+        }
+        if (fields.includes(FieldSelection.AUDIT)) {
+            builder.audit(auditMapper.toAuditDto(product));
+        }
+        return builder.build();
+    }
+
+    private static boolean includesImages(FieldSelection fields) {
+        return fields.includesAny("images", "thumbnail");
     }
 
     /**
@@ -298,9 +483,29 @@ public class ProductServiceImpl implements ProductService {
      * @return PageResponse<ProductResponse>
      */
     private PageResponse<ProductResponse> convertToPageResponse(Page<Product> productPage) {
+        return convertToPageResponse(productPage, FieldSelection.all());
+    }
+
+    /**
+     * Page<Product>를 선택한 필드만 채운 PageResponse<ProductResponse>로 변환합니다.
+     * 
+     * @param productPage 상품 페이지
+     * @param fields 응답 필드 선택
+     * @return PageResponse<ProductResponse>
+     */
+    private PageResponse<ProductResponse> convertToPageResponse(Page<Product> productPage, FieldSelection fields) {
+        if (includesImages(fields) && productPage.hasContent()) {
+            // 페이지 상품의 이미지 컬렉션을 한 번에 초기화 (상품별 지연 로딩 방지)
+            productRepository.findActiveWithImagesByPnoIn(productPage.getContent().stream()
+                    .map(Product::getPno)
+                    .toList());
+        }
+        if (fields.includes(FieldSelection.AUDIT)) {
+            auditMapper.prefetch(productPage.getContent());
+        }
         return PageResponse.<ProductResponse>builder()
                 .content(productPage.getContent().stream()
-                        .map(this::convertToResponse)
+                        .map(product -> convertToResponse(product, fields))
                         .toList())
                 .page(productPage.getNumber())
                 .size(productPage.getSize())
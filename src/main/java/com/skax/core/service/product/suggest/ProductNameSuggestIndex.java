@@ -0,0 +1,60 @@
+package com.skax.core.service.product.suggest;
+
+import com.skax.core.common.suggest.PrefixIndex;
+import com.skax.core.common.suggest.SuggestIndexSupport;
+import com.skax.core.common.suggest.SuggestProperties;
+import com.skax.core.entity.product.Product;
+import com.skax.core.repository.product.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 상품명 자동완성 색인
+ *
+ * <p>활성 상품의 이름을 색인하며 최근에 등록/수정된 상품을 먼저 반환합니다.
+ * ProductServiceImpl의 생성/수정/복구는 {@link #index(Product)}, 삭제는 {@link #remove(Long)}를 호출합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@Component
+public class ProductNameSuggestIndex extends SuggestIndexSupport<Long> {
+
+    private final ProductRepository productRepository;
+
+    public ProductNameSuggestIndex(ProductRepository productRepository,
+                                   SuggestProperties properties,
+                                   MeterRegistry meterRegistry) {
+        super("product", properties, meterRegistry);
+        this.productRepository = productRepository;
+    }
+
+    @Override
+    protected Collection<PrefixIndex.Entry<Long>> loadEntries() {
+        return productRepository.findSuggestEntries().stream()
+                .map(row -> new PrefixIndex.Entry<>((Long) row[0], (String) row[1], recency((LocalDateTime) row[2])))
+                .toList();
+    }
+
+    /**
+     * 상품을 색인에 반영합니다. (커밋 후)
+     *
+     * @param product 상품 엔티티
+     */
+    public void index(Product product) {
+        putAfterCommit(product.getPno(), product.getPname(), System.currentTimeMillis());
+    }
+
+    /**
+     * 상품을 색인에서 제거합니다. (커밋 후)
+     *
+     * @param pno 상품 번호
+     */
+    public void remove(Long pno) {
+        removeAfterCommit(pno);
+    }
+}
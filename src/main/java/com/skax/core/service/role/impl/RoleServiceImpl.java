@@ -1,5 +1,6 @@
 package com.skax.core.service.role.impl;
 
+import com.skax.core.common.concurrency.SingleFlight;
 import com.skax.core.dto.role.request.RoleCreateRequest;
 import com.skax.core.dto.role.request.RoleUpdateRequest;
 import com.skax.core.dto.role.response.RoleResponse;
@@ -141,6 +142,7 @@ public class RoleServiceImpl implements RoleService {
     }
 
     @Override
+    @SingleFlight
     public RoleResponse getRoleByName(String roleName) {
         log.debug("Getting role by name: {}", roleName);
         
@@ -1,8 +1,11 @@
 package com.skax.core.service.todo;
 
+import com.skax.core.dto.todo.request.TodoBulkCompleteRequest;
 import com.skax.core.dto.todo.request.TodoCreateRequest;
+import com.skax.core.dto.todo.request.TodoReassignRequest;
 import com.skax.core.dto.todo.request.TodoUpdateRequest;
 import com.skax.core.dto.todo.response.TodoResponse;
+import com.skax.core.dto.todo.response.TodoStatsResponse;
 import com.skax.core.common.response.PageResponse;
 import org.springframework.data.domain.Pageable;
 
@@ -180,17 +183,44 @@ public interface TodoService {
      */
     Long getTodoCountByComplete(Boolean complete);
 
+    /**
+     * 작성자별 할일 통계(전체/완료/미완료/기한 초과)를 조회합니다.
+     * 
+     * @param writer 작성자 (null이면 전체 작성자)
+     * @return 작성자별 할일 통계 목록
+     */
+    List<TodoStatsResponse> getTodoStats(String writer);
+
     /**
      * 모든 할일을 삭제합니다.
+     * 
+     * @return 삭제된 할일 수
      */
-    void deleteAllTodos();
+    int deleteAllTodos();
 
     /**
      * 작성자별 모든 할일을 삭제합니다.
      * 
      * @param writer 작성자
+     * @return 삭제된 할일 수
+     */
+    int deleteTodosByWriter(String writer);
+
+    /**
+     * 여러 할일을 한 번에 완료 처리합니다.
+     * 
+     * @param request 일괄 완료 요청 정보
+     * @return 완료 처리된 할일 수
+     */
+    int completeTodos(TodoBulkCompleteRequest request);
+
+    /**
+     * 작성자의 모든 할일을 다른 작성자로 이관합니다.
+     * 
+     * @param request 작성자 이관 요청 정보
+     * @return 이관된 할일 수
      */
-    void deleteTodosByWriter(String writer);
+    int reassignWriter(TodoReassignRequest request);
 
     /**
      * 모든 할일 목록을 리스트로 조회합니다. (페이징 없음)
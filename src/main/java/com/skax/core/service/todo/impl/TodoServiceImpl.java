@@ -4,15 +4,23 @@ import com.skax.core.common.exception.BusinessException;
 import com.skax.core.common.response.ErrorCode;
 import com.skax.core.common.response.PageResponse;
 import com.skax.core.dto.todo.mapper.TodoMapper;
+import com.skax.core.dto.todo.request.TodoBulkCompleteRequest;
 import com.skax.core.dto.todo.request.TodoCreateRequest;
+import com.skax.core.dto.todo.request.TodoReassignRequest;
 import com.skax.core.dto.todo.request.TodoUpdateRequest;
 import com.skax.core.dto.todo.response.TodoResponse;
+import com.skax.core.dto.todo.response.TodoStatsResponse;
+import com.skax.core.entity.member.Member;
 import com.skax.core.entity.todo.Todo;
 import com.skax.core.repository.todo.TodoRepository;
 import com.skax.core.service.todo.TodoService;
+import com.skax.core.service.todo.reminder.TodoReminderScheduler;
+import com.skax.core.service.todo.stats.TodoStatsCounter;
+import com.skax.core.service.todo.stats.TodoStatsCounter.Snapshot;
 import com.skax.core.util.ServiceUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +28,8 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -42,6 +52,9 @@ public class TodoServiceImpl implements TodoService {
     private final TodoRepository todoRepository;
     private final TodoMapper todoMapper;
     private final ServiceUtils serviceUtils;
+    private final TodoStatsCounter todoStatsCounter;
+    private final TodoReminderScheduler todoReminderScheduler;
+    private final AuditorAware<Member> auditorAware;
 
     @Override
     @Transactional
@@ -50,6 +63,8 @@ public class TodoServiceImpl implements TodoService {
         
         Todo todo = todoMapper.toEntity(request);
         Todo savedTodo = todoRepository.save(todo);
+        todoStatsCounter.recordChange(null, Snapshot.of(savedTodo));
+        todoReminderScheduler.onSaved(savedTodo);
         
         log.info("할일 생성 완료 - 할일번호: {}", savedTodo.getTno());
         return serviceUtils.mapWithAudit(savedTodo, todoMapper.toResponse(savedTodo));
@@ -69,9 +84,12 @@ public class TodoServiceImpl implements TodoService {
         log.info("할일 수정 시작 - 할일번호: {}", tno);
         
         Todo todo = findTodoByTno(tno);
+        Snapshot before = Snapshot.of(todo);
         todo.updateTodo(request.getTitle(), request.getWriter(), request.getComplete());
         
         Todo updatedTodo = todoRepository.save(todo);
+        todoStatsCounter.recordChange(before, Snapshot.of(updatedTodo));
+        todoReminderScheduler.onSaved(updatedTodo);
         
         log.info("할일 수정 완료 - 할일번호: {}", updatedTodo.getTno());
         return serviceUtils.mapWithAudit(updatedTodo, todoMapper.toResponse(updatedTodo));
@@ -84,6 +102,8 @@ public class TodoServiceImpl implements TodoService {
         
         Todo todo = findTodoByTno(tno);
         todoRepository.delete(todo);
+        todoStatsCounter.recordChange(Snapshot.of(todo), null);
+        todoReminderScheduler.onDeleted(tno);
         
         log.info("할일 삭제 완료 - 할일번호: {}", tno);
     }
@@ -144,7 +164,7 @@ public class TodoServiceImpl implements TodoService {
     public PageResponse<TodoResponse> searchTodosByTitle(String title, Pageable pageable) {
         log.info("제목으로 할일 검색 - 키워드: {}", title);
         
-        Page<Todo> todoPage = todoRepository.findByTitleContainingIgnoreCase(title, pageable);
+        Page<Todo> todoPage = todoRepository.findByTitleContainingIgnoreCase(escapeLike(title), pageable);
         Page<TodoResponse> responsePage = todoPage.map(todoMapper::toResponse);
         
         return PageResponse.from(responsePage);
@@ -154,7 +174,7 @@ public class TodoServiceImpl implements TodoService {
     public PageResponse<TodoResponse> searchTodos(String title, String writer, Pageable pageable) {
         log.info("제목과 작성자로 할일 검색 - 제목: {}, 작성자: {}", title, writer);
         
-        Page<Todo> todoPage = todoRepository.searchTodos(title, writer, pageable);
+        Page<Todo> todoPage = todoRepository.searchTodos(escapeLike(title), writer, pageable);
         Page<TodoResponse> responsePage = todoPage.map(todoMapper::toResponse);
         
         return PageResponse.from(responsePage);
@@ -166,9 +186,12 @@ public class TodoServiceImpl implements TodoService {
         log.info("할일 완료 상태 토글 - 할일번호: {}", tno);
         
         Todo todo = findTodoByTno(tno);
+        Snapshot before = Snapshot.of(todo);
         todo.toggleComplete();
         
         Todo updatedTodo = todoRepository.save(todo);
+        todoStatsCounter.recordChange(before, Snapshot.of(updatedTodo));
+        todoReminderScheduler.onSaved(updatedTodo);
         
         log.info("할일 완료 상태 토글 완료 - 할일번호: {}, 완료여부: {}", tno, updatedTodo.getComplete());
         return serviceUtils.mapWithAudit(updatedTodo, todoMapper.toResponse(updatedTodo));
@@ -226,18 +249,64 @@ public class TodoServiceImpl implements TodoService {
         return todoRepository.countByComplete(complete);
     }
 
+    @Override
+    public List<TodoStatsResponse> getTodoStats(String writer) {
+        log.info("할일 통계 조회 - 작성자: {}", writer);
+        
+        LocalDate today = LocalDate.now();
+        if (todoStatsCounter.isReady()) {
+            return todoStatsCounter.getStats(writer, today);
+        }
+        return todoRepository.findStatsGroupByWriter(writer, today);
+    }
+
     @Override
     @Transactional
-    public void deleteAllTodos() {
+    public int deleteAllTodos() {
         log.info("모든 할일 삭제");
-        todoRepository.deleteAll();
+        int deleted = todoRepository.deleteAllInBulk();
+        todoStatsCounter.rebuildAfterCommit();
+        todoReminderScheduler.requestReloadAfterCommit();
+        
+        log.info("모든 할일 삭제 완료 - 삭제 건수: {}", deleted);
+        return deleted;
     }
 
     @Override
     @Transactional
-    public void deleteTodosByWriter(String writer) {
+    public int deleteTodosByWriter(String writer) {
         log.info("작성자별 할일 삭제 - 작성자: {}", writer);
-        todoRepository.deleteByWriter(writer);
+        int deleted = todoRepository.deleteAllByWriterInBulk(writer);
+        todoStatsCounter.rebuildAfterCommit();
+        todoReminderScheduler.requestReloadAfterCommit();
+        
+        log.info("작성자별 할일 삭제 완료 - 작성자: {}, 삭제 건수: {}", writer, deleted);
+        return deleted;
+    }
+
+    @Override
+    @Transactional
+    public int completeTodos(TodoBulkCompleteRequest request) {
+        log.info("할일 일괄 완료 - 요청 건수: {}", request.getTnos().size());
+        int completed = todoRepository.completeAllByTnoIn(request.getTnos(), LocalDateTime.now(), currentAuditor());
+        todoStatsCounter.rebuildAfterCommit();
+        todoReminderScheduler.requestReloadAfterCommit();
+        
+        log.info("할일 일괄 완료 처리 완료 - 완료 건수: {}", completed);
+        return completed;
+    }
+
+    @Override
+    @Transactional
+    public int reassignWriter(TodoReassignRequest request) {
+        log.info("할일 작성자 이관 - {} -> {}", request.getFromWriter(), request.getToWriter());
+        int reassigned = todoRepository.reassignWriter(request.getFromWriter(), request.getToWriter(), LocalDateTime.now(),
+                currentAuditor());
+        todoStatsCounter.rebuildAfterCommit();
+        todoReminderScheduler.requestReloadAfterCommit();
+        
+        log.info("할일 작성자 이관 완료 - 이관 건수: {}", reassigned);
+        return reassigned;
     }
 
     @Override
@@ -362,4 +431,29 @@ public class TodoServiceImpl implements TodoService {
         log.debug("정렬 파라미터 정리 완료 - 원본: '{}' -> 정리: '{}'", original, cleaned);
         return cleaned;
     }
+
+    /**
+     * 일괄 JPQL 변경의 수정자를 반환합니다.
+     * 
+     * <p>일괄 UPDATE는 JPA Auditing을 거치지 않으므로 엔티티 수정과 같은 AuditorAware로 수정자를 구합니다.</p>
+     * 
+     * @return 현재 사용자 (없으면 null)
+     */
+    private Member currentAuditor() {
+        return auditorAware.getCurrentAuditor().orElse(null);
+    }
+
+    /**
+     * LIKE 검색 키워드의 와일드카드 문자를 이스케이프합니다.
+     * 사용자가 입력한 %, _ 가 와일드카드가 아닌 문자 그대로 검색되도록 \ 를 앞에 붙입니다.
+     * 
+     * @param keyword 검색 키워드 (null 허용)
+     * @return 이스케이프된 키워드
+     */
+    static String escapeLike(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 }
@@ -0,0 +1,50 @@
+package com.skax.core.service.todo.reminder;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * 전달된 알림을 메모리에 보관하는 {@link ReminderSink} 구현체 (테스트용)
+ *
+ * <p>최근 {@value #MAX_SIZE}건까지만 보관합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-04
+ * @version 1.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.todo.reminder", name = "sink", havingValue = "memory")
+public class InMemoryReminderSink implements ReminderSink {
+
+    private static final int MAX_SIZE = 1000;
+
+    private final ConcurrentLinkedDeque<TodoReminder> reminders = new ConcurrentLinkedDeque<>();
+
+    @Override
+    public void send(TodoReminder reminder) {
+        reminders.addLast(reminder);
+        while (reminders.size() > MAX_SIZE) {
+            reminders.pollFirst();
+        }
+    }
+
+    /**
+     * 보관된 알림 목록을 반환합니다.
+     *
+     * @return 알림 목록 (전달 순)
+     */
+    public List<TodoReminder> getReminders() {
+        return new ArrayList<>(reminders);
+    }
+
+    /**
+     * 보관된 알림을 모두 제거합니다.
+     */
+    public void clear() {
+        reminders.clear();
+    }
+}
@@ -0,0 +1,24 @@
+package com.skax.core.service.todo.reminder;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그로 알림을 남기는 {@link ReminderSink} 구현체 (기본값)
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-04
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.todo.reminder", name = "sink", havingValue = "log", matchIfMissing = true)
+public class LoggingReminderSink implements ReminderSink {
+
+    @Override
+    public void send(TodoReminder reminder) {
+        log.info("할일 마감 알림 - 종류: {}, 할일번호: {}, 작성자: {}, 마감일: {}",
+                reminder.getType(), reminder.getTno(), reminder.getWriter(), reminder.getDueDate());
+    }
+}
@@ -0,0 +1,23 @@
+package com.skax.core.service.todo.reminder;
+
+/**
+ * 할일 마감 알림 전달 대상
+ *
+ * <p>{@code app.todo.reminder.sink} 설정에 따라 구현체가 선택됩니다.
+ * (log: {@link LoggingReminderSink}, memory: {@link InMemoryReminderSink})</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-04
+ * @version 1.0
+ */
+public interface ReminderSink {
+
+    /**
+     * 알림을 전달합니다.
+     *
+     * <p>스케줄러 스레드에서 호출되므로 오래 걸리는 작업은 비동기로 처리해야 합니다.</p>
+     *
+     * @param reminder 알림 이벤트
+     */
+    void send(TodoReminder reminder);
+}
@@ -0,0 +1,74 @@
+package com.skax.core.service.todo.reminder;
+
+import com.skax.core.entity.todo.Todo;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 할일 마감 알림 이벤트
+ *
+ * <p>타이밍 휠에 보관되는 값이자 {@link ReminderSink}로 전달되는 이벤트입니다.
+ * 엔티티 대신 알림에 필요한 최소 정보만 보관합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-04
+ * @version 1.0
+ */
+@Getter
+@Builder
+@ToString
+public class TodoReminder {
+
+    /**
+     * 알림 종류
+     */
+    public enum Type {
+        /** 마감 임박 */
+        UPCOMING,
+        /** 마감 초과 */
+        OVERDUE
+    }
+
+    private final Long tno;
+    private final String title;
+    private final String writer;
+    private final LocalDate dueDate;
+    private final Type type;
+    private final Instant fireAt;
+
+    /**
+     * 할일 엔티티로 알림 이벤트를 생성합니다.
+     *
+     * @param todo 할일 엔티티
+     * @param type 알림 종류
+     * @param fireAt 알림 시각
+     * @return 알림 이벤트
+     */
+    public static TodoReminder of(Todo todo, Type type, Instant fireAt) {
+        return TodoReminder.builder()
+                .tno(todo.getTno())
+                .title(todo.getTitle())
+                .writer(todo.getWriter())
+                .dueDate(todo.getDueDate())
+                .type(type)
+                .fireAt(fireAt)
+                .build();
+    }
+
+    /**
+     * 타이밍 휠 키를 반환합니다. (할일 번호 + 알림 종류)
+     *
+     * @return 휠 키
+     */
+    public String key() {
+        return key(tno, type);
+    }
+
+    static String key(Long tno, Type type) {
+        return tno + ":" + type.name();
+    }
+}
@@ -0,0 +1,64 @@
+package com.skax.core.service.todo.reminder;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 할일 마감 알림 설정
+ *
+ * <p>{@code app.todo.reminder.*} 설정을 바인딩합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-04
+ * @version 1.0
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.todo.reminder")
+public class TodoReminderProperties {
+
+    /**
+     * 마감 알림 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 알림 전달 대상 (log, memory)
+     */
+    private String sink = "log";
+
+    /**
+     * 타이밍 휠 최하위 단계의 한 칸 시간 (알림 정밀도)
+     */
+    private Duration tick = Duration.ofMinutes(1);
+
+    /**
+     * 타이밍 휠 단계별 칸 수
+     */
+    private int wheelSize = 64;
+
+    /**
+     * 타이밍 휠 단계 수
+     */
+    private int levels = 3;
+
+    /**
+     * 메모리에 적재할 알림 시간 범위 (현재 시각부터)
+     */
+    private Duration window = Duration.ofHours(48);
+
+    /**
+     * 알림 범위를 다시 적재하는 주기
+     */
+    private Duration reloadInterval = Duration.ofMinutes(30);
+
+    /**
+     * 마감일 시작 시각 기준 마감 임박 알림을 보내는 시간
+     */
+    private Duration upcomingLeadTime = Duration.ofHours(24);
+}
@@ -0,0 +1,282 @@
+package com.skax.core.service.todo.reminder;
+
+import com.skax.core.common.scheduling.HierarchicalTimingWheel;
+import com.skax.core.entity.todo.Todo;
+import com.skax.core.repository.todo.TodoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 할일 마감 알림 스케줄러
+ *
+ * <p>현재 시각부터 {@code window} 범위 안에 알림 시각이 있는 미완료 할일만 마감일 범위 쿼리
+ * (idx_todo_due_date)로 적재하여 {@link HierarchicalTimingWheel}에 등록합니다.
+ * 매 tick마다 휠을 진행시켜 만료된 알림을 {@link ReminderSink}로 전달하고,
+ * {@code reload-interval}마다 범위를 다시 적재하므로 메모리는 테이블 크기가 아니라
+ * 범위 안의 할일 수에 비례합니다.</p>
+ *
+ * <p>알림 시각은 마감일 기준으로 계산합니다.</p>
+ * <ul>
+ *   <li>마감 임박(UPCOMING): 마감일 시작 시각 - {@code upcoming-lead-time}</li>
+ *   <li>마감 초과(OVERDUE): 마감일 다음 날 시작 시각</li>
+ * </ul>
+ *
+ * <p>할일 생성/수정/토글/삭제는 트랜잭션 커밋 후 휠에 반영되며,
+ * 일괄 변경은 다음 tick에서 범위를 다시 적재합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-04
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class TodoReminderScheduler implements SchedulingConfigurer {
+
+    private final TodoRepository todoRepository;
+    private final ReminderSink reminderSink;
+    private final TodoReminderProperties properties;
+    private final Clock clock;
+    private final ZoneId zone;
+    private final HierarchicalTimingWheel<String, TodoReminder> wheel;
+    private final Map<TodoReminder.Type, Counter> firedCounters = new EnumMap<>(TodoReminder.Type.class);
+
+    private final Object reloadLock = new Object();
+    private final List<Runnable> changesDuringReload = new ArrayList<>();
+    private Instant advancedTo;
+    private Instant windowEnd;
+    private boolean reloading;
+    private volatile boolean reloadRequested;
+
+    @Autowired
+    public TodoReminderScheduler(TodoRepository todoRepository,
+                                 ReminderSink reminderSink,
+                                 TodoReminderProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this(todoRepository, reminderSink, properties, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    /**
+     * 지정한 시계로 스케줄러를 생성합니다. (테스트에서 시간 진행 제어용)
+     *
+     * @param clock 현재 시각과 마감일 계산 시간대를 제공하는 시계
+     */
+    TodoReminderScheduler(TodoRepository todoRepository,
+                          ReminderSink reminderSink,
+                          TodoReminderProperties properties,
+                          MeterRegistry meterRegistry,
+                          Clock clock) {
+        this.todoRepository = todoRepository;
+        this.reminderSink = reminderSink;
+        this.properties = properties;
+        this.clock = clock;
+        this.zone = clock.getZone();
+        this.advancedTo = clock.instant();
+        this.windowEnd = advancedTo;
+        this.wheel = new HierarchicalTimingWheel<>(properties.getTick(), properties.getWheelSize(),
+                properties.getLevels(), advancedTo);
+
+        if (properties.getWindow().compareTo(wheel.span()) > 0) {
+            log.warn("알림 적재 범위({})가 타이밍 휠 범위({})보다 큽니다. wheel-size 또는 levels를 늘리세요.",
+                    properties.getWindow(), wheel.span());
+        }
+        for (TodoReminder.Type type : TodoReminder.Type.values()) {
+            firedCounters.put(type, Counter.builder("todo.reminder.fired")
+                    .description("전달된 할일 마감 알림 수")
+                    .tag("type", type.name())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("todo.reminder.scheduled", this, TodoReminderScheduler::scheduledCount)
+                .description("타이밍 휠에 등록된 할일 마감 알림 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        if (!properties.isEnabled()) {
+            log.info("할일 마감 알림 비활성화");
+            return;
+        }
+        registrar.addFixedDelayTask(this::tick, properties.getTick());
+        registrar.addFixedDelayTask(this::reload, properties.getReloadInterval());
+        log.info("할일 마감 알림 스케줄러 등록 - tick: {}, window: {}, reloadInterval: {}",
+                properties.getTick(), properties.getWindow(), properties.getReloadInterval());
+    }
+
+    // ==================== 스케줄 작업 ====================
+
+    /**
+     * 타이밍 휠을 현재 시각까지 진행시키고 만료된 알림을 전달합니다.
+     */
+    public void tick() {
+        if (reloadRequested) {
+            reload();
+        }
+
+        List<TodoReminder> expired;
+        synchronized (this) {
+            Instant now = clock.instant();
+            expired = wheel.advance(now);
+            advancedTo = now;
+        }
+
+        for (TodoReminder reminder : expired) {
+            try {
+                reminderSink.send(reminder);
+                firedCounters.get(reminder.getType()).increment();
+            } catch (RuntimeException e) {
+                log.warn("할일 마감 알림 전달 실패 - 할일번호: {}, error: {}", reminder.getTno(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 알림 범위 안의 미완료 할일을 다시 적재합니다.
+     *
+     * <p>DB 조회 중에 커밋된 변경은 적재 후 다시 적용합니다.</p>
+     */
+    public void reload() {
+        synchronized (reloadLock) {
+            reloadRequested = false;
+            Instant from;
+            synchronized (this) {
+                reloading = true;
+                changesDuringReload.clear();
+                from = advancedTo;
+            }
+
+            Instant until = clock.instant().plus(properties.getWindow());
+            List<TodoReminder> reminders = new ArrayList<>();
+            try {
+                LocalDate fromDate = LocalDate.ofInstant(from, zone).minusDays(1);
+                LocalDate toDate = LocalDate.ofInstant(until.plus(properties.getUpcomingLeadTime()), zone);
+                for (Todo todo : todoRepository.findIncompleteByDueDateBetween(fromDate, toDate)) {
+                    collectReminders(todo, from, until, reminders);
+                }
+            } catch (RuntimeException e) {
+                log.warn("할일 마감 알림 적재 실패 - error: {}", e.getMessage());
+                synchronized (this) {
+                    reloading = false;
+                    changesDuringReload.clear();
+                }
+                return;
+            }
+
+            synchronized (this) {
+                wheel.clear();
+                reminders.forEach(reminder -> wheel.schedule(reminder.key(), reminder, reminder.getFireAt()));
+                windowEnd = until;
+                changesDuringReload.forEach(Runnable::run);
+                changesDuringReload.clear();
+                reloading = false;
+            }
+            log.debug("할일 마감 알림 적재 완료 - 등록: {}건, 범위: ~{}", reminders.size(), until);
+        }
+    }
+
+    // ==================== 변경 반영 ====================
+
+    /**
+     * 저장된 할일의 알림을 트랜잭션 커밋 후 다시 등록합니다.
+     *
+     * @param todo 저장된 할일 엔티티
+     */
+    public void onSaved(Todo todo) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        Long tno = todo.getTno();
+        boolean complete = Boolean.TRUE.equals(todo.getComplete());
+        List<TodoReminder> candidates = new ArrayList<>(2);
+        if (!complete && todo.getDueDate() != null) {
+            collectReminders(todo, Instant.MIN, Instant.MAX, candidates);
+        }
+        runAfterCommit(() -> applyChange(() -> {
+            cancelAll(tno);
+            for (TodoReminder reminder : candidates) {
+                Instant fireAt = reminder.getFireAt();
+                if (!fireAt.isBefore(advancedTo) && fireAt.isBefore(windowEnd)) {
+                    wheel.schedule(reminder.key(), reminder, fireAt);
+                }
+            }
+        }));
+    }
+
+    /**
+     * 삭제된 할일의 알림을 트랜잭션 커밋 후 취소합니다.
+     *
+     * @param tno 할일 번호
+     */
+    public void onDeleted(Long tno) {
+        if (properties.isEnabled()) {
+            runAfterCommit(() -> applyChange(() -> cancelAll(tno)));
+        }
+    }
+
+    /**
+     * 일괄 변경 후 다음 tick에서 알림 범위를 다시 적재하도록 요청합니다.
+     */
+    public void requestReloadAfterCommit() {
+        if (properties.isEnabled()) {
+            runAfterCommit(() -> reloadRequested = true);
+        }
+    }
+
+    private synchronized void applyChange(Runnable change) {
+        change.run();
+        if (reloading) {
+            changesDuringReload.add(change);
+        }
+    }
+
+    private void cancelAll(Long tno) {
+        for (TodoReminder.Type type : TodoReminder.Type.values()) {
+            wheel.cancel(TodoReminder.key(tno, type));
+        }
+    }
+
+    private synchronized int scheduledCount() {
+        return wheel.size();
+    }
+
+    private void collectReminders(Todo todo, Instant from, Instant until, List<TodoReminder> reminders) {
+        LocalDate dueDate = todo.getDueDate();
+        Instant upcomingAt = dueDate.atStartOfDay(zone).toInstant().minus(properties.getUpcomingLeadTime());
+        Instant overdueAt = dueDate.plusDays(1).atStartOfDay(zone).toInstant();
+        if (!upcomingAt.isBefore(from) && upcomingAt.isBefore(until)) {
+            reminders.add(TodoReminder.of(todo, TodoReminder.Type.UPCOMING, upcomingAt));
+        }
+        if (!overdueAt.isBefore(from) && overdueAt.isBefore(until)) {
+            reminders.add(TodoReminder.of(todo, TodoReminder.Type.OVERDUE, overdueAt));
+        }
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
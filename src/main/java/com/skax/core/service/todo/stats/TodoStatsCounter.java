@@ -0,0 +1,347 @@
+package com.skax.core.service.todo.stats;
+
+import com.skax.core.dto.todo.response.TodoStatsResponse;
+import com.skax.core.entity.todo.Todo;
+import com.skax.core.repository.todo.TodoRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 작성자별 할일 통계 메모리 카운터
+ *
+ * <p>{@code app.todo.stats.in-memory-counters=true}이면 작성자별 전체/완료/미완료 개수와
+ * 미완료 할일의 마감일 분포를 메모리에 유지하여 통계 조회를 DB 조회 없이 처리합니다.
+ * 애플리케이션 기동 시 GROUP BY 쿼리로 초기화하고, 할일 생성/수정/토글/삭제는
+ * 트랜잭션 커밋 후 변경 전후 상태의 차이만큼 반영합니다.</p>
+ *
+ * <p>기한 초과 개수는 날짜가 바뀔 때 지난 마감일 버킷을 누적값으로 합쳐 두므로
+ * 조회 비용은 분할 상환 O(1)입니다. 일괄 변경처럼 개별 차이를 알 수 없는 작업 후에는
+ * {@link #rebuildAfterCommit()}으로 다시 적재합니다.</p>
+ *
+ * <p>변경을 기록한 트랜잭션은 커밋 직전(beforeCommit)부터 차이를 반영할 때(afterCommit)까지 읽기 잠금을 잡고,
+ * 다시 적재는 쓰기 잠금을 잡습니다. 따라서 다시 적재하는 동안에는 새 커밋이 기다리고, 이미 커밋했지만 아직
+ * 반영하지 않은 차이가 있으면 다시 적재가 기다리므로, 적재한 DB 결과에 이미 포함된 차이가 한 번 더 반영되거나
+ * 적재 전에 반영한 차이가 사라지지 않습니다.</p>
+ *
+ * <p>작성자가 없는(null) 할일은 DB 집계와 같이 작성자 null인 하나의 그룹으로 집계하며, 빈 문자열 작성자와
+ * 구분합니다. 정렬도 DB 집계({@code NULLS FIRST})와 같습니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-03
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class TodoStatsCounter {
+
+    // ConcurrentHashMap은 null 키를 허용하지 않으므로 작성자가 없는 할일은 실제 작성자와 겹치지 않는 키로 집계
+    private static final String NO_WRITER = "\u0000";
+
+    private final TodoRepository todoRepository;
+    private final boolean enabled;
+    private final Map<String, WriterCounters> counters = new ConcurrentHashMap<>();
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    public TodoStatsCounter(TodoRepository todoRepository,
+                            @Value("${app.todo.stats.in-memory-counters:false}") boolean enabled) {
+        this.todoRepository = todoRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 메모리 카운터로 통계를 제공할 수 있는지 여부를 반환합니다.
+     *
+     * @return 카운터가 활성화되고 초기화가 끝났으면 true
+     */
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 카운터를 초기화합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 작성자별 통계를 반환합니다.
+     *
+     * @param writer 작성자 (null이면 전체 작성자)
+     * @param today 기한 초과 판단 기준일
+     * @return 작성자별 할일 통계 목록 (작성자 순)
+     */
+    public List<TodoStatsResponse> getStats(String writer, LocalDate today) {
+        rebuildLock.readLock().lock();
+        try {
+            List<TodoStatsResponse> stats = new ArrayList<>();
+            if (writer != null) {
+                WriterCounters writerCounters = counters.get(writer);
+                if (writerCounters != null && !writerCounters.isEmpty()) {
+                    stats.add(writerCounters.toResponse(writer, today));
+                }
+                return stats;
+            }
+            counters.forEach((key, value) -> {
+                if (!value.isEmpty()) {
+                    stats.add(value.toResponse(writerOf(key), today));
+                }
+            });
+            stats.sort(Comparator.comparing(TodoStatsResponse::getWriter,
+                    Comparator.nullsFirst(Comparator.naturalOrder())));
+            return stats;
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    // ==================== 변경 반영 ====================
+
+    /**
+     * 할일 변경을 트랜잭션 커밋 후 카운터에 반영합니다.
+     *
+     * @param before 변경 전 상태 (생성이면 null)
+     * @param after 변경 후 상태 (삭제면 null)
+     */
+    public void recordChange(Snapshot before, Snapshot after) {
+        if (!enabled || Objects.equals(before, after)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(before, after);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new ChangeSynchronization(before, after));
+    }
+
+    /**
+     * 트랜잭션 커밋 후 카운터 전체를 다시 적재합니다.
+     *
+     * <p>같은 트랜잭션에서 기록한 변경의 읽기 잠금이 모두 풀린 뒤(afterCompletion) 실행합니다.</p>
+     */
+    public void rebuildAfterCommit() {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebuild();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    rebuild();
+                }
+            }
+        });
+    }
+
+    /**
+     * DB의 GROUP BY 결과로 카운터 전체를 다시 적재합니다.
+     */
+    public void rebuild() {
+        rebuildLock.writeLock().lock();
+        try {
+            LocalDate today = LocalDate.now();
+            counters.clear();
+            for (TodoStatsResponse stats : todoRepository.findStatsGroupByWriter(null, today)) {
+                WriterCounters writerCounters = counters.computeIfAbsent(key(stats.getWriter()), k -> new WriterCounters());
+                writerCounters.total = stats.getTotal();
+                writerCounters.completed = stats.getCompleted();
+            }
+            for (Object[] row : todoRepository.countIncompleteGroupByWriterAndDueDate()) {
+                counters.computeIfAbsent(key((String) row[0]), k -> new WriterCounters())
+                        .incompleteByDueDate.merge((LocalDate) row[1], (Long) row[2], Long::sum);
+            }
+            ready = true;
+            log.info("할일 통계 카운터 적재 완료 - 작성자: {}명", counters.size());
+        } catch (RuntimeException e) {
+            ready = false;
+            log.warn("할일 통계 카운터 적재 실패, DB 집계로 대체합니다 - error: {}", e.getMessage());
+        } finally {
+            rebuildLock.writeLock().unlock();
+        }
+    }
+
+    private void apply(Snapshot before, Snapshot after) {
+        rebuildLock.readLock().lock();
+        try {
+            if (before != null) {
+                counters.computeIfAbsent(key(before.getWriter()), k -> new WriterCounters()).add(before, -1);
+            }
+            if (after != null) {
+                counters.computeIfAbsent(key(after.getWriter()), k -> new WriterCounters()).add(after, 1);
+            }
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    private static String key(String writer) {
+        return writer != null ? writer : NO_WRITER;
+    }
+
+    private static String writerOf(String key) {
+        return NO_WRITER.equals(key) ? null : key;
+    }
+
+    /**
+     * 커밋 직전부터 차이 반영까지 다시 적재를 막는 트랜잭션 동기화
+     */
+    private final class ChangeSynchronization implements TransactionSynchronization {
+
+        private final Snapshot before;
+        private final Snapshot after;
+        private boolean locked;
+
+        private ChangeSynchronization(Snapshot before, Snapshot after) {
+            this.before = before;
+            this.after = after;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            rebuildLock.readLock().lock();
+            locked = true;
+        }
+
+        @Override
+        public void afterCommit() {
+            try {
+                apply(before, after);
+            } finally {
+                unlock();
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            unlock();
+        }
+
+        private void unlock() {
+            if (locked) {
+                locked = false;
+                rebuildLock.readLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 통계에 영향을 주는 할일 상태 스냅샷
+     */
+    @Getter
+    public static final class Snapshot {
+
+        private final String writer;
+        private final boolean complete;
+        private final LocalDate dueDate;
+
+        private Snapshot(String writer, boolean complete, LocalDate dueDate) {
+            this.writer = writer;
+            this.complete = complete;
+            this.dueDate = dueDate;
+        }
+
+        /**
+         * 할일 엔티티의 현재 상태로 스냅샷을 생성합니다.
+         *
+         * @param todo 할일 엔티티
+         * @return 상태 스냅샷
+         */
+        public static Snapshot of(Todo todo) {
+            return new Snapshot(todo.getWriter(), Boolean.TRUE.equals(todo.getComplete()), todo.getDueDate());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Snapshot other)) {
+                return false;
+            }
+            return complete == other.complete
+                    && Objects.equals(writer, other.writer)
+                    && Objects.equals(dueDate, other.dueDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(writer, complete, dueDate);
+        }
+    }
+
+    /**
+     * 작성자 한 명의 카운터
+     */
+    private static final class WriterCounters {
+
+        private long total;
+        private long completed;
+        private long overdue;
+        private LocalDate rolledUpTo = LocalDate.MIN;
+        private final TreeMap<LocalDate, Long> incompleteByDueDate = new TreeMap<>();
+
+        synchronized void add(Snapshot snapshot, int delta) {
+            total += delta;
+            if (snapshot.isComplete()) {
+                completed += delta;
+            } else if (snapshot.getDueDate() == null) {
+                return;
+            } else if (snapshot.getDueDate().isBefore(rolledUpTo)) {
+                overdue += delta;
+            } else {
+                incompleteByDueDate.merge(snapshot.getDueDate(), (long) delta,
+                        (current, d) -> current + d == 0 ? null : current + d);
+            }
+        }
+
+        synchronized boolean isEmpty() {
+            return total == 0;
+        }
+
+        synchronized TodoStatsResponse toResponse(String writer, LocalDate today) {
+            // 기준일 이전 마감일 버킷을 누적 기한 초과 개수로 합친다
+            if (today.isAfter(rolledUpTo)) {
+                Map.Entry<LocalDate, Long> first;
+                while ((first = incompleteByDueDate.firstEntry()) != null && first.getKey().isBefore(today)) {
+                    overdue += first.getValue();
+                    incompleteByDueDate.pollFirstEntry();
+                }
+                rolledUpTo = today;
+            }
+            return TodoStatsResponse.builder()
+                    .writer(writer)
+                    .total(total)
+                    .completed(completed)
+                    .incomplete(total - completed)
+                    .overdue(overdue)
+                    .build();
+        }
+    }
+}
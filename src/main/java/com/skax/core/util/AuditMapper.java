@@ -4,20 +4,28 @@ import com.skax.core.dto.AuditDto;
 import com.skax.core.dto.BaseDto;
 import com.skax.core.entity.BaseEntity;
 import com.skax.core.entity.member.Member;
+import com.skax.core.service.member.cache.MemberDisplayNameCache;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+
 /**
  * 공통 매퍼 유틸리티 클래스
  * 
- * <p>BaseEntity에서 BaseDto로 감사 정보를 매핑하는 공통 메서드를 제공합니다.</p>
+ * <p>BaseEntity에서 BaseDto로 감사 정보를 매핑하는 공통 메서드를 제공합니다.
+ * 생성자/수정자 닉네임은 {@link MemberDisplayNameCache}를 통해 조회하여 회원 프록시 초기화를 피합니다.</p>
  * 
  * @author ByounggwanLee
  * @since 2025-09-02
  * @version 1.0
  */
 @Component
+@RequiredArgsConstructor
 public class AuditMapper {
 
+    private final MemberDisplayNameCache memberDisplayNameCache;
+
     /**
      * BaseEntity에서 BaseDto로 감사 정보를 매핑합니다.
      * 
@@ -37,15 +45,15 @@ public class AuditMapper {
         // 생성자 정보 매핑
         Member createdBy = entity.getCreatedBy();
         if (createdBy != null) {
-            dto.setCreatedBy(createdBy.getEmail());
-            dto.setCreatedByNickname(createdBy.getNickname());
+            dto.setCreatedBy(memberDisplayNameCache.emailOf(createdBy));
+            dto.setCreatedByNickname(memberDisplayNameCache.nicknameOf(createdBy));
         }
 
         // 수정자 정보 매핑
         Member updatedBy = entity.getUpdatedBy();
         if (updatedBy != null) {
-            dto.setUpdatedBy(updatedBy.getEmail());
-            dto.setUpdatedByNickname(updatedBy.getNickname());
+            dto.setUpdatedBy(memberDisplayNameCache.emailOf(updatedBy));
+            dto.setUpdatedByNickname(memberDisplayNameCache.nicknameOf(updatedBy));
         }
     }
 
@@ -68,15 +76,36 @@ public class AuditMapper {
         // 생성자 정보 매핑
         Member createdBy = entity.getCreatedBy();
         if (createdBy != null) {
-            auditDto.setCreatedBy(createdBy.getEmail());
-            auditDto.setCreatedByNickname(createdBy.getNickname());
+            auditDto.setCreatedBy(memberDisplayNameCache.emailOf(createdBy));
+            auditDto.setCreatedByNickname(memberDisplayNameCache.nicknameOf(createdBy));
         }
 
         // 수정자 정보 매핑
         Member updatedBy = entity.getUpdatedBy();
         if (updatedBy != null) {
-            auditDto.setUpdatedBy(updatedBy.getEmail());
-            auditDto.setUpdatedByNickname(updatedBy.getNickname());
+            auditDto.setUpdatedBy(memberDisplayNameCache.emailOf(updatedBy));
+            auditDto.setUpdatedByNickname(memberDisplayNameCache.nicknameOf(updatedBy));
         }
     }
+
+    /**
+     * BaseEntity의 감사 정보로 새로운 AuditDto를 생성합니다.
+     * 
+     * @param entity 소스 엔티티
+     * @return 감사 정보 DTO
+     */
+    public AuditDto toAuditDto(BaseEntity entity) {
+        AuditDto auditDto = new AuditDto();
+        mapAuditFields(entity, auditDto);
+        return auditDto;
+    }
+
+    /**
+     * 엔티티 목록을 변환하기 전에 생성자/수정자 닉네임을 일괄 적재합니다.
+     * 
+     * @param entities 변환할 엔티티 목록
+     */
+    public void prefetch(Collection<? extends BaseEntity> entities) {
+        memberDisplayNameCache.prefetch(entities);
+    }
 }
@@ -5,6 +5,8 @@ import com.skax.core.entity.BaseEntity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+
 /**
  * 서비스 공통 유틸리티 클래스
  * 
@@ -34,4 +36,13 @@ public class ServiceUtils {
         }
         return dto;
     }
+
+    /**
+     * 엔티티 목록을 DTO로 변환하기 전에 감사 정보(생성자/수정자 닉네임)를 일괄 적재합니다.
+     * 
+     * @param entities 변환할 엔티티 목록
+     */
+    public void prefetchAudit(Collection<? extends BaseEntity> entities) {
+        auditMapper.prefetch(entities);
+    }
 }
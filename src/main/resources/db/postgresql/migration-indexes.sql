@@ -0,0 +1,81 @@
+-- =====================================================================
+-- mall-api PostgreSQL 인덱스 스크립트 (트랜잭션 없이 실행)
+--
+-- CREATE/DROP INDEX CONCURRENTLY 는 트랜잭션 블록 안에서 실행할 수 없으므로
+-- migration.sql 적용 후 자동 커밋 모드로 구문마다 따로 실행합니다.
+--
+--   psql -v ON_ERROR_STOP=1 -f migration-indexes.sql
+--
+-- --single-transaction, BEGIN/COMMIT 으로 감싸거나 스크립트 전체를 하나의
+-- 트랜잭션으로 실행하는 마이그레이션 도구(Flyway 기본 설정 등)로 실행하면 실패합니다.
+-- 중간에 실패하면 INVALID 상태의 인덱스가 남을 수 있으므로 DROP INDEX 후 다시 실행합니다.
+-- 모든 구문은 재실행 가능하도록 IF [NOT] EXISTS 를 사용합니다.
+-- =====================================================================
+
+-- ---------------------------------------------------------------------
+-- 2025-08-28 상품 목록 조회 인덱스 (tbl_product)
+--
+-- 활성 상품만 조회하는 쿼리가 대부분이므로 운영 DB에서는 deleted = false
+-- 부분 인덱스를 사용합니다. (H2/로컬 환경은 엔티티의 복합 인덱스를 사용)
+-- ---------------------------------------------------------------------
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_active_pno
+    ON tbl_product (pno) WHERE deleted = false;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_active_price
+    ON tbl_product (price) WHERE deleted = false;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_active_category
+    ON tbl_product (category) WHERE deleted = false;
+
+-- ---------------------------------------------------------------------
+-- 2025-09-03 할일 조회/검색 인덱스 (tbl_todo)
+--
+-- (writer, complete)      : findByWriter, findByWriterAndComplete, 작성자별 통계
+-- (complete, updated_at)  : findRecentlyCompleted (ORDER BY updated_at DESC)
+-- (due_date)              : 마감일 범위 조회
+-- LOWER(title) 트라이그램 : 제목 부분 일치 검색 (LOWER(title) LIKE '%키워드%')
+--
+-- 트라이그램 인덱스는 3글자 이상의 키워드에서 효과가 있습니다. 적용 후
+-- EXPLAIN (ANALYZE) 로 Bitmap Index Scan on idx_todo_title_trgm 사용을 확인하세요.
+-- ---------------------------------------------------------------------
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_todo_writer_complete
+    ON tbl_todo (writer, complete);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_todo_complete_updated_at
+    ON tbl_todo (complete, updated_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_todo_due_date
+    ON tbl_todo (due_date);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_todo_title_trgm
+    ON tbl_todo USING gin (LOWER(title) gin_trgm_ops);
+
+-- ---------------------------------------------------------------------
+-- 2025-09-05 방치된 장바구니 정리 인덱스 (tbl_cart, tbl_cart_item)
+--
+-- idx_cartitem_cart_updated_at 은 cart_cno 단독 조회도 처리하므로
+-- 기존 idx_cartitem_cart 를 대체합니다.
+-- ---------------------------------------------------------------------
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cart_updated_at
+    ON tbl_cart (updated_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cartitem_cart_updated_at
+    ON tbl_cart_item (cart_cno, updated_at);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_cartitem_cart;
+
+-- ---------------------------------------------------------------------
+-- 2025-09-06 멱등성 키 만료 인덱스 (tbl_idempotency_key)
+-- ---------------------------------------------------------------------
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_idempotency_key_expires_at
+    ON tbl_idempotency_key (expires_at);
+
+-- ---------------------------------------------------------------------
+-- 2025-09-07 상품 이미지 목록 정렬 키 고유 인덱스 (product_image_list)
+--
+-- migration.sql 에서 sort_order 를 채운 뒤에 만들어야 합니다. 같은 상품 안에서
+-- 정렬 키가 겹치지 않게 하며, 행 삭제(product_pno, file_name, sort_order)에도 사용됩니다.
+-- 이전 ord 고유 인덱스는 ord 컬럼과 함께 제거됩니다.
+-- ---------------------------------------------------------------------
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_product_image_list_pno_sort_order
+    ON product_image_list (product_pno, sort_order);
@@ -0,0 +1,111 @@
+-- =====================================================================
+-- mall-api PostgreSQL 스키마 보완 스크립트 (트랜잭션 실행)
+--
+-- 운영 환경(prod)은 ddl-auto: validate 를 사용하므로 엔티티 변경에 따른
+-- 컬럼/테이블 추가는 이 스크립트로 적용합니다. 모든 구문은 재실행 가능하도록
+-- IF NOT EXISTS 를 사용합니다.
+--
+-- 인덱스는 운영 중 테이블 쓰기 잠금을 피하기 위해 CREATE INDEX CONCURRENTLY 로
+-- 만들며, 이 구문은 트랜잭션 블록 안에서 실행할 수 없으므로
+-- migration-indexes.sql 로 분리되어 있습니다. 적용 순서:
+--
+--   1. psql -v ON_ERROR_STOP=1 --single-transaction -f migration.sql
+--   2. psql -v ON_ERROR_STOP=1 -f migration-indexes.sql   (자동 커밋, 트랜잭션 없이)
+-- =====================================================================
+
+-- ---------------------------------------------------------------------
+-- 2025-08-29 낙관적 잠금 버전 컬럼 (tbl_product, tbl_cart_item)
+-- ---------------------------------------------------------------------
+ALTER TABLE tbl_product ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE tbl_cart_item ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+-- ---------------------------------------------------------------------
+-- 2025-09-03 할일 제목 검색용 트라이그램 확장 (인덱스는 migration-indexes.sql)
+-- ---------------------------------------------------------------------
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- ---------------------------------------------------------------------
+-- 2025-09-06 멱등성 키 저장 테이블 (app.idempotency.store=jdbc)
+--
+-- 다중 노드 환경에서 Idempotency-Key 선점과 응답 재전송에 사용합니다.
+-- 만료된 행은 애플리케이션이 purge-interval 마다 삭제합니다.
+-- claim_token 은 키를 선점한 요청만 완료/해제하도록 비교하는 값이며,
+-- expires_at 은 노드/세션 시간대와 관계없이 비교되도록 TIMESTAMPTZ 로 저장합니다.
+-- 먼저 만들어진 테이블은 아래 ALTER 로 보완합니다 (재실행 시 변경 없음).
+-- ---------------------------------------------------------------------
+CREATE TABLE IF NOT EXISTS tbl_idempotency_key (
+    idem_key        VARCHAR(64)  NOT NULL PRIMARY KEY,
+    fingerprint     VARCHAR(64)  NOT NULL,
+    claim_token     VARCHAR(36),
+    status          VARCHAR(16)  NOT NULL,
+    response_status INTEGER,
+    content_type    VARCHAR(255),
+    response_body   BYTEA,
+    expires_at      TIMESTAMPTZ  NOT NULL
+);
+
+ALTER TABLE tbl_idempotency_key ADD COLUMN IF NOT EXISTS claim_token VARCHAR(36);
+
+ALTER TABLE tbl_idempotency_key ALTER COLUMN expires_at TYPE TIMESTAMPTZ;
+
+-- ---------------------------------------------------------------------
+-- 2025-09-07 상품 이미지 목록 정렬 키 (product_image_list.sort_order)
+--
+-- Product 이미지 목록이 위치(ord) 대신 간격을 둔 정렬 키(sort_order)로
+-- 정렬되어, 이미지를 옮기거나 삭제해도 다른 이미지의 행은 바뀌지 않습니다.
+-- 행은 (product_pno, file_name, sort_order) 로 식별되므로 두 컬럼 모두
+-- NOT NULL 이어야 합니다. 기존 ord 순서대로 1048576(Product.IMAGE_SORT_GAP)
+-- 간격의 키를 매긴 뒤 ord 컬럼(과 이를 포함한 기본키/인덱스)을 제거합니다.
+-- ord 가 이미 없으면 다시 매기지 않습니다. (고유 인덱스는 migration-indexes.sql)
+-- ---------------------------------------------------------------------
+ALTER TABLE product_image_list ADD COLUMN IF NOT EXISTS sort_order BIGINT;
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+                WHERE table_name = 'product_image_list' AND column_name = 'ord') THEN
+        UPDATE product_image_list t
+           SET sort_order = s.rn * 1048576
+          FROM (SELECT ctid,
+                       ROW_NUMBER() OVER (PARTITION BY product_pno ORDER BY ord, ctid) AS rn
+                  FROM product_image_list) s
+         WHERE t.ctid = s.ctid;
+        ALTER TABLE product_image_list DROP COLUMN ord;
+    END IF;
+END $$;
+
+ALTER TABLE product_image_list ALTER COLUMN sort_order SET NOT NULL;
+
+ALTER TABLE product_image_list ALTER COLUMN file_name SET NOT NULL;
+
+-- ---------------------------------------------------------------------
+-- 2025-09-07 이전 형식 상품 이미지 파일명 (product_image_list.file_name)
+--
+-- 이미지 저장소 도입 전 파일명(SHA-256 + 확장자가 아닌 값)은 제공할 파일이
+-- 없으므로 API 가 URL 없이 legacy=true 로 응답합니다. 내용 해시는 SQL 로
+-- 만들 수 없어 자동으로 바꾸지 않습니다. 원본 파일이 있으면 업로드 API 로
+-- 다시 올린 뒤 상품 수정으로 교체하고, 없으면 상품 이미지 삭제로 정리합니다.
+-- 대상 확인:
+--   SELECT product_pno, sort_order, file_name FROM product_image_list
+--    WHERE file_name !~ '^[0-9a-f]{64}\.(jpg|png|gif)$';
+-- ---------------------------------------------------------------------
+
+-- ---------------------------------------------------------------------
+-- 2025-09-14 작성자/수정자 감사 컬럼 (AuditableEntity)
+--
+-- AuditableEntity 가 매핑되어 created_by / updated_by 가 members(email) 를
+-- 참조합니다. 기존 행은 값이 없으므로 NULL 로 둡니다.
+-- ---------------------------------------------------------------------
+ALTER TABLE members       ADD COLUMN IF NOT EXISTS created_by VARCHAR(255) REFERENCES members (email);
+ALTER TABLE members       ADD COLUMN IF NOT EXISTS updated_by VARCHAR(255) REFERENCES members (email);
+ALTER TABLE roles         ADD COLUMN IF NOT EXISTS created_by VARCHAR(255) REFERENCES members (email);
+ALTER TABLE roles         ADD COLUMN IF NOT EXISTS updated_by VARCHAR(255) REFERENCES members (email);
+ALTER TABLE tbl_product   ADD COLUMN IF NOT EXISTS created_by VARCHAR(255) REFERENCES members (email);
+ALTER TABLE tbl_product   ADD COLUMN IF NOT EXISTS updated_by VARCHAR(255) REFERENCES members (email);
+ALTER TABLE tbl_cart      ADD COLUMN IF NOT EXISTS created_by VARCHAR(255) REFERENCES members (email);
+ALTER TABLE tbl_cart      ADD COLUMN IF NOT EXISTS updated_by VARCHAR(255) REFERENCES members (email);
+ALTER TABLE tbl_cart_item ADD COLUMN IF NOT EXISTS created_by VARCHAR(255) REFERENCES members (email);
+ALTER TABLE tbl_cart_item ADD COLUMN IF NOT EXISTS updated_by VARCHAR(255) REFERENCES members (email);
+ALTER TABLE tbl_todo      ADD COLUMN IF NOT EXISTS created_by VARCHAR(255) REFERENCES members (email);
+ALTER TABLE tbl_todo      ADD COLUMN IF NOT EXISTS updated_by VARCHAR(255) REFERENCES members (email);
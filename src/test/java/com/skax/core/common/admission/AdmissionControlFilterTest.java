@@ -0,0 +1,95 @@
+package com.skax.core.common.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 수락 제어 필터의 회원/IP 버킷 순서 테스트
+ *
+ * <p>충전 속도를 매우 낮게 두어 테스트 중에는 토큰이 다시 채워지지 않게 합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-06
+ * @version 1.0
+ */
+class AdmissionControlFilterTest {
+
+    private static final double NO_REFILL = 0.001;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * 회원 한도로 거절된 요청은 IP 토큰을 돌려주므로 같은 IP의 다른 회원은 계속 요청할 수 있습니다.
+     */
+    @Test
+    void memberRejectionDoesNotDrainSharedIpBucket() throws Exception {
+        AdmissionControlFilter filter = filter(1, 2);
+
+        assertThat(send(filter, "alice@example.com", "10.0.0.1")).isEqualTo(200);
+        assertThat(send(filter, "alice@example.com", "10.0.0.1")).isEqualTo(429);
+        assertThat(send(filter, "bob@example.com", "10.0.0.1")).isEqualTo(200);
+        assertThat(rejected("member")).isEqualTo(1.0);
+    }
+
+    /**
+     * IP 한도로 거절된 요청은 회원 토큰을 쓰지 않으므로 그 회원은 다른 IP에서 요청할 수 있습니다.
+     */
+    @Test
+    void ipRejectionDoesNotConsumeMemberToken() throws Exception {
+        AdmissionControlFilter filter = filter(1, 1);
+
+        assertThat(send(filter, null, "10.0.0.1")).isEqualTo(200);
+        assertThat(send(filter, "alice@example.com", "10.0.0.1")).isEqualTo(429);
+        assertThat(send(filter, "alice@example.com", "10.0.0.2")).isEqualTo(200);
+        assertThat(rejected("ip")).isEqualTo(1.0);
+    }
+
+    private AdmissionControlFilter filter(long memberCapacity, long ipCapacity) {
+        AdmissionProperties.Group group = new AdmissionProperties.Group();
+        group.setEndpoints(List.of("POST /api/v1/carts/**"));
+        group.setMemberCapacity(memberCapacity);
+        group.setMemberRefillPerSecond(NO_REFILL);
+        group.setIpCapacity(ipCapacity);
+        group.setIpRefillPerSecond(NO_REFILL);
+
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setMaxPoolWait(Duration.ZERO);
+        properties.getGroups().put("cart-mutation", group);
+        return new AdmissionControlFilter(properties, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+    }
+
+    private static int send(AdmissionControlFilter filter, String member, String remoteAddr) throws Exception {
+        if (member != null) {
+            SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                    member, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+        } else {
+            SecurityContextHolder.clearContext();
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/carts/1/items");
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, (req, res) -> { });
+        return response.getStatus();
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry.get("http.admission.rejected").tag("reason", reason).counter().count();
+    }
+}
@@ -0,0 +1,93 @@
+package com.skax.core.common.bloom;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 블룸 필터 테스트
+ *
+ * <p>회원 이메일 형태의 값을 예상 원소 수만큼 넣고, 거짓 음성이 없는지와 추가하지 않은 값에 대한
+ * 거짓 양성 비율이 목표(1%) 근처인지 확인합니다. 입력과 해시가 결정적이므로 결과는 실행마다 같습니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+class BloomFilterTest {
+
+    private static final int EXPECTED = 50_000;
+    private static final double TARGET_FPP = 0.01;
+
+    /**
+     * 추가한 값은 모두 있을 수 있음으로 답하고, 추가하지 않은 값의 거짓 양성 비율은 목표 근처입니다.
+     */
+    @Test
+    void noFalseNegativesAndFalsePositivesNearTarget() {
+        BloomFilter filter = BloomFilter.create(EXPECTED, TARGET_FPP);
+        IntStream.range(0, EXPECTED).forEach(i -> filter.put(email(i)));
+
+        assertThat(IntStream.range(0, EXPECTED).allMatch(i -> filter.mightContain(email(i)))).isTrue();
+
+        int probes = 100_000;
+        long falsePositives = IntStream.range(EXPECTED, EXPECTED + probes)
+                .filter(i -> filter.mightContain(email(i)))
+                .count();
+        double observed = (double) falsePositives / probes;
+        assertThat(observed).isBetween(TARGET_FPP / 2, TARGET_FPP * 1.5);
+        assertThat(filter.expectedFalsePositiveRate()).isCloseTo(TARGET_FPP, within(TARGET_FPP * 0.2));
+        assertThat(filter.hashFunctions()).isEqualTo(7);
+    }
+
+    /**
+     * 여러 스레드가 동시에 추가해도 비트가 유실되지 않아 거짓 음성이 없습니다.
+     */
+    @Test
+    void concurrentPutsKeepEveryValue() throws Exception {
+        BloomFilter filter = BloomFilter.create(EXPECTED, TARGET_FPP);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] futures = IntStream.range(0, threads)
+                    .mapToObj(t -> executor.submit(() -> {
+                        for (int i = t; i < EXPECTED; i += threads) {
+                            filter.put(email(i));
+                        }
+                    }))
+                    .toArray(Future[]::new);
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(IntStream.range(0, EXPECTED).allMatch(i -> filter.mightContain(email(i)))).isTrue();
+    }
+
+    /**
+     * null은 추가되지 않으며 항상 없음으로 답하고, 범위를 벗어난 확률로는 생성할 수 없습니다.
+     * 비트 수는 계산값(10개, 1%: 96비트)을 64비트 워드 단위로 올린 값입니다.
+     */
+    @Test
+    void rejectsNullValuesAndInvalidRates() {
+        BloomFilter filter = BloomFilter.create(10, TARGET_FPP);
+        filter.put(null);
+
+        assertThat(filter.mightContain(null)).isFalse();
+        assertThat(filter.bitSize()).isEqualTo(128);
+        assertThatThrownBy(() -> BloomFilter.create(10, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.create(10, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String email(int i) {
+        return "user" + i + "@example.com";
+    }
+}
@@ -0,0 +1,188 @@
+package com.skax.core.common.concurrency;
+
+import com.skax.core.entity.product.Product;
+import com.skax.core.repository.product.ProductRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 낙관적 잠금 경합 벤치마크
+ *
+ * <p>여러 스레드가 같은 상품에 이미지를 동시에 추가할 때, {@link OptimisticRetry} 없이 실행한 경우,
+ * 재시도한 경우, 비관적 쓰기 잠금({@link ProductRepository#findByPnoForUpdate})으로 조회한 경우의
+ * 성공/충돌 건수, 시도 횟수, 처리량과 호출 지연(p50/p99, 재시도와 잠금 대기 포함)을 비교합니다.
+ * 모든 경우 성공한 추가 건수와 최종 이미지 수가 같아야 합니다(갱신 유실 없음).</p>
+ *
+ * <p>{@code ./gradlew benchmark}로 실행합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-29
+ * @version 1.0
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(OptimisticRetryContentionBenchmark.Config.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OptimisticRetryContentionBenchmark {
+
+    private static final int THREADS = 8;
+    private static final int APPENDS_PER_THREAD = 25;
+
+    @Autowired
+    private ImageAppender imageAppender;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * 재시도 없이/재시도하여/비관적 잠금으로 같은 상품에 동시에 이미지를 추가합니다.
+     */
+    @Test
+    void concurrentImageAppends() throws Exception {
+        System.out.printf("%-12s %8s %9s %9s %10s %12s %9s %9s%n",
+                "mode", "success", "conflict", "attempts", "images", "ops/s", "p50 ms", "p99 ms");
+
+        Result plain = run("plain", (pno, name) -> imageAppender.append(pno, name));
+        Result retried = run("retry", (pno, name) -> imageAppender.appendWithRetry(pno, name));
+        Result locked = run("pessimistic", (pno, name) -> imageAppender.appendLocked(pno, name));
+
+        assertThat(plain.images()).isEqualTo(plain.success());
+        assertThat(retried.images()).isEqualTo(retried.success());
+        assertThat(retried.success()).isGreaterThanOrEqualTo(plain.success());
+        assertThat(locked.conflict()).isZero();
+        assertThat(locked.attempts()).isEqualTo(THREADS * APPENDS_PER_THREAD);
+        assertThat(locked.images()).isEqualTo(THREADS * APPENDS_PER_THREAD);
+    }
+
+    private Result run(String mode, Append append) throws Exception {
+        Long pno = transactionTemplate.execute(status ->
+                productRepository.save(Product.builder().pname("경합 상품 " + mode).price(1_000).build()).getPno());
+        imageAppender.attempts().set(0);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger conflict = new AtomicInteger();
+        long[][] latencies = new long[THREADS][APPENDS_PER_THREAD];
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            tasks.add(() -> {
+                for (int i = 0; i < APPENDS_PER_THREAD; i++) {
+                    long callStarted = System.nanoTime();
+                    try {
+                        append.apply(pno, mode + "-" + thread + "-" + i + ".jpg");
+                        success.incrementAndGet();
+                    } catch (ConcurrencyFailureException e) {
+                        conflict.incrementAndGet();
+                    }
+                    latencies[thread][i] = System.nanoTime() - callStarted;
+                }
+                return null;
+            });
+        }
+        long started = System.nanoTime();
+        for (Future<Void> future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        executor.shutdown();
+
+        int images = transactionTemplate.execute(status ->
+                productRepository.findById(pno).orElseThrow().getImageList().size());
+        Result result = new Result(success.get(), conflict.get(), imageAppender.attempts().get(), images);
+        long[] sorted = Arrays.stream(latencies).flatMapToLong(LongStream::of).sorted().toArray();
+        System.out.printf("%-12s %8d %9d %9d %10d %12.1f %9.2f %9.2f%n", mode, result.success(), result.conflict(),
+                result.attempts(), result.images(), (THREADS * APPENDS_PER_THREAD) / seconds,
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99));
+        return result;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    @FunctionalInterface
+    interface Append {
+        void apply(Long pno, String fileName);
+    }
+
+    record Result(int success, int conflict, int attempts, int images) {
+    }
+
+    /**
+     * 이미지 추가 서비스 (재시도 여부와 조회 시 잠금 방식만 다름)
+     */
+    static class ImageAppender {
+
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        private final ProductRepository productRepository;
+
+        ImageAppender(ProductRepository productRepository) {
+            this.productRepository = productRepository;
+        }
+
+        public AtomicInteger attempts() {
+            return attempts;
+        }
+
+        @Transactional
+        public void append(Long pno, String fileName) {
+            attempts.incrementAndGet();
+            productRepository.findById(pno).orElseThrow().addImageString(fileName);
+        }
+
+        @Transactional
+        @OptimisticRetry(maxAttempts = 10, backoffMillis = 2)
+        public void appendWithRetry(Long pno, String fileName) {
+            append(pno, fileName);
+        }
+
+        @Transactional
+        public void appendLocked(Long pno, String fileName) {
+            attempts.incrementAndGet();
+            productRepository.findByPnoForUpdate(pno).orElseThrow().addImageString(fileName);
+        }
+    }
+
+    @TestConfiguration
+    @EnableAspectJAutoProxy
+    static class Config {
+
+        @Bean
+        OptimisticRetryAspect optimisticRetryAspect() {
+            return new OptimisticRetryAspect();
+        }
+
+        @Bean
+        ImageAppender imageAppender(ProductRepository productRepository) {
+            return new ImageAppender(productRepository);
+        }
+    }
+}
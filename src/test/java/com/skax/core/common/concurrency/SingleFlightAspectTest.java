@@ -0,0 +1,188 @@
+package com.skax.core.common.concurrency;
+
+import com.skax.core.dto.product.response.ProductImageResponse;
+import com.skax.core.dto.product.response.ProductResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동시 동일 호출 병합 Aspect 테스트
+ *
+ * <p>먼저 실행한 호출을 래치로 붙잡아 둔 상태에서 같은 인자의 호출을 보내 병합, 결과 복사,
+ * 대기 시간 제한, 실패 시 직접 실행을 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-06
+ * @version 1.0
+ */
+class SingleFlightAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private Lookup target;
+    private Lookup lookup;
+
+    @BeforeEach
+    void setUp() {
+        target = new Lookup();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new SingleFlightAspect(meterRegistry));
+        lookup = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        target.release.countDown();
+        executor.shutdownNow();
+    }
+
+    /**
+     * 기다린 호출은 한 번 실행된 결과의 복사본을 받으므로 다른 호출자의 수정이 보이지 않습니다.
+     */
+    @Test
+    void followersReceiveIndependentCopies() throws Exception {
+        Future<ProductResponse> leader = executor.submit(() -> lookup.product(1L));
+        assertThat(target.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<ProductResponse> first = executor.submit(() -> lookup.product(1L));
+        Future<ProductResponse> second = executor.submit(() -> lookup.product(1L));
+        awaitFollowers();
+        target.release.countDown();
+
+        ProductResponse leaderResult = leader.get(5, TimeUnit.SECONDS);
+        leaderResult.setProductName("leader");
+        leaderResult.getImages().get(0).getSizes().put("small", "changed");
+        ProductResponse firstResult = first.get(5, TimeUnit.SECONDS);
+        firstResult.getImages().add(ProductImageResponse.builder().fileName("extra").build());
+        ProductResponse secondResult = second.get(5, TimeUnit.SECONDS);
+
+        assertThat(target.executions.get()).isEqualTo(1);
+        assertThat(secondResult).isNotSameAs(firstResult);
+        assertThat(secondResult.getProductName()).isEqualTo("상품 1");
+        assertThat(secondResult.getImages()).hasSize(1);
+        assertThat(secondResult.getImages().get(0).getSizes()).containsEntry("small", "/small/1.jpg");
+    }
+
+    /**
+     * 실행 중인 호출이 대기 시간 안에 끝나지 않으면 기다리던 호출이 직접 실행합니다.
+     */
+    @Test
+    void followerStopsWaitingAfterTimeout() throws Exception {
+        Future<ProductResponse> leader = executor.submit(() -> lookup.product(2L));
+        assertThat(target.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        ProductResponse follower = lookup.product(2L);
+
+        assertThat(follower.getPno()).isEqualTo(2L);
+        assertThat(target.executions.get()).isEqualTo(2);
+        assertThat(count("timeout")).isEqualTo(1.0);
+        target.release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS).getPno()).isEqualTo(2L);
+    }
+
+    /**
+     * 실행한 호출이 실패하면 기다리던 호출은 예외 객체를 공유하지 않고 직접 실행하여 자신의 예외를 받습니다.
+     */
+    @Test
+    void failureIsNotSharedWithFollowers() throws Exception {
+        target.failing = true;
+        Future<ProductResponse> leader = executor.submit(() -> lookup.product(3L));
+        assertThat(target.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<ProductResponse> follower = executor.submit(() -> lookup.product(3L));
+        awaitFollowers();
+        target.release.countDown();
+
+        Throwable leaderError = catchCause(leader);
+        Throwable followerError = catchCause(follower);
+
+        assertThat(leaderError).isInstanceOf(IllegalArgumentException.class);
+        assertThat(followerError).isInstanceOf(IllegalArgumentException.class).isNotSameAs(leaderError);
+        assertThat(target.executions.get()).isEqualTo(2);
+        assertThat(count("failed-over")).isEqualTo(1.0);
+    }
+
+    /**
+     * 복사할 수 없는 가변 타입을 반환하는 메서드에는 사용할 수 없습니다.
+     */
+    @Test
+    void mutableReturnTypeIsRejected() {
+        assertThatThrownBy(() -> lookup.names())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Copyable");
+    }
+
+    // 뒤따르는 호출이 대기를 시작한 시점을 알 수 없으므로 대기 시간보다 짧게 쉰다
+    private static void awaitFollowers() throws InterruptedException {
+        Thread.sleep(200);
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("singleflight.calls").tag("result", result).counter().count();
+    }
+
+    private static Throwable catchCause(Future<?> future) throws InterruptedException {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause();
+        } catch (TimeoutException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    /**
+     * 첫 호출을 래치로 붙잡아 둘 수 있는 조회 대상
+     */
+    static class Lookup {
+
+        private final AtomicInteger executions = new AtomicInteger();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean failing;
+
+        @SingleFlight(waitTimeoutMillis = 1_000)
+        public ProductResponse product(Long pno) throws InterruptedException {
+            int execution = executions.incrementAndGet();
+            if (execution == 1) {
+                entered.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            if (failing) {
+                throw new IllegalArgumentException("존재하지 않는 상품입니다: " + pno);
+            }
+            ProductImageResponse image = ProductImageResponse.builder()
+                    .fileName(pno + ".jpg")
+                    .sizes(new HashMap<>(Map.of("small", "/small/" + pno + ".jpg")))
+                    .build();
+            return ProductResponse.builder()
+                    .pno(pno)
+                    .productName("상품 " + pno)
+                    .images(new ArrayList<>(List.of(image)))
+                    .build();
+        }
+
+        @SingleFlight
+        public List<String> names() {
+            return new ArrayList<>(List.of("a"));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.skax.core.common.fields;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.skax.core.common.response.AxResponse;
+import com.skax.core.dto.cart.response.CartItemResponse;
+import com.skax.core.dto.cart.response.CartResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 경로 기반 응답 필드 선택 필터 테스트
+ *
+ * <p>응답 래퍼({@link AxResponse}) 안의 장바구니 응답을 {@link SparseFieldsetResponseAdvice}와 같은 필터로
+ * 직렬화하여 중첩 아이템의 출력 필드를 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-07
+ * @version 1.0
+ */
+class FieldSelectionPropertyFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    /**
+     * 상위 속성만 선택하면 중첩 DTO 전체를 출력합니다.
+     */
+    @Test
+    void parentSelectionRendersWholeNestedObjects() throws Exception {
+        JsonNode cart = render("cno,items");
+
+        assertThat(fieldNames(cart)).containsExactlyInAnyOrder("cno", "items");
+        assertThat(cart.get("items").get(0).get("quantity").asInt()).isEqualTo(2);
+        assertThat(cart.get("items").get(0).get("productName").asText()).isEqualTo("상품");
+        assertThat(cart.get("items").get(0).has("createdAt")).isTrue();
+    }
+
+    /**
+     * 점으로 구분한 경로를 선택하면 중첩 DTO에서 그 속성만 출력합니다.
+     */
+    @Test
+    void dottedPathSelectsNestedProperties() throws Exception {
+        JsonNode cart = render("cno,items.quantity,items.productName");
+
+        assertThat(fieldNames(cart)).containsExactlyInAnyOrder("cno", "items");
+        assertThat(fieldNames(cart.get("items").get(0))).containsExactlyInAnyOrder("quantity", "productName");
+    }
+
+    /**
+     * audit 별칭은 같은 경로의 감사 필드로만 확장됩니다.
+     */
+    @Test
+    void auditAliasExpandsAtItsOwnPath() throws Exception {
+        JsonNode cart = render("cno,items.quantity,items.audit");
+
+        assertThat(fieldNames(cart)).containsExactlyInAnyOrder("cno", "items");
+        assertThat(fieldNames(cart.get("items").get(0)))
+                .contains("quantity", "createdAt", "createdByNickname")
+                .doesNotContain("productName");
+    }
+
+    /**
+     * 하위 경로 선택은 상위 속성을, 하위 지정 없는 상위 선택은 모든 하위 경로를 포함합니다.
+     */
+    @Test
+    void includesFollowsPathHierarchy() {
+        FieldSelection partial = FieldSelection.parse("cno,items.quantity");
+        FieldSelection whole = FieldSelection.parse("cno,items");
+
+        assertThat(partial.includes("items")).isTrue();
+        assertThat(partial.includes("items.quantity")).isTrue();
+        assertThat(partial.includes("items.productName")).isFalse();
+        assertThat(partial.includes("items.audit")).isFalse();
+        assertThat(partial.includes("totalAmount")).isFalse();
+        assertThat(whole.includes("items.productName")).isTrue();
+        assertThat(whole.includes("items.audit")).isTrue();
+        assertThat(FieldSelection.all().includes("items.audit")).isTrue();
+    }
+
+    private JsonNode render(String fields) throws Exception {
+        CartItemResponse item = CartItemResponse.builder()
+                .itemId(10L).productName("상품").productPrice(1_000).quantity(2).totalPrice(2_000).build();
+        item.setCreatedAt(LocalDateTime.of(2025, 9, 7, 10, 0));
+        item.setCreatedByNickname("작성자");
+        CartResponse cart = CartResponse.builder()
+                .cno(1L).memberId("user1@example.com").items(List.of(item)).totalAmount(2_000).build();
+
+        SimpleFilterProvider filters = new SimpleFilterProvider()
+                .addFilter(FieldSelection.FILTER_ID, new FieldSelectionPropertyFilter(FieldSelection.parse(fields)));
+        String json = objectMapper.writer(filters).writeValueAsString(AxResponse.success(cart, "조회 성공"));
+        return objectMapper.readTree(json).get("data");
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+}
@@ -0,0 +1,189 @@
+package com.skax.core.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 멱등성 키 필터 테스트
+ *
+ * <p>요청자별 저장 키 분리, 본문 크기 제한, 선점 토큰에 따른 완료/해제, 비동기 본문 읽기를 확인합니다.
+ * 필터 체인은 호출 횟수를 세고 본문을 그대로 돌려주는 람다로 대신합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-06
+ * @version 1.0
+ */
+class IdempotencyFilterTest {
+
+    private static final String PATH = "/api/v1/products";
+    private static final String BODY = "{\"pname\":\"상품\"}";
+
+    private final IdempotencyProperties properties = new IdempotencyProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger executions = new AtomicInteger();
+    private InMemoryIdempotencyStore store;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryIdempotencyStore(properties);
+        filter = new IdempotencyFilter(properties, store, new ObjectMapper().findAndRegisterModules(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * 같은 사용자가 같은 키로 다시 보내면 저장된 응답을 돌려주고 서비스를 다시 실행하지 않습니다.
+     */
+    @Test
+    void sameUserReplaysStoredResponse() throws Exception {
+        authenticate("alice@example.com");
+        MockHttpServletResponse first = send("key-1", BODY, "10.0.0.1");
+        MockHttpServletResponse second = send("key-1", BODY, "10.0.0.1");
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(second.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+    }
+
+    /**
+     * 다른 사용자 또는 다른 IP의 익명 요청은 같은 키를 보내도 별도로 실행되어 서로의 응답을 받지 않습니다.
+     */
+    @Test
+    void keysAreScopedByPrincipalOrClientAddress() throws Exception {
+        authenticate("alice@example.com");
+        send("shared-key", BODY, "10.0.0.1");
+        authenticate("bob@example.com");
+        MockHttpServletResponse bob = send("shared-key", BODY, "10.0.0.1");
+        SecurityContextHolder.clearContext();
+        send("shared-key", BODY, "10.0.0.1");
+        MockHttpServletResponse otherAddress = send("shared-key", BODY, "10.0.0.2");
+
+        assertThat(executions.get()).isEqualTo(4);
+        assertThat(bob.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(otherAddress.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    /**
+     * max-body-size를 넘는 본문은 Content-Length가 없어도 읽기를 멈추고 413을 반환합니다.
+     */
+    @Test
+    void oversizedBodyIsRejected() throws Exception {
+        properties.setMaxBodySize(DataSize.ofBytes(16));
+        MockHttpServletRequest request = request("big", "x".repeat(17), "10.0.0.1");
+        request.removeHeader("Content-Length");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> executions.incrementAndGet());
+
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+        assertThat(response.getContentAsString()).contains("C010");
+        assertThat(executions.get()).isZero();
+        assertThat(send("small", "x".repeat(16), "10.0.0.1").getStatus()).isEqualTo(201);
+    }
+
+    /**
+     * 처리 중 표시가 만료되어 다른 요청이 다시 선점한 키는 이전 요청이 완료하거나 해제할 수 없습니다.
+     */
+    @Test
+    void staleClaimCannotCompleteOrReleaseNewClaim() {
+        Instant expiresAt = Instant.now().plus(Duration.ofMinutes(1));
+        assertThat(store.tryAcquire("k", IdempotencyRecord.inProgress("f", "new", expiresAt))).isNull();
+
+        boolean stored = store.complete("k", "old",
+                IdempotencyRecord.completed("f", 201, null, new byte[0], expiresAt));
+        store.release("k", "old");
+
+        assertThat(stored).isFalse();
+        assertThat(store.find("k")).satisfies(record -> {
+            assertThat(record.isCompleted()).isFalse();
+            assertThat(record.getClaimToken()).isEqualTo("new");
+        });
+
+        store.release("k", "new");
+        assertThat(store.find("k")).isNull();
+    }
+
+    /**
+     * 미리 읽어 둔 본문도 비동기 읽기(ReadListener)로 읽을 수 있습니다.
+     */
+    @Test
+    void cachedBodySupportsReadListener() throws Exception {
+        List<String> events = new ArrayList<>();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("async", BODY, "10.0.0.1"), response, (req, res) -> {
+            ServletInputStream in = req.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    events.add(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    events.add("done");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    events.add("error");
+                }
+            });
+        });
+
+        assertThat(events).containsExactly(BODY, "done");
+    }
+
+    private MockHttpServletResponse send(String key, String body, String remoteAddr) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(key, body, remoteAddr), response, (req, res) -> {
+            int execution = executions.incrementAndGet();
+            ((HttpServletResponse) res).setStatus(201);
+            res.setContentType("application/json");
+            res.getWriter().write("{\"execution\":" + execution + ",\"body\":"
+                    + StreamUtils.copyToString(req.getInputStream(), StandardCharsets.UTF_8) + "}");
+        });
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String key, String body, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", PATH);
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        request.setContentType("application/json");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                username, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+}
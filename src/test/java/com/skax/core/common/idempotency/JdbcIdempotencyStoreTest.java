@@ -0,0 +1,92 @@
+package com.skax.core.common.idempotency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DB 테이블 멱등성 키 저장소 테스트
+ *
+ * <p>선점 토큰이 일치할 때만 완료/해제되는지 확인합니다. 테이블은 migration.sql과 같은 컬럼으로
+ * H2에 직접 만듭니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-06
+ * @version 1.0
+ */
+@DataJpaTest
+class JdbcIdempotencyStoreTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcIdempotencyStore store;
+    private Instant expiresAt;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS tbl_idempotency_key ("
+                + "idem_key VARCHAR(64) NOT NULL PRIMARY KEY, fingerprint VARCHAR(64) NOT NULL, "
+                + "claim_token VARCHAR(36), status VARCHAR(16) NOT NULL, response_status INTEGER, "
+                + "content_type VARCHAR(255), response_body VARBINARY, "
+                + "expires_at TIMESTAMP WITH TIME ZONE NOT NULL)");
+        store = new JdbcIdempotencyStore(jdbcTemplate, new IdempotencyProperties());
+        expiresAt = Instant.now().plus(Duration.ofMinutes(1));
+    }
+
+    /**
+     * 선점한 요청은 응답을 저장하고, 이후 선점 시도는 저장된 응답을 받습니다.
+     */
+    @Test
+    void ownerCompletesClaim() {
+        assertThat(store.tryAcquire("k", IdempotencyRecord.inProgress("f", "owner", expiresAt))).isNull();
+
+        boolean stored = store.complete("k", "owner",
+                IdempotencyRecord.completed("f", 201, "application/json", new byte[] {1, 2}, expiresAt));
+
+        assertThat(stored).isTrue();
+        IdempotencyRecord existing = store.tryAcquire("k", IdempotencyRecord.inProgress("f", "next", expiresAt));
+        assertThat(existing.isCompleted()).isTrue();
+        assertThat(existing.getStatus()).isEqualTo(201);
+        assertThat(existing.getBody()).containsExactly(1, 2);
+        assertThat(existing.getClaimToken()).isNull();
+    }
+
+    /**
+     * 다른 토큰으로는 처리 중 키를 완료하거나 해제할 수 없고, 완료된 키는 해제되지 않습니다.
+     */
+    @Test
+    void otherTokenCannotCompleteOrRelease() {
+        store.tryAcquire("k", IdempotencyRecord.inProgress("f", "owner", expiresAt));
+
+        assertThat(store.complete("k", "stale",
+                IdempotencyRecord.completed("f", 201, null, new byte[0], expiresAt))).isFalse();
+        store.release("k", "stale");
+        assertThat(store.find("k").getClaimToken()).isEqualTo("owner");
+
+        store.complete("k", "owner", IdempotencyRecord.completed("f", 201, null, new byte[0], expiresAt));
+        store.release("k", "owner");
+        assertThat(store.find("k").isCompleted()).isTrue();
+    }
+
+    /**
+     * 만료된 처리 중 키는 새 요청이 다시 선점하며, 이전 요청의 완료는 적용되지 않습니다.
+     */
+    @Test
+    void expiredClaimIsReplaced() {
+        store.tryAcquire("k", IdempotencyRecord.inProgress("f", "old", Instant.now().minusSeconds(1)));
+
+        assertThat(store.tryAcquire("k", IdempotencyRecord.inProgress("f", "new", expiresAt))).isNull();
+        assertThat(store.complete("k", "old",
+                IdempotencyRecord.completed("f", 201, null, new byte[0], expiresAt))).isFalse();
+        assertThat(store.complete("k", "new",
+                IdempotencyRecord.completed("f", 201, null, new byte[0], expiresAt))).isTrue();
+    }
+}
@@ -0,0 +1,219 @@
+package com.skax.core.common.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그 발생률 제한 TurboFilter 테스트
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-02
+ * @version 1.0
+ */
+class LogRateLimitTurboFilterTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+
+    private LogRateLimitTurboFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.DEBUG);
+        filter = new LogRateLimitTurboFilter();
+        filter.setContext(loggerContext);
+    }
+
+    /**
+     * 한도는 접두사 아래의 모든 로거가 함께 나눠 씁니다.
+     */
+    @Test
+    void limitIsSharedByPrefix() {
+        filter.addLimit("com.example=5");
+        filter.start();
+
+        int accepted = accept("com.example.order", 5) + accept("com.example.product", 5);
+
+        assertThat(accepted).isEqualTo(5);
+        assertThat(filter.getRules().get("com.example").getRateLimited()).isEqualTo(5);
+    }
+
+    /**
+     * 가장 긴 접두사의 설정이 적용됩니다.
+     */
+    @Test
+    void longestPrefixWins() {
+        filter.addLimit("com.example=1");
+        filter.addLimit("com.example.sql=100");
+        filter.start();
+
+        assertThat(accept("com.example.sql.bind", 10)).isEqualTo(10);
+        assertThat(accept("com.example.web", 10)).isEqualTo(1);
+    }
+
+    /**
+     * 샘플링은 N건 중 1건만 남깁니다.
+     */
+    @Test
+    void samplingKeepsOneInN() {
+        filter.addSample("com.example=10");
+        filter.start();
+
+        assertThat(accept("com.example.sql", 100)).isEqualTo(10);
+        assertThat(filter.getRules().get("com.example").getSampledOut()).isEqualTo(90);
+        assertThat(filter.getDroppedEvents()).isEqualTo(90);
+    }
+
+    /**
+     * 따르는 로거(바인딩)는 같은 스레드에서 바로 전 선행 로거(SQL)가 기록될 때만 기록되고, 버려진 건수는 샘플링으로 집계됩니다.
+     */
+    @Test
+    void followerSharesLeaderDecision() {
+        filter.addLimit("org.hibernate.SQL=3");
+        filter.addSample("org.hibernate.SQL=2");
+        filter.addFollow("org.hibernate.orm.jdbc.bind=org.hibernate.SQL");
+        filter.start();
+        Logger sql = loggerContext.getLogger("org.hibernate.SQL");
+        Logger bind = loggerContext.getLogger("org.hibernate.orm.jdbc.bind");
+
+        int statementsLogged = 0;
+        int bindsLogged = 0;
+        for (int i = 0; i < 10; i++) {
+            boolean statementLogged = filter.decide(null, sql, Level.DEBUG, "select", null, null) == FilterReply.NEUTRAL;
+            for (int parameter = 0; parameter < 3; parameter++) {
+                boolean bindLogged = filter.decide(null, bind, Level.DEBUG, "binding {}", new Object[]{parameter}, null)
+                        == FilterReply.NEUTRAL;
+                assertThat(bindLogged).as("statement %d, parameter %d", i, parameter).isEqualTo(statementLogged);
+                bindsLogged += bindLogged ? 1 : 0;
+            }
+            statementsLogged += statementLogged ? 1 : 0;
+        }
+
+        assertThat(statementsLogged).isEqualTo(3);
+        assertThat(bindsLogged).isEqualTo(9);
+        assertThat(filter.getRules().get("org.hibernate.orm.jdbc.bind").getSampledOut()).isEqualTo(21);
+    }
+
+    /**
+     * 선행 로거의 결정이 없으면(비활성화 등) 따르는 로거는 통과하며, 다른 스레드의 결정은 따르지 않습니다.
+     */
+    @Test
+    void followerWithoutLeaderDecisionPasses() throws Exception {
+        filter.addLimit("org.hibernate.SQL=1");
+        filter.addFollow("org.hibernate.orm.jdbc.bind=org.hibernate.SQL");
+        filter.start();
+        Logger sql = loggerContext.getLogger("org.hibernate.SQL");
+        filter.decide(null, sql, Level.DEBUG, "select", null, null);
+        assertThat(filter.decide(null, sql, Level.DEBUG, "select", null, null)).isEqualTo(FilterReply.DENY);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertThat(executor.submit(() -> accept("org.hibernate.orm.jdbc.bind", 5)).get()).isEqualTo(5);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 설정되지 않은 접두사를 따르거나 한도와 함께 지정한 follow는 무시됩니다.
+     */
+    @Test
+    void invalidFollowIsIgnored() {
+        filter.addLimit("com.example.bind=1");
+        filter.addLimit("com.example.sql=1");
+        filter.addFollow("com.example.bind=com.example.sql");
+        filter.addFollow("com.example.other=com.example.missing");
+        filter.addFollow("com.example.broken");
+        filter.start();
+
+        assertThat(filter.getRules()).containsOnlyKeys("com.example.bind", "com.example.sql");
+        assertThat(accept("com.example.bind", 3)).isEqualTo(1);
+        assertThat(accept("com.example.other", 3)).isEqualTo(3);
+    }
+
+    /**
+     * WARN 이상은 한도와 관계없이 통과합니다.
+     */
+    @Test
+    void warnAlwaysPasses() {
+        filter.addLimit("com.example=1");
+        filter.start();
+        Logger logger = loggerContext.getLogger("com.example");
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(filter.decide(null, logger, Level.WARN, "경고", null, null)).isEqualTo(FilterReply.NEUTRAL);
+        }
+    }
+
+    /**
+     * 여러 스레드가 동시에 기록해도 윈도우당 한도를 넘지 않습니다.
+     */
+    @Test
+    void concurrentCallersNeverExceedLimitPerWindow() throws Exception {
+        filter.addLimit("com.example=100");
+        filter.start();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            String loggerName = "com.example.worker" + t;
+            tasks.add(() -> accept(loggerName, 20_000));
+        }
+
+        long startSecond = System.currentTimeMillis() / 1000;
+        int accepted = 0;
+        for (Future<Integer> future : executor.invokeAll(tasks)) {
+            accepted += future.get();
+        }
+        long windows = System.currentTimeMillis() / 1000 - startSecond + 1;
+        executor.shutdown();
+
+        assertThat(accepted).isPositive().isLessThanOrEqualTo(100 * (int) windows);
+        assertThat(accepted + filter.getDroppedEvents()).isEqualTo(8 * 20_000);
+    }
+
+    /**
+     * 버려진 건수는 접두사와 사유별 카운터로 노출됩니다.
+     */
+    @Test
+    void droppedEventsArePublishedAsMeters() {
+        filter.addLimit("com.example=1");
+        filter.addSample("com.example.sql=2");
+        filter.start();
+        accept("com.example.web", 3);
+        accept("com.example.sql", 4);
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        for (LogRateLimitTurboFilter.Rule rule : filter.getRules().values()) {
+            new LogRateLimitMetrics().bind(registry, rule);
+        }
+
+        assertThat(registry.get("logging.events.dropped").tags("prefix", "com.example", "reason", "rate-limit")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(registry.get("logging.events.dropped").tags("prefix", "com.example.sql", "reason", "sampling")
+                .functionCounter().count()).isEqualTo(2);
+    }
+
+    private int accept(String loggerName, int events) {
+        Logger logger = loggerContext.getLogger(loggerName);
+        int accepted = 0;
+        for (int i = 0; i < events; i++) {
+            if (filter.decide(null, logger, Level.INFO, "메시지 {}", new Object[]{i}, null) == FilterReply.NEUTRAL) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+}
@@ -0,0 +1,126 @@
+package com.skax.core.common.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로깅 설정별 요청 지연 시간 벤치마크
+ *
+ * <p>서비스 메서드처럼 요청당 INFO 로그 10건을 남기는 작업의 지연 시간(p50/p99/평균)을
+ * 로깅 꺼짐, 동기 파일 Appender, 비동기 Appender(logback-spring.xml과 같은 큐 설정),
+ * 비동기 + 발생률 제한/샘플링 구성에서 비교합니다. 각 구성은 독립된 LoggerContext에서
+ * 임시 디렉터리의 파일로 기록합니다.</p>
+ *
+ * <p>{@code ./gradlew benchmark}로 실행합니다. 시간은 출력만 합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-02
+ * @version 1.0
+ */
+@Tag("benchmark")
+class LoggingLatencyBenchmark {
+
+    private static final int WARMUP_REQUESTS = 20_000;
+    private static final int MEASURE_REQUESTS = 50_000;
+    private static final int LOGS_PER_REQUEST = 10;
+
+    @TempDir
+    Path logDir;
+
+    /**
+     * 로깅 구성별 요청 지연 시간을 측정합니다.
+     */
+    @Test
+    void requestLatencyByLoggingSetup() {
+        System.out.printf("%-14s %10s %10s %10s%n", "mode", "p50(us)", "p99(us)", "mean(us)");
+        double off = run("off", false, false, false);
+        double sync = run("sync-file", true, false, false);
+        double async = run("async-file", true, true, false);
+        double limited = run("async+limit", true, true, true);
+
+        assertThat(sync).isGreaterThan(off);
+        assertThat(async).isPositive();
+        assertThat(limited).isPositive();
+    }
+
+    private double run(String mode, boolean enabled, boolean async, boolean limited) {
+        LoggerContext context = new LoggerContext();
+        context.setName(mode);
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(enabled ? Level.INFO : Level.WARN);
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(logDir.resolve(mode + ".log").toString());
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+        file.setEncoder(encoder);
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (async) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setDiscardingThreshold(1024);
+            asyncAppender.setNeverBlock(true);
+            asyncAppender.setIncludeCallerData(false);
+            asyncAppender.addAppender(file);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+        root.addAppender(appender);
+
+        if (limited) {
+            LogRateLimitTurboFilter filter = new LogRateLimitTurboFilter();
+            filter.setContext(context);
+            filter.addLimit("com.skax.core=500");
+            filter.addSample("com.skax.core.service=10");
+            filter.start();
+            context.addTurboFilter(filter);
+        }
+
+        org.slf4j.Logger logger = context.getLogger("com.skax.core.service.product.impl.ProductServiceImpl");
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            request(logger, i);
+        }
+        long[] latencies = new long[MEASURE_REQUESTS];
+        for (int i = 0; i < MEASURE_REQUESTS; i++) {
+            long started = System.nanoTime();
+            request(logger, i);
+            latencies[i] = System.nanoTime() - started;
+        }
+        context.stop();
+
+        Arrays.sort(latencies);
+        double mean = Arrays.stream(latencies).average().orElse(0) / 1_000.0;
+        System.out.printf("%-14s %10.2f %10.2f %10.2f%n", mode,
+                latencies[MEASURE_REQUESTS / 2] / 1_000.0,
+                latencies[(int) (MEASURE_REQUESTS * 0.99)] / 1_000.0,
+                mean);
+        return mean;
+    }
+
+    // 서비스 메서드 한 번에 해당하는 로그 기록
+    private static void request(org.slf4j.Logger logger, int pno) {
+        for (int i = 0; i < LOGS_PER_REQUEST; i++) {
+            logger.info("상품 조회 요청: pno={}, step={}", pno, i);
+        }
+    }
+}
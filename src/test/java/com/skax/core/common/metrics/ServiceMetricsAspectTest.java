@@ -0,0 +1,85 @@
+package com.skax.core.common.metrics;
+
+import com.skax.core.service.probe.MetricsProbeServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 서비스 메서드 메트릭 Aspect 테스트
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-31
+ * @version 1.0
+ */
+class ServiceMetricsAspectTest {
+
+    private static final int CALLS = 2_000;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    /**
+     * 전체 측정 메서드는 service.method의 count가 호출 수와 같습니다.
+     */
+    @Test
+    void fullyMeasuredMethodCountsEveryCall() {
+        MetricsProbeServiceImpl service = proxy(1.0);
+        for (int i = 0; i < CALLS; i++) {
+            service.next(i);
+        }
+
+        assertThat(registry.get("service.method").tag("method", "next").timer().count()).isEqualTo(CALLS);
+        assertThat(registry.find("service.method.sampled").timer()).isNull();
+        assertThat(registry.find("service.method.calls").counter()).isNull();
+    }
+
+    /**
+     * 샘플링 메서드는 별도 이름의 타이머에 일부만 기록하고, 전체 호출 수는 카운터로 셉니다.
+     */
+    @Test
+    void sampledMethodUsesSeparateTimerAndExactCallCounter() {
+        MetricsProbeServiceImpl service = proxy(0.1);
+        for (int i = 0; i < CALLS; i++) {
+            service.next(i);
+        }
+
+        assertThat(registry.find("service.method").timer()).isNull();
+        assertThat(registry.get("service.method.calls").tag("method", "next").counter().count()).isEqualTo(CALLS);
+        long sampled = registry.get("service.method.sampled").tag("sample.rate", "0.1").timer().count();
+        assertThat(sampled).isBetween(100L, 300L);
+    }
+
+    /**
+     * 오류는 샘플링과 관계없이 모두 셉니다.
+     */
+    @Test
+    void errorsAreCountedRegardlessOfSampling() {
+        MetricsProbeServiceImpl service = proxy(0.0);
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(service::fail).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(registry.get("service.method.errors").tag("method", "fail").counter().count()).isEqualTo(10);
+        assertThat(registry.get("service.method.calls").tag("method", "fail").counter().count()).isEqualTo(10);
+    }
+
+    private MetricsProbeServiceImpl proxy(double sampleRate) {
+        ServiceMetricsProperties properties = new ServiceMetricsProperties();
+        properties.setSampleRates(Map.of(
+                "MetricsProbeServiceImpl.next", sampleRate,
+                "MetricsProbeServiceImpl.fail", sampleRate));
+        return proxy(new ServiceMetricsAspect(registry, properties));
+    }
+
+    static MetricsProbeServiceImpl proxy(ServiceMetricsAspect aspect) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new MetricsProbeServiceImpl());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+}
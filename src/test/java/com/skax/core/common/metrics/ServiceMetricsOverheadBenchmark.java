@@ -0,0 +1,74 @@
+package com.skax.core.common.metrics;
+
+import com.skax.core.service.probe.MetricsProbeServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서비스 메서드 메트릭 오버헤드 벤치마크
+ *
+ * <p>빈 서비스 메서드를 직접 호출한 경우와 {@link ServiceMetricsAspect}를 거친 경우
+ * (메트릭 없는 프록시, 비활성, 전체 측정, 10% 샘플링)의 호출당 시간을 비교합니다.</p>
+ *
+ * <p>{@code ./gradlew benchmark}로 실행합니다. 시간은 출력만 합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-31
+ * @version 1.0
+ */
+@Tag("benchmark")
+class ServiceMetricsOverheadBenchmark {
+
+    private static final int WARMUP_CALLS = 2_000_000;
+    private static final int MEASURE_CALLS = 5_000_000;
+
+    /**
+     * 메트릭 설정별 호출당 오버헤드를 측정합니다.
+     */
+    @Test
+    void perCallOverhead() {
+        System.out.printf("%-12s %10s%n", "mode", "ns/call");
+        double direct = report("direct", new MetricsProbeServiceImpl());
+        report("proxy-only", plainProxy());
+        report("disabled", metricsProxy(false, 1.0));
+        double full = report("full", metricsProxy(true, 1.0));
+        double sampled = report("sampled-10%", metricsProxy(true, 0.1));
+
+        assertThat(full).isGreaterThan(direct);
+        assertThat(sampled).isPositive();
+    }
+
+    private static double report(String mode, MetricsProbeServiceImpl service) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            sink += service.next(i);
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURE_CALLS; i++) {
+            sink += service.next(i);
+        }
+        double nanos = (double) (System.nanoTime() - started) / MEASURE_CALLS;
+        assertThat(sink).isNotZero();
+        System.out.printf("%-12s %10.1f%n", mode, nanos);
+        return nanos;
+    }
+
+    private static MetricsProbeServiceImpl plainProxy() {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new MetricsProbeServiceImpl());
+        factory.setProxyTargetClass(true);
+        return factory.getProxy();
+    }
+
+    private static MetricsProbeServiceImpl metricsProxy(boolean enabled, double sampleRate) {
+        ServiceMetricsProperties properties = new ServiceMetricsProperties();
+        properties.setEnabled(enabled);
+        properties.setSampleRates(Map.of("MetricsProbeServiceImpl.next", sampleRate));
+        return ServiceMetricsAspectTest.proxy(new ServiceMetricsAspect(new SimpleMeterRegistry(), properties));
+    }
+}
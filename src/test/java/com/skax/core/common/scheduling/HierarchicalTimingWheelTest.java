@@ -0,0 +1,161 @@
+package com.skax.core.common.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계층형 타이밍 휠 테스트
+ *
+ * <p>1초 tick, 단계별 4칸, 3단계(범위 64초) 휠로 단계 경계와 휠 범위를 짧은 시간 안에 지나가게 하여
+ * 만료 시점과 순서, 재배치(cascade), 취소/재등록을 확인합니다. 시작 시각은 최상위 단계 경계(64초의 배수)입니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-04
+ * @version 1.0
+ */
+class HierarchicalTimingWheelTest {
+
+    private static final Duration TICK = Duration.ofSeconds(1);
+    private static final int WHEEL_SIZE = 4;
+    private static final int LEVELS = 3;
+    private static final Instant START = Instant.ofEpochSecond(64 * 100);
+
+    /**
+     * 같은 단계와 여러 단계에 걸친 작업이 모두 만료 시각 순으로 반환됩니다.
+     */
+    @Test
+    void expiresInDeadlineOrderWithinAndAcrossLevels() {
+        HierarchicalTimingWheel<String, String> wheel = wheel(START);
+        wheel.schedule("c", "c", at(3));
+        wheel.schedule("a", "a", at(1));
+        wheel.schedule("b", "b", at(2));
+        wheel.schedule("f", "f", at(40));
+        wheel.schedule("d", "d", at(5));
+        wheel.schedule("e", "e", at(17));
+
+        assertThat(wheel.advance(at(63))).containsExactly("a", "b", "c", "d", "e", "f");
+        assertThat(wheel.size()).isZero();
+    }
+
+    /**
+     * 같은 tick에 만료되는 작업은 등록 순서대로 반환됩니다.
+     */
+    @Test
+    void sameTickExpiresInScheduleOrder() {
+        HierarchicalTimingWheel<String, String> wheel = wheel(START);
+        wheel.schedule("second", "second", at(20).plusMillis(900));
+        wheel.schedule("first", "first", at(20));
+
+        assertThat(wheel.advance(at(19))).isEmpty();
+        assertThat(wheel.advance(at(20))).containsExactly("second", "first");
+    }
+
+    /**
+     * 단계 경계 직전/직후를 포함한 모든 만료 시각이 정확히 그 tick에 만료됩니다.
+     * 시작 시각을 단계 경계에서 어긋나게 바꿔 가며 재배치가 일어나는 모든 위치를 확인합니다.
+     */
+    @Test
+    void cascadeExpiresEveryDeadlineAtItsOwnTick() {
+        int span = (int) wheel(START).span().toSeconds();
+        for (int offset = 0; offset < span; offset++) {
+            Instant start = at(offset);
+            HierarchicalTimingWheel<Integer, Integer> wheel = new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, LEVELS, start);
+            for (int delay = 1; delay <= span + WHEEL_SIZE; delay++) {
+                wheel.schedule(delay, delay, start.plusSeconds(delay));
+            }
+
+            for (int second = 1; second <= span + WHEEL_SIZE; second++) {
+                assertThat(wheel.advance(start.plusSeconds(second)))
+                        .as("offset %d, second %d", offset, second)
+                        .containsExactly(second);
+            }
+            assertThat(wheel.size()).isZero();
+        }
+    }
+
+    /**
+     * 휠 범위를 넘는 만료 시각은 최상위 단계에 머물다 재배치되어 정확한 시각에 만료됩니다.
+     */
+    @Test
+    void deadlinesBeyondSpanAreReplaced() {
+        HierarchicalTimingWheel<String, String> wheel = wheel(START.plusSeconds(7));
+        long span = wheel.span().toSeconds();
+        Instant deadline = START.plusSeconds(7 + span * 3 + 5);
+        wheel.schedule("far", "far", deadline);
+
+        List<String> early = new ArrayList<>();
+        for (Instant now = START.plusSeconds(8); now.isBefore(deadline); now = now.plusSeconds(1)) {
+            early.addAll(wheel.advance(now));
+        }
+
+        assertThat(early).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(deadline)).containsExactly("far");
+    }
+
+    /**
+     * 이미 지난 만료 시각은 다음 tick에서 바로 만료됩니다.
+     */
+    @Test
+    void pastDeadlinesExpireOnNextTick() {
+        HierarchicalTimingWheel<String, String> wheel = wheel(START);
+        wheel.schedule("past", "past", START.minusSeconds(10));
+        wheel.schedule("now", "now", START);
+
+        assertThat(wheel.advance(START)).isEmpty();
+        assertThat(wheel.advance(at(1))).containsExactly("past", "now");
+    }
+
+    /**
+     * 같은 키로 다시 등록하면 이전 작업을 대체하고, 취소한 작업은 만료되지 않습니다.
+     */
+    @Test
+    void rescheduleReplacesAndCancelRemoves() {
+        HierarchicalTimingWheel<String, String> wheel = wheel(START);
+        wheel.schedule("todo", "old", at(5));
+        wheel.schedule("todo", "new", at(20));
+        wheel.schedule("other", "other", at(30));
+
+        assertThat(wheel.size()).isEqualTo(2);
+        assertThat(wheel.advance(at(19))).isEmpty();
+        assertThat(wheel.advance(at(20))).containsExactly("new");
+
+        assertThat(wheel.cancel("other")).isEqualTo("other");
+        assertThat(wheel.cancel("other")).isNull();
+        assertThat(wheel.cancel("unknown")).isNull();
+        wheel.schedule("other", "again", at(25));
+        assertThat(wheel.advance(at(64))).containsExactly("again");
+    }
+
+    /**
+     * 모두 제거하면 이후 시간이 지나도 만료되는 작업이 없고, 다시 등록할 수 있습니다.
+     */
+    @Test
+    void clearDropsEveryTimeout() {
+        HierarchicalTimingWheel<String, String> wheel = wheel(START);
+        wheel.schedule("a", "a", at(2));
+        wheel.schedule("b", "b", at(20));
+        wheel.schedule("c", "c", at(500));
+
+        wheel.clear();
+
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.advance(at(600))).isEmpty();
+        wheel.schedule("a", "a", at(601));
+        assertThat(wheel.advance(at(601))).containsExactly("a");
+    }
+
+    private static HierarchicalTimingWheel<String, String> wheel(Instant start) {
+        return new HierarchicalTimingWheel<>(TICK, WHEEL_SIZE, LEVELS, start);
+    }
+
+    private static Instant at(long seconds) {
+        return START.plusSeconds(seconds);
+    }
+}
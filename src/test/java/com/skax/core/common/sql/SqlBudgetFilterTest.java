@@ -0,0 +1,68 @@
+package com.skax.core.common.sql;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 요청당 SQL 예산 필터 테스트
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-01
+ * @version 1.0
+ */
+class SqlBudgetFilterTest {
+
+    /**
+     * 처리 중 예외가 가려져 500으로 응답해도 요청 종료 시 예산 위반으로 실패합니다.
+     */
+    @Test
+    void swallowedViolationFailsRequest() {
+        SqlBudgetFilter filter = filter(true);
+
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/products"),
+                new MockHttpServletResponse(), (request, response) -> swallowRepeatedStatements(response)))
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("N+1 쿼리 의심");
+    }
+
+    /**
+     * 실패 설정이 꺼져 있으면 경고만 남깁니다.
+     */
+    @Test
+    void violationIsOnlyLoggedWhenNotFailing() {
+        SqlBudgetFilter filter = filter(false);
+
+        assertThatCode(() -> filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/products"),
+                new MockHttpServletResponse(), (request, response) -> swallowRepeatedStatements(response)))
+                .doesNotThrowAnyException();
+    }
+
+    private static SqlBudgetFilter filter(boolean failOnViolation) {
+        SqlBudgetProperties properties = new SqlBudgetProperties();
+        properties.setFailOnViolation(failOnViolation);
+        return new SqlBudgetFilter(properties, new SimpleMeterRegistry());
+    }
+
+    // 같은 SQL을 반복 실행하고, 발생한 예외는 GlobalExceptionHandler처럼 500 응답으로 바꿈
+    private static void swallowRepeatedStatements(ServletResponse response) {
+        SqlBudgetProperties properties = new SqlBudgetProperties();
+        properties.setFailOnViolation(true);
+        SqlBudgetStatementInspector inspector = new SqlBudgetStatementInspector(properties);
+        try {
+            for (int i = 0; i < properties.getRepeatThreshold(); i++) {
+                inspector.inspect("select * from tbl_product_image where product_pno=" + i);
+            }
+        } catch (SqlBudgetExceededException e) {
+            ((HttpServletResponse) response).setStatus(500);
+        }
+        assertThat(((HttpServletResponse) response).getStatus()).isEqualTo(500);
+    }
+}
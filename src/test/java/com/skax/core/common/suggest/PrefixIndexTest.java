@@ -0,0 +1,188 @@
+package com.skax.core.common.suggest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 접두어 자동완성 색인 테스트
+ *
+ * <p>무작위 추가/교체/삭제를 적용하면서 트라이 조회 결과를 전체 항목을 {@code startsWith}로 훑는 단순 구현과
+ * 비교합니다. 단순 구현은 색인과 같은 규칙(정규화한 전체 이름과 각 단어 시작 위치, {@code maxDepth}까지의 비교,
+ * 점수 내림차순 후 이름/식별자 순)으로 결과를 만듭니다. 난수 시드가 고정되어 있어 결과는 실행마다 같습니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+class PrefixIndexTest {
+
+    private static final int TOP_K = 10;
+    private static final int MAX_DEPTH = 12;
+
+    private static final String[] WORDS = {
+            "Blue", "blouse", "BLAZER", "black", "Shirt", "shorts", "티셔츠", "티켓", "청바지", "청자켓",
+            "Café", "CAFE", "cafeteria", "Ärmel", "ärger", "ｆｕｌｌ", "ﬁle", "fileset", "longsleeveshirt", "가디건"
+    };
+
+    private static final String[] PREFIXES = {
+            "b", "B", "bl", "BLA", "blue s", "s", "SH", "shirt", "티", "티ㅅ", "티셔", "청", "청ㅈ", "청바", "c", "caf",
+            "café", "CAFÉ", "cafe\u0301", "ä", "a\u0308r", "ar", "full", "ｆｕ", "fi", "ﬁl", "long", "longsleeveshirts",
+            "longsleeveshirt extra", "가", "ㄱ", "x", "  blue   shirt "
+    };
+
+    private final Comparator<PrefixIndex.Entry<Integer>> ranking =
+            Comparator.<PrefixIndex.Entry<Integer>>comparingLong(PrefixIndex.Entry::score).reversed()
+                    .thenComparing(PrefixIndex.Entry::text)
+                    .thenComparing(entry -> String.valueOf(entry.id()));
+
+    /**
+     * 무작위 추가/교체/삭제 중 어느 시점에 조회해도 단순 구현과 같은 항목을 같은 순서로 반환합니다.
+     */
+    @Test
+    void matchesBruteForceScanAcrossInsertsAndRemoves() {
+        PrefixIndex<Integer> index = new PrefixIndex<>(TOP_K, MAX_DEPTH);
+        Map<Integer, PrefixIndex.Entry<Integer>> reference = new HashMap<>();
+        Random random = new Random(20250908L);
+
+        for (int step = 0; step < 3_000; step++) {
+            int id = random.nextInt(150);
+            if (random.nextInt(4) == 0) {
+                index.remove(id);
+                reference.remove(id);
+            } else {
+                String text = randomText(random);
+                long score = random.nextInt(20);
+                index.put(id, text, score);
+                reference.put(id, new PrefixIndex.Entry<>(id, text, score));
+            }
+
+            if (step % 50 == 0) {
+                assertThat(index.size()).isEqualTo(reference.size());
+                for (String prefix : PREFIXES) {
+                    for (int limit : new int[] {1, 3, TOP_K}) {
+                        assertThat(index.suggest(prefix, limit))
+                                .as("step %d, prefix '%s', limit %d", step, prefix, limit)
+                                .containsExactlyElementsOf(bruteForce(reference, prefix, limit));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 삭제한 항목은 모든 접두어에서 사라지고, 가려져 있던 다음 순위 항목이 올라옵니다.
+     */
+    @Test
+    void removeExposesNextRankedEntries() {
+        PrefixIndex<Integer> index = new PrefixIndex<>(2, MAX_DEPTH);
+        index.put(1, "Blue Shirt", 30);
+        index.put(2, "Black Shirt", 20);
+        index.put(3, "Blouse", 10);
+
+        assertThat(index.suggest("bl", 5)).extracting(PrefixIndex.Entry::id).containsExactly(1, 2);
+
+        index.remove(1);
+
+        assertThat(index.suggest("bl", 5)).extracting(PrefixIndex.Entry::id).containsExactly(2, 3);
+        assertThat(index.suggest("shirt", 5)).extracting(PrefixIndex.Entry::id).containsExactly(2);
+        assertThat(index.suggest("blue", 5)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    /**
+     * 대소문자, 전각/합자, 결합 문자와 입력 중인 한글 음절을 구분하지 않고 찾습니다.
+     */
+    @Test
+    void normalizesCaseAndUnicodePrefixes() {
+        PrefixIndex<Integer> index = new PrefixIndex<>(TOP_K, MAX_DEPTH);
+        index.put(1, "Café Latte", 3);
+        index.put(2, "반팔 티셔츠", 2);
+        index.put(3, "ｆｕｌｌ ﬁle", 1);
+
+        assertThat(index.suggest("CAFÉ", 5)).extracting(PrefixIndex.Entry::id).containsExactly(1);
+        assertThat(index.suggest("café l", 5)).extracting(PrefixIndex.Entry::id).containsExactly(1);
+        assertThat(index.suggest("LATTE", 5)).extracting(PrefixIndex.Entry::id).containsExactly(1);
+        assertThat(index.suggest("티ㅅ", 5)).extracting(PrefixIndex.Entry::id).containsExactly(2);
+        assertThat(index.suggest("반팔 티", 5)).extracting(PrefixIndex.Entry::id).containsExactly(2);
+        assertThat(index.suggest("full fi", 5)).extracting(PrefixIndex.Entry::id).containsExactly(3);
+        assertThat(index.suggest("FILE", 5)).extracting(PrefixIndex.Entry::text).containsExactly("ｆｕｌｌ ﬁle");
+    }
+
+    /**
+     * 점수 내림차순, 같은 점수는 이름/식별자 순이며 결과는 요청 개수와 {@code topK}를 넘지 않습니다.
+     */
+    @Test
+    void limitsAndOrdersResults() {
+        PrefixIndex<Integer> index = new PrefixIndex<>(3, MAX_DEPTH);
+        index.put(1, "shirt b", 5);
+        index.put(2, "shirt a", 5);
+        index.put(3, "shirt c", 9);
+        index.put(4, "shirt a", 5);
+        index.put(5, "shirt d", 1);
+
+        assertThat(index.suggest("shirt", 10)).extracting(PrefixIndex.Entry::id).containsExactly(3, 2, 4);
+        assertThat(index.suggest("shirt", 2)).extracting(PrefixIndex.Entry::id).containsExactly(3, 2);
+
+        index.put(5, "shirt d", 10);
+
+        assertThat(index.suggest("shirt", 10)).extracting(PrefixIndex.Entry::id).containsExactly(5, 3, 2);
+    }
+
+    /**
+     * 빈 접두어, 공백만 있는 접두어, {@code null}과 0 이하의 개수는 빈 목록을 반환합니다.
+     */
+    @Test
+    void emptyPrefixOrLimitReturnsNothing() {
+        PrefixIndex<Integer> index = new PrefixIndex<>(TOP_K, MAX_DEPTH);
+        index.put(1, "Blue Shirt", 1);
+        index.put(2, "   ", 1);
+
+        assertThat(index.suggest("", 5)).isEmpty();
+        assertThat(index.suggest("   ", 5)).isEmpty();
+        assertThat(index.suggest(null, 5)).isEmpty();
+        assertThat(index.suggest("blue", 0)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private List<PrefixIndex.Entry<Integer>> bruteForce(Map<Integer, PrefixIndex.Entry<Integer>> entries,
+                                                        String prefix, int limit) {
+        String key = truncate(PrefixIndex.normalize(prefix));
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        List<PrefixIndex.Entry<Integer>> matches = new ArrayList<>();
+        for (PrefixIndex.Entry<Integer> entry : entries.values()) {
+            String normalized = PrefixIndex.normalize(entry.text());
+            boolean matched = truncate(normalized).startsWith(key);
+            for (int space = normalized.indexOf(' '); !matched && space >= 0; space = normalized.indexOf(' ', space + 1)) {
+                matched = truncate(normalized.substring(space + 1)).startsWith(key);
+            }
+            if (matched) {
+                matches.add(entry);
+            }
+        }
+        matches.sort(ranking);
+        return matches.subList(0, Math.min(Math.min(limit, TOP_K), matches.size()));
+    }
+
+    private static String truncate(String text) {
+        return text.substring(0, Math.min(text.length(), MAX_DEPTH));
+    }
+
+    private static String randomText(Random random) {
+        int words = 1 + random.nextInt(3);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            text.append(i == 0 ? "" : random.nextBoolean() ? " " : "  ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
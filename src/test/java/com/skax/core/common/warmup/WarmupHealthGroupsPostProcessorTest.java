@@ -0,0 +1,79 @@
+package com.skax.core.common.warmup;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.DefaultHealthContributorRegistry;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthContributor;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.HealthEndpointGroup;
+import org.springframework.boot.actuate.health.HealthEndpointGroups;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.SimpleStatusAggregator;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 워밍업 인디케이터의 헬스 그룹 멤버십 테스트
+ *
+ * <p>워밍업 중({@code OUT_OF_SERVICE})인 인디케이터를 등록한 헬스 엔드포인트를 후처리된 그룹으로 만들어
+ * 기본 그룹과 {@code readiness} 그룹의 상태를 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+class WarmupHealthGroupsPostProcessorTest {
+
+    private HealthEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, HealthContributor> contributors = Map.of(
+                "db", (HealthIndicator) () -> Health.up().build(),
+                "readinessState", (HealthIndicator) () -> Health.up().build(),
+                WarmupHealthIndicator.NAME, (HealthIndicator) () -> Health.outOfService().build());
+        HealthEndpointGroup primary = group(name -> true);
+        HealthEndpointGroup readiness = group(Set.of("readinessState", WarmupHealthIndicator.NAME)::contains);
+
+        HealthEndpointGroups groups = new WarmupHealthGroupsPostProcessor()
+                .postProcessHealthEndpointGroups(HealthEndpointGroups.of(primary, Map.of("readiness", readiness)));
+        endpoint = new HealthEndpoint(new DefaultHealthContributorRegistry(contributors), groups, Duration.ofSeconds(10));
+    }
+
+    /**
+     * 워밍업 중에도 기본 헬스는 UP이며 워밍업 인디케이터는 구성 요소에 나타나지 않습니다.
+     */
+    @Test
+    void primaryGroupIgnoresWarmup() {
+        assertThat(endpoint.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(endpoint.healthForPath(WarmupHealthIndicator.NAME)).isNull();
+        assertThat(endpoint.healthForPath("db").getStatus()).isEqualTo(Status.UP);
+    }
+
+    /**
+     * readiness 그룹은 워밍업이 끝날 때까지 OUT_OF_SERVICE입니다.
+     */
+    @Test
+    void readinessGroupWaitsForWarmup() {
+        assertThat(endpoint.healthForPath("readiness").getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+    }
+
+    private static HealthEndpointGroup group(Predicate<String> members) {
+        HealthEndpointGroup group = mock(HealthEndpointGroup.class);
+        when(group.isMember(anyString())).thenAnswer(invocation -> members.test(invocation.getArgument(0)));
+        when(group.showComponents(any())).thenReturn(true);
+        when(group.getStatusAggregator()).thenReturn(new SimpleStatusAggregator());
+        return group;
+    }
+}
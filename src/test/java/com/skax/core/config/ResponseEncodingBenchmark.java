@@ -0,0 +1,135 @@
+package com.skax.core.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.skax.core.common.response.AxResponse;
+import com.skax.core.common.response.PageResponse;
+import com.skax.core.dto.AuditDto;
+import com.skax.core.dto.product.response.ProductImageResponse;
+import com.skax.core.dto.product.response.ProductResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답 인코딩 벤치마크
+ *
+ * <p>100개 상품 페이지({@code AxResponse<PageResponse<ProductResponse>>})를 JSON과 CBOR로 직렬화하여
+ * 응답 크기(gzip 전/후)와 직렬화 시간을 비교합니다. 매퍼는 애플리케이션과 같은 방식
+ * ({@link HttpMessageConverterConfig}의 필드 선택 필터 포함)으로 구성합니다.</p>
+ *
+ * <p>{@code ./gradlew benchmark}로 실행합니다. 크기 비교만 검증하고 시간은 출력만 합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-28
+ * @version 1.0
+ */
+@Tag("benchmark")
+class ResponseEncodingBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURE_ITERATIONS = 5_000;
+
+    /**
+     * 100개 상품 페이지의 JSON/CBOR 응답 크기와 직렬화 시간을 측정합니다.
+     */
+    @Test
+    void productPageEncoding() throws IOException {
+        ObjectMapper jsonMapper = mapper(Jackson2ObjectMapperBuilder.json());
+        ObjectMapper cborMapper = mapper(Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()));
+        AxResponse<PageResponse<ProductResponse>> page = AxResponse.success(
+                PageResponse.of(products(), 0, PAGE_SIZE, 1_000), "상품 목록을 성공적으로 조회했습니다.");
+
+        byte[] json = jsonMapper.writeValueAsBytes(page);
+        byte[] cbor = cborMapper.writeValueAsBytes(page);
+        double jsonMicros = measure(jsonMapper, page);
+        double cborMicros = measure(cborMapper, page);
+
+        System.out.printf("%-6s %10s %10s %14s%n", "format", "bytes", "gzip", "serialize(us)");
+        System.out.printf("%-6s %10d %10d %14.1f%n", "json", json.length, gzip(json).length, jsonMicros);
+        System.out.printf("%-6s %10d %10d %14.1f%n", "cbor", cbor.length, gzip(cbor).length, cborMicros);
+
+        assertThat(cbor.length).isLessThan(json.length);
+        assertThat(gzip(json).length).isLessThan(json.length);
+        assertThat(cborMapper.readTree(cbor)).isEqualTo(jsonMapper.readTree(json));
+    }
+
+    private static ObjectMapper mapper(Jackson2ObjectMapperBuilder builder) {
+        builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        new HttpMessageConverterConfig().fieldSelectionFilterCustomizer().customize(builder);
+        return builder.build();
+    }
+
+    private static double measure(ObjectMapper mapper, Object value) throws IOException {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += mapper.writeValueAsBytes(value).length;
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            sink += mapper.writeValueAsBytes(value).length;
+        }
+        long elapsed = System.nanoTime() - started;
+        assertThat(sink).isPositive();
+        return elapsed / 1_000.0 / MEASURE_ITERATIONS;
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<ProductResponse> products() {
+        LocalDateTime now = LocalDateTime.of(2025, 8, 28, 10, 30);
+        List<ProductResponse> products = new ArrayList<>(PAGE_SIZE);
+        for (long pno = 1; pno <= PAGE_SIZE; pno++) {
+            List<ProductImageResponse> images = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                String fileName = String.format("%064x.jpg", pno * 10 + i);
+                Map<String, String> sizes = new LinkedHashMap<>();
+                sizes.put("small", "/api/api/v1/images/small/" + fileName);
+                sizes.put("medium", "/api/api/v1/images/medium/" + fileName);
+                images.add(ProductImageResponse.builder()
+                        .fileName(fileName)
+                        .url("/api/api/v1/images/original/" + fileName)
+                        .sizes(sizes)
+                        .build());
+            }
+            products.add(ProductResponse.builder()
+                    .pno(pno)
+                    .productName("상품 " + pno)
+                    .description("상품 " + pno + "에 대한 상세 설명입니다. 배송은 주문 후 2~3일 이내에 시작됩니다.")
+                    .price(10_000 + (int) pno * 100)
+                    .version(pno % 5)
+                    .images(images)
+                    .thumbnail(images.get(0).getSizes().get("small"))
+                    .audit(AuditDto.builder()
+                            .createdBy("admin@example.com")
+                            .createdByNickname("관리자")
+                            .updatedBy("admin@example.com")
+                            .updatedByNickname("관리자")
+                            .createdAt(now)
+                            .updatedAt(now.plusDays(pno))
+                            .deleted(false)
+                            .build())
+                    .build());
+        }
+        return products;
+    }
+}
@@ -0,0 +1,39 @@
+package com.skax.core.controller.product;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 상세 조회 캐시 필터 테스트
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-28
+ * @version 1.0
+ */
+class ProductDetailCacheFilterTest {
+
+    /**
+     * Accept-Encoding의 q 값을 반영하여 gzip 허용 여부를 판단합니다.
+     */
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "gzip                  | true",
+        "GZIP, deflate, br     | true",
+        "x-gzip                | true",
+        "gzip;q=0.5            | true",
+        "gzip;q=0              | false",
+        "gzip; q=0.000         | false",
+        "*                     | true",
+        "*;q=0                 | false",
+        "gzip;q=0, *           | false",
+        "*;q=0, gzip;q=1       | true",
+        "deflate, br           | false",
+        "identity              | false",
+        "gzip;q=abc            | false"
+    })
+    void acceptsGzip(String acceptEncoding, boolean expected) {
+        assertThat(ProductDetailCacheFilter.acceptsGzip(acceptEncoding)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,54 @@
+package com.skax.core.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostgreSQL 마이그레이션 스크립트 분리 테스트
+ *
+ * <p>{@code migration.sql}은 {@code --single-transaction}으로 실행되므로 {@code CONCURRENTLY}를 포함하지 않고,
+ * {@code migration-indexes.sql}의 인덱스 생성/삭제는 모두 {@code CONCURRENTLY}로 실행되는지 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-28
+ * @version 1.0
+ */
+class MigrationScriptTest {
+
+    @Test
+    void transactionalScriptHasNoConcurrentStatements() throws IOException {
+        assertThat(statements("db/postgresql/migration.sql"))
+                .noneMatch(statement -> statement.contains("CONCURRENTLY"))
+                .noneMatch(statement -> statement.startsWith("CREATE INDEX")
+                        || statement.startsWith("CREATE UNIQUE INDEX")
+                        || statement.startsWith("DROP INDEX"));
+    }
+
+    @Test
+    void indexScriptRunsEveryIndexStatementConcurrently() throws IOException {
+        List<String> statements = statements("db/postgresql/migration-indexes.sql");
+
+        assertThat(statements).isNotEmpty()
+                .allMatch(statement -> statement.startsWith("CREATE INDEX CONCURRENTLY")
+                        || statement.startsWith("CREATE UNIQUE INDEX CONCURRENTLY")
+                        || statement.startsWith("DROP INDEX CONCURRENTLY"));
+    }
+
+    // 주석을 제거하고 세미콜론 단위로 나눈 문장 (대문자, 공백 정규화)
+    private static List<String> statements(String path) throws IOException {
+        String script = new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8)
+                .replaceAll("(?m)--.*$", "");
+        return Arrays.stream(script.split(";"))
+                .map(statement -> statement.replaceAll("\\s+", " ").trim().toUpperCase(Locale.ROOT))
+                .filter(statement -> !statement.isEmpty())
+                .toList();
+    }
+}
@@ -0,0 +1,120 @@
+package com.skax.core.repository;
+
+import com.skax.core.common.sql.SqlBudgetExceededException;
+import com.skax.core.common.sql.SqlBudgetProperties;
+import com.skax.core.common.sql.SqlRequestContext;
+import com.skax.core.config.HibernateConfig;
+import com.skax.core.entity.product.Product;
+import com.skax.core.repository.product.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 리포지토리 SQL 예산 테스트
+ *
+ * <p>운영과 같은 {@link HibernateConfig}의 StatementInspector를 등록하고 {@code fail-on-violation=true}로
+ * 리포지토리 조회 경로의 SQL 실행 수를 검사합니다. 요청 대신 테스트가 {@link SqlRequestContext}를 직접 바인딩합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-01
+ * @version 1.0
+ */
+@DataJpaTest(properties = "app.sql-budget.fail-on-violation=true")
+@Import(HibernateConfig.class)
+@EnableConfigurationProperties(SqlBudgetProperties.class)
+class SqlBudgetRepositoryTest {
+
+    private static final int PRODUCTS = 20;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final List<Long> pnos = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = Product.builder().pname("상품 " + i).price(1_000 + i).build();
+            for (int j = 0; j < 3; j++) {
+                product.addImageString("image_" + i + "_" + j + ".jpg");
+            }
+            pnos.add(entityManager.persist(product).getPno());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        SqlRequestContext.begin();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlRequestContext.end();
+    }
+
+    /**
+     * 이미지를 함께 조회하는 일괄 조회는 한 번의 SQL로 끝납니다.
+     */
+    @Test
+    void fetchJoinLoadsPageWithImagesInOneStatement() {
+        List<Product> products = productRepository.findActiveWithImagesByPnoIn(pnos);
+        int images = products.stream().mapToInt(product -> product.getImageList().size()).sum();
+
+        assertThat(images).isEqualTo(PRODUCTS * 3);
+        assertThat(SqlRequestContext.current().getStatementCount()).isEqualTo(1);
+        assertThat(SqlRequestContext.current().getViolation()).isNull();
+    }
+
+    /**
+     * 페이지 조회 후 상품마다 이미지를 지연 로딩하면 N+1로 감지되어 실패합니다.
+     */
+    @Test
+    void lazyImageLoadingPerProductTripsBudget() {
+        List<Product> page = productRepository.findByDeletedFalse(PageRequest.of(0, PRODUCTS, Sort.by("pno")))
+                .getContent();
+
+        assertThatThrownBy(() -> page.forEach(product -> product.getImageList().size()))
+                .satisfies(e -> assertThat(causeChainContains(e)).isTrue());
+        assertThat(SqlRequestContext.current().getViolation()).startsWith("N+1 쿼리 의심");
+    }
+
+    /**
+     * 리포지토리 예외 변환이나 catch로 예외가 가려져도 위반은 컨텍스트에 남습니다.
+     */
+    @Test
+    void swallowedViolationIsStillRecorded() {
+        for (Long pno : pnos) {
+            try {
+                productRepository.findById(pno);
+            } catch (RuntimeException ignored) {
+                // 서비스 코드가 예외를 삼키는 경우
+            }
+        }
+
+        assertThat(SqlRequestContext.current().getViolation()).startsWith("N+1 쿼리 의심");
+    }
+
+    private static boolean causeChainContains(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SqlBudgetExceededException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
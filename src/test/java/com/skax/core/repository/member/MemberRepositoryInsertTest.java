@@ -0,0 +1,79 @@
+package com.skax.core.repository.member;
+
+import com.skax.core.entity.member.Member;
+import com.skax.core.support.CapturingStatementInspector;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 회원 저장의 insert 전용 동작 테스트
+ *
+ * <p>이메일(기본키)을 애플리케이션이 지정하는 회원을 새로 만들어 저장하면 merge가 아닌 persist로 처리되어,
+ * 같은 이메일의 기존 회원을 덮어쓰지 않고 실패하는지 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@DataJpaTest(properties = CapturingStatementInspector.PROPERTY)
+class MemberRepositoryInsertTest {
+
+    private static final String EMAIL = "insert-only@example.com";
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository.saveAndFlush(Member.builder().email(EMAIL).pw("original").nickname("원래회원").build());
+        entityManager.clear();
+    }
+
+    /**
+     * 같은 이메일로 새 회원을 저장하면 기본키 제약 위반으로 실패하고 기존 회원은 그대로입니다.
+     */
+    @Test
+    void duplicateEmailFailsInsteadOfOverwriting() {
+        Member duplicate = Member.builder().email(EMAIL).pw("attacker").nickname("덮어쓰기").build();
+
+        assertThatThrownBy(() -> memberRepository.saveAndFlush(duplicate))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        entityManager.clear();
+        Member stored = memberRepository.findById(EMAIL).orElseThrow();
+        assertThat(stored.getPw()).isEqualTo("original");
+        assertThat(stored.getNickname()).isEqualTo("원래회원");
+    }
+
+    /**
+     * 새 회원 저장은 기존 행 조회 없이 INSERT만 실행하고, 조회한 회원의 저장은 UPDATE로 처리됩니다.
+     */
+    @Test
+    void newMembersInsertAndLoadedMembersUpdate() {
+        CapturingStatementInspector.clear();
+        memberRepository.saveAndFlush(Member.builder().email("fresh@example.com").pw("pw").nickname("새회원").build());
+
+        assertThat(CapturingStatementInspector.statements())
+                .noneMatch(sql -> sql.startsWith("select"))
+                .anyMatch(sql -> sql.startsWith("insert into members"));
+
+        Member loaded = memberRepository.findById(EMAIL).orElseThrow();
+        loaded.changeNickname("바뀐회원");
+        CapturingStatementInspector.clear();
+        memberRepository.saveAndFlush(loaded);
+
+        assertThat(CapturingStatementInspector.statements())
+                .anyMatch(sql -> sql.startsWith("update members"))
+                .noneMatch(sql -> sql.startsWith("insert into members"));
+    }
+}
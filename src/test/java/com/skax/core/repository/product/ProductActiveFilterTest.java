@@ -0,0 +1,109 @@
+package com.skax.core.repository.product;
+
+import com.skax.core.common.persistence.HibernateFilters;
+import com.skax.core.entity.cart.Cart;
+import com.skax.core.entity.cart.CartItem;
+import com.skax.core.entity.member.Member;
+import com.skax.core.entity.product.Product;
+import com.skax.core.repository.cart.CartItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 활성 상품 필터 테스트
+ *
+ * <p>{@value Product#ACTIVE_FILTER} 필터가 모든 세션에서 켜져 삭제 조건이 없는 조회에서도 삭제된 상품이 제외되고,
+ * {@link HibernateFilters}로 끈 트랜잭션에서만 삭제된 상품이 보이는지 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-28
+ * @version 1.0
+ */
+@DataJpaTest
+@Import(HibernateFilters.class)
+class ProductActiveFilterTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private HibernateFilters hibernateFilters;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Long activePno;
+    private Long deletedPno;
+    private Long cno;
+
+    @BeforeEach
+    void setUp() {
+        Product active = Product.builder().pname("활성 상품").price(1_000).build();
+        active.addImageString("a".repeat(64) + ".jpg");
+        activePno = entityManager.persist(active).getPno();
+        Product deleted = Product.builder().pname("삭제된 상품").price(2_000).build();
+        deleted.addImageString("d".repeat(64) + ".jpg");
+        deleted.setDeleted(true);
+        deletedPno = entityManager.persist(deleted).getPno();
+
+        Member owner = entityManager.persist(Member.builder().email("filter@example.com").pw("pw").nickname("필터").build());
+        Cart cart = entityManager.persist(Cart.builder().owner(owner).build());
+        cno = cart.getCno();
+        entityManager.persist(CartItem.builder().cart(cart).product(active).qty(1).build());
+        entityManager.persist(CartItem.builder().cart(cart).product(deleted).qty(1).build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * 삭제 조건을 쓰지 않는 조회(전체 조회, 상품명 중복 검사, 장바구니 썸네일용 이미지 조회)도 삭제된 상품을 보지 않습니다.
+     */
+    @Test
+    void queriesWithoutDeletedPredicateHideDeletedProducts() {
+        assertThat(productRepository.findAll()).extracting(Product::getPname).containsExactly("활성 상품");
+        assertThat(productRepository.existsByPname("삭제된 상품")).isFalse();
+        assertThat(productRepository.findImageFileNamesByPnoIn(List.of(activePno, deletedPno)))
+                .extracting(row -> row[0])
+                .containsExactly(activePno);
+    }
+
+    /**
+     * 엔티티 필터는 연관 조인에는 적용되지 않으므로 장바구니에 담긴 삭제된 상품의 아이템도 상품과 함께 조회됩니다.
+     */
+    @Test
+    void cartItemProductJoinKeepsDeletedProducts() {
+        assertThat(cartItemRepository.findWithProductByCartId(cno))
+                .extracting(item -> item.getProduct().getPno())
+                .containsExactlyInAnyOrder(activePno, deletedPno);
+    }
+
+    /**
+     * 식별자 조회는 필터와 관계없이 삭제된 상품을 반환합니다. (삭제/복구 경로)
+     */
+    @Test
+    void lookupByIdIsNotFiltered() {
+        assertThat(productRepository.findById(deletedPno)).isPresent();
+    }
+
+    /**
+     * 필터를 끈 트랜잭션에서는 삭제된 상품도 조회됩니다.
+     */
+    @Test
+    void disabledFilterIncludesDeletedProducts() {
+        hibernateFilters.disable(Product.ACTIVE_FILTER);
+
+        assertThat(productRepository.findAll()).hasSize(2);
+        assertThat(productRepository.existsByPname("삭제된 상품")).isTrue();
+    }
+}
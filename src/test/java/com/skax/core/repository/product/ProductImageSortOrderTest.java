@@ -0,0 +1,147 @@
+package com.skax.core.repository.product;
+
+import com.skax.core.entity.product.Product;
+import com.skax.core.entity.product.ProductImage;
+import com.skax.core.support.CapturingStatementInspector;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 이미지 정렬 키 테스트
+ *
+ * <p>이미지 24장이 있는 상품의 목록을 편집한 뒤 flush 시 product_image_list에 실행된 변경 구문을 확인합니다.
+ * 옮기거나 삭제한 이미지의 행만 바뀌고 뒤따르는 이미지의 행은 그대로인지, 사이 값이 바닥나면 키를 다시 매긴 뒤에도
+ * 순서가 유지되는지 검증합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-05
+ * @version 1.0
+ */
+@DataJpaTest(properties = CapturingStatementInspector.PROPERTY)
+class ProductImageSortOrderTest {
+
+    private static final int IMAGES = 24;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * 마지막 이미지를 맨 앞으로 옮기면 그 이미지의 행만 삭제 후 추가됩니다.
+     */
+    @Test
+    void moveLastToFrontRewritesOnlyMovedRow() {
+        List<String> statements = edit(names -> names.add(0, names.remove(names.size() - 1)));
+
+        assertThat(statements).filteredOn(sql -> sql.startsWith("delete")).hasSize(1);
+        assertThat(statements).filteredOn(sql -> sql.startsWith("insert")).hasSize(1);
+        assertThat(statements).filteredOn(sql -> sql.startsWith("update")).isEmpty();
+    }
+
+    /**
+     * 가운데 이미지를 삭제하면 그 행만 삭제되고 뒤의 이미지는 갱신되지 않습니다.
+     */
+    @Test
+    void removeMiddleDeletesOnlyRemovedRow() {
+        List<String> statements = edit(names -> names.remove(IMAGES / 2));
+
+        assertThat(statements).hasSize(1).allMatch(sql -> sql.startsWith("delete"));
+    }
+
+    /**
+     * 두 이미지 사이에 여러 장을 넣어도 넣은 행만 추가되고, 맨 뒤에 추가하면 한 행만 추가됩니다.
+     */
+    @Test
+    void insertsBetweenAndAppendTouchOnlyNewRows() {
+        List<String> between = edit(names -> names.addAll(5, List.of("new_1.jpg", "new_2.jpg", "new_3.jpg")));
+        List<String> appended = edit(names -> names.add("last.jpg"));
+
+        assertThat(between).hasSize(3).allMatch(sql -> sql.startsWith("insert"));
+        assertThat(appended).hasSize(1).allMatch(sql -> sql.startsWith("insert"));
+    }
+
+    /**
+     * 같은 자리에 계속 끼워 넣어 사이 값이 바닥나면 전체 키를 다시 매기며, 이후에도 표시 순서는 유지됩니다.
+     */
+    @Test
+    void renumbersOnlyWhenGapRunsOut() {
+        Long pno = persistProduct();
+        List<String> expected = fileNames(pno);
+        int edits = 0;
+        List<String> statements;
+        do {
+            expected.add(1, "squeezed_" + edits++ + ".jpg");
+            statements = replace(pno, expected);
+        } while (statements.size() == 1 && edits < 64);
+
+        long gapHalvings = Long.numberOfTrailingZeros(Product.IMAGE_SORT_GAP);
+        assertThat(edits).isEqualTo(gapHalvings + 1);
+        assertThat(statements.stream().filter(sql -> sql.startsWith("insert")).count()).isGreaterThan(1);
+        assertThat(fileNames(pno)).containsExactlyElementsOf(expected);
+        assertThat(sortOrders(pno)).isSorted().doesNotHaveDuplicates();
+
+        assertThat(replace(pno, withInsertedAt(expected, 1, "after_renumber.jpg"))).hasSize(1);
+    }
+
+    private List<String> edit(Consumer<List<String>> edit) {
+        Long pno = persistProduct();
+        List<String> expected = fileNames(pno);
+        edit.accept(expected);
+
+        List<String> statements = replace(pno, expected);
+
+        assertThat(fileNames(pno)).containsExactlyElementsOf(expected);
+        return statements;
+    }
+
+    private List<String> replace(Long pno, List<String> fileNames) {
+        Product product = entityManager.find(Product.class, pno);
+        CapturingStatementInspector.clear();
+        product.replaceImages(new ArrayList<>(fileNames));
+        entityManager.flush();
+        List<String> statements = CapturingStatementInspector.statements().stream()
+                .filter(sql -> sql.contains("product_image_list") && !sql.startsWith("select"))
+                .toList();
+        entityManager.clear();
+        return statements;
+    }
+
+    private Long persistProduct() {
+        Product product = Product.builder().pname("이미지 상품").price(1_000).build();
+        IntStream.range(0, IMAGES).forEach(i -> product.addImageString("image_" + i + ".jpg"));
+        entityManager.persist(product);
+        entityManager.flush();
+        entityManager.clear();
+        return product.getPno();
+    }
+
+    private List<String> fileNames(Long pno) {
+        List<String> fileNames = new ArrayList<>(entityManager.find(Product.class, pno).getImageList().stream()
+                .map(ProductImage::getFileName)
+                .toList());
+        entityManager.clear();
+        return fileNames;
+    }
+
+    private List<Long> sortOrders(Long pno) {
+        List<Long> sortOrders = entityManager.find(Product.class, pno).getImageList().stream()
+                .map(ProductImage::getSortOrder)
+                .toList();
+        entityManager.clear();
+        return sortOrders;
+    }
+
+    private static List<String> withInsertedAt(List<String> fileNames, int index, String fileName) {
+        List<String> inserted = new ArrayList<>(fileNames);
+        inserted.add(index, fileName);
+        return inserted;
+    }
+}
@@ -0,0 +1,120 @@
+package com.skax.core.repository.product;
+
+import com.skax.core.entity.product.Product;
+import com.skax.core.entity.product.ProductImage;
+import com.skax.core.support.CapturingStatementInspector;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 이미지 목록 편집 SQL 구문 수 벤치마크 (이미지 24장)
+ *
+ * <p>이미지 24장이 있는 상품에 자주 쓰는 편집(추가, 교체, 순서 변경, 삭제, 변경 없는 수정)을 적용하고
+ * flush 시 product_image_list에 실행되는 INSERT/UPDATE/DELETE 수와 상품 버전 UPDATE 수({@code +n})를
+ * 출력합니다. 비교 기준으로 이전 수정 방식인 전체 삭제 후 다시 추가({@code clearList()} + {@code addImageString()})도
+ * 함께 측정합니다. 편집 후 다시 읽은 이미지 목록이 기대한 순서와 같은지만 검증하고 구문 수는 출력만 합니다.
+ * 구문 수 기준은 {@link ProductImageSortOrderTest}가 검증합니다.</p>
+ *
+ * <p>{@code ./gradlew benchmark}로 실행합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-05
+ * @version 1.0
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+    CapturingStatementInspector.PROPERTY,
+    "logging.level.org.hibernate.SQL=warn",
+    "logging.level.org.hibernate.orm.jdbc.bind=warn"
+})
+class ProductImageUpdateBenchmark {
+
+    private static final int IMAGES = 24;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * 편집 종류별로 새 상품을 만들어 flush 시 실행되는 구문 수를 비교합니다.
+     */
+    @Test
+    void statementCountsForCommonEdits() {
+        Map<String, Consumer<List<String>>> edits = new LinkedHashMap<>();
+        edits.put("append one", names -> names.add("added.jpg"));
+        edits.put("replace one", names -> names.set(10, "replaced.jpg"));
+        edits.put("swap two", names -> Collections.swap(names, 3, 4));
+        edits.put("move last to front", names -> names.add(0, names.remove(names.size() - 1)));
+        edits.put("remove last", names -> names.remove(names.size() - 1));
+        edits.put("remove middle", names -> names.remove(IMAGES / 2));
+        edits.put("unchanged", names -> { });
+
+        System.out.printf("%-20s %20s %20s%n", "edit (24 images)", "replaceImages", "clear+re-add");
+        for (Map.Entry<String, Consumer<List<String>>> edit : edits.entrySet()) {
+            Counts positional = apply(edit.getValue(), Product::replaceImages);
+            Counts reinserted = apply(edit.getValue(), (product, names) -> {
+                product.clearList();
+                names.forEach(product::addImageString);
+            });
+            System.out.printf("%-20s %20s %20s%n", edit.getKey(), positional, reinserted);
+        }
+    }
+
+    private Counts apply(Consumer<List<String>> edit, ImageUpdate update) {
+        Product product = Product.builder().pname("이미지 상품").price(1_000).build();
+        IntStream.range(0, IMAGES).forEach(i -> product.addImageString("image_" + i + ".jpg"));
+        entityManager.persist(product);
+        entityManager.flush();
+        entityManager.clear();
+
+        Product loaded = entityManager.find(Product.class, product.getPno());
+        List<String> expected = new ArrayList<>(loaded.getImageList().stream().map(ProductImage::getFileName).toList());
+        edit.accept(expected);
+        CapturingStatementInspector.clear();
+        update.apply(loaded, new ArrayList<>(expected));
+        entityManager.flush();
+        Counts counts = Counts.of(CapturingStatementInspector.statements());
+        entityManager.clear();
+
+        assertThat(entityManager.find(Product.class, product.getPno()).getImageList())
+                .extracting(ProductImage::getFileName)
+                .containsExactlyElementsOf(expected);
+        return counts;
+    }
+
+    @FunctionalInterface
+    private interface ImageUpdate {
+        void apply(Product product, List<String> fileNames);
+    }
+
+    private record Counts(long inserts, long updates, long deletes, long productUpdates) {
+
+        static Counts of(List<String> statements) {
+            List<String> images = statements.stream().filter(sql -> sql.contains("product_image_list")).toList();
+            return new Counts(count(images, "insert"), count(images, "update"), count(images, "delete"),
+                    count(statements.stream().filter(sql -> sql.contains("tbl_product")).toList(), "update"));
+        }
+
+        private static long count(List<String> statements, String verb) {
+            return statements.stream().filter(sql -> sql.toLowerCase(Locale.ROOT).startsWith(verb)).count();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("I%d/U%d/D%d +%d", inserts, updates, deletes, productUpdates);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.skax.core.repository.product;
+
+import com.skax.core.support.CapturingStatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 활성 상품 조회 쿼리 실행 계획 테스트 (PostgreSQL)
+ *
+ * <p>운영과 같이 엔티티의 복합 인덱스 없이 {@code db/postgresql/migration.sql}(트랜잭션)과
+ * {@code migration-indexes.sql}(자동 커밋)을 적용한 뒤, {@code ProductRepository}가 만드는 SQL의
+ * {@code EXPLAIN} 결과가 {@code deleted = false} 부분 인덱스를 사용하는지 검사합니다.
+ * Hibernate는 조건을 {@code not(deleted)}로 만들므로 부분 인덱스 조건과 일치하는지도 함께 확인됩니다.</p>
+ *
+ * <p>Docker를 사용할 수 없는 환경에서는 건너뜁니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-28
+ * @version 1.0
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+    CapturingStatementInspector.PROPERTY,
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductRepositoryPostgresQueryPlanTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+    }
+
+    @BeforeAll
+    void migrate() throws SQLException {
+        // 운영(ddl-auto: validate)에는 엔티티의 복합 인덱스가 없으므로 제거하고 마이그레이션 스크립트만 적용
+        jdbcTemplate.execute("DROP INDEX IF EXISTS idx_product_deleted_pno, idx_product_deleted_price, "
+                + "idx_product_deleted_category");
+        jdbcTemplate.update("INSERT INTO tbl_product "
+                + "(pname, price, pdesc, category, deleted, version, created_at, updated_at) "
+                + "SELECT '상품 ' || g, g * 10, '설명', 'category-' || (g % 50), g % 10 <> 0, 0, now(), now() "
+                + "FROM generate_series(0, 19999) g");
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/postgresql/migration.sql"));
+            connection.commit();
+
+            // CREATE INDEX CONCURRENTLY는 트랜잭션 밖에서만 실행 가능
+            connection.setAutoCommit(true);
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/postgresql/migration-indexes.sql"));
+        }
+        jdbcTemplate.execute("ANALYZE tbl_product");
+    }
+
+    @BeforeEach
+    void clear() {
+        CapturingStatementInspector.clear();
+    }
+
+    /**
+     * 활성 상품 목록(상품 번호 순)은 pno 부분 인덱스를 사용합니다.
+     */
+    @Test
+    void activeProductsUseActivePnoIndex() {
+        productRepository.findByDeletedFalse(PageRequest.of(0, 20, Sort.by("pno")));
+
+        assertThat(explainFirst(20)).contains("idx_product_active_pno");
+    }
+
+    /**
+     * 가격 범위 조회는 price 부분 인덱스를 사용합니다.
+     */
+    @Test
+    void priceRangeUsesActivePriceIndex() {
+        productRepository.findByPriceBetweenAndDeletedFalse(100, 2_000, PageRequest.of(0, 20));
+
+        assertThat(explainFirst(100, 2_000, 20)).contains("idx_product_active_price");
+    }
+
+    /**
+     * 카테고리 조회는 category 부분 인덱스를 사용합니다.
+     */
+    @Test
+    void categoryUsesActiveCategoryIndex() {
+        productRepository.findByCategoryAndDeletedFalse("category-7", PageRequest.of(0, 20));
+
+        assertThat(explainFirst("category-7", 20)).contains("idx_product_active_category");
+    }
+
+    /**
+     * 최고가 상품 조회는 price 부분 인덱스를 역순으로 읽습니다.
+     */
+    @Test
+    void topByPriceUsesActivePriceIndexBackward() {
+        productRepository.findTopByDeletedFalseOrderByPriceDesc();
+
+        assertThat(explainFirst(1)).contains("Index Scan Backward using idx_product_active_price");
+    }
+
+    // 수집한 첫 번째 SQL(목록 조회)에 값을 채워 넣은 실행 계획
+    private String explainFirst(Object... parameters) {
+        String sql = CapturingStatementInspector.statements().get(0);
+        for (Object parameter : parameters) {
+            String literal = parameter instanceof String text ? "'" + text.replace("'", "''") + "'" : parameter.toString();
+            sql = sql.replaceFirst("\\?", literal);
+        }
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
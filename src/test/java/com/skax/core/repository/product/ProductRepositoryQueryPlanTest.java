@@ -0,0 +1,98 @@
+package com.skax.core.repository.product;
+
+import com.skax.core.support.CapturingStatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 활성 상품 조회 쿼리 실행 계획 테스트 (H2)
+ *
+ * <p>{@code ProductRepository}가 실제로 만드는 SQL을 수집하여 H2의 {@code EXPLAIN}으로 실행 계획을 확인하고,
+ * deleted 컬럼을 선두로 하는 복합 인덱스를 사용하는지 검사합니다. 상품의 90%가 논리 삭제된 상태로 데이터를 만듭니다.
+ * PostgreSQL 부분 인덱스는 {@code ProductRepositoryPostgresQueryPlanTest}에서 검사합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-28
+ * @version 1.0
+ */
+@DataJpaTest(properties = CapturingStatementInspector.PROPERTY)
+class ProductRepositoryQueryPlanTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.batchUpdate("INSERT INTO tbl_product "
+                        + "(pname, price, pdesc, category, deleted, version, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                IntStream.range(0, 5_000)
+                        .mapToObj(i -> new Object[]{"상품 " + i, i * 10, "설명", "category-" + (i % 50), i % 10 != 0})
+                        .toList());
+        jdbcTemplate.execute("ANALYZE");
+        CapturingStatementInspector.clear();
+    }
+
+    /**
+     * 활성 상품 목록(상품 번호 순)은 (deleted, pno) 인덱스를 사용합니다.
+     */
+    @Test
+    void activeProductsUseDeletedPnoIndex() {
+        productRepository.findByDeletedFalse(PageRequest.of(0, 20, Sort.by("pno")));
+
+        assertThat(explainFirst(20)).contains("IDX_PRODUCT_DELETED_PNO");
+    }
+
+    /**
+     * 가격 범위 조회는 (deleted, price) 인덱스를 사용합니다.
+     */
+    @Test
+    void priceRangeUsesDeletedPriceIndex() {
+        productRepository.findByPriceBetweenAndDeletedFalse(100, 2_000, PageRequest.of(0, 20));
+
+        assertThat(explainFirst(100, 2_000, 20)).contains("IDX_PRODUCT_DELETED_PRICE");
+    }
+
+    /**
+     * 카테고리 조회는 (deleted, category) 인덱스를 사용합니다.
+     */
+    @Test
+    void categoryUsesDeletedCategoryIndex() {
+        productRepository.findByCategoryAndDeletedFalse("category-7", PageRequest.of(0, 20));
+
+        assertThat(explainFirst("category-7", 20)).contains("IDX_PRODUCT_DELETED_CATEGORY");
+    }
+
+    /**
+     * 최고가 상품 조회는 전체 스캔 없이 deleted 선두 인덱스로 활성 상품만 읽습니다.
+     *
+     * <p>H2 옵티마이저는 ORDER BY를 인덱스 선택에 반영하지 않으므로 (deleted, pno) 인덱스로 읽은 뒤 정렬합니다.
+     * PostgreSQL은 가격 부분 인덱스를 역순으로 읽어 정렬을 생략합니다.</p>
+     */
+    @Test
+    void topByPriceReadsActiveRowsThroughIndex() {
+        productRepository.findTopByDeletedFalseOrderByPriceDesc();
+
+        assertThat(explainFirst(1))
+                .containsPattern("IDX_PRODUCT_DELETED_(PNO|PRICE): DELETED = FALSE")
+                .doesNotContain("tableScan");
+    }
+
+    // 수집한 첫 번째 SQL(목록 조회)의 실행 계획
+    private String explainFirst(Object... parameters) {
+        String sql = CapturingStatementInspector.statements().get(0);
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, parameters);
+    }
+}
@@ -0,0 +1,129 @@
+package com.skax.core.repository.todo;
+
+import com.skax.core.entity.todo.Todo;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 할일 조회 인덱스 벤치마크 (100만 건, H2)
+ *
+ * <p>tbl_todo에 100만 건을 넣고 {@code Todo}의 복합 인덱스 {@code (writer, complete)},
+ * {@code (complete, updated_at)}가 있을 때와 제거한 뒤의 {@link TodoRepository} 조회 시간을 비교합니다.
+ * 두 경우의 조회 결과가 같은지만 검증하고 시간은 출력만 합니다.</p>
+ *
+ * <p>H2에는 트라이그램 인덱스가 없으므로 제목 검색은 두 경우 모두 전체 스캔이며 기준값으로만 출력합니다.
+ * 트라이그램 인덱스 효과는 {@link TodoTitleSearchPostgresBenchmark}에서 측정합니다.
+ * 메모리 사용을 줄이기 위해 build 디렉터리의 H2 파일 DB를 사용합니다.</p>
+ *
+ * <p>{@code ./gradlew benchmark}로 실행합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-03
+ * @version 1.0
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:file:./build/benchmark/todo-query;DB_CLOSE_ON_EXIT=FALSE",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "logging.level.org.hibernate.SQL=warn",
+    "logging.level.org.hibernate.orm.jdbc.bind=warn"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoQueryBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int WRITERS = 1_000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURE_ITERATIONS = 20;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * 인덱스가 있을 때와 없을 때의 작성자/상태/최근 완료/제목 검색 조회 시간을 비교합니다.
+     */
+    @Test
+    void queriesAtOneMillionTodos() {
+        long started = System.nanoTime();
+        // 작성자 1,000명, 작성자별 4건 중 1건 완료, 수정 시각은 행마다 1초씩 증가
+        jdbcTemplate.update("INSERT INTO tbl_todo (title, writer, complete, due_date, deleted, created_at, updated_at) "
+                + "SELECT '할일 ' || X, 'user-' || MOD(X, " + WRITERS + "), MOD(X / " + WRITERS + ", 4) = 0, "
+                + "DATEADD('DAY', MOD(X, 365), DATE '2025-01-01'), FALSE, "
+                + "TIMESTAMP '2025-01-01 00:00:00', DATEADD('SECOND', X, TIMESTAMP '2025-01-01 00:00:00') "
+                + "FROM SYSTEM_RANGE(1, " + ROWS + ")");
+        jdbcTemplate.execute("ANALYZE TABLE tbl_todo");
+        System.out.printf("loaded %,d todos in %.1f s%n", ROWS, (System.nanoTime() - started) / 1e9);
+
+        // H2는 같은 문장/같은 값의 직전 결과를 재사용하므로 반복마다 조회 값을 바꾼다
+        Map<String, IntFunction<List<?>>> queries = new LinkedHashMap<>();
+        queries.put("writer+complete", i -> todoRepository
+                .findByWriterAndComplete(writer(i), false, PageRequest.of(0, 20, Sort.by("tno")))
+                .map(Todo::getTno).getContent());
+        queries.put("countCompleted", i -> List.of(todoRepository.countCompletedByWriter(writer(i))));
+        queries.put("recentlyCompleted", i -> todoRepository
+                .findRecentlyCompleted(PageRequest.of(i % 50, 20)).map(Todo::getTno).getContent());
+        queries.put("titleContains", i -> todoRepository
+                .findByTitleContainingIgnoreCase("할일 " + (77_000 + i), PageRequest.of(0, 20))
+                .map(Todo::getTno).getContent());
+
+        Map<String, Result> indexed = measure(queries);
+        jdbcTemplate.execute("DROP INDEX idx_todo_writer_complete");
+        jdbcTemplate.execute("DROP INDEX idx_todo_complete_updated_at");
+        Map<String, Result> scanned = measure(queries);
+
+        System.out.printf("%-18s %14s %14s%n", "query", "indexed(ms)", "no-index(ms)");
+        for (String name : queries.keySet()) {
+            System.out.printf("%-18s %14.2f %14.2f%n", name, indexed.get(name).medianMillis(),
+                    scanned.get(name).medianMillis());
+            assertThat(new HashSet<>(indexed.get(name).result())).isEqualTo(new HashSet<>(scanned.get(name).result()));
+        }
+        assertThat(indexed.get("countCompleted").result()).isEqualTo(List.of((long) ROWS / WRITERS / 4));
+    }
+
+    private static Map<String, Result> measure(Map<String, IntFunction<List<?>>> queries) {
+        Map<String, Result> results = new LinkedHashMap<>();
+        queries.forEach((name, query) -> {
+            List<?> result = null;
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                result = query.apply(MEASURE_ITERATIONS + i);
+            }
+            long[] elapsed = new long[MEASURE_ITERATIONS];
+            for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+                long started = System.nanoTime();
+                result = query.apply(i);
+                elapsed[i] = System.nanoTime() - started;
+            }
+            Arrays.sort(elapsed);
+            results.put(name, new Result(result, elapsed[MEASURE_ITERATIONS / 2] / 1e6));
+        });
+        return results;
+    }
+
+    private static String writer(int i) {
+        return "user-" + (i * 7 % WRITERS);
+    }
+
+    private record Result(List<?> result, double medianMillis) {
+    }
+}
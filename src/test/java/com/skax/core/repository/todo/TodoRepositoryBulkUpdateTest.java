@@ -0,0 +1,74 @@
+package com.skax.core.repository.todo;
+
+import com.skax.core.entity.member.Member;
+import com.skax.core.entity.todo.Todo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 할일 일괄 변경 쿼리 테스트
+ *
+ * <p>일괄 JPQL UPDATE는 JPA Auditing을 거치지 않으므로 수정 시각과 수정자를 직접 기록하는지 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-03
+ * @version 1.0
+ */
+@DataJpaTest
+class TodoRepositoryBulkUpdateTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Member admin;
+
+    private final List<Long> tnos = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        admin = entityManager.persist(Member.builder().email("admin@example.com").pw("pw").nickname("관리자").build());
+        for (int i = 0; i < 3; i++) {
+            tnos.add(entityManager.persist(Todo.builder().title("할일 " + i).writer("user1").complete(false).build())
+                    .getTno());
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    void completeAllStampsUpdatedAtAndUpdatedBy() {
+        LocalDateTime now = LocalDateTime.of(2025, 9, 3, 12, 0);
+
+        int completed = todoRepository.completeAllByTnoIn(tnos, now, admin);
+
+        assertThat(completed).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList("SELECT updated_by FROM tbl_todo WHERE complete = true", String.class))
+                .hasSize(3).containsOnly("admin@example.com");
+        assertThat(jdbcTemplate.queryForList("SELECT updated_at FROM tbl_todo", LocalDateTime.class))
+                .containsOnly(now);
+    }
+
+    @Test
+    void reassignWriterStampsUpdatedBy() {
+        int reassigned = todoRepository.reassignWriter("user1", "user2", LocalDateTime.now(), admin);
+
+        assertThat(reassigned).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList("SELECT updated_by FROM tbl_todo WHERE writer = 'user2'", String.class))
+                .hasSize(3).containsOnly("admin@example.com");
+    }
+}
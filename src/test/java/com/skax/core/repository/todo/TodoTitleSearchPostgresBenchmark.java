@@ -0,0 +1,138 @@
+package com.skax.core.repository.todo;
+
+import com.skax.core.entity.todo.Todo;
+import com.skax.core.support.CapturingStatementInspector;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 할일 제목 검색 트라이그램 인덱스 벤치마크 (100만 건, PostgreSQL)
+ *
+ * <p>tbl_todo에 100만 건을 넣고 {@code migration.sql}/{@code migration-indexes.sql}을 적용한 뒤,
+ * {@link TodoRepository#findByTitleContainingIgnoreCase}의 조회 시간과 실행 계획을
+ * {@code idx_todo_title_trgm}이 있을 때와 제거한 뒤로 비교합니다.
+ * 인덱스가 있을 때 실행 계획이 트라이그램 인덱스를 사용하는지와 두 경우의 결과가 같은지를 검증합니다.</p>
+ *
+ * <p>{@code ./gradlew benchmark}로 실행하며 Docker를 사용할 수 없는 환경에서는 건너뜁니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-03
+ * @version 1.0
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+    CapturingStatementInspector.PROPERTY,
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+    "logging.level.org.hibernate.SQL=warn",
+    "logging.level.org.hibernate.orm.jdbc.bind=warn"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoTitleSearchPostgresBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURE_ITERATIONS = 20;
+    private static final String KEYWORD = "77777";
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+    }
+
+    /**
+     * 트라이그램 인덱스가 있을 때와 없을 때의 제목 부분 일치 검색 시간을 비교합니다.
+     */
+    @Test
+    void titleSearchAtOneMillionTodos() throws SQLException {
+        jdbcTemplate.update("INSERT INTO tbl_todo (title, writer, complete, deleted, created_at, updated_at) "
+                + "SELECT '할일 ' || g, 'user-' || (g % 1000), g % 4 = 0, false, now(), now() "
+                + "FROM generate_series(1, " + ROWS + ") g");
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/postgresql/migration.sql"));
+            connection.commit();
+            connection.setAutoCommit(true);
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/postgresql/migration-indexes.sql"));
+        }
+        jdbcTemplate.execute("ANALYZE tbl_todo");
+
+        Supplier<List<Long>> search = () -> todoRepository
+                .findByTitleContainingIgnoreCase(KEYWORD, PageRequest.of(0, 20)).map(Todo::getTno).getContent();
+
+        Measurement indexed = measure(search);
+        jdbcTemplate.execute("DROP INDEX idx_todo_title_trgm");
+        Measurement scanned = measure(search);
+
+        System.out.printf("%-10s %10s  %s%n", "mode", "median(ms)", "plan");
+        System.out.printf("%-10s %10.2f  %s%n", "trigram", indexed.medianMillis(), indexed.plan().get(0));
+        System.out.printf("%-10s %10.2f  %s%n", "seq-scan", scanned.medianMillis(), scanned.plan().get(0));
+
+        assertThat(String.join("\n", indexed.plan())).contains("idx_todo_title_trgm");
+        assertThat(indexed.result()).containsExactlyInAnyOrderElementsOf(scanned.result());
+    }
+
+    private Measurement measure(Supplier<List<Long>> search) {
+        List<Long> result = null;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            result = search.get();
+        }
+        long[] elapsed = new long[MEASURE_ITERATIONS];
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long started = System.nanoTime();
+            result = search.get();
+            elapsed[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(elapsed);
+
+        CapturingStatementInspector.clear();
+        search.get();
+        String sql = CapturingStatementInspector.statements().get(0)
+                .replaceFirst("\\?", "'" + KEYWORD + "'")
+                .replaceFirst("\\?", "20");
+        return new Measurement(result, elapsed[MEASURE_ITERATIONS / 2] / 1e6,
+                jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    private record Measurement(List<Long> result, double medianMillis, List<String> plan) {
+    }
+}
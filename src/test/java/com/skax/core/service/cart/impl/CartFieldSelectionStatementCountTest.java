@@ -0,0 +1,111 @@
+package com.skax.core.service.cart.impl;
+
+import com.skax.core.common.fields.FieldSelection;
+import com.skax.core.dto.cart.response.CartResponse;
+import com.skax.core.entity.cart.Cart;
+import com.skax.core.entity.cart.CartItem;
+import com.skax.core.entity.member.Member;
+import com.skax.core.entity.product.Product;
+import com.skax.core.support.CapturingStatementInspector;
+import com.skax.core.support.CartWriteBehindTestConfiguration;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장바구니 조회의 필드 선택별 SQL 구문 수 테스트
+ *
+ * <p>아이템 생성자를 테스트마다 새 회원으로 두어 회원 표시명 캐시가 비어 있는 상태에서 감사 정보 적재 여부를
+ * 구문 수로 확인합니다. 구문은 {@link CapturingStatementInspector}로 수집합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-07
+ * @version 1.0
+ */
+@DataJpaTest(properties = CapturingStatementInspector.PROPERTY)
+@Import({CartWriteBehindTestConfiguration.class, CartServiceImpl.class})
+class CartFieldSelectionStatementCountTest {
+
+    private static final String OWNER = "fields-owner@example.com";
+
+    @Autowired
+    private CartServiceImpl cartService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        Member owner = Member.builder().email(OWNER).pw("pw").nickname("주인").build();
+        Member writer = Member.builder().email("writer-" + UUID.randomUUID() + "@example.com")
+                .pw("pw").nickname("작성자").build();
+        entityManager.persist(owner);
+        entityManager.persist(writer);
+        Cart cart = Cart.builder().owner(owner).build();
+        entityManager.persist(cart);
+        for (int i = 1; i <= 3; i++) {
+            Product product = Product.builder().pname("상품 " + i).price(1_000 * i).build();
+            product.addImageString("product_" + i + "_image_1.jpg");
+            product.addImageString(Integer.toString(i).repeat(64) + ".jpg");
+            entityManager.persist(product);
+            CartItem item = CartItem.builder().cart(cart).product(product).qty(i).build();
+            item.setCreatedBy(writer);
+            entityManager.persist(item);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        CapturingStatementInspector.clear();
+    }
+
+    /**
+     * 아이템을 선택하지 않으면 회원과 장바구니만 조회하고 아이템 테이블에는 접근하지 않습니다.
+     */
+    @Test
+    void cartFieldsOnlySkipItemQuery() {
+        CartResponse response = cartService.getOrCreateCart(OWNER, FieldSelection.parse("cno,totalAmount"));
+
+        List<String> statements = CapturingStatementInspector.statements();
+        assertThat(statements).hasSize(2).noneMatch(sql -> sql.contains("tbl_cart_item"));
+        assertThat(response.getItems()).isNullOrEmpty();
+    }
+
+    /**
+     * 아이템의 일부 속성만 선택하면 아이템은 조회하되 아이템 감사 정보(작성자 닉네임)는 적재하지 않습니다.
+     */
+    @Test
+    void itemSubFieldsSkipItemAuditPrefetch() {
+        CartResponse response = cartService.getOrCreateCart(OWNER, FieldSelection.parse("cno,items.quantity"));
+
+        assertThat(CapturingStatementInspector.statements()).hasSize(3)
+                .noneMatch(sql -> sql.contains("product_image_list"));
+        assertThat(response.getItems()).hasSize(3).allSatisfy(item -> {
+            assertThat(item.getCreatedByNickname()).isNull();
+            assertThat(item.getProductImage()).isNull();
+        });
+    }
+
+    /**
+     * 아이템 전체를 선택하면 상품 이미지는 아이템 조회에 조인하고, 아이템 감사 정보는 한 번의 추가 조회로 적재합니다.
+     * 대표 이미지는 이전 형식 파일명을 건너뛴 저장소 이미지의 썸네일 URL입니다.
+     */
+    @Test
+    void wholeItemsIncludeItemAuditAndImage() {
+        CartResponse response = cartService.getOrCreateCart(OWNER, FieldSelection.parse("cno,items"));
+
+        assertThat(CapturingStatementInspector.statements()).hasSize(4)
+                .filteredOn(sql -> sql.contains("product_image_list")).hasSize(1);
+        assertThat(response.getItems()).hasSize(3).allSatisfy(item -> {
+            assertThat(item.getCreatedByNickname()).isEqualTo("작성자");
+            assertThat(item.getProductImage()).endsWith("/small/" + Long.toString(item.getProductPrice() / 1_000)
+                    .repeat(64) + ".jpg");
+        });
+    }
+}
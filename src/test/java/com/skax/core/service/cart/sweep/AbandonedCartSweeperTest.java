@@ -0,0 +1,120 @@
+package com.skax.core.service.cart.sweep;
+
+import com.skax.core.entity.cart.Cart;
+import com.skax.core.entity.cart.CartItem;
+import com.skax.core.entity.member.Member;
+import com.skax.core.entity.product.Product;
+import com.skax.core.repository.cart.CartItemRepository;
+import com.skax.core.repository.cart.CartRepository;
+import com.skax.core.repository.member.MemberRepository;
+import com.skax.core.repository.product.ProductRepository;
+import com.skax.core.service.cart.writebehind.CartWriteBehindStore;
+import com.skax.core.support.CartWriteBehindTestConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방치된 장바구니 정리 작업 테스트 (write-behind 저장소 사용)
+ *
+ * <p>정리된 장바구니가 write-behind 저장소에 남지 않는지와, 메모리에만 있는 수량 변경이 있는
+ * 장바구니는 정리되지 않는지 확인합니다. 저장소의 반영은 별도 트랜잭션에서 실행되므로
+ * 테스트 트랜잭션 없이 실행하고 데이터는 직접 정리합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-05
+ * @version 1.0
+ */
+@DataJpaTest(properties = "app.cart.write-behind.enabled=true")
+@Import({CartWriteBehindTestConfiguration.class, AbandonedCartSweeper.class})
+@EnableConfigurationProperties(CartSweeperProperties.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AbandonedCartSweeperTest {
+
+    private static final String MEMBER = "sweep@example.com";
+
+    @Autowired
+    private AbandonedCartSweeper sweeper;
+
+    @Autowired
+    private CartWriteBehindStore store;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long cino;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(Member.builder().email(MEMBER).pw("pw").nickname("정리").build());
+        Product product = productRepository.save(Product.builder().pname("상품").price(1_000).build());
+        Cart cart = cartRepository.save(Cart.builder().owner(member).build());
+        cino = cartItemRepository.save(CartItem.builder().cart(cart).product(product).qty(1).build()).getCino();
+
+        // 두 달 동안 사용되지 않은 장바구니
+        Timestamp old = Timestamp.valueOf(LocalDateTime.now().minusDays(60));
+        jdbcTemplate.update("UPDATE tbl_cart SET updated_at = ?", old);
+        jdbcTemplate.update("UPDATE tbl_cart_item SET updated_at = ?", old);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 컨텍스트를 공유하는 다음 테스트에 장바구니가 남지 않도록 메모리에서 제거
+        store.writeThrough(MEMBER, () -> null);
+        jdbcTemplate.update("DELETE FROM tbl_cart_item");
+        jdbcTemplate.update("DELETE FROM tbl_cart");
+        jdbcTemplate.update("DELETE FROM tbl_product");
+        jdbcTemplate.update("DELETE FROM members");
+    }
+
+    /**
+     * 정리된 장바구니는 저장소에서도 제거되어 삭제된 아이템이 조회되지 않습니다.
+     */
+    @Test
+    void sweptCartIsEvictedFromStore() {
+        assertThat(store.getOrCreateCart(MEMBER).getItems()).hasSize(1);
+
+        sweeper.sweep();
+
+        assertThat(cartItemRepository.existsById(cino)).isFalse();
+        assertThat(store.getOrCreateCart(MEMBER).getItems()).isEmpty();
+    }
+
+    /**
+     * 메모리에만 있는 수량 변경은 정리 전에 반영되어 사용 중인 장바구니가 삭제되지 않습니다.
+     */
+    @Test
+    void pendingQuantityChangeKeepsCartFromBeingSwept() {
+        store.changeQuantity(MEMBER, cino, quantity -> 5);
+
+        sweeper.sweep();
+
+        assertThat(cartItemRepository.findById(cino))
+                .hasValueSatisfying(item -> assertThat(item.getQty()).isEqualTo(5));
+        assertThat(store.getProductQuantity(MEMBER, productRepository.findAll().get(0).getPno())).isEqualTo(5);
+    }
+}
@@ -0,0 +1,325 @@
+package com.skax.core.service.cart.writebehind;
+
+import com.skax.core.dto.cart.mapper.CartMapper;
+import com.skax.core.dto.cart.response.CartResponse;
+import com.skax.core.entity.cart.Cart;
+import com.skax.core.entity.cart.CartItem;
+import com.skax.core.entity.member.Member;
+import com.skax.core.entity.product.Product;
+import com.skax.core.repository.cart.CartItemRepository;
+import com.skax.core.repository.cart.CartRepository;
+import com.skax.core.repository.member.MemberRepository;
+import com.skax.core.repository.product.ProductRepository;
+import com.skax.core.service.product.image.ProductImageStore;
+import com.skax.core.support.CartWriteBehindTestConfiguration;
+import com.skax.core.util.ServiceUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 장바구니 write-behind 저장소 내구성 테스트
+ *
+ * <p>비정상 종료 후 재시작(새 저장소 인스턴스), 반영 실패와 재시도, 삭제된 행에 대한 반영,
+ * 호출 트랜잭션의 엔티티 갱신, 종료 시 반영과 정기 반영의 직렬화를 확인합니다.
+ * DB 장애는 배치 UPDATE를 실패시키는 {@link JdbcTemplate}로 흉내냅니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-05
+ * @version 1.0
+ */
+@DataJpaTest
+@Import(CartWriteBehindTestConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CartWriteBehindStoreTest {
+
+    private static final String MEMBER = "writebehind@example.com";
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartMapper cartMapper;
+
+    @Autowired
+    private ServiceUtils serviceUtils;
+
+    @Autowired
+    private ProductImageStore productImageStore;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final CartWriteBehindProperties properties = new CartWriteBehindProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FlakyJdbcTemplate flakyJdbcTemplate;
+
+    private Long pno;
+    private Long cino;
+
+    @BeforeEach
+    void setUp() {
+        properties.setEnabled(true);
+        flakyJdbcTemplate = new FlakyJdbcTemplate(dataSource);
+
+        Member member = memberRepository.save(Member.builder().email(MEMBER).pw("pw").nickname("장바구니").build());
+        Product product = productRepository.save(Product.builder().pname("상품").price(1_000).build());
+        Cart cart = cartRepository.save(Cart.builder().owner(member).build());
+        pno = product.getPno();
+        cino = cartItemRepository.save(CartItem.builder().cart(cart).product(product).qty(1).build()).getCino();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tbl_cart_item");
+        jdbcTemplate.update("DELETE FROM tbl_cart");
+        jdbcTemplate.update("DELETE FROM product_image_list");
+        jdbcTemplate.update("DELETE FROM tbl_product");
+        jdbcTemplate.update("DELETE FROM members");
+    }
+
+    /**
+     * 비정상 종료 시 마지막 반영 이후의 변경만 유실되고, 재시작한 저장소는 마지막으로 반영된 수량을 적재합니다.
+     */
+    @Test
+    void restartAfterCrashRecoversLastFlushedQuantity() {
+        CartWriteBehindStore crashed = newStore();
+        crashed.changeQuantity(MEMBER, cino, quantity -> 3);
+        crashed.flush();
+        crashed.changeQuantity(MEMBER, cino, quantity -> 7);
+        // 종료 처리(flushOnShutdown) 없이 인스턴스를 버린다
+
+        CartWriteBehindStore restarted = newStore();
+
+        assertThat(restarted.getProductQuantity(MEMBER, pno)).isEqualTo(3);
+        assertThat(dbQuantity()).isEqualTo(3);
+    }
+
+    /**
+     * 반영에 실패한 값은 재시도 간격이 지나야 다시 반영되며, 종료 시에는 간격과 관계없이 반영됩니다.
+     */
+    @Test
+    void failedFlushIsRetriedAfterBackoff() {
+        CartWriteBehindStore store = newStore();
+        flakyJdbcTemplate.failures.set(1);
+
+        store.changeQuantity(MEMBER, cino, quantity -> 4);
+        store.flush();
+        store.flush();
+
+        assertThat(dbQuantity()).isEqualTo(1);
+        assertThat(meterRegistry.get("cart.writebehind.retries").gauge().value()).isEqualTo(1.0);
+
+        store.flushOnShutdown();
+
+        assertThat(dbQuantity()).isEqualTo(4);
+        assertThat(meterRegistry.get("cart.writebehind.retries").gauge().value()).isZero();
+    }
+
+    /**
+     * 재시도 대기 중인 값은 같은 아이템의 새 값으로 대체되어 최신 수량을 덮어쓰지 않습니다.
+     */
+    @Test
+    void staleRetryDoesNotOverwriteNewerQuantity() {
+        CartWriteBehindStore store = newStore();
+        flakyJdbcTemplate.failures.set(1);
+        store.changeQuantity(MEMBER, cino, quantity -> 4);
+        store.flush();
+
+        store.changeQuantity(MEMBER, cino, quantity -> 6);
+        store.flush();
+        store.flushOnShutdown();
+
+        assertThat(dbQuantity()).isEqualTo(6);
+        assertThat(flakyJdbcTemplate.writes.get()).isEqualTo(1);
+    }
+
+    /**
+     * 재시도 한도를 넘은 값은 버리고 장바구니를 DB에서 다시 적재합니다.
+     */
+    @Test
+    void exhaustedRetriesAreDroppedAndCartIsReloaded() {
+        properties.setMaxFlushRetries(2);
+        CartWriteBehindStore store = newStore();
+        flakyJdbcTemplate.failures.set(Integer.MAX_VALUE);
+
+        store.changeQuantity(MEMBER, cino, quantity -> 5);
+        for (int i = 0; i < 3; i++) {
+            store.flushOnShutdown();
+        }
+        flakyJdbcTemplate.failures.set(0);
+
+        assertThat(meterRegistry.get("cart.writebehind.dropped").tag("reason", "retries-exhausted").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("cart.writebehind.retries").gauge().value()).isZero();
+        assertThat(store.getProductQuantity(MEMBER, pno)).isEqualTo(1);
+    }
+
+    /**
+     * 이미 삭제된 행에 대한 반영은 버리고 메모리에서도 아이템을 제거합니다.
+     */
+    @Test
+    void writeToDeletedRowIsDropped() {
+        CartWriteBehindStore store = newStore();
+        store.changeQuantity(MEMBER, cino, quantity -> 5);
+        jdbcTemplate.update("DELETE FROM tbl_cart_item WHERE cino = ?", cino);
+
+        store.flush();
+
+        assertThat(meterRegistry.get("cart.writebehind.dropped").tag("reason", "missing-row").counter().count())
+                .isEqualTo(1.0);
+        assertThat(store.getOrCreateCart(MEMBER).getItems()).isEmpty();
+    }
+
+    /**
+     * 반영이 version을 올려도 호출 트랜잭션이 적재한 아이템은 다시 읽혀 이후의 JPA 변경이 충돌하지 않습니다.
+     */
+    @Test
+    void flushRefreshesItemsLoadedByCallerTransaction() {
+        CartWriteBehindStore store = newStore();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            CartItem managed = cartItemRepository.findById(cino).orElseThrow();
+            store.changeQuantity(MEMBER, cino, quantity -> 3);
+            store.writeThrough(MEMBER, () -> {
+                managed.changeQty(managed.getQty() + 6);
+                return null;
+            });
+        });
+
+        assertThat(dbQuantity()).isEqualTo(9);
+    }
+
+    /**
+     * 종료 시 반영은 진행 중인 정기 반영이 끝난 뒤에 실행됩니다.
+     */
+    @Test
+    void shutdownFlushWaitsForRunningFlush() throws Exception {
+        CartWriteBehindStore store = newStore();
+        store.changeQuantity(MEMBER, cino, quantity -> 2);
+        flakyJdbcTemplate.block = new CountDownLatch(1);
+
+        Thread scheduled = new Thread(store::flush);
+        scheduled.start();
+        assertThat(flakyJdbcTemplate.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        store.changeQuantity(MEMBER, cino, quantity -> 8);
+        Thread shutdown = new Thread(store::flushOnShutdown);
+        shutdown.start();
+        shutdown.join(300);
+
+        assertThat(shutdown.isAlive()).isTrue();
+
+        flakyJdbcTemplate.block.countDown();
+        scheduled.join(5_000);
+        shutdown.join(5_000);
+
+        assertThat(flakyJdbcTemplate.maxConcurrent.get()).isEqualTo(1);
+        assertThat(dbQuantity()).isEqualTo(8);
+    }
+
+    /**
+     * 메모리 장바구니의 아이템도 상품 응답의 thumbnail과 같은 대표 이미지 URL을 가지며, 이전 형식 파일명은 건너뜁니다.
+     */
+    @Test
+    void cachedItemsCarryProductThumbnail() {
+        String stored = "a".repeat(64) + ".png";
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Product product = productRepository.findById(pno).orElseThrow();
+            product.addImageString("product_1_image_1.jpg");
+            product.addImageString(stored);
+        });
+
+        CartResponse cart = newStore().getOrCreateCart(MEMBER);
+
+        assertThat(cart.getItems()).singleElement()
+                .satisfies(item -> assertThat(item.getProductImage())
+                        .endsWith(ProductImageStore.IMAGE_PATH + "/small/" + stored));
+    }
+
+    private CartWriteBehindStore newStore() {
+        return new CartWriteBehindStore(cartRepository, cartItemRepository, memberRepository, productRepository,
+                cartMapper, serviceUtils, productImageStore, flakyJdbcTemplate, properties, transactionManager, entityManager,
+                meterRegistry);
+    }
+
+    private int dbQuantity() {
+        List<Integer> quantities = jdbcTemplate.queryForList("SELECT qty FROM tbl_cart_item WHERE cino = ?",
+                Integer.class, cino);
+        return quantities.isEmpty() ? 0 : quantities.get(0);
+    }
+
+    /**
+     * 지정한 횟수만큼 배치 UPDATE를 실패시키거나 잠시 멈추게 하는 JdbcTemplate
+     */
+    private static final class FlakyJdbcTemplate extends JdbcTemplate {
+
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger writes = new AtomicInteger();
+        private final AtomicInteger concurrent = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private volatile CountDownLatch block;
+
+        private FlakyJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                entered.countDown();
+                if (block != null) {
+                    block.await(5, TimeUnit.SECONDS);
+                }
+                if (failures.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                    throw new DataAccessResourceFailureException("DB 연결 실패 (테스트)");
+                }
+                writes.incrementAndGet();
+                return super.batchUpdate(sql, batchArgs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DataAccessResourceFailureException("중단됨", e);
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.skax.core.service.member.cache;
+
+import com.skax.core.entity.member.Member;
+import com.skax.core.entity.product.Product;
+import com.skax.core.repository.member.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 회원 표시명 캐시 테스트
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-30
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class MemberDisplayNameCacheTest {
+
+    private static final String EMAIL = "user1@example.com";
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MemberDisplayNameCache cache;
+
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MemberDisplayNameCache(memberRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(30));
+        Product product = Product.builder().pname("상품").build();
+        product.setCreatedBy(Member.builder().email(EMAIL).nickname("이전닉네임").build());
+        products = List.of(product);
+    }
+
+    /**
+     * 적재한 닉네임은 다음 적재 때 다시 조회하지 않습니다.
+     */
+    @Test
+    void prefetchCachesNicknames() {
+        given(memberRepository.findNicknamesByEmails(anyCollection()))
+                .willReturn(List.<Object[]>of(new Object[]{EMAIL, "이전닉네임"}));
+
+        cache.prefetch(products);
+        cache.prefetch(products);
+
+        verify(memberRepository, times(1)).findNicknamesByEmails(anyCollection());
+    }
+
+    /**
+     * 조회 도중 무효화된 회원의 (이전) 닉네임은 캐시에 넣지 않습니다.
+     */
+    @Test
+    void prefetchRacingEvictIsNotCached() {
+        given(memberRepository.findNicknamesByEmails(anyCollection())).willAnswer(invocation -> {
+            cache.evict(EMAIL);
+            return List.<Object[]>of(new Object[]{EMAIL, "이전닉네임"});
+        });
+
+        cache.prefetch(products);
+        cache.prefetch(products);
+
+        verify(memberRepository, times(2)).findNicknamesByEmails(anyCollection());
+    }
+}
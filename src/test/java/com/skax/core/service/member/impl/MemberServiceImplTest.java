@@ -0,0 +1,78 @@
+package com.skax.core.service.member.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skax.core.common.suggest.PrefixIndex;
+import com.skax.core.dto.member.request.MemberCreateRequest;
+import com.skax.core.dto.member.response.MemberSuggestResponse;
+import com.skax.core.repository.member.MemberRepository;
+import com.skax.core.service.member.availability.MemberAvailabilityFilter;
+import com.skax.core.service.member.suggest.MemberNicknameSuggestIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 회원 서비스 테스트
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-08
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class MemberServiceImplTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private MemberNicknameSuggestIndex memberNicknameSuggestIndex;
+
+    @Mock
+    private MemberAvailabilityFilter memberAvailabilityFilter;
+
+    @InjectMocks
+    private MemberServiceImpl memberService;
+
+    /**
+     * 닉네임 자동완성 응답에는 색인 키인 이메일이 없고, 같은 닉네임은 한 번만 나옵니다.
+     */
+    @Test
+    void suggestMembersReturnsNicknamesWithoutEmails() throws Exception {
+        given(memberNicknameSuggestIndex.suggest("홍", 10)).willReturn(List.of(
+                new PrefixIndex.Entry<>("hong1@example.com", "홍길동", 3),
+                new PrefixIndex.Entry<>("hong2@example.com", "홍길동", 2),
+                new PrefixIndex.Entry<>("hong3@example.com", "홍길순", 1)));
+
+        List<MemberSuggestResponse> suggestions = memberService.suggestMembers("홍", 10);
+
+        assertThat(suggestions).extracting(MemberSuggestResponse::getNickname).containsExactly("홍길동", "홍길순");
+        assertThat(new ObjectMapper().writeValueAsString(suggestions)).doesNotContain("@", "email");
+    }
+
+    /**
+     * 가입 시 중복 확인은 메모리 필터가 아니라 DB로 하므로, 다른 노드에서 가입한 이메일도 거부됩니다.
+     */
+    @Test
+    void createMemberChecksDatabaseNotBloomFilter() {
+        given(memberRepository.existsByEmail("taken@example.com")).willReturn(true);
+        MemberCreateRequest request = MemberCreateRequest.builder()
+                .email("taken@example.com").password("password1!").nickname("새닉네임").build();
+
+        assertThatThrownBy(() -> memberService.createMember(request)).isInstanceOf(IllegalArgumentException.class);
+
+        verify(memberRepository, never()).save(any());
+        verifyNoInteractions(memberAvailabilityFilter);
+    }
+}
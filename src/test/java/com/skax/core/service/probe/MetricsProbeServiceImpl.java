@@ -0,0 +1,31 @@
+package com.skax.core.service.probe;
+
+/**
+ * 서비스 메트릭 테스트용 서비스
+ *
+ * <p>{@code ServiceMetricsAspect}의 포인트컷({@code com.skax.core.service..*ServiceImpl})에 해당하도록
+ * 서비스 패키지에 둔 테스트 전용 구현체입니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-31
+ * @version 1.0
+ */
+public class MetricsProbeServiceImpl {
+
+    /**
+     * 입력값에 1을 더해 반환합니다.
+     *
+     * @param value 입력값
+     * @return value + 1
+     */
+    public int next(int value) {
+        return value + 1;
+    }
+
+    /**
+     * 항상 예외를 던집니다.
+     */
+    public void fail() {
+        throw new IllegalStateException("probe");
+    }
+}
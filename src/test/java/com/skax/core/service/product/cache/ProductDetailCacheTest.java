@@ -0,0 +1,136 @@
+package com.skax.core.service.product.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.skax.core.common.response.AxResponseEntity;
+import com.skax.core.config.HttpMessageConverterConfig;
+import com.skax.core.dto.product.response.ProductResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 상세 응답 바이트 캐시 테스트
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-28
+ * @version 1.0
+ */
+class ProductDetailCacheTest {
+
+    private ObjectMapper objectMapper;
+    private ProductDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        new HttpMessageConverterConfig().fieldSelectionFilterCustomizer().customize(builder);
+        objectMapper = builder.build();
+        cache = new ProductDetailCache(objectMapper, true, DataSize.ofMegabytes(1), DataSize.ofBytes(16));
+    }
+
+    /**
+     * 캐시된 응답은 컨트롤러가 직접 만든 응답과 필드 구성, 순서, 값이 같아야 합니다. (timestamp 제외)
+     */
+    @Test
+    void cachedResponseHasSameShapeAsFreshResponse() throws IOException {
+        ProductResponse product = product();
+        cache.put(1L, cache.currentGeneration(1L), product);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        cache.get(1L).orElseThrow().writeJson(out);
+        JsonNode cached = objectMapper.readTree(out.toByteArray());
+        JsonNode fresh = objectMapper.readTree(objectMapper.writeValueAsBytes(
+                AxResponseEntity.ok(product, ProductDetailCache.DETAIL_MESSAGE).getBody()));
+
+        assertThat(fieldNames(cached)).containsExactlyElementsOf(fieldNames(fresh));
+        assertThat(cached.has("path")).isFalse();
+        assertThat(cached.get("timestamp").asText()).matches("\\d{4}-\\d{2}-\\d{2}T.*");
+        assertThat(withoutTimestamp(cached)).isEqualTo(withoutTimestamp(fresh));
+    }
+
+    /**
+     * gzip 응답은 여러 gzip 멤버로 구성되지만 풀면 비압축 응답과 같은 JSON이어야 합니다.
+     */
+    @Test
+    void gzipResponseDecodesToSameJson() throws IOException {
+        ProductResponse product = product();
+        cache.put(1L, cache.currentGeneration(1L), product);
+        ProductDetailCache.Entry entry = cache.get(1L).orElseThrow();
+        assertThat(entry.isCompressible()).isTrue();
+
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        entry.writeJson(json);
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        entry.writeGzip(gzip);
+        byte[] decoded;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.toByteArray()))) {
+            decoded = in.readAllBytes();
+        }
+
+        assertThat(withoutTimestamp(objectMapper.readTree(decoded)))
+                .isEqualTo(withoutTimestamp(objectMapper.readTree(json.toByteArray())));
+    }
+
+    /**
+     * 조회 시작 이후 무효화된 상품의 응답은 저장하지 않습니다.
+     */
+    @Test
+    void putAfterEvictIsIgnored() {
+        long generation = cache.currentGeneration(1L);
+        cache.evict(1L);
+        cache.put(1L, generation, product());
+
+        assertThat(cache.get(1L)).isEmpty();
+    }
+
+    /**
+     * 저장 후 원본을 수정하거나 조회한 DTO를 수정해도 캐시된 DTO는 바뀌지 않습니다.
+     */
+    @Test
+    void cachedResponseIsNotSharedWithCallers() {
+        ProductResponse original = product();
+        cache.put(1L, cache.currentGeneration(1L), original);
+        original.setPrice(1);
+        cache.get(1L).orElseThrow().getResponse().setProductName("changed");
+
+        ProductResponse cached = cache.get(1L).orElseThrow().getResponse();
+        assertThat(cached.getPrice()).isEqualTo(1_290_000);
+        assertThat(cached.getProductName()).isEqualTo("iPhone 15 Pro");
+    }
+
+    private static ProductResponse product() {
+        return ProductResponse.builder()
+                .pno(1L)
+                .productName("iPhone 15 Pro")
+                .description("최신 iPhone 15 Pro 모델 \"timestamp\":\"0001-01-01T00:00:00\"")
+                .price(1_290_000)
+                .version(3L)
+                .build();
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    private static JsonNode withoutTimestamp(JsonNode node) {
+        ObjectNode copy = node.deepCopy();
+        copy.remove("timestamp");
+        return copy;
+    }
+}
@@ -0,0 +1,93 @@
+package com.skax.core.service.product.image;
+
+import com.skax.core.common.exception.BusinessException;
+import com.skax.core.dto.product.response.ProductImageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 상품 이미지 저장소의 파일명 검증과 URL 생성 테스트
+ *
+ * <p>저장소 도입 전의 자유 형식 파일명은 URL 없이 legacy로 표시되고, 상품에 새로 등록하는 파일명은
+ * 실제로 업로드된 이미지여야 하는지 임시 디렉터리 저장소로 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-07
+ * @version 1.0
+ */
+class ProductImageStoreTest {
+
+    private static final String LEGACY = "product_1_image_1.jpg";
+    private static final String PREFIX = "/api" + ProductImageStore.IMAGE_PATH;
+
+    @TempDir
+    Path baseDir;
+
+    private ProductImageStore store;
+
+    @BeforeEach
+    void setUp() {
+        ProductImageProperties properties = new ProductImageProperties();
+        properties.setBaseDir(baseDir.toString());
+        store = new ProductImageStore(properties, "/api");
+    }
+
+    /**
+     * 이전 형식 파일명은 제공할 파일이 없으므로 URL 없이 legacy로 응답합니다.
+     */
+    @Test
+    void legacyNameIsFlaggedWithoutUrls() {
+        ProductImageResponse response = store.toResponse(LEGACY);
+
+        assertThat(response.isLegacy()).isTrue();
+        assertThat(response.getUrl()).isNull();
+        assertThat(response.getSizes()).isEmpty();
+    }
+
+    /**
+     * 저장된 이미지는 원본과 크기별 URL을 가지며, 대표 이미지는 이전 형식 파일명을 건너뛰고 고릅니다.
+     */
+    @Test
+    void storedNameHasUrlsAndIsPreferredForThumbnail() throws Exception {
+        String fileName = store.save(new ByteArrayInputStream(png()));
+
+        ProductImageResponse response = store.toResponse(fileName);
+
+        assertThat(response.isLegacy()).isFalse();
+        assertThat(response.getUrl()).isEqualTo(PREFIX + "/original/" + fileName);
+        assertThat(response.getSizes()).containsEntry("small", PREFIX + "/small/" + fileName);
+        assertThat(store.thumbnailUrl(List.of(LEGACY, fileName))).isEqualTo(PREFIX + "/small/" + fileName);
+        assertThat(store.thumbnailUrl(List.of(LEGACY))).isNull();
+    }
+
+    /**
+     * 상품에 등록할 수 있는 파일명은 이 저장소에 원본이 저장된 파일명뿐입니다.
+     */
+    @Test
+    void requireStoredAcceptsOnlyUploadedImages() throws Exception {
+        String fileName = store.save(new ByteArrayInputStream(png()));
+
+        assertThatCode(() -> store.requireStored(fileName)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> store.requireStored(LEGACY)).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> store.requireStored("0".repeat(64) + ".jpg")).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> store.requireStored(null)).isInstanceOf(BusinessException.class);
+    }
+
+    private static byte[] png() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,187 @@
+package com.skax.core.service.product.impl;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.skax.core.common.fields.FieldSelection;
+import com.skax.core.common.persistence.HibernateFilters;
+import com.skax.core.config.HttpMessageConverterConfig;
+import com.skax.core.dto.product.response.ProductBatchItemResponse;
+import com.skax.core.dto.product.response.ProductImageResponse;
+import com.skax.core.entity.member.Member;
+import com.skax.core.entity.product.Product;
+import com.skax.core.repository.member.MemberRepository;
+import com.skax.core.repository.product.ProductRepository;
+import com.skax.core.service.cart.writebehind.CartWriteBehindStore;
+import com.skax.core.service.member.cache.MemberDisplayNameCache;
+import com.skax.core.service.product.cache.ProductDetailCache;
+import com.skax.core.service.product.image.ProductImageStore;
+import com.skax.core.service.product.image.ThumbnailGenerator;
+import com.skax.core.service.product.suggest.ProductNameSuggestIndex;
+import com.skax.core.support.CapturingStatementInspector;
+import com.skax.core.util.AuditMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 상품 일괄 조회 SQL 구문 수 테스트
+ *
+ * <p>실제 상품 상세 캐시와 회원 표시명 캐시로 구성한 서비스(이미지 저장소 등 DB 밖의 협력 객체는 목)에서
+ * 요청 건수와 관계없이 상품(이미지 포함)과 감사 정보 작성자를 각각 한 번씩만 조회하는지,
+ * 없는/삭제된/중복 번호와 캐시 적중이 구문 수를 늘리지 않는지 확인합니다.
+ * 각 측정은 캐시가 비어 있는 새 서비스와 비워진 영속성 컨텍스트에서 시작합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-07
+ * @version 1.0
+ */
+@DataJpaTest(properties = CapturingStatementInspector.PROPERTY)
+@Import(HibernateFilters.class)
+class ProductBatchStatementCountTest {
+
+    private static final int PRODUCTS = 60;
+    private static final int MEMBERS = 3;
+    private static final Long MISSING_PNO = 999_999L;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private HibernateFilters hibernateFilters;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<Long> pnos = new ArrayList<>();
+    private Long deletedPno;
+
+    @BeforeEach
+    void setUp() {
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            Member member = Member.builder().email("writer" + i + "@example.com").pw("pw").nickname("작성자" + i).build();
+            entityManager.persist(member);
+            members.add(member);
+        }
+        for (int i = 0; i < PRODUCTS; i++) {
+            pnos.add(persistProduct("상품 " + i, members.get(i % MEMBERS), false));
+        }
+        deletedPno = persistProduct("삭제된 상품", members.get(0), true);
+        entityManager.flush();
+        entityManager.clear();
+        CapturingStatementInspector.clear();
+    }
+
+    /**
+     * 1건, 10건, 60건 모두 같은 수의 SELECT로 끝납니다.
+     * 전체 필드는 상품+이미지 조회와 작성자 조회 2회, 이미지만 선택하면 상품+이미지 조회 1회입니다.
+     */
+    @Test
+    void batchRunsConstantSelectsRegardlessOfSize() {
+        for (int size : new int[] {1, 10, PRODUCTS}) {
+            List<Long> ids = pnos.subList(0, size);
+
+            List<String> all = capture(newService(), ids, FieldSelection.all());
+            List<String> images = capture(newService(), ids, FieldSelection.parse("pno,images"));
+
+            assertThat(all).as("all fields, %d ids", size).hasSize(2).allMatch(sql -> sql.startsWith("select"));
+            assertThat(all.get(0)).contains("product_image_list");
+            assertThat(all.get(1)).contains("members");
+            assertThat(images).as("images, %d ids", size).hasSize(1).allMatch(sql -> sql.contains("product_image_list"));
+        }
+    }
+
+    /**
+     * 없는 번호, 삭제된 번호, 중복 번호가 섞여도 요청 순서대로 응답하며 구문 수는 그대로입니다.
+     */
+    @Test
+    void missingDeletedAndDuplicateIdsDoNotAddStatements() {
+        List<Long> ids = List.of(pnos.get(0), MISSING_PNO, deletedPno, pnos.get(1), pnos.get(0));
+        ProductServiceImpl productService = newService();
+
+        List<ProductBatchItemResponse> items = productService.getProductsByIds(ids, FieldSelection.all());
+        List<String> statements = CapturingStatementInspector.statements();
+
+        assertThat(items).extracting(ProductBatchItemResponse::getPno, ProductBatchItemResponse::isFound)
+                .containsExactly(
+                        tuple(pnos.get(0), true),
+                        tuple(MISSING_PNO, false),
+                        tuple(deletedPno, false),
+                        tuple(pnos.get(1), true),
+                        tuple(pnos.get(0), true));
+        assertThat(items.get(4).getProduct().getImages()).hasSize(2);
+        assertThat(statements).hasSize(2).allMatch(sql -> sql.startsWith("select"));
+    }
+
+    /**
+     * 상세 캐시에 들어간 상품은 다시 조회하지 않고, 캐시에 없는 상품만 한 번에 조회합니다.
+     */
+    @Test
+    void cachedProductsAreNotQueriedAgain() {
+        ProductServiceImpl productService = newService();
+        productService.getProductsByIds(pnos.subList(0, 10), FieldSelection.all());
+        entityManager.clear();
+        CapturingStatementInspector.clear();
+
+        List<ProductBatchItemResponse> cached = productService.getProductsByIds(pnos.subList(0, 10), FieldSelection.all());
+        List<String> hitStatements = CapturingStatementInspector.statements();
+        List<String> mixedStatements = capture(productService, pnos.subList(5, 20), FieldSelection.all());
+
+        assertThat(cached).allMatch(ProductBatchItemResponse::isFound);
+        assertThat(hitStatements).isEmpty();
+        assertThat(mixedStatements).hasSize(1).allMatch(sql -> sql.contains("product_image_list"));
+    }
+
+    private List<String> capture(ProductServiceImpl productService, List<Long> ids, FieldSelection fields) {
+        entityManager.clear();
+        CapturingStatementInspector.clear();
+        List<ProductBatchItemResponse> items = productService.getProductsByIds(ids, fields);
+        assertThat(items).hasSize(ids.size());
+        return CapturingStatementInspector.statements();
+    }
+
+    private ProductServiceImpl newService() {
+        AuditMapper auditMapper = new AuditMapper(new MemberDisplayNameCache(
+                memberRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(30)));
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        new HttpMessageConverterConfig().fieldSelectionFilterCustomizer().customize(builder);
+        ProductDetailCache productDetailCache = new ProductDetailCache(builder.build(),
+                true, DataSize.ofMegabytes(1), DataSize.ofKilobytes(2));
+        ProductImageStore productImageStore = mock(ProductImageStore.class);
+        given(productImageStore.toResponse(anyString())).willAnswer(invocation ->
+                ProductImageResponse.builder().fileName(invocation.getArgument(0)).legacy(true).build());
+        return new ProductServiceImpl(productRepository, productDetailCache, auditMapper,
+                mock(CartWriteBehindStore.class), productImageStore, mock(ThumbnailGenerator.class),
+                mock(ProductNameSuggestIndex.class), hibernateFilters);
+    }
+
+    private Long persistProduct(String pname, Member writer, boolean deleted) {
+        Product product = Product.builder().pname(pname).price(1_000).build();
+        product.addImageString(pname.hashCode() + "_a.jpg");
+        product.addImageString(pname.hashCode() + "_b.jpg");
+        product.setCreatedBy(writer);
+        product.setUpdatedBy(writer);
+        product.setDeleted(deleted);
+        entityManager.persist(product);
+        return product.getPno();
+    }
+}
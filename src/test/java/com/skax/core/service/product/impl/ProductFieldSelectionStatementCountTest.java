@@ -0,0 +1,143 @@
+package com.skax.core.service.product.impl;
+
+import com.skax.core.common.fields.FieldSelection;
+import com.skax.core.common.persistence.HibernateFilters;
+import com.skax.core.common.response.PageResponse;
+import com.skax.core.dto.product.response.ProductBatchItemResponse;
+import com.skax.core.dto.product.response.ProductResponse;
+import com.skax.core.entity.product.Product;
+import com.skax.core.repository.member.MemberRepository;
+import com.skax.core.repository.product.ProductRepository;
+import com.skax.core.service.cart.writebehind.CartWriteBehindStore;
+import com.skax.core.service.member.cache.MemberDisplayNameCache;
+import com.skax.core.service.product.cache.ProductDetailCache;
+import com.skax.core.service.product.image.ProductImageStore;
+import com.skax.core.service.product.image.ThumbnailGenerator;
+import com.skax.core.service.product.suggest.ProductNameSuggestIndex;
+import com.skax.core.support.CapturingStatementInspector;
+import com.skax.core.util.AuditMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 상품 조회의 필드 선택별 SQL 구문 수 테스트
+ *
+ * <p>상품 상세 캐시와 이미지 저장소 등 DB 밖의 협력 객체는 Mockito 목으로 두고, 저장소와 감사 정보 매핑만 실제 빈으로
+ * 구성한 서비스에서 이미지 컬렉션 적재 여부를 구문 수로 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-07
+ * @version 1.0
+ */
+@DataJpaTest(properties = CapturingStatementInspector.PROPERTY)
+@Import(HibernateFilters.class)
+class ProductFieldSelectionStatementCountTest {
+
+    private static final int PRODUCTS = 3;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private HibernateFilters hibernateFilters;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ProductServiceImpl productService;
+    private final List<Long> pnos = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        AuditMapper auditMapper = new AuditMapper(new MemberDisplayNameCache(
+                memberRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(30)));
+        productService = new ProductServiceImpl(productRepository, mock(ProductDetailCache.class), auditMapper,
+                mock(CartWriteBehindStore.class), mock(ProductImageStore.class), mock(ThumbnailGenerator.class),
+                mock(ProductNameSuggestIndex.class), hibernateFilters);
+
+        for (int i = 1; i <= PRODUCTS; i++) {
+            Product product = Product.builder().pname("상품 " + i).price(1_000 * i).build();
+            product.addImageString("product_" + i + "_a.jpg");
+            product.addImageString("product_" + i + "_b.jpg");
+            entityManager.persist(product);
+            pnos.add(product.getPno());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        CapturingStatementInspector.clear();
+    }
+
+    /**
+     * 이미지를 선택하지 않은 목록 조회는 상품 조회 한 번으로 끝나고 이미지 테이블에 접근하지 않습니다.
+     */
+    @Test
+    void listWithoutImagesRunsSingleQuery() {
+        PageResponse<ProductResponse> page = productService.getAllProducts(PageRequest.of(0, 10),
+                FieldSelection.parse("pno,productName,price"));
+
+        assertThat(page.getContent()).hasSize(PRODUCTS);
+        assertThat(CapturingStatementInspector.statements()).hasSize(1)
+                .noneMatch(sql -> sql.contains("product_image_list"));
+    }
+
+    /**
+     * 썸네일을 선택한 목록 조회도 상품 수와 관계없이 이미지를 한 번에 적재합니다.
+     */
+    @Test
+    void listWithThumbnailLoadsImagesInOneQuery() {
+        PageResponse<ProductResponse> page = productService.getAllProducts(PageRequest.of(0, 10),
+                FieldSelection.parse("pno,thumbnail"));
+
+        assertThat(page.getContent()).hasSize(PRODUCTS);
+        assertThat(CapturingStatementInspector.statements()).hasSize(2)
+                .filteredOn(sql -> sql.contains("product_image_list")).hasSize(1);
+    }
+
+    /**
+     * 일괄 조회는 이미지 선택 여부와 관계없이 한 번의 조회로 끝나며, 이미지를 선택하지 않으면 조인하지 않습니다.
+     */
+    @Test
+    void batchJoinsImagesOnlyWhenSelected() {
+        List<ProductBatchItemResponse> withoutImages = productService.getProductsByIds(pnos,
+                FieldSelection.parse("pno,price"));
+        List<String> plain = CapturingStatementInspector.statements();
+        entityManager.clear();
+        CapturingStatementInspector.clear();
+        List<ProductBatchItemResponse> withImages = productService.getProductsByIds(pnos,
+                FieldSelection.parse("pno,images"));
+        List<String> joined = CapturingStatementInspector.statements();
+
+        assertThat(withoutImages).hasSize(PRODUCTS);
+        assertThat(withImages).hasSize(PRODUCTS);
+        assertThat(plain).hasSize(1).noneMatch(sql -> sql.contains("product_image_list"));
+        assertThat(joined).hasSize(1).allMatch(sql -> sql.contains("product_image_list"));
+    }
+
+    /**
+     * 상세 조회에서 이미지를 선택하지 않으면 이미지 컬렉션을 적재하지 않습니다.
+     */
+    @Test
+    void detailWithoutImagesSkipsImageCollection() {
+        ProductResponse response = productService.getProductById(pnos.get(0), FieldSelection.parse("pno,price"));
+
+        assertThat(response.getImages()).isNullOrEmpty();
+        assertThat(CapturingStatementInspector.statements()).hasSize(1)
+                .noneMatch(sql -> sql.contains("product_image_list"));
+    }
+}
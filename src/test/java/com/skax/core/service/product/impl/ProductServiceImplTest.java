@@ -0,0 +1,109 @@
+package com.skax.core.service.product.impl;
+
+import com.skax.core.common.exception.BusinessException;
+import com.skax.core.common.response.ErrorCode;
+import com.skax.core.dto.product.request.ProductUpdateRequest;
+import com.skax.core.entity.product.Product;
+import com.skax.core.repository.product.ProductRepository;
+import com.skax.core.service.cart.writebehind.CartWriteBehindStore;
+import com.skax.core.service.product.cache.ProductDetailCache;
+import com.skax.core.service.product.image.ProductImageStore;
+import com.skax.core.service.product.suggest.ProductNameSuggestIndex;
+import com.skax.core.util.AuditMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 상품 서비스 테스트
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-29
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductServiceImplTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
+    @Mock
+    private CartWriteBehindStore cartWriteBehindStore;
+
+    @Mock
+    private ProductImageStore productImageStore;
+
+    @Mock
+    private ProductNameSuggestIndex productNameSuggestIndex;
+
+    @Mock
+    private AuditMapper auditMapper;
+
+    @InjectMocks
+    private ProductServiceImpl productService;
+
+    /**
+     * 요청의 버전이 현재 버전과 다르면 수정하지 않고 충돌로 응답합니다.
+     */
+    @Test
+    void updateProductRejectsStaleVersion() {
+        Product product = Product.builder().pno(1L).pname("상품").price(1_000).version(4L).build();
+        given(productRepository.findById(1L)).willReturn(Optional.of(product));
+        ProductUpdateRequest request = ProductUpdateRequest.builder().price(2_000).version(3L).build();
+
+        assertThatThrownBy(() -> productService.updateProduct(1L, request))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(product.getPrice()).isEqualTo(1_000);
+        verifyNoInteractions(productDetailCache, cartWriteBehindStore);
+    }
+
+    /**
+     * 이미지 목록 수정 시 새로 추가하는 파일명만 업로드 여부를 검증하고, 이미 등록된 이전 파일명은 그대로 둘 수 있습니다.
+     */
+    @Test
+    void updateProductValidatesOnlyNewImageNames() {
+        Product product = Product.builder().pno(1L).pname("상품").price(1_000).version(0L).build();
+        product.addImageString("product_1_image_1.jpg");
+        given(productRepository.findById(1L)).willReturn(Optional.of(product));
+        ProductUpdateRequest request = ProductUpdateRequest.builder()
+                .images(List.of("product_1_image_1.jpg", "uploaded.jpg"))
+                .build();
+
+        productService.updateProduct(1L, request);
+
+        verify(productImageStore).requireStored("uploaded.jpg");
+        verify(productImageStore, never()).requireStored("product_1_image_1.jpg");
+    }
+
+    /**
+     * 업로드되지 않은 파일명은 상품에 추가하지 않습니다.
+     */
+    @Test
+    void addProductImageRejectsNameNotInStore() {
+        willThrow(new BusinessException(ErrorCode.PRODUCT_IMAGE_NOT_UPLOADED))
+                .given(productImageStore).requireStored("free-form.jpg");
+
+        assertThatThrownBy(() -> productService.addProductImage(1L, "free-form.jpg"))
+                .isInstanceOf(BusinessException.class);
+
+        verifyNoInteractions(productRepository, productDetailCache);
+    }
+}
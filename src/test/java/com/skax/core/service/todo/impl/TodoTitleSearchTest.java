@@ -0,0 +1,74 @@
+package com.skax.core.service.todo.impl;
+
+import com.skax.core.entity.todo.Todo;
+import com.skax.core.repository.todo.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 할일 제목 검색 이스케이프 테스트
+ *
+ * <p>검색 키워드의 {@code %}, {@code _}, {@code \}가 와일드카드가 아닌 문자 그대로 검색되는지
+ * {@link TodoServiceImpl#escapeLike}와 {@link TodoRepository}의 LIKE ... ESCAPE 쿼리로 확인합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-03
+ * @version 1.0
+ */
+@DataJpaTest
+class TodoTitleSearchTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @BeforeEach
+    void setUp() {
+        for (String title : List.of("진행률 100% 달성", "진행률 1000 달성", "file_name 정리", "fileXname 정리",
+                "C:\\temp 정리", "C:temp 정리")) {
+            todoRepository.save(Todo.builder().title(title).writer("user1").complete(false).build());
+        }
+    }
+
+    /**
+     * {@code %}는 임의 문자열이 아닌 퍼센트 문자 그대로 검색됩니다.
+     */
+    @Test
+    void percentIsMatchedLiterally() {
+        assertThat(titles("0%")).containsExactly("진행률 100% 달성");
+    }
+
+    /**
+     * {@code _}는 임의 한 글자가 아닌 밑줄 문자 그대로 검색됩니다.
+     */
+    @Test
+    void underscoreIsMatchedLiterally() {
+        assertThat(titles("FILE_")).containsExactly("file_name 정리");
+        assertThat(searchTitles("e_n", "user1")).containsExactly("file_name 정리");
+    }
+
+    /**
+     * 이스케이프 문자 {@code \} 자체도 문자 그대로 검색됩니다.
+     */
+    @Test
+    void backslashIsMatchedLiterally() {
+        assertThat(titles(":\\")).containsExactly("C:\\temp 정리");
+        assertThat(searchTitles(null, "user1")).hasSize(6);
+    }
+
+    private List<String> titles(String keyword) {
+        return todoRepository.findByTitleContainingIgnoreCase(TodoServiceImpl.escapeLike(keyword), PageRequest.of(0, 10))
+                .map(Todo::getTitle).getContent();
+    }
+
+    private List<String> searchTitles(String keyword, String writer) {
+        return todoRepository.searchTodos(TodoServiceImpl.escapeLike(keyword), writer, PageRequest.of(0, 10))
+                .map(Todo::getTitle).getContent();
+    }
+}
@@ -0,0 +1,189 @@
+package com.skax.core.service.todo.reminder;
+
+import com.skax.core.entity.todo.Todo;
+import com.skax.core.repository.todo.TodoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 할일 마감 알림 스케줄러 테스트
+ *
+ * <p>시간을 직접 진행시키는 시계와 {@link InMemoryReminderSink}로 알림 범위 적재, 할일 수정/삭제 반영,
+ * 적재 중 커밋된 변경의 재적용을 확인합니다. 트랜잭션 밖에서 호출하므로 변경은 즉시 반영됩니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-04
+ * @version 1.0
+ */
+class TodoReminderSchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 9, 10);
+    private static final Instant MIDNIGHT = TODAY.atStartOfDay(ZoneOffset.UTC).toInstant();
+
+    private final TodoRepository todoRepository = mock(TodoRepository.class);
+    private final InMemoryReminderSink sink = new InMemoryReminderSink();
+    private final MutableClock clock = new MutableClock(MIDNIGHT.plusSeconds(30));
+    private TodoReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        TodoReminderProperties properties = new TodoReminderProperties();
+        properties.setSink("memory");
+        properties.setTick(Duration.ofMinutes(1));
+        properties.setWheelSize(64);
+        properties.setLevels(3);
+        properties.setWindow(Duration.ofHours(48));
+        properties.setUpcomingLeadTime(Duration.ofHours(12));
+        scheduler = new TodoReminderScheduler(todoRepository, sink, properties, new SimpleMeterRegistry(), clock);
+    }
+
+    /**
+     * 적재 범위 안의 알림만 등록되고 알림 시각이 지나면 시각 순으로 전달됩니다.
+     */
+    @Test
+    void reloadSchedulesRemindersInsideWindow() {
+        given(todoRepository.findIncompleteByDueDateBetween(any(), any())).willReturn(List.of(
+                todo(1L, TODAY.plusDays(1)),
+                todo(2L, TODAY),
+                todo(3L, TODAY.plusDays(5))));
+
+        scheduler.reload();
+        advanceTo(MIDNIGHT.plus(Duration.ofHours(60)));
+
+        assertThat(sink.getReminders())
+                .extracting(TodoReminder::getTno, TodoReminder::getType, TodoReminder::getFireAt)
+                .containsExactly(
+                        tuple(1L, TodoReminder.Type.UPCOMING, MIDNIGHT.plus(Duration.ofHours(12))),
+                        tuple(2L, TodoReminder.Type.OVERDUE, MIDNIGHT.plus(Duration.ofHours(24))),
+                        tuple(1L, TodoReminder.Type.OVERDUE, MIDNIGHT.plus(Duration.ofHours(48))));
+    }
+
+    /**
+     * 마감일을 바꾸면 이전 알림은 취소되고 새 마감일 기준으로 다시 등록되며, 완료하면 모두 취소됩니다.
+     */
+    @Test
+    void updateReschedulesAndCompletionCancels() {
+        given(todoRepository.findIncompleteByDueDateBetween(any(), any())).willReturn(List.of(
+                todo(1L, TODAY.plusDays(1)),
+                todo(2L, TODAY.plusDays(1))));
+        scheduler.reload();
+
+        scheduler.onSaved(todo(1L, TODAY.plusDays(2)));
+        Todo completed = todo(2L, TODAY.plusDays(1));
+        completed.changeComplete(true);
+        scheduler.onSaved(completed);
+        advanceTo(MIDNIGHT.plus(Duration.ofHours(47)));
+
+        assertThat(sink.getReminders())
+                .extracting(TodoReminder::getTno, TodoReminder::getType, TodoReminder::getFireAt)
+                .containsExactly(tuple(1L, TodoReminder.Type.UPCOMING, MIDNIGHT.plus(Duration.ofHours(36))));
+    }
+
+    /**
+     * 삭제된 할일의 알림은 전달되지 않습니다.
+     */
+    @Test
+    void deleteCancelsReminders() {
+        given(todoRepository.findIncompleteByDueDateBetween(any(), any())).willReturn(List.of(
+                todo(1L, TODAY.plusDays(1)),
+                todo(2L, TODAY.plusDays(1))));
+        scheduler.reload();
+
+        scheduler.onDeleted(1L);
+        advanceTo(MIDNIGHT.plus(Duration.ofHours(13)));
+
+        assertThat(sink.getReminders()).extracting(TodoReminder::getTno).containsExactly(2L);
+    }
+
+    /**
+     * 적재 쿼리 중에 커밋된 수정/삭제는 이전 상태로 조회된 결과를 등록한 뒤 다시 적용됩니다.
+     */
+    @Test
+    void changesCommittedDuringReloadAreReplayed() {
+        given(todoRepository.findIncompleteByDueDateBetween(any(), any())).willAnswer(invocation -> {
+            scheduler.onSaved(todo(1L, TODAY.plusDays(2)));
+            scheduler.onDeleted(2L);
+            return List.of(todo(1L, TODAY.plusDays(1)), todo(2L, TODAY.plusDays(1)));
+        });
+
+        scheduler.reload();
+        advanceTo(MIDNIGHT.plus(Duration.ofHours(47)));
+
+        assertThat(sink.getReminders())
+                .extracting(TodoReminder::getTno, TodoReminder::getType, TodoReminder::getFireAt)
+                .containsExactly(tuple(1L, TodoReminder.Type.UPCOMING, MIDNIGHT.plus(Duration.ofHours(36))));
+    }
+
+    /**
+     * 일괄 변경 후 다시 적재를 요청하면 다음 tick에서 새 조회 결과로 교체됩니다.
+     */
+    @Test
+    void requestedReloadReplacesScheduledReminders() {
+        given(todoRepository.findIncompleteByDueDateBetween(any(), any()))
+                .willReturn(List.of(todo(1L, TODAY.plusDays(1))))
+                .willReturn(List.of(todo(2L, TODAY.plusDays(1))));
+        scheduler.reload();
+
+        scheduler.requestReloadAfterCommit();
+        advanceTo(MIDNIGHT.plus(Duration.ofHours(13)));
+
+        assertThat(sink.getReminders()).extracting(TodoReminder::getTno).containsExactly(2L);
+    }
+
+    private void advanceTo(Instant target) {
+        while (clock.instant().isBefore(target)) {
+            clock.advance(Duration.ofMinutes(1));
+            scheduler.tick();
+        }
+    }
+
+    private static Todo todo(Long tno, LocalDate dueDate) {
+        return Todo.builder().tno(tno).title("할일 " + tno).writer("writer").dueDate(dueDate).complete(false).build();
+    }
+
+    /**
+     * 테스트에서 직접 진행시키는 UTC 시계
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
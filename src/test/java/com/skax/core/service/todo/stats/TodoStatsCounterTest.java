@@ -0,0 +1,135 @@
+package com.skax.core.service.todo.stats;
+
+import com.skax.core.dto.todo.response.TodoStatsResponse;
+import com.skax.core.entity.todo.Todo;
+import com.skax.core.repository.todo.TodoRepository;
+import com.skax.core.service.todo.stats.TodoStatsCounter.Snapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 작성자별 할일 통계 메모리 카운터 테스트
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-03
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+class TodoStatsCounterTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 9, 3);
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    private TodoStatsCounter counter;
+
+    // 테스트가 흉내 내는 DB 상태 (작성자 a의 할일 수)
+    private final AtomicReference<Long> committedTodos = new AtomicReference<>(0L);
+
+    @BeforeEach
+    void setUp() {
+        counter = new TodoStatsCounter(todoRepository, true);
+        given(todoRepository.findStatsGroupByWriter(isNull(), any())).willAnswer(invocation ->
+                committedTodos.get() == 0 ? List.of() : List.of(stats("a", committedTodos.get())));
+        given(todoRepository.countIncompleteGroupByWriterAndDueDate()).willReturn(List.of());
+        counter.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * 커밋은 끝났지만 아직 반영하지 않은 차이가 있으면 다시 적재가 기다리므로 차이가 두 번 반영되지 않습니다.
+     */
+    @Test
+    void rebuildRacingCommittedChangeDoesNotDoubleApply() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        counter.recordChange(null, Snapshot.of(todo("a")));
+        List<TransactionSynchronization> synchronizations = new ArrayList<>(
+                TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        committedTodos.set(1L);
+
+        // 커밋 후 afterCommit 전에 다른 스레드에서 다시 적재 시작
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(counter::rebuild);
+        Thread.sleep(200);
+        assertThat(rebuild).isNotDone();
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        rebuild.get(5, TimeUnit.SECONDS);
+
+        assertThat(counter.getStats("a", TODAY)).singleElement()
+                .extracting(TodoStatsResponse::getTotal).isEqualTo(1L);
+    }
+
+    /**
+     * 롤백된 트랜잭션의 변경은 반영하지 않고 잠금도 풀립니다.
+     */
+    @Test
+    void rolledBackChangeReleasesLock() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        counter.recordChange(null, Snapshot.of(todo("a")));
+        List<TransactionSynchronization> synchronizations = new ArrayList<>(
+                TransactionSynchronizationManager.getSynchronizations());
+        TransactionSynchronizationManager.clearSynchronization();
+
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        CompletableFuture.runAsync(counter::rebuild).get(5, TimeUnit.SECONDS);
+        assertThat(counter.getStats("a", TODAY)).isEmpty();
+    }
+
+    /**
+     * 작성자가 없는 할일은 DB 집계와 같이 작성자 null 그룹으로 맨 앞에 오고, 빈 문자열 작성자와 구분됩니다.
+     */
+    @Test
+    void nullWriterMatchesDatabaseGrouping() {
+        counter.recordChange(null, Snapshot.of(todo(null)));
+        counter.recordChange(null, Snapshot.of(todo("")));
+        counter.recordChange(null, Snapshot.of(todo("b")));
+
+        List<TodoStatsResponse> stats = counter.getStats(null, TODAY);
+
+        assertThat(stats).extracting(TodoStatsResponse::getWriter).containsExactly(null, "", "b");
+        assertThat(counter.getStats("", TODAY)).singleElement()
+                .extracting(TodoStatsResponse::getTotal).isEqualTo(1L);
+    }
+
+    private static Todo todo(String writer) {
+        return Todo.builder().title("할일").writer(writer).complete(false).dueDate(TODAY.plusDays(1)).build();
+    }
+
+    private static TodoStatsResponse stats(String writer, long total) {
+        return TodoStatsResponse.builder().writer(writer).total(total).completed(0L).incomplete(total).overdue(0L)
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.skax.core.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트용 SQL 수집기
+ *
+ * <p>{@code spring.jpa.properties.hibernate.session_factory.statement_inspector}로 등록하면
+ * Hibernate가 실행하는 SQL을 현재 스레드에 기록합니다. 쿼리 실행 계획 검사와 구문 수 검사에 사용합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-08-28
+ * @version 1.0
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    /**
+     * 등록용 설정 값
+     */
+    public static final String PROPERTY =
+            "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                    + "com.skax.core.support.CapturingStatementInspector";
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    /**
+     * 기록을 비웁니다.
+     */
+    public static void clear() {
+        STATEMENTS.get().clear();
+    }
+
+    /**
+     * 현재 스레드에서 기록된 SQL 목록을 반환합니다.
+     *
+     * @return SQL 목록 (실행 순서)
+     */
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    /**
+     * 마지막으로 기록된 SQL을 반환합니다.
+     *
+     * @return SQL
+     */
+    public static String last() {
+        List<String> statements = STATEMENTS.get();
+        if (statements.isEmpty()) {
+            throw new IllegalStateException("기록된 SQL이 없습니다.");
+        }
+        return statements.get(statements.size() - 1);
+    }
+}
@@ -0,0 +1,38 @@
+package com.skax.core.support;
+
+import com.skax.core.dto.cart.mapper.CartMapperImpl;
+import com.skax.core.service.cart.writebehind.CartWriteBehindProperties;
+import com.skax.core.service.cart.writebehind.CartWriteBehindStore;
+import com.skax.core.service.member.cache.MemberDisplayNameCache;
+import com.skax.core.service.product.image.ProductImageProperties;
+import com.skax.core.service.product.image.ProductImageStore;
+import com.skax.core.util.AuditMapper;
+import com.skax.core.util.ServiceUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 장바구니 write-behind 저장소 테스트 구성
+ *
+ * <p>{@code @DataJpaTest}에서 {@link CartWriteBehindStore}와 그 의존 빈(매퍼, 감사 정보 매핑,
+ * 상품 이미지 URL, 메트릭 레지스트리)을 등록합니다. 스케줄링은 켜지 않으므로 테스트가 {@code flush()}를 직접 호출합니다.</p>
+ *
+ * @author ByounggwanLee
+ * @since 2025-09-05
+ * @version 1.0
+ */
+@TestConfiguration
+@EnableConfigurationProperties({CartWriteBehindProperties.class, ProductImageProperties.class})
+@Import({CartWriteBehindStore.class, CartMapperImpl.class, ServiceUtils.class, AuditMapper.class,
+        MemberDisplayNameCache.class, ProductImageStore.class})
+public class CartWriteBehindTestConfiguration {
+
+    @Bean
+    MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+}